@@ -31,6 +31,11 @@ public class ApplicationList {
 
     private Pagination pagination;
 
+    /**
+     * Weak entity tag of the listing, which can be used by clients to revalidate the listing they already have.
+     */
+    private String eTag;
+
     public List<Application> getApplications() {
         return applications;
     }
@@ -46,4 +51,12 @@ public class ApplicationList {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public void setETag(String eTag) {
+        this.eTag = eTag;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.common.config;
+
+import javax.xml.bind.annotation.XmlElement;
+
+/**
+ * Configuration of the engine which executes asynchronous bulk application subscription jobs.
+ */
+public class SubscriptionJobConfiguration {
+
+    private int chunkSize = 500;
+    private int workerThreads = 2;
+    private long staleJobTimeoutMillis = 300000;
+    private long recoveryIntervalMillis = 60000;
+
+    @XmlElement(name = "ChunkSize")
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @XmlElement(name = "WorkerThreads")
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    @XmlElement(name = "StaleJobTimeoutMillis")
+    public long getStaleJobTimeoutMillis() {
+        return staleJobTimeoutMillis;
+    }
+
+    public void setStaleJobTimeoutMillis(long staleJobTimeoutMillis) {
+        this.staleJobTimeoutMillis = staleJobTimeoutMillis;
+    }
+
+    @XmlElement(name = "RecoveryIntervalMillis")
+    public long getRecoveryIntervalMillis() {
+        return recoveryIntervalMillis;
+    }
+
+    public void setRecoveryIntervalMillis(long recoveryIntervalMillis) {
+        this.recoveryIntervalMillis = recoveryIntervalMillis;
+    }
+}
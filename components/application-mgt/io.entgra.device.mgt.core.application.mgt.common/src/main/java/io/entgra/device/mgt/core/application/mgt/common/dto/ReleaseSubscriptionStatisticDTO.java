@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.common.dto;
+
+/**
+ * A bucket of the materialized subscription statistics of an application release. User, role and group buckets are
+ * keyed by the unsubscribed flag of the subscriptions.
+ */
+public class ReleaseSubscriptionStatisticDTO {
+    private int appReleaseId;
+    private String subscriptionType;
+    private String actionTriggeredFrom;
+    private boolean unsubscribed;
+    private String status;
+    private int count;
+
+    public int getAppReleaseId() {
+        return appReleaseId;
+    }
+
+    public void setAppReleaseId(int appReleaseId) {
+        this.appReleaseId = appReleaseId;
+    }
+
+    public String getSubscriptionType() {
+        return subscriptionType;
+    }
+
+    public void setSubscriptionType(String subscriptionType) {
+        this.subscriptionType = subscriptionType;
+    }
+
+    public String getActionTriggeredFrom() {
+        return actionTriggeredFrom;
+    }
+
+    public void setActionTriggeredFrom(String actionTriggeredFrom) {
+        this.actionTriggeredFrom = actionTriggeredFrom;
+    }
+
+    public boolean isUnsubscribed() {
+        return unsubscribed;
+    }
+
+    public void setUnsubscribed(boolean unsubscribed) {
+        this.unsubscribed = unsubscribed;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
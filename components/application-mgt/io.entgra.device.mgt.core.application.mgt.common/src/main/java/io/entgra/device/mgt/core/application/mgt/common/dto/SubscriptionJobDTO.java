@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.common.dto;
+
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionJobStatus;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * This class represents a DTO for AP_SUBSCRIPTION_JOB table
+ */
+public class SubscriptionJobDTO {
+    /**
+     * Generated ID of the job. This is the job id returned to the client which submitted the job.
+     */
+    private int id;
+
+    /**
+     * UUID of the application release which is subscribed to.
+     */
+    private String applicationUUID;
+
+    /**
+     * Subscription type. {@see {@link SubscriptionType}}
+     */
+    private String subType;
+
+    /**
+     * Subscription action. E.g. <code>INSTALL/UNINSTALL</code>
+     */
+    private String action;
+
+    /**
+     * List of subscribers for the application release. If the subscription type is {@code SubscriptionType.DEVICE}
+     * the type will be {@link io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier} and if not the type will
+     * be {@link String}.
+     */
+    private List<?> subscriberList;
+
+    /**
+     * Application properties that need to be sent with operation payload to the device.
+     */
+    private Properties properties;
+
+    private boolean operationReExecutingDisabled;
+
+    private SubscriptionJobStatus status;
+
+    /**
+     * Number of devices resolved from the subscribers of the job.
+     */
+    private int totalDevices;
+
+    /**
+     * Number of devices which have been processed so far.
+     */
+    private int processedDevices;
+
+    /**
+     * Checkpoint of the job. Devices are processed in the ascending order of their ids, hence all the devices up to
+     * and including this id have been processed.
+     */
+    private int lastDeviceId;
+
+    private String errorMessage;
+
+    private String createdBy;
+
+    private long createdAt;
+
+    /**
+     * Time the job was last claimed or made progress. A job in progress which has not been updated for a while is
+     * considered abandoned and is resumed from its checkpoint.
+     */
+    private long lastUpdatedAt;
+
+    private int tenantId;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getApplicationUUID() {
+        return applicationUUID;
+    }
+
+    public void setApplicationUUID(String applicationUUID) {
+        this.applicationUUID = applicationUUID;
+    }
+
+    public String getSubType() {
+        return subType;
+    }
+
+    public void setSubType(String subType) {
+        this.subType = subType;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public List<?> getSubscriberList() {
+        return subscriberList;
+    }
+
+    public void setSubscriberList(List<?> subscriberList) {
+        this.subscriberList = subscriberList;
+    }
+
+    public Properties getProperties() {
+        return properties;
+    }
+
+    public void setProperties(Properties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isOperationReExecutingDisabled() {
+        return operationReExecutingDisabled;
+    }
+
+    public void setOperationReExecutingDisabled(boolean operationReExecutingDisabled) {
+        this.operationReExecutingDisabled = operationReExecutingDisabled;
+    }
+
+    public SubscriptionJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SubscriptionJobStatus status) {
+        this.status = status;
+    }
+
+    public int getTotalDevices() {
+        return totalDevices;
+    }
+
+    public void setTotalDevices(int totalDevices) {
+        this.totalDevices = totalDevices;
+    }
+
+    public int getProcessedDevices() {
+        return processedDevices;
+    }
+
+    public void setProcessedDevices(int processedDevices) {
+        this.processedDevices = processedDevices;
+    }
+
+    public int getLastDeviceId() {
+        return lastDeviceId;
+    }
+
+    public void setLastDeviceId(int lastDeviceId) {
+        this.lastDeviceId = lastDeviceId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public void setLastUpdatedAt(long lastUpdatedAt) {
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
+    public int getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+        this.tenantId = tenantId;
+    }
+}
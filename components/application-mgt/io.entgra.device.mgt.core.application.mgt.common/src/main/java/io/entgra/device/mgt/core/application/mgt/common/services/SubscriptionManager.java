@@ -30,6 +30,7 @@ import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
 import io.entgra.device.mgt.core.application.mgt.common.dto.CategorizedSubscriptionCountsDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceSubscriptionDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ScheduledSubscriptionDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionJobDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionsDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceOperationDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceSubscriptionResponseDTO;
@@ -86,6 +87,36 @@ public interface SubscriptionManager {
                                                            boolean isOperationReExecutingDisabled)
             throws ApplicationManagementException;
 
+    /**
+     * Submits a bulk subscription operation for a given application and a subscriber list to be executed
+     * asynchronously. Devices of the subscribers are processed in chunks and the progress of the job is persisted after
+     * each chunk, hence a job which is interrupted is resumed from the last processed device.
+     * @param applicationUUID UUID of the application to subscribe/unsubscribe
+     * @param params          list of subscribers.
+     *                        This list can be of either {@link DeviceIdentifier} if {@param subType} is equal to
+     *                        DEVICE or {@link String} if {@param subType} is USER, ROLE or GROUP
+     * @param subType         subscription type. E.g. <code>DEVICE, USER, ROLE, GROUP</code>
+     * @param action          subscription action. E.g. <code>INSTALL/UNINSTALL</code>
+     * @param <T>             generic type of the method.
+     * @param properties      Application properties that need to be sent with operation payload to the device
+     * @param isOperationReExecutingDisabled To prevent adding the application subscribing operation to devices that are
+     *                                      already subscribed application successfully.
+     * @return id of the submitted job
+     * @throws ApplicationManagementException if error occurs when validating the request or creating the job
+     */
+    <T> int submitBulkAppOperationJob(String applicationUUID, List<T> params, String subType, String action,
+                                      Properties properties, boolean isOperationReExecutingDisabled)
+            throws ApplicationManagementException;
+
+    /**
+     * Retrieve the status and the progress of a bulk subscription job.
+     *
+     * @param jobId id of the job returned when the job was submitted
+     * @return {@link SubscriptionJobDTO}
+     * @throws ApplicationManagementException if the job is not found or error occurs while retrieving the job
+     */
+    SubscriptionJobDTO getBulkAppOperationJob(int jobId) throws ApplicationManagementException;
+
     /**
      * Create an entry related to the scheduled task in the database.
      *
@@ -287,4 +318,13 @@ public interface SubscriptionManager {
     List<CategorizedSubscriptionCountsDTO> getSubscriptionCountsByUUID(String uuid)
             throws ApplicationManagementException;
 
+    /**
+     * Recompute the materialized user, role and group subscription statistics of the current tenant from the
+     * subscription tables. The statistics are maintained incrementally, hence this is only required when they are out
+     * of sync, e.g. after existing subscriptions have been modified directly in the database.
+     *
+     * @throws ApplicationManagementException if error occurs while rebuilding the statistics
+     */
+    void rebuildSubscriptionStatistics() throws ApplicationManagementException;
+
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.core.cache;
+
+import com.google.gson.Gson;
+import io.entgra.device.mgt.core.application.mgt.common.Filter;
+import io.entgra.device.mgt.core.application.mgt.common.config.CatalogCacheConfiguration;
+import io.entgra.device.mgt.core.application.mgt.core.config.ConfigurationManager;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.caching.impl.CacheImpl;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import javax.cache.Cache;
+import javax.cache.CacheConfiguration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tenant scoped cache of the application store catalog, i.e. application listings, application counts, tags and
+ * categories. Entries are kept as JSON in a Carbon cache of the tenant and a fresh copy is returned on every lookup,
+ * hence callers are free to mutate what they get. The catalog of a tenant is evicted as a whole once a change to its
+ * applications, releases, tags or categories is committed, and the Carbon cache carries that eviction to the other
+ * nodes of the cluster.
+ */
+public class ApplicationCatalogCache {
+
+    private static final Log log = LogFactory.getLog(ApplicationCatalogCache.class);
+    private static final Gson gson = new Gson();
+    private static final String CACHE_MANAGER = "APPLICATION_MGT_CACHE_MANAGER";
+    private static final String CATALOG_CACHE = "APPLICATION_CATALOG_CACHE";
+    private static volatile ApplicationCatalogCache instance;
+
+    private final String cacheName;
+    private final CatalogCacheConfiguration config;
+    private final Set<Integer> initializedTenants = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    ApplicationCatalogCache(String cacheName, CatalogCacheConfiguration config) {
+        this.cacheName = cacheName;
+        this.config = config;
+    }
+
+    public static ApplicationCatalogCache getInstance() {
+        if (instance == null) {
+            synchronized (ApplicationCatalogCache.class) {
+                if (instance == null) {
+                    CatalogCacheConfiguration config = ConfigurationManager.getInstance().getConfiguration()
+                            .getCatalogCacheConfiguration();
+                    instance = new ApplicationCatalogCache(CATALOG_CACHE,
+                            config != null ? config : new CatalogCacheConfiguration());
+                }
+            }
+        }
+        return instance;
+    }
+
+    String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * Get the current generation of the catalog of the tenant. The generation has to be taken before the catalog is
+     * read from the database and passed to {@link #put(int, String, Object, long)}, so that a result which was read
+     * before a concurrent change got committed on this node is not cached.
+     *
+     * @param tenantId Tenant ID
+     * @return Generation of the tenant catalog
+     */
+    public long getGeneration(int tenantId) {
+        return getGenerationCounter(tenantId).get();
+    }
+
+    /**
+     * Get a copy of the cached value for the given key.
+     *
+     * @param tenantId Tenant ID
+     * @param key      Cache key
+     * @param type     Type of the cached value
+     * @return Cached value or null if the value is not cached or has been expired
+     */
+    public <T> T get(int tenantId, String key, Type type) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        Cache<String, CatalogEntry> cache = getCache();
+        String cacheKey = getCacheKey(tenantId, key);
+        CatalogEntry entry = cache.get(cacheKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(config.getExpiryTimeMillis())) {
+            cache.remove(cacheKey);
+            return null;
+        }
+        return gson.fromJson(entry.value, type);
+    }
+
+    /**
+     * Cache the value for the given key unless the catalog of the tenant has been changed since the given generation.
+     *
+     * @param tenantId   Tenant ID
+     * @param key        Cache key
+     * @param value      Value to cache
+     * @param generation Generation of the tenant catalog which was taken before the value was read
+     */
+    public void put(int tenantId, String key, Object value, long generation) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        AtomicLong generationCounter = getGenerationCounter(tenantId);
+        CatalogEntry entry = new CatalogEntry(gson.toJson(value));
+        synchronized (generationCounter) {
+            if (generationCounter.get() != generation) {
+                return;
+            }
+            getCache().put(getCacheKey(tenantId, key), entry);
+        }
+    }
+
+    /**
+     * Evict the catalog of the tenant.
+     *
+     * @param tenantId Tenant ID
+     */
+    public void invalidate(int tenantId) {
+        AtomicLong generationCounter = getGenerationCounter(tenantId);
+        synchronized (generationCounter) {
+            generationCounter.incrementAndGet();
+        }
+        if (!config.isEnabled()) {
+            return;
+        }
+        boolean isTenantFlowStarted = false;
+        try {
+            if (PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId() != tenantId) {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(tenantId, true);
+                isTenantFlowStarted = true;
+            }
+            getCache().removeAll();
+        } finally {
+            if (isTenantFlowStarted) {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Application catalog cache of tenant " + tenantId + " was invalidated");
+        }
+    }
+
+    /**
+     * Build the cache key of an application listing. Filters which only differ in the order or duplicates of their
+     * categories, tags or unrestricted roles result in the same key.
+     *
+     * @param filter       Application filter
+     * @param deviceTypeId Device type ID or -1 if the listing is not filtered by device type
+     * @return Cache key
+     */
+    public static String getApplicationsKey(Filter filter, int deviceTypeId) {
+        List<Object> criteria = new ArrayList<>();
+        criteria.add(deviceTypeId);
+        criteria.add(filter.getAppName());
+        criteria.add(filter.isFullMatch());
+        criteria.add(filter.getAppType());
+        criteria.add(filter.getSubscriptionType());
+        criteria.add(filter.getMinimumRating());
+        criteria.add(filter.getVersion());
+        criteria.add(filter.getAppReleaseType());
+        criteria.add(filter.getAppReleaseState());
+        criteria.add(normalize(filter.getCategories()));
+        criteria.add(normalize(filter.getTags()));
+        criteria.add(normalize(filter.getUnrestrictedRoles()));
+        criteria.add(filter.getFavouredBy());
+        criteria.add(filter.isNotRetired());
+        criteria.add(filter.isWithWebApps());
+        criteria.add(filter.getSortBy());
+        criteria.add(filter.getOffset());
+        criteria.add(filter.getLimit());
+        return "applications:" + DigestUtils.sha256Hex(gson.toJson(criteria));
+    }
+
+    /**
+     * Generate a weak entity tag for the given listing response.
+     *
+     * @param content Listing response
+     * @return Entity tag
+     */
+    public static String generateETag(Object content) {
+        return "W/\"" + DigestUtils.sha256Hex(gson.toJson(content)) + "\"";
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(new TreeSet<>(values));
+    }
+
+    private static String getCacheKey(int tenantId, String key) {
+        return tenantId + ":" + key;
+    }
+
+    private AtomicLong getGenerationCounter(int tenantId) {
+        return generations.computeIfAbsent(tenantId, id -> new AtomicLong());
+    }
+
+    /**
+     * Get the catalog cache of the current tenant. The cache is built with the configured expiry time and capacity
+     * the first time it is used for a tenant.
+     */
+    private Cache<String, CatalogEntry> getCache() {
+        CacheManager manager = Caching.getCacheManagerFactory().getCacheManager(CACHE_MANAGER);
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        if (!initializedTenants.contains(tenantId)) {
+            synchronized (initializedTenants) {
+                if (!initializedTenants.contains(tenantId)) {
+                    if (config.getExpiryTimeMillis() > 0) {
+                        manager.<String, CatalogEntry>createCacheBuilder(cacheName)
+                                .setExpiry(CacheConfiguration.ExpiryType.MODIFIED,
+                                        new CacheConfiguration.Duration(TimeUnit.MILLISECONDS,
+                                                config.getExpiryTimeMillis()))
+                                .setStoreByValue(true).build();
+                    }
+                    if (config.getCapacity() > 0) {
+                        ((CacheImpl) manager.<String, CatalogEntry>getCache(cacheName))
+                                .setCapacity(config.getCapacity());
+                    }
+                    initializedTenants.add(tenantId);
+                }
+            }
+        }
+        return manager.getCache(cacheName);
+    }
+
+    private static class CatalogEntry implements Serializable {
+
+        private static final long serialVersionUID = -4853210577634912096L;
+
+        private final String value;
+        private final long createdTime = System.currentTimeMillis();
+
+        private CatalogEntry(String value) {
+            this.value = value;
+        }
+
+        private boolean isExpired(long expiryTimeMillis) {
+            return System.currentTimeMillis() - createdTime >= expiryTimeMillis;
+        }
+    }
+}
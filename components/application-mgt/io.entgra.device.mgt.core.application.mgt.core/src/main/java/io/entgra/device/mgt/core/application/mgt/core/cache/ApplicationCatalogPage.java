@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.core.cache;
+
+import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationDTO;
+
+import java.util.List;
+
+/**
+ * A page of the application store listing as held in the {@link ApplicationCatalogCache}, i.e. the applications
+ * which match a filter along with their tags, categories and unrestricted roles, and the total count of matching
+ * applications.
+ */
+public class ApplicationCatalogPage {
+
+    private List<ApplicationDTO> applications;
+    private int count;
+
+    public ApplicationCatalogPage(List<ApplicationDTO> applications, int count) {
+        this.applications = applications;
+        this.count = count;
+    }
+
+    public List<ApplicationDTO> getApplications() {
+        return applications;
+    }
+
+    public void setApplications(List<ApplicationDTO> applications) {
+        this.applications = applications;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
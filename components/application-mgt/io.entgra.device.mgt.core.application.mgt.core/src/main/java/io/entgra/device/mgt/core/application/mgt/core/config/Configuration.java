@@ -20,6 +20,8 @@ package io.entgra.device.mgt.core.application.mgt.core.config;
 import io.entgra.device.mgt.core.application.mgt.common.config.LifecycleState;
 import io.entgra.device.mgt.core.application.mgt.common.config.MDMConfig;
 import io.entgra.device.mgt.core.application.mgt.common.config.RatingConfiguration;
+import io.entgra.device.mgt.core.application.mgt.common.config.CatalogCacheConfiguration;
+import io.entgra.device.mgt.core.application.mgt.common.config.SubscriptionJobConfiguration;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
@@ -44,6 +46,10 @@ public class Configuration {
 
     private MDMConfig mdmConfig;
 
+    private SubscriptionJobConfiguration subscriptionJobConfiguration;
+
+    private CatalogCacheConfiguration catalogCacheConfiguration;
+
     @XmlElement(name = "DatasourceName", required = true)
     public String getDatasourceName() {
         return datasourceName;
@@ -95,5 +101,22 @@ public class Configuration {
     public void setMdmConfig(MDMConfig mdmConfig) {
         this.mdmConfig = mdmConfig;
     }
-}
 
+    @XmlElement(name = "SubscriptionJobConfig")
+    public SubscriptionJobConfiguration getSubscriptionJobConfiguration() {
+        return subscriptionJobConfiguration;
+    }
+
+    public void setSubscriptionJobConfiguration(SubscriptionJobConfiguration subscriptionJobConfiguration) {
+        this.subscriptionJobConfiguration = subscriptionJobConfiguration;
+    }
+
+    @XmlElement(name = "CatalogCacheConfig")
+    public CatalogCacheConfiguration getCatalogCacheConfiguration() {
+        return catalogCacheConfiguration;
+    }
+
+    public void setCatalogCacheConfiguration(CatalogCacheConfiguration catalogCacheConfiguration) {
+        this.catalogCacheConfiguration = catalogCacheConfiguration;
+    }
+}
@@ -18,6 +18,7 @@
 package io.entgra.device.mgt.core.application.mgt.core.dao;
 
 import io.entgra.device.mgt.core.application.mgt.common.ExecutionStatus;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionJobStatus;
 import io.entgra.device.mgt.core.application.mgt.common.dto.GroupSubscriptionDTO;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionEntity;
 import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionStatisticDTO;
@@ -25,7 +26,9 @@ import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionsDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceSubscriptionDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationReleaseDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceOperationDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ReleaseSubscriptionStatisticDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ScheduledSubscriptionDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionJobDTO;
 import io.entgra.device.mgt.core.application.mgt.common.exception.SubscriptionManagementException;
 import io.entgra.device.mgt.core.application.mgt.core.exception.ApplicationManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.common.operation.mgt.Activity;
@@ -377,6 +380,76 @@ public interface SubscriptionDAO {
      */
     void deleteScheduledSubscriptionByTenant(int tenantId) throws ApplicationManagementDAOException;
 
+    /**
+     * Create an entry for an asynchronous bulk subscription job in the status {@code QUEUED}.
+     *
+     * @param subscriptionJobDTO {@link SubscriptionJobDTO} which contains the details of the job
+     * @param tenantId Tenant ID
+     * @return generated id of the job
+     * @throws ApplicationManagementDAOException if error occurred while creating the job entry
+     */
+    int createSubscriptionJob(SubscriptionJobDTO subscriptionJobDTO, int tenantId)
+            throws ApplicationManagementDAOException;
+
+    /**
+     * Retrieve a bulk subscription job of the tenant.
+     *
+     * @param jobId id of the job
+     * @param tenantId Tenant ID
+     * @return {@link SubscriptionJobDTO} or null if there is no such job
+     * @throws ApplicationManagementDAOException if error occurred while retrieving the job
+     */
+    SubscriptionJobDTO getSubscriptionJob(int jobId, int tenantId) throws ApplicationManagementDAOException;
+
+    /**
+     * Retrieve queued or in progress bulk subscription jobs of all tenants which have not been updated since the
+     * given time.
+     *
+     * @param lastUpdatedBefore jobs last updated before this time are considered abandoned
+     * @return list of {@link SubscriptionJobDTO}
+     * @throws ApplicationManagementDAOException if error occurred while retrieving the jobs
+     */
+    List<SubscriptionJobDTO> getStaleSubscriptionJobs(long lastUpdatedBefore) throws ApplicationManagementDAOException;
+
+    /**
+     * Update the status of a bulk subscription job, only if the job has not been updated by anyone else since it was
+     * read. This is used to claim a job as well.
+     *
+     * @param jobId id of the job
+     * @param status new status of the job
+     * @param errorMessage error message if the job has failed
+     * @param lastUpdatedAt last updated time of the job as it was read
+     * @param updatedAt new last updated time of the job
+     * @return true if the job was updated, false if the job has been updated by someone else
+     * @throws ApplicationManagementDAOException if error occurred while updating the job
+     */
+    boolean updateSubscriptionJobStatus(int jobId, SubscriptionJobStatus status, String errorMessage,
+                                        long lastUpdatedAt, long updatedAt) throws ApplicationManagementDAOException;
+
+    /**
+     * Update the progress and the checkpoint of a bulk subscription job, only if the job has not been updated by anyone
+     * else since it was read.
+     *
+     * @param jobId id of the job
+     * @param totalDevices number of devices resolved from the subscribers of the job
+     * @param processedDevices number of devices processed so far
+     * @param lastDeviceId id of the last processed device
+     * @param lastUpdatedAt last updated time of the job as it was read
+     * @param updatedAt new last updated time of the job
+     * @return true if the job was updated, false if the job has been updated by someone else
+     * @throws ApplicationManagementDAOException if error occurred while updating the job
+     */
+    boolean updateSubscriptionJobProgress(int jobId, int totalDevices, int processedDevices, int lastDeviceId,
+                                          long lastUpdatedAt, long updatedAt) throws ApplicationManagementDAOException;
+
+    /**
+     * Delete bulk subscription jobs of tenant
+     *
+     * @param tenantId Tenant ID
+     * @throws ApplicationManagementDAOException thrown if an error occurs while deleting data
+     */
+    void deleteSubscriptionJobsByTenant(int tenantId) throws ApplicationManagementDAOException;
+
     /**
      * This method is used to get the details of group subscriptions related to a appReleaseId.
      *
@@ -599,4 +672,35 @@ public interface SubscriptionDAO {
      * @throws ApplicationManagementDAOException if connection establishment or SQL execution fails.
      */
     int countSubscriptionsByStatus(int appReleaseId, int tenantId, String actionStatus, String actionTriggeredFrom) throws ApplicationManagementDAOException;
+
+    /**
+     * This method is used to get the materialized subscription statistics of an application release. The statistics
+     * are maintained incrementally whenever user, role or group subscriptions are added or updated. Device
+     * subscriptions are not materialized, since their counts depend on the enrolment status of the devices.
+     *
+     * @param appReleaseId id of the application release.
+     * @param tenantId id of the current tenant.
+     * @return {@link ReleaseSubscriptionStatisticDTO} buckets of the application release
+     * @throws ApplicationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    List<ReleaseSubscriptionStatisticDTO> getReleaseSubscriptionStatistics(int appReleaseId, int tenantId)
+            throws ApplicationManagementDAOException;
+
+    /**
+     * This method is used to recompute the materialized subscription statistics of all application releases of the
+     * tenant from the subscription tables. The statistics are populated this way the first time they are used and
+     * whenever they are found to be out of sync with the subscriptions.
+     *
+     * @param tenantId id of the tenant.
+     * @throws ApplicationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    void rebuildSubscriptionStatistics(int tenantId) throws ApplicationManagementDAOException;
+
+    /**
+     * This method is used to delete the materialized subscription statistics of the tenant.
+     *
+     * @param tenantId id of the tenant.
+     * @throws ApplicationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    void deleteSubscriptionStatisticsByTenant(int tenantId) throws ApplicationManagementDAOException;
 }
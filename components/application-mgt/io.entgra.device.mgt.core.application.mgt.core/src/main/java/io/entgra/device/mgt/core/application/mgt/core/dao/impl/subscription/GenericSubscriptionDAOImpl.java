@@ -17,6 +17,7 @@
  */
 package io.entgra.device.mgt.core.application.mgt.core.dao.impl.subscription;
 
+import com.google.gson.Gson;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionMetadata;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceOperationDTO;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionEntity;
@@ -33,10 +34,13 @@ import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProvide
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import io.entgra.device.mgt.core.application.mgt.common.ExecutionStatus;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionJobStatus;
 import io.entgra.device.mgt.core.application.mgt.common.SubAction;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceSubscriptionDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ReleaseSubscriptionStatisticDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ScheduledSubscriptionDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionJobDTO;
 import io.entgra.device.mgt.core.application.mgt.common.exception.DBConnectionException;
 import io.entgra.device.mgt.core.application.mgt.core.exception.ApplicationManagementDAOException;
 
@@ -44,6 +48,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -58,6 +63,25 @@ import java.util.stream.Collectors;
 
 public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements SubscriptionDAO {
     private static final Log log = LogFactory.getLog(GenericSubscriptionDAOImpl.class);
+    private static final String ENTITY_STATISTIC_STATUS = "NONE";
+    private static final String SUBSCRIPTION_JOB_SELECT = "SELECT "
+            + "ID, "
+            + "APPLICATION_UUID, "
+            + "SUB_TYPE, "
+            + "ACTION, "
+            + "SUBSCRIBER_LIST, "
+            + "PAYLOAD, "
+            + "RE_EXECUTING_DISABLED, "
+            + "STATUS, "
+            + "TOTAL_DEVICES, "
+            + "PROCESSED_DEVICES, "
+            + "LAST_DEVICE_ID, "
+            + "ERROR_MESSAGE, "
+            + "CREATED_BY, "
+            + "CREATED_AT, "
+            + "LAST_UPDATED_AT, "
+            + "TENANT_ID "
+            + "FROM AP_SUBSCRIPTION_JOB ";
 
     @Override
     public void addDeviceSubscription(String subscribedBy, List<Integer> deviceIds,
@@ -215,6 +239,7 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
             sql += "USER_NAME, AP_APP_RELEASE_ID) VALUES (?, ?, ?, ?, ?,?)";
 
             Connection conn = this.getDBConnection();
+            populateSubscriptionStatistics(conn, tenantId);
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 Calendar calendar = Calendar.getInstance();
                 Timestamp timestamp = new Timestamp(calendar.getTime().getTime());
@@ -233,6 +258,8 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
                 }
                 stmt.executeBatch();
             }
+            adjustSubscriptionStatistic(conn, releaseId, SubscriptionType.USER.toString(),
+                    SubscriptionType.USER.toString(), isUnsubscribed, ENTITY_STATISTIC_STATUS, users.size(), tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting database connection to add user subscription. Subscribing user "
                     + "is " + subscribedBy;
@@ -263,6 +290,7 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
             sql += "ROLE_NAME, AP_APP_RELEASE_ID) VALUES (?, ?, ?, ?, ?,?)";
 
             Connection conn = this.getDBConnection();
+            populateSubscriptionStatistics(conn, tenantId);
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 Calendar calendar = Calendar.getInstance();
                 Timestamp timestamp = new Timestamp(calendar.getTime().getTime());
@@ -281,6 +309,8 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
                 }
                 stmt.executeBatch();
             }
+            adjustSubscriptionStatistic(conn, releaseId, SubscriptionType.ROLE.toString(),
+                    SubscriptionType.ROLE.toString(), isUnsubscribed, ENTITY_STATISTIC_STATUS, roles.size(), tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting database connection to add role subscription. Subscribing role "
                     + "is " + subscribedBy;
@@ -311,6 +341,7 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
             sql += "GROUP_NAME, AP_APP_RELEASE_ID) VALUES (?, ?, ?, ?, ?,?)";
 
             Connection conn = this.getDBConnection();
+            populateSubscriptionStatistics(conn, tenantId);
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 Calendar calendar = Calendar.getInstance();
                 Timestamp timestamp = new Timestamp(calendar.getTime().getTime());
@@ -329,6 +360,9 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
                 }
                 stmt.executeBatch();
             }
+            adjustSubscriptionStatistic(conn, releaseId, SubscriptionType.GROUP.toString(),
+                    SubscriptionType.GROUP.toString(), isUnsubscribed, ENTITY_STATISTIC_STATUS, groups.size(),
+                    tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting database connection to add group subscription. Subscribing "
                     + "group is " + subscribedBy;
@@ -647,6 +681,9 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
     @Override
     public void updateSubscriptions(int tenantId, String updateBy, List<String> paramList, int releaseId,
             String subType, String action) throws ApplicationManagementDAOException {
+        if (paramList.isEmpty()) {
+            return;
+        }
         try {
             Connection conn = this.getDBConnection();
             boolean isUnsubscribed = false;
@@ -667,28 +704,35 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
             }
 
             if (SubscriptionType.USER.toString().equalsIgnoreCase(subType)) {
-                sql += "WHERE USER_NAME = ? ";
+                sql += "WHERE USER_NAME IN (";
             } else if (SubscriptionType.ROLE.toString().equalsIgnoreCase(subType)) {
-                sql += "WHERE ROLE_NAME = ? ";
+                sql += "WHERE ROLE_NAME IN (";
             } else if (SubscriptionType.GROUP.toString().equalsIgnoreCase(subType)) {
-                sql += "WHERE GROUP_NAME = ? ";
+                sql += "WHERE GROUP_NAME IN (";
             }
 
-            sql += "AND AP_APP_RELEASE_ID = ? AND TENANT_ID = ?";
+            StringJoiner joiner = new StringJoiner(",", sql,
+                    ") AND AP_APP_RELEASE_ID = ? AND TENANT_ID = ? AND UNSUBSCRIBED = ?");
+            paramList.stream().map(ignored -> "?").forEach(joiner::add);
+            String query = joiner.toString();
 
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                Calendar calendar = Calendar.getInstance();
-                Timestamp timestamp = new Timestamp(calendar.getTime().getTime());
-                for (String username : paramList) {
-                    stmt.setBoolean(1, isUnsubscribed);
-                    stmt.setString(2, updateBy);
-                    stmt.setTimestamp(3, timestamp);
-                    stmt.setString(4, username);
-                    stmt.setInt(5, releaseId);
-                    stmt.setInt(6, tenantId);
-                    stmt.addBatch();
-                }
-                stmt.executeBatch();
+            populateSubscriptionStatistics(conn, tenantId);
+            Calendar calendar = Calendar.getInstance();
+            Timestamp timestamp = new Timestamp(calendar.getTime().getTime());
+            // Subscriptions which are already in the requested state are only stamped with the update
+            executeSubscriptionUpdate(conn, query, isUnsubscribed, updateBy, timestamp, paramList, releaseId,
+                    tenantId, isUnsubscribed);
+            // Only the subscriptions which this update changes are moved between the statistic buckets. The row locks
+            // taken by the update keep a concurrent update from moving the same subscriptions again.
+            int changedCount = executeSubscriptionUpdate(conn, query, isUnsubscribed, updateBy, timestamp, paramList,
+                    releaseId, tenantId, !isUnsubscribed);
+            String type = subType.toUpperCase();
+            if (adjustSubscriptionStatistic(conn, releaseId, type, type, !isUnsubscribed, ENTITY_STATISTIC_STATUS,
+                    -changedCount, tenantId)) {
+                adjustSubscriptionStatistic(conn, releaseId, type, type, isUnsubscribed, ENTITY_STATISTIC_STATUS,
+                        changedCount, tenantId);
+            } else {
+                rebuildSubscriptionStatistics(conn, tenantId);
             }
         } catch (DBConnectionException e) {
             String msg = "Error occurred while obtaining the DB connection to update the user/role/group subscriptions "
@@ -1696,6 +1740,202 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
         }
     }
 
+    @Override
+    public int createSubscriptionJob(SubscriptionJobDTO subscriptionJobDTO, int tenantId)
+            throws ApplicationManagementDAOException {
+        String sql = "INSERT INTO "
+                     + "AP_SUBSCRIPTION_JOB ("
+                     + "APPLICATION_UUID, "
+                     + "SUB_TYPE, "
+                     + "ACTION, "
+                     + "SUBSCRIBER_LIST, "
+                     + "PAYLOAD, "
+                     + "RE_EXECUTING_DISABLED, "
+                     + "STATUS, "
+                     + "CREATED_BY, "
+                     + "CREATED_AT, "
+                     + "LAST_UPDATED_AT, "
+                     + "TENANT_ID) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                Gson gson = new Gson();
+                stmt.setString(1, subscriptionJobDTO.getApplicationUUID());
+                stmt.setString(2, subscriptionJobDTO.getSubType());
+                stmt.setString(3, subscriptionJobDTO.getAction());
+                stmt.setString(4, gson.toJson(subscriptionJobDTO.getSubscriberList()));
+                stmt.setString(5, subscriptionJobDTO.getProperties() == null ? null :
+                        gson.toJson(subscriptionJobDTO.getProperties()));
+                stmt.setBoolean(6, subscriptionJobDTO.isOperationReExecutingDisabled());
+                stmt.setString(7, SubscriptionJobStatus.QUEUED.toString());
+                stmt.setString(8, subscriptionJobDTO.getCreatedBy());
+                stmt.setLong(9, subscriptionJobDTO.getCreatedAt());
+                stmt.setLong(10, subscriptionJobDTO.getLastUpdatedAt());
+                stmt.setInt(11, tenantId);
+                stmt.executeUpdate();
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        return rs.getInt(1);
+                    }
+                }
+                String msg = "Couldn't retrieve the generated id of the subscription job of application release "
+                        + subscriptionJobDTO.getApplicationUUID();
+                log.error(msg);
+                throw new ApplicationManagementDAOException(msg);
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to insert the subscription job of "
+                    + "application release " + subscriptionJobDTO.getApplicationUUID();
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred when processing SQL to insert the subscription job of application release "
+                    + subscriptionJobDTO.getApplicationUUID();
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public SubscriptionJobDTO getSubscriptionJob(int jobId, int tenantId) throws ApplicationManagementDAOException {
+        String sql = SUBSCRIPTION_JOB_SELECT + "WHERE ID = ? AND TENANT_ID = ?";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, jobId);
+                stmt.setInt(2, tenantId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    List<SubscriptionJobDTO> subscriptionJobs = DAOUtil.loadSubscriptionJobs(rs);
+                    return subscriptionJobs.isEmpty() ? null : subscriptionJobs.get(0);
+                }
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to retrieve the subscription job " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred when processing SQL to retrieve the subscription job " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public List<SubscriptionJobDTO> getStaleSubscriptionJobs(long lastUpdatedBefore)
+            throws ApplicationManagementDAOException {
+        String sql = SUBSCRIPTION_JOB_SELECT + "WHERE STATUS IN (?, ?) AND LAST_UPDATED_AT < ? ORDER BY ID";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, SubscriptionJobStatus.QUEUED.toString());
+                stmt.setString(2, SubscriptionJobStatus.IN_PROGRESS.toString());
+                stmt.setLong(3, lastUpdatedBefore);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return DAOUtil.loadSubscriptionJobs(rs);
+                }
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to retrieve stale subscription jobs.";
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred when processing SQL to retrieve stale subscription jobs.";
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public boolean updateSubscriptionJobStatus(int jobId, SubscriptionJobStatus status, String errorMessage,
+                                               long lastUpdatedAt, long updatedAt)
+            throws ApplicationManagementDAOException {
+        String sql = "UPDATE AP_SUBSCRIPTION_JOB "
+                     + "SET "
+                     + "STATUS = ?, "
+                     + "ERROR_MESSAGE = ?, "
+                     + "LAST_UPDATED_AT = ? "
+                     + "WHERE ID = ? AND LAST_UPDATED_AT = ?";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, status.toString());
+                stmt.setString(2, errorMessage);
+                stmt.setLong(3, updatedAt);
+                stmt.setInt(4, jobId);
+                stmt.setLong(5, lastUpdatedAt);
+                return stmt.executeUpdate() > 0;
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to update the status of the subscription "
+                    + "job " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred when processing SQL to update the status of the subscription job " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public boolean updateSubscriptionJobProgress(int jobId, int totalDevices, int processedDevices, int lastDeviceId,
+                                                 long lastUpdatedAt, long updatedAt)
+            throws ApplicationManagementDAOException {
+        String sql = "UPDATE AP_SUBSCRIPTION_JOB "
+                     + "SET "
+                     + "TOTAL_DEVICES = ?, "
+                     + "PROCESSED_DEVICES = ?, "
+                     + "LAST_DEVICE_ID = ?, "
+                     + "LAST_UPDATED_AT = ? "
+                     + "WHERE ID = ? AND LAST_UPDATED_AT = ?";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, totalDevices);
+                stmt.setInt(2, processedDevices);
+                stmt.setInt(3, lastDeviceId);
+                stmt.setLong(4, updatedAt);
+                stmt.setInt(5, jobId);
+                stmt.setLong(6, lastUpdatedAt);
+                return stmt.executeUpdate() > 0;
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to update the progress of the "
+                    + "subscription job " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred when processing SQL to update the progress of the subscription job " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public void deleteSubscriptionJobsByTenant(int tenantId) throws ApplicationManagementDAOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Request received in DAO Layer to delete subscription jobs of the tenant of id: " + tenantId);
+        }
+        String sql = "DELETE FROM AP_SUBSCRIPTION_JOB WHERE TENANT_ID = ?";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, tenantId);
+                stmt.executeUpdate();
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to delete subscription jobs of tenant of id "
+                    + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred while executing SQL to delete subscription jobs of tenant of id " + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
     @Override
     public void deleteDeviceSubscriptionByTenant(int tenantId) throws ApplicationManagementDAOException {
         if (log.isDebugEnabled()) {
@@ -2997,4 +3237,334 @@ public class GenericSubscriptionDAOImpl extends AbstractDAOImpl implements Subsc
         return 0;
     }
 
+    @Override
+    public List<ReleaseSubscriptionStatisticDTO> getReleaseSubscriptionStatistics(int appReleaseId, int tenantId)
+            throws ApplicationManagementDAOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Request received in DAO Layer to get subscription statistics of the application release "
+                    + appReleaseId);
+        }
+        String sql = "SELECT "
+                + "AP_APP_RELEASE_ID, "
+                + "SUBSCRIPTION_TYPE, "
+                + "ACTION_TRIGGERED_FROM, "
+                + "UNSUBSCRIBED, "
+                + "STATUS, "
+                + "SUB_COUNT "
+                + "FROM AP_SUBSCRIPTION_STATISTIC "
+                + "WHERE AP_APP_RELEASE_ID = ? AND TENANT_ID = ? AND SUB_COUNT > 0";
+        try {
+            Connection conn = this.getDBConnection();
+            if (!isSubscriptionStatisticsPopulated(conn, tenantId)) {
+                return computeReleaseSubscriptionStatistics(conn, appReleaseId, tenantId);
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, appReleaseId);
+                stmt.setInt(2, tenantId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return DAOUtil.loadReleaseSubscriptionStatistics(rs);
+                }
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to get subscription statistics of the "
+                    + "application release " + appReleaseId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred while executing SQL to get subscription statistics of the application "
+                    + "release " + appReleaseId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public void rebuildSubscriptionStatistics(int tenantId) throws ApplicationManagementDAOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Request received in DAO Layer to rebuild subscription statistics of the tenant " + tenantId);
+        }
+        try {
+            Connection conn = this.getDBConnection();
+            rebuildSubscriptionStatistics(conn, tenantId);
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to rebuild subscription statistics of "
+                    + "tenant of id " + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred while executing SQL to rebuild subscription statistics of tenant of id "
+                    + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public void deleteSubscriptionStatisticsByTenant(int tenantId) throws ApplicationManagementDAOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Request received in DAO Layer to delete subscription statistics of the tenant of id: "
+                    + tenantId);
+        }
+        String sql = "DELETE FROM AP_SUBSCRIPTION_STATISTIC " +
+                "WHERE TENANT_ID = ?";
+        try {
+            Connection conn = this.getDBConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, tenantId);
+                stmt.executeUpdate();
+            }
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while obtaining the DB connection to delete subscription statistics of "
+                    + "tenant of id " + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred while executing SQL to delete subscription statistics of tenant of id "
+                    + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementDAOException(msg, e);
+        }
+    }
+
+    /**
+     * Update the user, role or group subscriptions of the given subscribers whose unsubscribed flag currently matches
+     * the given one.
+     *
+     * @param conn                Connection of the ongoing transaction
+     * @param sql                 UPDATE query built by {@link #updateSubscriptions}
+     * @param isUnsubscribed      Unsubscribed flag to set
+     * @param updateBy            Username of the user who updates the subscriptions
+     * @param timestamp           Time of the update
+     * @param subscribers         Names of the users, roles or groups
+     * @param releaseId           Id of the application release
+     * @param tenantId            Tenant Id
+     * @param currentUnsubscribed Unsubscribed flag of the subscriptions to update
+     * @return Number of updated subscriptions
+     * @throws SQLException if error occurred while executing the query
+     */
+    private int executeSubscriptionUpdate(Connection conn, String sql, boolean isUnsubscribed, String updateBy,
+            Timestamp timestamp, List<String> subscribers, int releaseId, int tenantId, boolean currentUnsubscribed)
+            throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            stmt.setBoolean(index++, isUnsubscribed);
+            stmt.setString(index++, updateBy);
+            stmt.setTimestamp(index++, timestamp);
+            for (String subscriber : subscribers) {
+                stmt.setString(index++, subscriber);
+            }
+            stmt.setInt(index++, releaseId);
+            stmt.setInt(index++, tenantId);
+            stmt.setBoolean(index, currentUnsubscribed);
+            return stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Populate the subscription statistics of the tenant from the subscription tables unless they have been populated
+     * already, e.g. the first time they are used after upgrading a server which has existing subscriptions. This has
+     * to be executed before the subscriptions are modified, so that the incremental updates which follow apply on top
+     * of complete statistics.
+     *
+     * @param conn     Connection of the ongoing transaction
+     * @param tenantId Tenant Id
+     * @throws SQLException if error occurred while populating the statistics
+     */
+    private void populateSubscriptionStatistics(Connection conn, int tenantId) throws SQLException {
+        if (!isSubscriptionStatisticsPopulated(conn, tenantId)) {
+            rebuildSubscriptionStatistics(conn, tenantId);
+        }
+    }
+
+    /**
+     * Check whether the subscription statistics of the tenant have been populated.
+     *
+     * @param conn     Connection of the ongoing transaction
+     * @param tenantId Tenant Id
+     * @return true if the tenant has at least one statistic bucket
+     * @throws SQLException if error occurred while executing the query
+     */
+    private boolean isSubscriptionStatisticsPopulated(Connection conn, int tenantId) throws SQLException {
+        String sql = "SELECT TENANT_ID FROM AP_SUBSCRIPTION_STATISTIC WHERE TENANT_ID = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setMaxRows(1);
+            stmt.setInt(1, tenantId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Compute the statistic buckets of an application release from the subscription tables, without persisting them.
+     * This is used to answer reads of a tenant whose statistics have not been populated yet.
+     *
+     * @param conn         Connection of the ongoing transaction
+     * @param appReleaseId Id of the application release
+     * @param tenantId     Tenant Id
+     * @return Statistic buckets of the application release
+     * @throws SQLException if error occurred while executing the queries
+     */
+    private List<ReleaseSubscriptionStatisticDTO> computeReleaseSubscriptionStatistics(Connection conn,
+            int appReleaseId, int tenantId) throws SQLException {
+        List<ReleaseSubscriptionStatisticDTO> statistics = new ArrayList<>();
+        for (SubscriptionType subType : Arrays.asList(SubscriptionType.USER, SubscriptionType.ROLE,
+                SubscriptionType.GROUP)) {
+            String sql = "SELECT "
+                    + "AP_APP_RELEASE_ID, "
+                    + "'" + subType + "' AS SUBSCRIPTION_TYPE, "
+                    + "'" + subType + "' AS ACTION_TRIGGERED_FROM, "
+                    + "UNSUBSCRIBED, "
+                    + "'" + ENTITY_STATISTIC_STATUS + "' AS STATUS, "
+                    + "COUNT(*) AS SUB_COUNT "
+                    + "FROM AP_" + subType + "_SUBSCRIPTION "
+                    + "WHERE AP_APP_RELEASE_ID = ? AND TENANT_ID = ? "
+                    + "GROUP BY AP_APP_RELEASE_ID, UNSUBSCRIBED";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, appReleaseId);
+                stmt.setInt(2, tenantId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    statistics.addAll(DAOUtil.loadReleaseSubscriptionStatistics(rs));
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Recompute the subscription statistics of the tenant from the subscription tables.
+     *
+     * @param conn     Connection of the ongoing transaction
+     * @param tenantId Tenant Id
+     * @throws SQLException if error occurred while rebuilding the statistics
+     */
+    private void rebuildSubscriptionStatistics(Connection conn, int tenantId) throws SQLException {
+        String insertSql = "INSERT INTO AP_SUBSCRIPTION_STATISTIC ("
+                + "AP_APP_RELEASE_ID, "
+                + "SUBSCRIPTION_TYPE, "
+                + "ACTION_TRIGGERED_FROM, "
+                + "UNSUBSCRIBED, "
+                + "STATUS, "
+                + "SUB_COUNT, "
+                + "TENANT_ID) ";
+        List<String> sqlList = new ArrayList<>();
+        sqlList.add("DELETE FROM AP_SUBSCRIPTION_STATISTIC WHERE TENANT_ID = ?");
+        for (SubscriptionType subType : Arrays.asList(SubscriptionType.USER, SubscriptionType.ROLE,
+                SubscriptionType.GROUP)) {
+            sqlList.add(insertSql
+                    + "SELECT AP_APP_RELEASE_ID, '" + subType + "', '" + subType + "', UNSUBSCRIBED, '"
+                    + ENTITY_STATISTIC_STATUS + "', COUNT(*), TENANT_ID "
+                    + "FROM AP_" + subType + "_SUBSCRIPTION "
+                    + "WHERE TENANT_ID = ? "
+                    + "GROUP BY AP_APP_RELEASE_ID, UNSUBSCRIBED, TENANT_ID");
+        }
+        for (String sql : sqlList) {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, tenantId);
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Add the given delta to a bucket of the materialized subscription statistics, creating the bucket if it doesn't
+     * exist. This has to be executed in the same transaction which modifies the subscriptions, so that the statistics
+     * are committed or rolled back along with them.
+     *
+     * @param conn                Connection of the ongoing transaction
+     * @param appReleaseId        Id of the application release
+     * @param subscriptionType    Subscription type
+     * @param actionTriggeredFrom Action triggered from
+     * @param unsubscribed        Unsubscribed flag
+     * @param status              Subscription status
+     * @param delta               Number of subscriptions to add to the bucket, negative to remove
+     * @param tenantId            Tenant Id
+     * @return false if the bucket doesn't exist to remove subscriptions from, i.e. the statistics are out of sync
+     * @throws SQLException if error occurred while updating the statistics
+     */
+    private boolean adjustSubscriptionStatistic(Connection conn, int appReleaseId, String subscriptionType,
+            String actionTriggeredFrom, boolean unsubscribed, String status, int delta, int tenantId)
+            throws SQLException {
+        if (delta == 0) {
+            return true;
+        }
+        if (updateSubscriptionStatistic(conn, appReleaseId, subscriptionType, actionTriggeredFrom, unsubscribed,
+                status, delta, tenantId)) {
+            return true;
+        }
+        if (delta < 0) {
+            log.warn("Subscription statistics of the application release " + appReleaseId + " are out of sync with "
+                    + "the subscriptions. Hence rebuilding the subscription statistics of the tenant " + tenantId);
+            return false;
+        }
+        insertSubscriptionStatistic(conn, appReleaseId, subscriptionType, actionTriggeredFrom, unsubscribed, status,
+                delta, tenantId);
+        return true;
+    }
+
+    /**
+     * Add the given delta to an existing bucket of the materialized subscription statistics.
+     *
+     * @return true if the bucket exists and has been updated
+     * @throws SQLException if error occurred while updating the bucket
+     */
+    protected boolean updateSubscriptionStatistic(Connection conn, int appReleaseId, String subscriptionType,
+            String actionTriggeredFrom, boolean unsubscribed, String status, int delta, int tenantId)
+            throws SQLException {
+        String sql = "UPDATE AP_SUBSCRIPTION_STATISTIC "
+                + "SET SUB_COUNT = SUB_COUNT + ? "
+                + "WHERE AP_APP_RELEASE_ID = ? AND "
+                + "TENANT_ID = ? AND "
+                + "SUBSCRIPTION_TYPE = ? AND "
+                + "ACTION_TRIGGERED_FROM = ? AND "
+                + "UNSUBSCRIBED = ? AND "
+                + "STATUS = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, delta);
+            stmt.setInt(2, appReleaseId);
+            stmt.setInt(3, tenantId);
+            stmt.setString(4, subscriptionType);
+            stmt.setString(5, actionTriggeredFrom);
+            stmt.setBoolean(6, unsubscribed);
+            stmt.setString(7, status);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Create a bucket of the materialized subscription statistics with the given count. If a concurrent transaction
+     * has created the same bucket in the meantime, the count is added to that bucket instead.
+     *
+     * @throws SQLException if error occurred while creating the bucket
+     */
+    protected void insertSubscriptionStatistic(Connection conn, int appReleaseId, String subscriptionType,
+            String actionTriggeredFrom, boolean unsubscribed, String status, int count, int tenantId)
+            throws SQLException {
+        String sql = "INSERT INTO AP_SUBSCRIPTION_STATISTIC ("
+                + "AP_APP_RELEASE_ID, "
+                + "SUBSCRIPTION_TYPE, "
+                + "ACTION_TRIGGERED_FROM, "
+                + "UNSUBSCRIBED, "
+                + "STATUS, "
+                + "SUB_COUNT, "
+                + "TENANT_ID) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, appReleaseId);
+            stmt.setString(2, subscriptionType);
+            stmt.setString(3, actionTriggeredFrom);
+            stmt.setBoolean(4, unsubscribed);
+            stmt.setString(5, status);
+            stmt.setInt(6, count);
+            stmt.setInt(7, tenantId);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            // Integrity constraint violation, i.e. the bucket has been created by a concurrent transaction
+            if (e.getSQLState() == null || !e.getSQLState().startsWith("23")
+                    || !updateSubscriptionStatistic(conn, appReleaseId, subscriptionType, actionTriggeredFrom,
+                    unsubscribed, status, count, tenantId)) {
+                throw e;
+            }
+        }
+    }
 }
@@ -21,6 +21,10 @@ package io.entgra.device.mgt.core.application.mgt.core.dao.impl.subscription;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 /**
  * This handles Application subscribing operations which are specific to MsSQL.
  */
@@ -28,4 +32,34 @@ public class PostgreSQLSubscriptionDAOImpl extends GenericSubscriptionDAOImpl {
 
     private static Log log = LogFactory.getLog(PostgreSQLSubscriptionDAOImpl.class);
 
+    /**
+     * A failed statement aborts the ongoing transaction in PostgreSQL, hence the bucket is upserted instead of
+     * retrying the update when a concurrent transaction has created the same bucket.
+     */
+    @Override
+    protected void insertSubscriptionStatistic(Connection conn, int appReleaseId, String subscriptionType,
+            String actionTriggeredFrom, boolean unsubscribed, String status, int count, int tenantId)
+            throws SQLException {
+        String sql = "INSERT INTO AP_SUBSCRIPTION_STATISTIC ("
+                + "AP_APP_RELEASE_ID, "
+                + "SUBSCRIPTION_TYPE, "
+                + "ACTION_TRIGGERED_FROM, "
+                + "UNSUBSCRIBED, "
+                + "STATUS, "
+                + "SUB_COUNT, "
+                + "TENANT_ID) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT (TENANT_ID, AP_APP_RELEASE_ID, SUBSCRIPTION_TYPE, ACTION_TRIGGERED_FROM, UNSUBSCRIBED, "
+                + "STATUS) DO UPDATE SET SUB_COUNT = AP_SUBSCRIPTION_STATISTIC.SUB_COUNT + EXCLUDED.SUB_COUNT";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, appReleaseId);
+            stmt.setString(2, subscriptionType);
+            stmt.setString(3, actionTriggeredFrom);
+            stmt.setBoolean(4, unsubscribed);
+            stmt.setString(5, status);
+            stmt.setInt(6, count);
+            stmt.setInt(7, tenantId);
+            stmt.executeUpdate();
+        }
+    }
 }
@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.application.mgt.core.impl;
 
+import com.google.gson.reflect.TypeToken;
 import io.entgra.device.mgt.core.application.mgt.common.ReleaseVersionInfo;
 import io.entgra.device.mgt.core.application.mgt.common.exception.FileDownloaderServiceException;
 import io.entgra.device.mgt.core.application.mgt.core.exception.BadRequestException;
@@ -63,6 +64,8 @@ import io.entgra.device.mgt.core.application.mgt.common.wrapper.PublicAppRelease
 import io.entgra.device.mgt.core.application.mgt.common.wrapper.PublicAppWrapper;
 import io.entgra.device.mgt.core.application.mgt.common.wrapper.WebAppReleaseWrapper;
 import io.entgra.device.mgt.core.application.mgt.common.wrapper.WebAppWrapper;
+import io.entgra.device.mgt.core.application.mgt.core.cache.ApplicationCatalogCache;
+import io.entgra.device.mgt.core.application.mgt.core.cache.ApplicationCatalogPage;
 import io.entgra.device.mgt.core.application.mgt.core.config.ConfigurationManager;
 import io.entgra.device.mgt.core.application.mgt.core.dao.common.ApplicationManagementDAOFactory;
 import io.entgra.device.mgt.core.application.mgt.core.exception.ApplicationManagementDAOException;
@@ -100,6 +103,7 @@ import org.wso2.carbon.user.api.UserStoreException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -121,6 +125,10 @@ import java.util.stream.Stream;
 public class ApplicationManagerImpl implements ApplicationManager {
 
     private static final Log log = LogFactory.getLog(ApplicationManagerImpl.class);
+    private static final String REGISTERED_TAGS_CACHE_KEY = "tags";
+    private static final String REGISTERED_CATEGORIES_CACHE_KEY = "categories";
+    private static final Type TAG_LIST_TYPE = new TypeToken<List<Tag>>() {}.getType();
+    private static final Type CATEGORY_LIST_TYPE = new TypeToken<List<Category>>() {}.getType();
     private VisibilityDAO visibilityDAO;
     private ApplicationDAO applicationDAO;
     private ApplicationReleaseDAO applicationReleaseDAO;
@@ -203,6 +211,8 @@ public class ApplicationManagerImpl implements ApplicationManager {
             ConnectionManagerUtil.beginDBTransaction();
             Application application = addAppDataIntoDB(applicationDTO, isPublished);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance()
+                    .invalidate(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
             return application;
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting database connection.";
@@ -1162,17 +1172,9 @@ public class ApplicationManagerImpl implements ApplicationManager {
         try {
             ConnectionManagerUtil.openDBConnection();
             validateFilter(filter);
-            List<ApplicationDTO> appDTOs = applicationDAO.getApplications(filter, deviceType.getId(), tenantId);
-            for (ApplicationDTO applicationDTO : appDTOs) {
-                if (lifecycleStateManager.getEndState().equals(applicationDTO.getStatus())) {
-                    continue;
-                }
-
-                //Set application categories, tags and unrestricted roles to the application DTO.
-                applicationDTO
-                        .setUnrestrictedRoles(visibilityDAO.getUnrestrictedRoles(applicationDTO.getId(), tenantId));
-                setApplicationProperties(applicationDTO);
-
+            ApplicationCatalogPage catalogPage = getApplicationCatalogPage(filter, deviceType.getId(), tenantId);
+            for (ApplicationDTO applicationDTO : catalogPage.getApplications()) {
+                applicationDTO.setFavourite(applicationDAO.isFavouriteApp(applicationDTO.getId(), userName, tenantId));
                 if (isFilteringApp(applicationDTO, filter)) {
                     boolean isHideableApp = isHideableApp(applicationDTO.getApplicationReleaseDTOs());
                     boolean isDeletableApp = isDeletableApp(applicationDTO.getApplicationReleaseDTOs());
@@ -1202,13 +1204,14 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 }
             }
             Pagination pagination = new Pagination();
-            pagination.setCount(applicationDAO.getApplicationCount(filter, deviceType.getId(), tenantId));
+            pagination.setCount(catalogPage.getCount());
             pagination.setSize(applications.size());
             pagination.setOffset(filter.getOffset());
             pagination.setLimit(filter.getLimit());
 
             applicationList.setApplications(applications);
             applicationList.setPagination(pagination);
+            applicationList.setETag(ApplicationCatalogCache.generateETag(applicationList));
             return applicationList;
         } catch (DBConnectionException e) {
             String msg = "Error occurred when getting database connection to get applications by filtering from "
@@ -1225,6 +1228,49 @@ public class ApplicationManagerImpl implements ApplicationManager {
         }
     }
 
+    /**
+     * Get the applications which match the filter, excluding the ones in the end state, along with their tags,
+     * categories and unrestricted roles, and the total count of matching applications. The page is served from the
+     * {@link ApplicationCatalogCache} when it is available there.
+     *
+     * @param filter Filter
+     * @param deviceTypeId Device type ID or -1 if the applications are not filtered by device type
+     * @param tenantId Tenant ID
+     * @return {@link ApplicationCatalogPage}
+     * @throws ApplicationManagementDAOException if error occurred while getting applications from the database
+     * @throws VisibilityManagementDAOException if error occurred while getting unrestricted roles of applications
+     */
+    private ApplicationCatalogPage getApplicationCatalogPage(Filter filter, int deviceTypeId, int tenantId)
+            throws ApplicationManagementDAOException, VisibilityManagementDAOException {
+        ApplicationCatalogCache catalogCache = ApplicationCatalogCache.getInstance();
+        String cacheKey = ApplicationCatalogCache.getApplicationsKey(filter, deviceTypeId);
+        // Favourite applications are listed per user and change without evicting the catalog, hence not cached
+        boolean isCacheable = StringUtils.isEmpty(filter.getFavouredBy());
+        ApplicationCatalogPage catalogPage = isCacheable ?
+                catalogCache.get(tenantId, cacheKey, ApplicationCatalogPage.class) : null;
+        if (catalogPage != null) {
+            return catalogPage;
+        }
+        long generation = catalogCache.getGeneration(tenantId);
+        List<ApplicationDTO> applicationDTOs = new ArrayList<>();
+        for (ApplicationDTO applicationDTO : applicationDAO.getApplications(filter, deviceTypeId, tenantId)) {
+            if (lifecycleStateManager.getEndState().equals(applicationDTO.getStatus())) {
+                continue;
+            }
+            //Set application categories, tags and unrestricted roles to the application DTO.
+            applicationDTO.setUnrestrictedRoles(visibilityDAO.getUnrestrictedRoles(applicationDTO.getId(), tenantId));
+            applicationDTO.setTags(applicationDAO.getAppTags(applicationDTO.getId(), tenantId));
+            applicationDTO.setAppCategories(applicationDAO.getAppCategories(applicationDTO.getId(), tenantId));
+            applicationDTOs.add(applicationDTO);
+        }
+        catalogPage = new ApplicationCatalogPage(applicationDTOs,
+                applicationDAO.getApplicationCount(filter, deviceTypeId, tenantId));
+        if (isCacheable) {
+            catalogCache.put(tenantId, cacheKey, catalogPage, generation);
+        }
+        return catalogPage;
+    }
+
     /**
      * To check whether the application is filtering app or not
      *
@@ -1585,6 +1631,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             }
             ApplicationRelease applicationRelease = APIUtil.releaseDtoToRelease(applicationReleaseDTO);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
             return applicationRelease;
         } catch (TransactionManagementException e) {
             String msg = "Error occurred while staring application release creating transaction for application Id: "
@@ -2044,6 +2091,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             this.applicationDAO.deleteApplication(applicationDTO.getId(), tenantId);
             APIUtil.getApplicationStorageManager().deleteAllApplicationReleaseArtifacts(deletingAppHashVals, tenantId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while observing the database connection to delete application which has "
                     + "application ID: " + applicationDTO.getId();
@@ -2099,6 +2147,8 @@ public class ApplicationManagerImpl implements ApplicationManager {
             }
             this.applicationDAO.retireApplication(applicationId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance()
+                    .invalidate(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
         } catch (DBConnectionException e) {
             String msg = "Error occurred while observing the database connection to retire an application which has "
                     + "application ID:" + applicationId;
@@ -2171,6 +2221,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                     applicationStorageManager.deleteAllApplicationReleaseArtifacts(
                             Collections.singletonList(applicationReleaseDTO.getAppHashValue()), tenantId);
                     ConnectionManagerUtil.commitDBTransaction();
+                    ApplicationCatalogCache.getInstance().invalidate(tenantId);
                 } catch (DBConnectionException e) {
                     String msg = "Error occurred while observing the database connection to delete application "
                             + "release which has the UUID:" + releaseUuid;
@@ -2237,6 +2288,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 throw new ApplicationManagementException(msg);
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg =
                     "Error occurred when getting DB connection to update image artifacts of the application release "
@@ -2326,6 +2378,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
 
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (ApplicationManagementDAOException e) {
             ConnectionManagerUtil.rollbackDBTransaction();
             String msg = "Error occurred while getting/updating APPM DB for updating application Installer.";
@@ -2435,6 +2488,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 }
                 this.lifecycleStateDAO.addLifecycleState(lifecycleState, applicationReleaseDTO.getId(), tenantId);
                 ConnectionManagerUtil.commitDBTransaction();
+                ApplicationCatalogCache.getInstance().invalidate(tenantId);
                 return APIUtil.releaseDtoToRelease(applicationReleaseDTO);
             } else {
                 String msg = "Invalid lifecycle state transition from '" + applicationReleaseDTO.getCurrentState() + "'"
@@ -2536,6 +2590,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 applicationDAO.addCategories(newCategories, tenantId);
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to add application categories.";
             log.error(msg, e);
@@ -2764,6 +2819,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             applicationDTO.setAppCategories(appCategories);
             applicationDTO.setTags(appTags);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
             return APIUtil.appDtoToAppResponse(applicationDTO);
         } catch (UserStoreException e) {
             ConnectionManagerUtil.rollbackDBTransaction();
@@ -2800,6 +2856,12 @@ public class ApplicationManagerImpl implements ApplicationManager {
     @Override
     public List<Tag> getRegisteredTags() throws ApplicationManagementException {
         int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(true);
+        ApplicationCatalogCache catalogCache = ApplicationCatalogCache.getInstance();
+        List<Tag> cachedTags = catalogCache.get(tenantId, REGISTERED_TAGS_CACHE_KEY, TAG_LIST_TYPE);
+        if (cachedTags != null) {
+            return cachedTags;
+        }
+        long generation = catalogCache.getGeneration(tenantId);
         try {
             ConnectionManagerUtil.openDBConnection();
             List<TagDTO> tags = applicationDAO.getAllTags(tenantId);
@@ -2813,6 +2875,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 responseTag.setTagName(tag.getTagName());
                 responseTagList.add(responseTag);
             });
+            catalogCache.put(tenantId, REGISTERED_TAGS_CACHE_KEY, responseTagList, generation);
             return responseTagList;
         } catch (DBConnectionException e) {
             String msg = "Error occurred while obtaining the database connection to get registered tags";
@@ -2830,6 +2893,13 @@ public class ApplicationManagerImpl implements ApplicationManager {
     @Override
     public List<Category> getRegisteredCategories() throws ApplicationManagementException {
         int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(true);
+        ApplicationCatalogCache catalogCache = ApplicationCatalogCache.getInstance();
+        List<Category> cachedCategories = catalogCache.get(tenantId, REGISTERED_CATEGORIES_CACHE_KEY,
+                CATEGORY_LIST_TYPE);
+        if (cachedCategories != null) {
+            return cachedCategories;
+        }
+        long generation = catalogCache.getGeneration(tenantId);
         try {
             ConnectionManagerUtil.openDBConnection();
             List<CategoryDTO> categories = applicationDAO.getAllCategories(tenantId);
@@ -2843,6 +2913,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 responseCategory.setCategoryName(category.getCategoryName());
                 responseCategoryList.add(responseCategory);
             });
+            catalogCache.put(tenantId, REGISTERED_CATEGORIES_CACHE_KEY, responseCategoryList, generation);
             return responseCategoryList;
         } catch (DBConnectionException e) {
             String msg = "Error occurred while obtaining the database connection to get registered categories.";
@@ -2872,6 +2943,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             if (applicationDAO.hasTagMapping(tag.getId(), applicationDTO.getId(), tenantId)){
                 applicationDAO.deleteApplicationTag(tag.getId(), applicationDTO.getId(), tenantId);
                 ConnectionManagerUtil.commitDBTransaction();
+                ApplicationCatalogCache.getInstance().invalidate(tenantId);
             } else {
                 String msg = "Tag " + tagName + " is not an application tag. Application name: " + applicationDTO.getName();
                 log.error(msg);
@@ -2910,6 +2982,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             }
             applicationDAO.deleteTag(tag.getId(), tenantId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to delete registered tag.";
             log.error(msg, e);
@@ -2947,6 +3020,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             }
             applicationDAO.deleteTag(tag.getId(), tenantId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to delete unused tag.";
             log.error(msg, e);
@@ -2991,6 +3065,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             tag.setTagName(newTagName);
             applicationDAO.updateTag(tag, tenantId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to update application tag.";
             log.error(msg, e);
@@ -3022,6 +3097,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 if (!newTags.isEmpty()) {
                     this.applicationDAO.addTags(newTags, tenantId);
                     ConnectionManagerUtil.commitDBTransaction();
+                    ApplicationCatalogCache.getInstance().invalidate(tenantId);
                     if (log.isDebugEnabled()) {
                         log.debug("New tags are added to the AP_APP_TAG table.");
                     }
@@ -3076,6 +3152,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                     List<Integer> newTagIds = this.applicationDAO.getTagIdsForTagNames(newApplicationTags, tenantId);
                     this.applicationDAO.addTagMapping(newTagIds, applicationDTO.getId(), tenantId);
                     ConnectionManagerUtil.commitDBTransaction();
+                    ApplicationCatalogCache.getInstance().invalidate(tenantId);
                 }
                 return Stream.concat(applicationTags.stream(), newApplicationTags.stream())
                         .collect(Collectors.toList());
@@ -3118,6 +3195,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 if (!newCategories.isEmpty()) {
                     this.applicationDAO.addCategories(newCategories, tenantId);
                     ConnectionManagerUtil.commitDBTransaction();
+                    ApplicationCatalogCache.getInstance().invalidate(tenantId);
                     if (log.isDebugEnabled()) {
                         log.debug("New categories are added to the AP_APP_TAG table.");
                     }
@@ -3167,6 +3245,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             }
             applicationDAO.deleteCategory(category.getId(), tenantId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to delete category.";
             log.error(msg, e);
@@ -3204,6 +3283,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             category.setCategoryName(newCategoryName);
             applicationDAO.updateCategory(category, tenantId);
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to update category.";
             log.error(msg, e);
@@ -3373,6 +3453,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 return null;
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
             return APIUtil.releaseDtoToRelease(applicationReleaseDTO.get());
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to update enterprise app release which "
@@ -3450,6 +3531,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 return null;
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
             return APIUtil.releaseDtoToRelease(applicationReleaseDTO.get());
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to update public app release which "
@@ -3523,6 +3605,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 return null;
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
             return APIUtil.releaseDtoToRelease(applicationReleaseDTO.get());
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to update web app release which "
@@ -3659,6 +3742,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
                 return null;
             }
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
             return APIUtil.releaseDtoToRelease(applicationReleaseDTO.get());
         } catch (DBConnectionException e) {
             String msg = "Error occurred while getting the database connection to update enterprise app release which "
@@ -4397,12 +4481,14 @@ public class ApplicationManagerImpl implements ApplicationManager {
             subscriptionDAO.deleteGroupSubscriptionByTenant(tenantId);
             subscriptionDAO.deleteRoleSubscriptionByTenant(tenantId);
             subscriptionDAO.deleteUserSubscriptionByTenant(tenantId);
+            subscriptionDAO.deleteSubscriptionStatisticsByTenant(tenantId);
             applicationDAO.deleteAppFavouritesByTenant(tenantId);
             applicationDAO.deleteApplicationTagsMappingByTenant(tenantId);
             applicationDAO.deleteApplicationTagsByTenant(tenantId);
             applicationDAO.deleteApplicationCategoryMappingByTenant(tenantId);
             applicationDAO.deleteApplicationCategoriesByTenant(tenantId);
             subscriptionDAO.deleteScheduledSubscriptionByTenant(tenantId);
+            subscriptionDAO.deleteSubscriptionJobsByTenant(tenantId);
             lifecycleStateDAO.deleteAppLifecycleStatesByTenant(tenantId);
             applicationReleaseDAO.deleteReleasesByTenant(tenantId);
             visibilityDAO.deleteAppUnrestrictedRolesByTenant(tenantId);
@@ -4411,6 +4497,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             applicationDAO.deleteApplicationsByTenant(tenantId);
 
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while observing the database connection to delete applications for tenant with ID: "
                     + tenantId;
@@ -4451,12 +4538,14 @@ public class ApplicationManagerImpl implements ApplicationManager {
             subscriptionDAO.deleteGroupSubscriptionByTenant(tenantId);
             subscriptionDAO.deleteRoleSubscriptionByTenant(tenantId);
             subscriptionDAO.deleteUserSubscriptionByTenant(tenantId);
+            subscriptionDAO.deleteSubscriptionStatisticsByTenant(tenantId);
             applicationDAO.deleteAppFavouritesByTenant(tenantId);
             applicationDAO.deleteApplicationTagsMappingByTenant(tenantId);
             applicationDAO.deleteApplicationTagsByTenant(tenantId);
             applicationDAO.deleteApplicationCategoryMappingByTenant(tenantId);
             applicationDAO.deleteApplicationCategoriesByTenant(tenantId);
             subscriptionDAO.deleteScheduledSubscriptionByTenant(tenantId);
+            subscriptionDAO.deleteSubscriptionJobsByTenant(tenantId);
             lifecycleStateDAO.deleteAppLifecycleStatesByTenant(tenantId);
             applicationReleaseDAO.deleteReleasesByTenant(tenantId);
             visibilityDAO.deleteAppUnrestrictedRolesByTenant(tenantId);
@@ -4465,6 +4554,7 @@ public class ApplicationManagerImpl implements ApplicationManager {
             applicationDAO.deleteApplicationsByTenant(tenantId);
 
             ConnectionManagerUtil.commitDBTransaction();
+            ApplicationCatalogCache.getInstance().invalidate(tenantId);
         } catch (DBConnectionException e) {
             String msg = "Error occurred while observing the database connection to delete applications for tenant with " +
                     "tenant ID: " + tenantId;
@@ -25,6 +25,7 @@ import io.entgra.device.mgt.core.application.mgt.common.ApplicationType;
 import io.entgra.device.mgt.core.application.mgt.common.CategorizedSubscriptionResult;
 import io.entgra.device.mgt.core.application.mgt.common.DeviceSubscriptionData;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionInfo;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionJobStatus;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionResponse;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionStatistics;
 import io.entgra.device.mgt.core.application.mgt.common.dto.CategorizedSubscriptionCountsDTO;
@@ -36,7 +37,9 @@ import io.entgra.device.mgt.core.application.mgt.common.SubAction;
 import io.entgra.device.mgt.core.application.mgt.common.SubscribingDeviceIdHolder;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationReleaseDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ReleaseSubscriptionStatisticDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ScheduledSubscriptionDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionJobDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationPolicyDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.VppAssetDTO;
@@ -45,7 +48,10 @@ import io.entgra.device.mgt.core.application.mgt.common.services.VPPApplicationM
 import io.entgra.device.mgt.core.application.mgt.core.dao.ApplicationReleaseDAO;
 import io.entgra.device.mgt.core.application.mgt.core.dao.VppApplicationDAO;
 import io.entgra.device.mgt.core.application.mgt.core.exception.BadRequestException;
+import io.entgra.device.mgt.core.application.mgt.core.task.SubscriptionJobExecutor;
+import io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt.SubscriptionManagementHelperUtil;
 import io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt.SubscriptionManagementServiceProvider;
+import io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt.SubscriptionTargets;
 import io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt.service.SubscriptionManagementHelperService;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationResult;
@@ -130,7 +136,6 @@ import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -237,6 +242,383 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
 
     }
 
+    @Override
+    public <T> int submitBulkAppOperationJob(String applicationUUID, List<T> params, String subType, String action,
+                                             Properties properties, boolean isOperationReExecutingDisabled)
+            throws ApplicationManagementException {
+        validateRequest(params, subType, action);
+        ApplicationDTO applicationDTO = getApplicationDTO(applicationUUID);
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(true);
+        long currentTime = System.currentTimeMillis();
+        SubscriptionJobDTO subscriptionJobDTO = new SubscriptionJobDTO();
+        subscriptionJobDTO.setApplicationUUID(applicationDTO.getApplicationReleaseDTOs().get(0).getUuid());
+        subscriptionJobDTO.setSubType(subType.toUpperCase());
+        subscriptionJobDTO.setAction(action.toUpperCase());
+        subscriptionJobDTO.setSubscriberList(params);
+        subscriptionJobDTO.setProperties(properties);
+        subscriptionJobDTO.setOperationReExecutingDisabled(isOperationReExecutingDisabled);
+        subscriptionJobDTO.setStatus(SubscriptionJobStatus.QUEUED);
+        subscriptionJobDTO.setCreatedBy(PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername());
+        subscriptionJobDTO.setCreatedAt(currentTime);
+        subscriptionJobDTO.setLastUpdatedAt(currentTime);
+        subscriptionJobDTO.setTenantId(tenantId);
+        try {
+            ConnectionManagerUtil.beginDBTransaction();
+            subscriptionJobDTO.setId(subscriptionDAO.createSubscriptionJob(subscriptionJobDTO, tenantId));
+            ConnectionManagerUtil.commitDBTransaction();
+        } catch (ApplicationManagementDAOException e) {
+            ConnectionManagerUtil.rollbackDBTransaction();
+            String msg = "Error occurred while creating the subscription job for application release UUID: "
+                    + applicationUUID;
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (TransactionManagementException e) {
+            String msg = "Error occurred while executing database transaction to create the subscription job.";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while retrieving the database connection to create the subscription job.";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Submitted the subscription job " + subscriptionJobDTO.getId() + " to " + action
+                    + " the application release which has UUID " + applicationUUID + " for " + params.size() + " "
+                    + subType + " subscribers.");
+        }
+        SubscriptionJobExecutor.getInstance().submit(subscriptionJobDTO);
+        return subscriptionJobDTO.getId();
+    }
+
+    @Override
+    public SubscriptionJobDTO getBulkAppOperationJob(int jobId) throws ApplicationManagementException {
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(true);
+        try {
+            ConnectionManagerUtil.openDBConnection();
+            SubscriptionJobDTO subscriptionJobDTO = subscriptionDAO.getSubscriptionJob(jobId, tenantId);
+            if (subscriptionJobDTO == null) {
+                String msg = "Couldn't find a subscription job for the job id: " + jobId;
+                log.error(msg);
+                throw new NotFoundException(msg);
+            }
+            return subscriptionJobDTO;
+        } catch (ApplicationManagementDAOException e) {
+            String msg = "Error occurred while retrieving the subscription job: " + jobId;
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while retrieving the database connection to get the subscription job.";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
+
+    /**
+     * Retrieve queued or in progress subscription jobs of all tenants which have not made any progress since the
+     * given time, i.e. the jobs which have been abandoned by the node which was executing them.
+     *
+     * @param lastUpdatedBefore jobs last updated before this time are considered abandoned
+     * @return list of {@link SubscriptionJobDTO}
+     * @throws ApplicationManagementException if error occurred while retrieving the jobs
+     */
+    public List<SubscriptionJobDTO> getStaleSubscriptionJobs(long lastUpdatedBefore)
+            throws ApplicationManagementException {
+        try {
+            ConnectionManagerUtil.openDBConnection();
+            return subscriptionDAO.getStaleSubscriptionJobs(lastUpdatedBefore);
+        } catch (ApplicationManagementDAOException e) {
+            String msg = "Error occurred while retrieving stale subscription jobs.";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while retrieving the database connection to get stale subscription jobs.";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
+
+    /**
+     * Execute a bulk subscription job from its last checkpoint. The job is claimed first, so that only one node
+     * executes it, and then the devices of the subscribers are processed in chunks in the ascending order of their
+     * ids. Operations and subscription data of each chunk are committed together with the checkpoint of the job.
+     * This method is expected to be invoked within the tenant flow of the tenant of the job.
+     *
+     * @param subscriptionJobDTO {@link SubscriptionJobDTO} to execute
+     */
+    public void executeSubscriptionJob(SubscriptionJobDTO subscriptionJobDTO) {
+        if (!updateSubscriptionJobStatus(subscriptionJobDTO, SubscriptionJobStatus.IN_PROGRESS, null)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Subscription job " + subscriptionJobDTO.getId() + " has been claimed by another node.");
+            }
+            return;
+        }
+        try {
+            ApplicationDTO applicationDTO = getApplicationDTO(subscriptionJobDTO.getApplicationUUID());
+            String deviceTypeName = null;
+            if (!ApplicationType.WEB_CLIP.toString().equals(applicationDTO.getType())) {
+                deviceTypeName = APIUtil.getDeviceTypeData(applicationDTO.getDeviceTypeId()).getName();
+            }
+            SubscriptionTargets targets = resolveSubscriptionTargets(applicationDTO, deviceTypeName,
+                    subscriptionJobDTO.getSubType(), subscriptionJobDTO.getSubscriberList(), new ArrayList<>());
+            if (!updateSubscriptionJobStatus(subscriptionJobDTO, SubscriptionJobStatus.IN_PROGRESS, null)) {
+                log.warn("Subscription job " + subscriptionJobDTO.getId() + " has been claimed by another node "
+                        + "while its devices were being resolved. Hence stopped executing the job on this node.");
+                return;
+            }
+            int chunkSize = SubscriptionJobExecutor.getInstance().getChunkSize();
+            if (subscriptionJobDTO.getProcessedDevices() == 0
+                    && SubAction.INSTALL.toString().equalsIgnoreCase(subscriptionJobDTO.getAction())) {
+                validatePendingAppSubscription(targets, applicationDTO.getApplicationReleaseDTOs().get(0).getId(),
+                        chunkSize);
+            }
+            int fromIndex = targets.indexAfter(subscriptionJobDTO.getLastDeviceId());
+            do {
+                int toIndex = Math.min(fromIndex + chunkSize, targets.size());
+                if (!processSubscriptionJobChunk(subscriptionJobDTO, applicationDTO, deviceTypeName, targets,
+                        fromIndex, toIndex)) {
+                    log.warn("Subscription job " + subscriptionJobDTO.getId() + " has been claimed by another node "
+                            + "while it was being executed. Hence stopped executing the job on this node.");
+                    return;
+                }
+                fromIndex = toIndex;
+            } while (fromIndex < targets.size());
+            updateSubscriptionJobStatus(subscriptionJobDTO, SubscriptionJobStatus.COMPLETED, null);
+        } catch (ApplicationManagementException e) {
+            String msg = "Error occurred while executing the subscription job " + subscriptionJobDTO.getId();
+            log.error(msg, e);
+            updateSubscriptionJobStatus(subscriptionJobDTO, SubscriptionJobStatus.FAILED,
+                    StringUtils.abbreviate(e.getMessage(), 1000));
+        }
+    }
+
+    /**
+     * Resolve the devices of the subscribers which support the application. Devices of users, roles and groups are
+     * resolved through the device reference APIs, hence only the identity of the devices is loaded.
+     *
+     * @param applicationDTO         Application data
+     * @param deviceTypeName         Application supported device type, null for web clips.
+     * @param subType                Subscription type (i.e USER, ROLE, GROUP or DEVICE)
+     * @param subscribers            {@link DeviceIdentifier} list if the subscription type is DEVICE, otherwise list
+     *                               of names
+     * @param errorDeviceIdentifiers List which the device identifiers that can't be subscribed are added to.
+     * @return {@link SubscriptionTargets}
+     * @throws ApplicationManagementException if error occurred while getting devices of the subscribers
+     */
+    private SubscriptionTargets resolveSubscriptionTargets(ApplicationDTO applicationDTO, String deviceTypeName,
+                                                           String subType, List<?> subscribers,
+                                                           List<DeviceIdentifier> errorDeviceIdentifiers)
+            throws ApplicationManagementException {
+        DeviceManagementProviderService deviceManagementProviderService = HelperUtil
+                .getDeviceManagementProviderService();
+        GroupManagementProviderService groupManagementProviderService = HelperUtil.getGroupManagementProviderService();
+        List<String> allowingDeviceStatuses = new ArrayList<>();
+        allowingDeviceStatuses.add(EnrolmentInfo.Status.ACTIVE.toString());
+        allowingDeviceStatuses.add(EnrolmentInfo.Status.INACTIVE.toString());
+        allowingDeviceStatuses.add(EnrolmentInfo.Status.UNREACHABLE.toString());
+
+        SubscriptionTargets.Builder builder = new SubscriptionTargets.Builder();
+        try {
+            if (SubscriptionType.DEVICE.toString().equals(subType)) {
+                for (Object subscriber : subscribers) {
+                    DeviceIdentifier deviceIdentifier = (DeviceIdentifier) subscriber;
+                    if (StringUtils.isEmpty(deviceIdentifier.getId()) || StringUtils
+                            .isEmpty(deviceIdentifier.getType())) {
+                        log.warn("Found a device identifier which has either empty identity of the device or empty"
+                                + " device type. Hence ignoring the device identifier. ");
+                        continue;
+                    }
+                    if (deviceTypeName != null && !deviceIdentifier.getType().equals(deviceTypeName)) {
+                        log.warn("Found a device identifier which is not matched with the supported device type "
+                                + "of the application release which has UUID " + applicationDTO
+                                .getApplicationReleaseDTOs().get(0).getUuid() + " Application "
+                                + "supported device type is " + deviceTypeName + " and the identifier of which has a "
+                                + "different device type is " + deviceIdentifier.getId());
+                        errorDeviceIdentifiers.add(deviceIdentifier);
+                        continue;
+                    }
+                    Device device = deviceManagementProviderService.getDevice(deviceIdentifier, false);
+                    if (device == null) {
+                        log.warn("Couldn't find a device for the device identifier " + deviceIdentifier.getId()
+                                + " of type " + deviceIdentifier.getType());
+                        errorDeviceIdentifiers.add(deviceIdentifier);
+                        continue;
+                    }
+                    builder.add(device);
+                }
+            } else if (SubscriptionType.USER.toString().equalsIgnoreCase(subType)) {
+                for (Object subscriber : subscribers) {
+                    builder.addAll(deviceManagementProviderService.getDeviceRefsOfUser((String) subscriber,
+                            allowingDeviceStatuses), deviceTypeName);
+                }
+            } else if (SubscriptionType.ROLE.toString().equalsIgnoreCase(subType)) {
+                for (Object subscriber : subscribers) {
+                    builder.addAll(deviceManagementProviderService.getDeviceRefsOfRole((String) subscriber,
+                            allowingDeviceStatuses), deviceTypeName);
+                }
+            } else if (SubscriptionType.GROUP.toString().equalsIgnoreCase(subType)) {
+                for (Object subscriber : subscribers) {
+                    builder.addAll(groupManagementProviderService.getDeviceRefsOfGroup((String) subscriber,
+                            allowingDeviceStatuses), deviceTypeName);
+                }
+            } else {
+                String msg = "Found invalid subscription type " + subType + " to install application release";
+                log.error(msg);
+                throw new BadRequestException(msg);
+            }
+            return builder.build();
+        } catch (DeviceManagementException e) {
+            String msg = "Error occurred while getting devices of given users or given roles or while getting device "
+                    + "type info.";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (GroupManagementException e) {
+            String msg = "Error occurred while getting devices of given groups";
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        }
+    }
+
+    /**
+     * Perform the action of a bulk subscription job on a chunk of its devices and save the checkpoint of the job in
+     * the same transaction as the subscription data of the chunk.
+     *
+     * @param subscriptionJobDTO {@link SubscriptionJobDTO} which is being executed
+     * @param applicationDTO     Application data
+     * @param deviceTypeName     Application supported device type, null for web clips.
+     * @param targets            Devices of the job
+     * @param fromIndex          index of the first device of the chunk, inclusive
+     * @param toIndex            index of the last device of the chunk, exclusive
+     * @return false if the job has been claimed by another node, hence the chunk was not processed
+     * @throws ApplicationManagementException if error occurred while processing the chunk
+     */
+    private boolean processSubscriptionJobChunk(SubscriptionJobDTO subscriptionJobDTO, ApplicationDTO applicationDTO,
+                                                String deviceTypeName, SubscriptionTargets targets, int fromIndex,
+                                                int toIndex) throws ApplicationManagementException {
+        int applicationReleaseId = applicationDTO.getApplicationReleaseDTOs().get(0).getId();
+        String subType = subscriptionJobDTO.getSubType();
+        String action = subscriptionJobDTO.getAction();
+        List<Activity> activities = new ArrayList<>();
+        SubscribingDeviceIdHolder subscribingDeviceIdHolder = null;
+        if (fromIndex < toIndex) {
+            List<Device> devices = targets.getDevices(fromIndex, toIndex);
+            ApplicationSubscriptionInfo applicationSubscriptionInfo = new ApplicationSubscriptionInfo();
+            applicationSubscriptionInfo.setDevices(devices);
+            performExternalStoreSubscription(applicationDTO, applicationSubscriptionInfo);
+            subscribingDeviceIdHolder = getSubscribingDeviceIdHolder(devices, applicationReleaseId);
+            List<DeviceIdentifier> deviceIdentifiers = getActionableDeviceIdentifiers(subscribingDeviceIdHolder,
+                    action, subscriptionJobDTO.isOperationReExecutingDisabled(), new ArrayList<>());
+            if (!deviceIdentifiers.isEmpty()) {
+                // Renew the lease before adding operations, so that a node which has lost the job to the stale job
+                // sweep doesn't add operations which the new owner adds again
+                if (!updateSubscriptionJobStatus(subscriptionJobDTO, SubscriptionJobStatus.IN_PROGRESS, null)) {
+                    return false;
+                }
+                activities = addAppOperations(deviceTypeName, deviceIdentifiers, applicationDTO, subType, action,
+                        subscriptionJobDTO.getProperties());
+            }
+        }
+
+        int tenantId = subscriptionJobDTO.getTenantId();
+        String username = subscriptionJobDTO.getCreatedBy();
+        int lastDeviceId = toIndex > 0 ? targets.getDeviceId(toIndex - 1) : subscriptionJobDTO.getLastDeviceId();
+        long updatedAt = nextUpdateTime(subscriptionJobDTO);
+        try {
+            ConnectionManagerUtil.beginDBTransaction();
+            if (subscriptionJobDTO.getProcessedDevices() == 0
+                    && !SubscriptionType.DEVICE.toString().equals(subType)) {
+                List<String> subscribers = subscriptionJobDTO.getSubscriberList().stream().map(String::valueOf)
+                        .collect(Collectors.toList());
+                updateBulkSubscribers(applicationReleaseId, subscribers, subType, action, tenantId, username);
+            }
+            if (!activities.isEmpty()) {
+                addSubscriptionData(applicationReleaseId, activities, subscribingDeviceIdHolder, subType, action,
+                        tenantId, username);
+            }
+            if (!subscriptionDAO.updateSubscriptionJobProgress(subscriptionJobDTO.getId(), targets.size(), toIndex,
+                    lastDeviceId, subscriptionJobDTO.getLastUpdatedAt(), updatedAt)) {
+                ConnectionManagerUtil.rollbackDBTransaction();
+                return false;
+            }
+            ConnectionManagerUtil.commitDBTransaction();
+        } catch (ApplicationManagementDAOException e) {
+            ConnectionManagerUtil.rollbackDBTransaction();
+            String msg = "Error occurred when adding subscription data of the subscription job "
+                    + subscriptionJobDTO.getId() + " for application release ID: " + applicationReleaseId;
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred when getting database connection to add subscription data of the "
+                    + "subscription job " + subscriptionJobDTO.getId();
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (TransactionManagementException e) {
+            String msg = "SQL Error occurred when adding subscription data of the subscription job "
+                    + subscriptionJobDTO.getId();
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        subscriptionJobDTO.setTotalDevices(targets.size());
+        subscriptionJobDTO.setProcessedDevices(toIndex);
+        subscriptionJobDTO.setLastDeviceId(lastDeviceId);
+        subscriptionJobDTO.setLastUpdatedAt(updatedAt);
+        return true;
+    }
+
+    /**
+     * Update the status of a bulk subscription job if it has not been updated by another node since it was read.
+     *
+     * @param subscriptionJobDTO {@link SubscriptionJobDTO} to update
+     * @param status             new status of the job
+     * @param errorMessage       error message if the job has failed
+     * @return true if the status was updated
+     */
+    private boolean updateSubscriptionJobStatus(SubscriptionJobDTO subscriptionJobDTO, SubscriptionJobStatus status,
+                                                String errorMessage) {
+        long updatedAt = nextUpdateTime(subscriptionJobDTO);
+        try {
+            ConnectionManagerUtil.beginDBTransaction();
+            if (!subscriptionDAO.updateSubscriptionJobStatus(subscriptionJobDTO.getId(), status, errorMessage,
+                    subscriptionJobDTO.getLastUpdatedAt(), updatedAt)) {
+                ConnectionManagerUtil.rollbackDBTransaction();
+                return false;
+            }
+            ConnectionManagerUtil.commitDBTransaction();
+            subscriptionJobDTO.setStatus(status);
+            subscriptionJobDTO.setErrorMessage(errorMessage);
+            subscriptionJobDTO.setLastUpdatedAt(updatedAt);
+            return true;
+        } catch (ApplicationManagementDAOException e) {
+            ConnectionManagerUtil.rollbackDBTransaction();
+            log.error("Error occurred while updating the status of the subscription job " + subscriptionJobDTO.getId()
+                    + " to " + status, e);
+        } catch (TransactionManagementException e) {
+            log.error("Error occurred while executing database transaction to update the subscription job "
+                    + subscriptionJobDTO.getId(), e);
+        } catch (DBConnectionException e) {
+            log.error("Error occurred while retrieving the database connection to update the subscription job "
+                    + subscriptionJobDTO.getId(), e);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        return false;
+    }
+
+    /**
+     * Last updated time of a job acts as its version, hence it must change on every update even if two updates
+     * happen within the same millisecond.
+     */
+    private long nextUpdateTime(SubscriptionJobDTO subscriptionJobDTO) {
+        return Math.max(System.currentTimeMillis(), subscriptionJobDTO.getLastUpdatedAt() + 1);
+    }
+
     @Override
     public void createScheduledSubscription(ScheduledSubscriptionDTO subscriptionDTO)
             throws SubscriptionManagementException {
@@ -527,105 +909,26 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
      */
     private <T> ApplicationSubscriptionInfo getAppSubscriptionInfo(ApplicationDTO applicationDTO, String subType,
             List<T> params) throws ApplicationManagementException {
-
-        DeviceManagementProviderService deviceManagementProviderService = HelperUtil
-                .getDeviceManagementProviderService();
-        GroupManagementProviderService groupManagementProviderService = HelperUtil.getGroupManagementProviderService();
-        Set<Device> devices = new HashSet<>();
-        List<String> subscribers = new ArrayList<>();
-        List<DeviceIdentifier> errorDeviceIdentifiers = new ArrayList<>();
         String deviceTypeName = null;
-
-        List<String> allowingDeviceStatuses = new ArrayList<>();
-        allowingDeviceStatuses.add(EnrolmentInfo.Status.ACTIVE.toString());
-        allowingDeviceStatuses.add(EnrolmentInfo.Status.INACTIVE.toString());
-        allowingDeviceStatuses.add(EnrolmentInfo.Status.UNREACHABLE.toString());
-
-        try {
-            if (!ApplicationType.WEB_CLIP.toString().equals(applicationDTO.getType())) {
-                deviceTypeName = APIUtil.getDeviceTypeData(applicationDTO.getDeviceTypeId()).getName();
-            }
-
-            if (SubscriptionType.DEVICE.toString().equals(subType)) {
-                for (T param : params) {
-                    DeviceIdentifier deviceIdentifier = (DeviceIdentifier) param;
-                    if (StringUtils.isEmpty(deviceIdentifier.getId()) || StringUtils
-                            .isEmpty(deviceIdentifier.getType())) {
-                        log.warn("Found a device identifier which has either empty identity of the device or empty"
-                                + " device type. Hence ignoring the device identifier. ");
-                        continue;
-                    }
-                    if (!ApplicationType.WEB_CLIP.toString().equals(applicationDTO.getType()) && !deviceIdentifier
-                            .getType().equals(deviceTypeName)) {
-                        log.warn("Found a device identifier which is not matched with the supported device type "
-                                + "of the application release which has UUID " + applicationDTO
-                                .getApplicationReleaseDTOs().get(0).getUuid() + " Application "
-                                + "supported device type is " + deviceTypeName + " and the identifier of which has a "
-                                + "different device type is " + deviceIdentifier.getId());
-                        errorDeviceIdentifiers.add(deviceIdentifier);
-                        continue;
-                    }
-                    devices.add(deviceManagementProviderService.getDevice(deviceIdentifier, false));
-                }
-            } else {
-                if (SubscriptionType.USER.toString().equalsIgnoreCase(subType)) {
-                    for (T param : params) {
-                        String username = (String) param;
-                        subscribers.add(username);
-                        devices.addAll(deviceManagementProviderService.getDevicesOfUser(username,
-                                allowingDeviceStatuses, false  ));
-                    }
-                } else {
-                    if (SubscriptionType.ROLE.toString().equalsIgnoreCase(subType)) {
-                        for (T param : params) {
-                            String roleName = (String) param;
-                            subscribers.add(roleName);
-                            devices.addAll(deviceManagementProviderService
-                                    .getAllDevicesOfRole(roleName, allowingDeviceStatuses, false));
-                        }
-                    } else {
-                        if (SubscriptionType.GROUP.toString().equalsIgnoreCase(subType)) {
-                            for (T param : params) {
-                                String groupName = (String) param;
-                                subscribers.add(groupName);
-                                devices.addAll(groupManagementProviderService.getAllDevicesOfGroup(groupName,
-                                        allowingDeviceStatuses, true));
-                            }
-                        } else {
-                            String msg =
-                                    "Found invalid subscription type " + subType + " to install application release";
-                            log.error(msg);
-                            throw new BadRequestException(msg);
-                        }
-                    }
-                }
-            }
-
-            if (!ApplicationType.WEB_CLIP.toString().equals(applicationDTO.getType()) && !SubscriptionType.DEVICE
-                    .toString().equals(subType)) {
-                //filter devices by device type
-                String tmpDeviceTypeName = deviceTypeName;
-                devices.removeIf(device -> !tmpDeviceTypeName.equals(device.getType()));
+        if (!ApplicationType.WEB_CLIP.toString().equals(applicationDTO.getType())) {
+            deviceTypeName = APIUtil.getDeviceTypeData(applicationDTO.getDeviceTypeId()).getName();
+        }
+        List<String> subscribers = new ArrayList<>();
+        if (!SubscriptionType.DEVICE.toString().equals(subType)) {
+            for (T param : params) {
+                subscribers.add((String) param);
             }
-
-            List<Device> deviceList = new ArrayList<>();
-            deviceList.addAll(devices);
-            ApplicationSubscriptionInfo applicationSubscriptionInfo = new ApplicationSubscriptionInfo();
-            applicationSubscriptionInfo.setDevices(deviceList);
-            applicationSubscriptionInfo.setSubscribers(subscribers);
-            applicationSubscriptionInfo.setErrorDeviceIdentifiers(errorDeviceIdentifiers);
-            applicationSubscriptionInfo.setAppSupportingDeviceTypeName(deviceTypeName);
-            return applicationSubscriptionInfo;
-        } catch (DeviceManagementException e) {
-            String msg = "Error occurred while getting devices of given users or given roles or while getting device "
-                    + "type info.";
-            log.error(msg, e);
-            throw new ApplicationManagementException(msg, e);
-        } catch (GroupManagementException e) {
-            String msg = "Error occurred while getting devices of given groups";
-            log.error(msg, e);
-            throw new ApplicationManagementException(msg, e);
         }
+        List<DeviceIdentifier> errorDeviceIdentifiers = new ArrayList<>();
+        SubscriptionTargets targets = resolveSubscriptionTargets(applicationDTO, deviceTypeName, subType, params,
+                errorDeviceIdentifiers);
+
+        ApplicationSubscriptionInfo applicationSubscriptionInfo = new ApplicationSubscriptionInfo();
+        applicationSubscriptionInfo.setDevices(targets.getDevices(0, targets.size()));
+        applicationSubscriptionInfo.setSubscribers(subscribers);
+        applicationSubscriptionInfo.setErrorDeviceIdentifiers(errorDeviceIdentifiers);
+        applicationSubscriptionInfo.setAppSupportingDeviceTypeName(deviceTypeName);
+        return applicationSubscriptionInfo;
     }
 
     /**
@@ -726,6 +1029,33 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
         }
     }
 
+    /**
+     * Validates if all devices of a bulk subscription job have pending operations for the application, the same way
+     * as it is done for synchronous subscriptions. The devices are checked chunk by chunk, until a chunk which has a
+     * device without a pending operation is found.
+     *
+     * @param targets      Devices of the subscription job
+     * @param appReleaseId Id of the application release
+     * @param chunkSize    Number of devices to check at once
+     * @throws ApplicationManagementException if all devices have pending operations or error occurred while getting
+     *                                        the device subscriptions
+     */
+    private void validatePendingAppSubscription(SubscriptionTargets targets, int appReleaseId, int chunkSize)
+            throws ApplicationManagementException {
+        for (int fromIndex = 0; fromIndex < targets.size(); fromIndex += chunkSize) {
+            List<Device> devices = targets.getDevices(fromIndex, Math.min(fromIndex + chunkSize, targets.size()));
+            SubscribingDeviceIdHolder subscribingDeviceIdHolder = getSubscribingDeviceIdHolder(devices, appReleaseId);
+            if (subscribingDeviceIdHolder.getSkippedDevices().size() < devices.size()) {
+                return;
+            }
+        }
+        if (targets.size() > 0) {
+            String msg = "All devices in the subscription have pending operations for this application.";
+            log.error(msg);
+            throw new BadRequestException(msg);
+        }
+    }
+
     /**
      * This method perform given action (i.e APP INSTALL or APP UNINSTALL) on given set of devices.
      *
@@ -747,20 +1077,53 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
                                                               Properties properties,
                                                               boolean isOperationReExecutingDisabled)
             throws ApplicationManagementException {
-        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-        String tenantId = String.valueOf(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
-        String tenantDomain = String.valueOf(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
         //Get app subscribing info of each device
         SubscribingDeviceIdHolder subscribingDeviceIdHolder = getSubscribingDeviceIdHolder(devices,
                 applicationDTO.getApplicationReleaseDTOs().get(0).getId());
 
-        List<Activity> activityList = new ArrayList<>();
-        List<DeviceIdentifier> deviceIdentifiers = new ArrayList<>();
         List<DeviceIdentifier> ignoredDeviceIdentifiers = new ArrayList<>();
-        Map<String, List<DeviceIdentifier>> deviceIdentifierMap = new HashMap<>();
-
         if (SubAction.INSTALL.toString().equalsIgnoreCase(action)) {
             validatePendingAppSubscription(devices, subscribingDeviceIdHolder);
+        }
+        List<DeviceIdentifier> deviceIdentifiers = getActionableDeviceIdentifiers(subscribingDeviceIdHolder, action,
+                isOperationReExecutingDisabled, ignoredDeviceIdentifiers);
+
+        if (deviceIdentifiers.isEmpty()) {
+            ApplicationInstallResponse applicationInstallResponse = new ApplicationInstallResponse();
+            applicationInstallResponse.setIgnoredDeviceIdentifiers(ignoredDeviceIdentifiers);
+            return applicationInstallResponse;
+        }
+
+        List<Activity> activityList = addAppOperations(deviceType, deviceIdentifiers, applicationDTO, subType, action,
+                properties);
+
+        ApplicationInstallResponse applicationInstallResponse = new ApplicationInstallResponse();
+        applicationInstallResponse.setActivities(activityList);
+        applicationInstallResponse.setIgnoredDeviceIdentifiers(ignoredDeviceIdentifiers);
+
+        updateSubscriptions(applicationDTO.getApplicationReleaseDTOs().get(0).getId(), activityList,
+                subscribingDeviceIdHolder, subscribers, subType, action);
+        return applicationInstallResponse;
+    }
+
+    /**
+     * This method finds the devices which the given action should be performed on.
+     *
+     * @param subscribingDeviceIdHolder Subscribing device id holder.
+     * @param action                    Performing action. (i.e INSTALL or UNINSTALL)
+     * @param isOperationReExecutingDisabled To prevent adding the application subscribing operation to devices that are
+     *                                      already subscribed application successfully.
+     * @param ignoredDeviceIdentifiers  List which the devices that the action is not applicable for are added to.
+     * @return List of device identifiers to perform the action on
+     * @throws ApplicationManagementException if an invalid action is found.
+     */
+    private List<DeviceIdentifier> getActionableDeviceIdentifiers(SubscribingDeviceIdHolder subscribingDeviceIdHolder,
+                                                                  String action,
+                                                                  boolean isOperationReExecutingDisabled,
+                                                                  List<DeviceIdentifier> ignoredDeviceIdentifiers)
+            throws ApplicationManagementException {
+        List<DeviceIdentifier> deviceIdentifiers = new ArrayList<>();
+        if (SubAction.INSTALL.toString().equalsIgnoreCase(action)) {
             deviceIdentifiers.addAll(new ArrayList<>(subscribingDeviceIdHolder.getAppInstallableDevices().keySet()));
             deviceIdentifiers.addAll(new ArrayList<>(subscribingDeviceIdHolder.getAppReInstallableDevices().keySet()));
             if (!isOperationReExecutingDisabled) {
@@ -777,12 +1140,29 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
             log.error(msg);
             throw new ApplicationManagementException(msg);
         }
+        return deviceIdentifiers;
+    }
 
-        if (deviceIdentifiers.isEmpty()) {
-            ApplicationInstallResponse applicationInstallResponse = new ApplicationInstallResponse();
-            applicationInstallResponse.setIgnoredDeviceIdentifiers(ignoredDeviceIdentifiers);
-            return applicationInstallResponse;
-        }
+    /**
+     * This method adds the application operation to the given devices.
+     *
+     * @param deviceType        Application supported device type, null for web clips.
+     * @param deviceIdentifiers Devices to add the operation to.
+     * @param applicationDTO    Application data
+     * @param subType           Subscription type (i.e USER, ROLE, GROUP or DEVICE)
+     * @param action            Performing action. (i.e INSTALL or UNINSTALL)
+     * @param properties        Application properties that need to be sent with operation payload to the device
+     * @return List of {@link Activity}, one for each device type
+     * @throws ApplicationManagementException if error occurred when adding operation on devices.
+     */
+    private List<Activity> addAppOperations(String deviceType, List<DeviceIdentifier> deviceIdentifiers,
+                                            ApplicationDTO applicationDTO, String subType, String action,
+                                            Properties properties) throws ApplicationManagementException {
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        String tenantId = String.valueOf(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+        String tenantDomain = String.valueOf(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        List<Activity> activityList = new ArrayList<>();
+        Map<String, List<DeviceIdentifier>> deviceIdentifierMap = new HashMap<>();
 
         //device type is getting null when we try to perform action on Web Clip.
         if (deviceType == null) {
@@ -831,14 +1211,7 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
                         .build());
             }
         }
-
-        ApplicationInstallResponse applicationInstallResponse = new ApplicationInstallResponse();
-        applicationInstallResponse.setActivities(activityList);
-        applicationInstallResponse.setIgnoredDeviceIdentifiers(ignoredDeviceIdentifiers);
-
-        updateSubscriptions(applicationDTO.getApplicationReleaseDTOs().get(0).getId(), activityList,
-                subscribingDeviceIdHolder, subscribers, subType, action);
-        return applicationInstallResponse;
+        return activityList;
     }
 
     /**
@@ -983,40 +1356,8 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
         try {
             ConnectionManagerUtil.beginDBTransaction();
             updateBulkSubscribers(applicationReleaseId, params, subType, action, tenantId, username);
-            for (Activity activity : activities) {
-                int operationId = Integer.parseInt(activity.getActivityId().split("ACTIVITY_")[1]);
-                List<Integer> subUpdatingDeviceIds = new ArrayList<>();
-                List<Integer> subInsertingDeviceIds = new ArrayList<>();
-
-                if (SubAction.INSTALL.toString().equalsIgnoreCase(action)) {
-                    subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
-                            subscribingDeviceIdHolder.getAppReInstallableDevices()));
-                    subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
-                            subscribingDeviceIdHolder.getAppInstalledDevices()));
-                    subInsertingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
-                            subscribingDeviceIdHolder.getAppInstallableDevices()));
-                } else {
-                    if (SubAction.UNINSTALL.toString().equalsIgnoreCase(action)) {
-                        subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
-                                subscribingDeviceIdHolder.getAppInstalledDevices()));
-                        subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
-                                subscribingDeviceIdHolder.getAppReUnInstallableDevices()));
-                    }
-                }
-
-                subscriptionDAO.addDeviceSubscription(username, subInsertingDeviceIds, subType,
-                        Operation.Status.PENDING.toString(), applicationReleaseId, tenantId);
-                if (!subUpdatingDeviceIds.isEmpty()) {
-                    subscriptionDAO.updateDeviceSubscription(username, subUpdatingDeviceIds, action, subType,
-                            Operation.Status.PENDING.toString(), applicationReleaseId, tenantId);
-                }
-                subUpdatingDeviceIds.addAll(subInsertingDeviceIds);
-                if (!subUpdatingDeviceIds.isEmpty()) {
-                    List<Integer> deviceSubIds = new ArrayList<>(
-                            subscriptionDAO.getDeviceSubIds(subUpdatingDeviceIds, applicationReleaseId, tenantId));
-                    subscriptionDAO.addOperationMapping(operationId, deviceSubIds, tenantId);
-                }
-            }
+            addSubscriptionData(applicationReleaseId, activities, subscribingDeviceIdHolder, subType, action, tenantId,
+                    username);
             ConnectionManagerUtil.commitDBTransaction();
         } catch (ApplicationManagementDAOException e) {
             ConnectionManagerUtil.rollbackDBTransaction();
@@ -1038,6 +1379,58 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
         }
     }
 
+    /**
+     * This method is responsible to add device subscription data of the given activities. Before invoke this method it
+     * is required to start DB transaction
+     *
+     * @param applicationReleaseId      Application release Id
+     * @param activities                List of {@link Activity}
+     * @param subscribingDeviceIdHolder Subscribing device id holder.
+     * @param subType                   Subscription type. i.e USER, GROUP, ROLE or DEVICE
+     * @param action                    performing action. ie INSTALL or UNINSTALL
+     * @param tenantId                  Tenant Id
+     * @param username                  Username
+     * @throws ApplicationManagementDAOException if error occurred while updating or inserting subscription data
+     */
+    private void addSubscriptionData(int applicationReleaseId, List<Activity> activities,
+            SubscribingDeviceIdHolder subscribingDeviceIdHolder, String subType, String action, int tenantId,
+            String username) throws ApplicationManagementDAOException {
+        for (Activity activity : activities) {
+            int operationId = Integer.parseInt(activity.getActivityId().split("ACTIVITY_")[1]);
+            List<Integer> subUpdatingDeviceIds = new ArrayList<>();
+            List<Integer> subInsertingDeviceIds = new ArrayList<>();
+
+            if (SubAction.INSTALL.toString().equalsIgnoreCase(action)) {
+                subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
+                        subscribingDeviceIdHolder.getAppReInstallableDevices()));
+                subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
+                        subscribingDeviceIdHolder.getAppInstalledDevices()));
+                subInsertingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
+                        subscribingDeviceIdHolder.getAppInstallableDevices()));
+            } else {
+                if (SubAction.UNINSTALL.toString().equalsIgnoreCase(action)) {
+                    subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
+                            subscribingDeviceIdHolder.getAppInstalledDevices()));
+                    subUpdatingDeviceIds.addAll(getOperationAddedDeviceIds(activity,
+                            subscribingDeviceIdHolder.getAppReUnInstallableDevices()));
+                }
+            }
+
+            subscriptionDAO.addDeviceSubscription(username, subInsertingDeviceIds, subType,
+                    Operation.Status.PENDING.toString(), applicationReleaseId, tenantId);
+            if (!subUpdatingDeviceIds.isEmpty()) {
+                subscriptionDAO.updateDeviceSubscription(username, subUpdatingDeviceIds, action, subType,
+                        Operation.Status.PENDING.toString(), applicationReleaseId, tenantId);
+            }
+            subUpdatingDeviceIds.addAll(subInsertingDeviceIds);
+            if (!subUpdatingDeviceIds.isEmpty()) {
+                List<Integer> deviceSubIds = new ArrayList<>(
+                        subscriptionDAO.getDeviceSubIds(subUpdatingDeviceIds, applicationReleaseId, tenantId));
+                subscriptionDAO.addOperationMapping(operationId, deviceSubIds, tenantId);
+            }
+        }
+    }
+
     /**
      * This method is responsible to update bulk subscriber's data. i.e USER, ROLE, GROUP. Before invoke this method it
      * is required to start DB transaction
@@ -1907,6 +2300,8 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
             }
             int appReleaseId = applicationReleaseDTO.getId();
 
+            List<ReleaseSubscriptionStatisticDTO> statistics =
+                    subscriptionDAO.getReleaseSubscriptionStatistics(appReleaseId, tenantId);
             List<CategorizedSubscriptionCountsDTO> subscriptionCounts = new ArrayList<>();
 
             subscriptionCounts.add(new CategorizedSubscriptionCountsDTO(
@@ -1915,16 +2310,16 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
                     subscriptionDAO.getAllUnsubscriptionCount(appReleaseId, tenantId)));
             subscriptionCounts.add(new CategorizedSubscriptionCountsDTO(
                     "Group",
-                    subscriptionDAO.getGroupSubscriptionCount(appReleaseId, tenantId),
-                    subscriptionDAO.getGroupUnsubscriptionCount(appReleaseId, tenantId)));
+                    SubscriptionManagementHelperUtil.getSubscriptionCount(statistics, SubscriptionType.GROUP, false),
+                    SubscriptionManagementHelperUtil.getSubscriptionCount(statistics, SubscriptionType.GROUP, true)));
             subscriptionCounts.add(new CategorizedSubscriptionCountsDTO(
                     "Role",
-                    subscriptionDAO.getRoleSubscriptionCount(appReleaseId, tenantId),
-                    subscriptionDAO.getRoleUnsubscriptionCount(appReleaseId, tenantId)));
+                    SubscriptionManagementHelperUtil.getSubscriptionCount(statistics, SubscriptionType.ROLE, false),
+                    SubscriptionManagementHelperUtil.getSubscriptionCount(statistics, SubscriptionType.ROLE, true)));
             subscriptionCounts.add(new CategorizedSubscriptionCountsDTO(
                     "User",
-                    subscriptionDAO.getUserSubscriptionCount(appReleaseId, tenantId),
-                    subscriptionDAO.getUserUnsubscriptionCount(appReleaseId, tenantId)));
+                    SubscriptionManagementHelperUtil.getSubscriptionCount(statistics, SubscriptionType.USER, false),
+                    SubscriptionManagementHelperUtil.getSubscriptionCount(statistics, SubscriptionType.USER, true)));
 
             return subscriptionCounts;
         } catch (ApplicationManagementDAOException e) {
@@ -1939,4 +2334,31 @@ public class SubscriptionManagerImpl implements SubscriptionManager {
             ConnectionManagerUtil.closeDBConnection();
         }
     }
+
+    @Override
+    public void rebuildSubscriptionStatistics() throws ApplicationManagementException {
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(true);
+        try {
+            ConnectionManagerUtil.beginDBTransaction();
+            subscriptionDAO.rebuildSubscriptionStatistics(tenantId);
+            ConnectionManagerUtil.commitDBTransaction();
+        } catch (ApplicationManagementDAOException e) {
+            ConnectionManagerUtil.rollbackDBTransaction();
+            String msg = "Error occurred while rebuilding subscription statistics of the tenant " + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (TransactionManagementException e) {
+            String msg = "Error occurred while executing database transaction to rebuild subscription statistics of "
+                    + "the tenant " + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } catch (DBConnectionException e) {
+            String msg = "Error occurred while retrieving the database connection to rebuild subscription statistics "
+                    + "of the tenant " + tenantId;
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
 }
@@ -32,6 +32,7 @@ import io.entgra.device.mgt.core.application.mgt.core.impl.AppmDataHandlerImpl;
 import io.entgra.device.mgt.core.application.mgt.core.impl.FileTransferServiceImpl;
 import io.entgra.device.mgt.core.application.mgt.core.lifecycle.LifecycleStateManager;
 import io.entgra.device.mgt.core.application.mgt.core.task.ScheduledAppSubscriptionTaskManager;
+import io.entgra.device.mgt.core.application.mgt.core.task.SubscriptionJobExecutor;
 import io.entgra.device.mgt.core.application.mgt.core.util.ApplicationManagementUtil;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
 import org.apache.commons.logging.Log;
@@ -112,6 +113,7 @@ public class ApplicationManagementServiceComponent {
 
             ScheduledAppSubscriptionTaskManager taskManager = new ScheduledAppSubscriptionTaskManager();
             taskManager.scheduleCleanupTask();
+            SubscriptionJobExecutor.getInstance().start();
 
             log.info("ApplicationManagement core bundle has been successfully initialized");
         } catch (Throwable e) {
@@ -122,7 +124,7 @@ public class ApplicationManagementServiceComponent {
     @SuppressWarnings("unused")
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
-        //do nothing
+        SubscriptionJobExecutor.getInstance().shutdown();
     }
 
     @SuppressWarnings("unused")
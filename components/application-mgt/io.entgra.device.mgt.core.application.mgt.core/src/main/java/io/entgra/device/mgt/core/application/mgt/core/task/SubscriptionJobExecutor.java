@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.core.task;
+
+import io.entgra.device.mgt.core.application.mgt.common.config.SubscriptionJobConfiguration;
+import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionJobDTO;
+import io.entgra.device.mgt.core.application.mgt.common.exception.ApplicationManagementException;
+import io.entgra.device.mgt.core.application.mgt.core.config.ConfigurationManager;
+import io.entgra.device.mgt.core.application.mgt.core.impl.SubscriptionManagerImpl;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes asynchronous bulk application subscription jobs on a bounded pool of worker threads. Jobs are persisted
+ * before they are submitted, hence a job which is lost due to a node going down is picked up by the periodic recovery
+ * of any node once it has not made progress for the configured stale job timeout, and resumed from its checkpoint.
+ */
+public class SubscriptionJobExecutor {
+
+    private static final Log log = LogFactory.getLog(SubscriptionJobExecutor.class);
+    private static volatile SubscriptionJobExecutor instance;
+
+    private final SubscriptionJobConfiguration config;
+    private final ExecutorService workerExecutor;
+    private final ScheduledExecutorService recoveryExecutor;
+    private final Set<Integer> activeJobs = ConcurrentHashMap.newKeySet();
+    private volatile SubscriptionManagerImpl subscriptionManager;
+
+    private SubscriptionJobExecutor(SubscriptionJobConfiguration config) {
+        this.config = config;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerExecutor = Executors.newFixedThreadPool(Math.max(1, config.getWorkerThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "subscription-job-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.recoveryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "subscription-job-recovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static SubscriptionJobExecutor getInstance() {
+        if (instance == null) {
+            synchronized (SubscriptionJobExecutor.class) {
+                if (instance == null) {
+                    SubscriptionJobConfiguration config = ConfigurationManager.getInstance().getConfiguration()
+                            .getSubscriptionJobConfiguration();
+                    instance = new SubscriptionJobExecutor(config != null ? config : new SubscriptionJobConfiguration());
+                }
+            }
+        }
+        return instance;
+    }
+
+    public int getChunkSize() {
+        return Math.max(1, config.getChunkSize());
+    }
+
+    /**
+     * Start the periodic recovery of the jobs which have been abandoned by the node executing them.
+     */
+    public void start() {
+        long recoveryInterval = Math.max(1000, config.getRecoveryIntervalMillis());
+        recoveryExecutor.scheduleWithFixedDelay(this::recoverStaleJobs, recoveryInterval, recoveryInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submit a persisted job to be executed. A job which is already being executed by this node is ignored.
+     *
+     * @param subscriptionJob {@link SubscriptionJobDTO} to execute
+     */
+    public void submit(SubscriptionJobDTO subscriptionJob) {
+        if (!activeJobs.add(subscriptionJob.getId())) {
+            return;
+        }
+        try {
+            workerExecutor.execute(() -> execute(subscriptionJob));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(subscriptionJob.getId());
+            log.warn("Subscription job " + subscriptionJob.getId() + " was not accepted by the executor, it will be "
+                    + "resumed once it is considered stale", e);
+        }
+    }
+
+    /**
+     * Stop executing jobs. Jobs in progress are interrupted and resumed from their checkpoints later. The instance is
+     * discarded, so that {@link #getInstance()} creates new executors once the bundle is activated again.
+     */
+    public void shutdown() {
+        synchronized (SubscriptionJobExecutor.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        recoveryExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    private void execute(SubscriptionJobDTO subscriptionJob) {
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(subscriptionJob.getTenantId(), true);
+            carbonContext.setUsername(subscriptionJob.getCreatedBy());
+            getSubscriptionManager().executeSubscriptionJob(subscriptionJob);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error occurred while executing the subscription job " + subscriptionJob.getId(), e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            activeJobs.remove(subscriptionJob.getId());
+        }
+    }
+
+    private void recoverStaleJobs() {
+        try {
+            List<SubscriptionJobDTO> staleJobs = getSubscriptionManager()
+                    .getStaleSubscriptionJobs(System.currentTimeMillis() - config.getStaleJobTimeoutMillis());
+            for (SubscriptionJobDTO staleJob : staleJobs) {
+                if (!activeJobs.contains(staleJob.getId())) {
+                    log.info("Resuming the subscription job " + staleJob.getId() + " of tenant "
+                            + staleJob.getTenantId() + " after the device " + staleJob.getLastDeviceId());
+                    submit(staleJob);
+                }
+            }
+        } catch (ApplicationManagementException e) {
+            log.error("Error occurred while retrieving stale subscription jobs", e);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error occurred while recovering stale subscription jobs", e);
+        }
+    }
+
+    private SubscriptionManagerImpl getSubscriptionManager() {
+        if (subscriptionManager == null) {
+            subscriptionManager = new SubscriptionManagerImpl();
+        }
+        return subscriptionManager;
+    }
+}
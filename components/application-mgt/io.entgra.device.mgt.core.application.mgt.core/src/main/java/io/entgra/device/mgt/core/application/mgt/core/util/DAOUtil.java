@@ -26,6 +26,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.JSONException;
 import io.entgra.device.mgt.core.application.mgt.common.ExecutionStatus;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionJobStatus;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
 
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
@@ -40,6 +41,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Date;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -362,6 +364,61 @@ public class DAOUtil {
         return subscriptionDTOS;
     }
 
+    public static List<SubscriptionJobDTO> loadSubscriptionJobs(ResultSet rs) throws SQLException {
+        List<SubscriptionJobDTO> subscriptionJobs = new ArrayList<>();
+        Gson gson = new Gson();
+        while (rs.next()) {
+            SubscriptionJobDTO subscriptionJob = new SubscriptionJobDTO();
+            subscriptionJob.setId(rs.getInt("ID"));
+            subscriptionJob.setApplicationUUID(rs.getString("APPLICATION_UUID"));
+            subscriptionJob.setSubType(rs.getString("SUB_TYPE"));
+            subscriptionJob.setAction(rs.getString("ACTION"));
+            if (SubscriptionType.DEVICE.toString().equalsIgnoreCase(subscriptionJob.getSubType())) {
+                List<DeviceIdentifier> deviceIdentifiers = gson.fromJson(rs.getString("SUBSCRIBER_LIST"),
+                        new TypeToken<List<DeviceIdentifier>>() {
+                        }.getType());
+                subscriptionJob.setSubscriberList(deviceIdentifiers);
+            } else {
+                List<String> subscriberList = gson.fromJson(rs.getString("SUBSCRIBER_LIST"),
+                        new TypeToken<List<String>>() {
+                        }.getType());
+                subscriptionJob.setSubscriberList(subscriberList);
+            }
+            String payload = rs.getString("PAYLOAD");
+            if (payload != null) {
+                subscriptionJob.setProperties(gson.fromJson(payload, Properties.class));
+            }
+            subscriptionJob.setOperationReExecutingDisabled(rs.getBoolean("RE_EXECUTING_DISABLED"));
+            subscriptionJob.setStatus(SubscriptionJobStatus.valueOf(rs.getString("STATUS")));
+            subscriptionJob.setTotalDevices(rs.getInt("TOTAL_DEVICES"));
+            subscriptionJob.setProcessedDevices(rs.getInt("PROCESSED_DEVICES"));
+            subscriptionJob.setLastDeviceId(rs.getInt("LAST_DEVICE_ID"));
+            subscriptionJob.setErrorMessage(rs.getString("ERROR_MESSAGE"));
+            subscriptionJob.setCreatedBy(rs.getString("CREATED_BY"));
+            subscriptionJob.setCreatedAt(rs.getLong("CREATED_AT"));
+            subscriptionJob.setLastUpdatedAt(rs.getLong("LAST_UPDATED_AT"));
+            subscriptionJob.setTenantId(rs.getInt("TENANT_ID"));
+            subscriptionJobs.add(subscriptionJob);
+        }
+        return subscriptionJobs;
+    }
+
+    public static List<ReleaseSubscriptionStatisticDTO> loadReleaseSubscriptionStatistics(ResultSet rs)
+            throws SQLException {
+        List<ReleaseSubscriptionStatisticDTO> statistics = new ArrayList<>();
+        while (rs.next()) {
+            ReleaseSubscriptionStatisticDTO statistic = new ReleaseSubscriptionStatisticDTO();
+            statistic.setAppReleaseId(rs.getInt("AP_APP_RELEASE_ID"));
+            statistic.setSubscriptionType(rs.getString("SUBSCRIPTION_TYPE"));
+            statistic.setActionTriggeredFrom(rs.getString("ACTION_TRIGGERED_FROM"));
+            statistic.setUnsubscribed(rs.getBoolean("UNSUBSCRIBED"));
+            statistic.setStatus(rs.getString("STATUS"));
+            statistic.setCount(rs.getInt("SUB_COUNT"));
+            statistics.add(statistic);
+        }
+        return statistics;
+    }
+
     public static Activity loadOperationActivity(ResultSet rs) throws SQLException, UnexpectedServerErrorException {
         List<Activity> activity  = loadOperationActivities(rs);
         if (activity.isEmpty()) {
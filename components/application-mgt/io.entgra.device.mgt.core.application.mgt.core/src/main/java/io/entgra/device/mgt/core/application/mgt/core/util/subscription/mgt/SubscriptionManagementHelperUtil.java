@@ -25,7 +25,9 @@ import io.entgra.device.mgt.core.application.mgt.common.SubscriptionData;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionInfo;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionMetadata;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionStatistics;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceSubscriptionDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ReleaseSubscriptionStatisticDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionStatisticDTO;
 import io.entgra.device.mgt.core.application.mgt.core.util.HelperUtil;
 import io.entgra.device.mgt.core.device.mgt.common.Device;
@@ -181,6 +183,26 @@ public class SubscriptionManagementHelperUtil {
         return subscriptionStatistics;
     }
 
+    /**
+     * Sums the materialized subscription statistic buckets of the given subscription type.
+     *
+     * @param statistics Subscription statistic buckets of an application release.
+     * @param subscriptionType Subscription type to count.
+     * @param isUnsubscribed Boolean indicating whether to count unsubscriptions instead of subscriptions.
+     * @return Count of the subscriptions.
+     */
+    public static int getSubscriptionCount(List<ReleaseSubscriptionStatisticDTO> statistics,
+                                           SubscriptionType subscriptionType, boolean isUnsubscribed) {
+        int count = 0;
+        for (ReleaseSubscriptionStatisticDTO statistic : statistics) {
+            if (subscriptionType.toString().equals(statistic.getSubscriptionType())
+                    && statistic.isUnsubscribed() == isUnsubscribed) {
+                count += statistic.getCount();
+            }
+        }
+        return count;
+    }
+
     /**
      * Calculates the percentages.
      *
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, primitive backed set of the devices targeted by a bulk application subscription. Only the fields which
+ * are required to subscribe a device are retained and the devices are kept in the ascending order of their ids, so
+ * that the targets can be processed in chunks and resumed after the id of the last processed device.
+ */
+public class SubscriptionTargets {
+
+    private final int[] deviceIds;
+    private final String[] deviceIdentifiers;
+    private final String[] deviceTypes;
+    private final String[] owners;
+
+    private SubscriptionTargets(int[] deviceIds, String[] deviceIdentifiers, String[] deviceTypes, String[] owners) {
+        this.deviceIds = deviceIds;
+        this.deviceIdentifiers = deviceIdentifiers;
+        this.deviceTypes = deviceTypes;
+        this.owners = owners;
+    }
+
+    public int size() {
+        return deviceIds.length;
+    }
+
+    public int getDeviceId(int index) {
+        return deviceIds[index];
+    }
+
+    /**
+     * @param deviceId id of a device
+     * @return index of the first target which has an id greater than the given device id
+     */
+    public int indexAfter(int deviceId) {
+        int index = Arrays.binarySearch(deviceIds, deviceId);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * Build lightweight {@link Device} objects of the targets in the given range. Only the id, identifier, type and
+     * owner of the devices are populated.
+     *
+     * @param fromIndex index of the first target, inclusive
+     * @param toIndex   index of the last target, exclusive
+     * @return list of {@link Device}
+     */
+    public List<Device> getDevices(int fromIndex, int toIndex) {
+        List<Device> devices = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            Device device = new Device(deviceIds[i]);
+            device.setDeviceIdentifier(deviceIdentifiers[i]);
+            device.setType(deviceTypes[i]);
+            EnrolmentInfo enrolmentInfo = new EnrolmentInfo();
+            enrolmentInfo.setOwner(owners[i]);
+            device.setEnrolmentInfo(enrolmentInfo);
+            devices.add(device);
+        }
+        return devices;
+    }
+
+    /**
+     * Collects the targets of a subscription. Devices can be added in any order and more than once.
+     */
+    public static class Builder {
+
+        private int[] deviceIds = new int[16];
+        private String[] deviceIdentifiers = new String[16];
+        private String[] deviceTypes = new String[16];
+        private String[] owners = new String[16];
+        private int size;
+
+        public Builder add(Device device) {
+            return add(device.getId(), device.getDeviceIdentifier(), device.getType(),
+                    device.getEnrolmentInfo() != null ? device.getEnrolmentInfo().getOwner() : null);
+        }
+
+        /**
+         * Add the devices of the given device reference list which are of the given device type.
+         *
+         * @param deviceRefList {@link DeviceRefList} of the devices
+         * @param deviceType    device type to filter the devices by, or null to add all the devices
+         * @return this builder
+         */
+        public Builder addAll(DeviceRefList deviceRefList, String deviceType) {
+            for (int i = 0; i < deviceRefList.size(); i++) {
+                if (deviceType == null || deviceType.equals(deviceRefList.getType(i))) {
+                    add(deviceRefList.getDeviceId(i), deviceRefList.getDeviceIdentifier(i), deviceRefList.getType(i),
+                            deviceRefList.getOwner(i));
+                }
+            }
+            return this;
+        }
+
+        private Builder add(int deviceId, String deviceIdentifier, String deviceType, String owner) {
+            if (size == deviceIds.length) {
+                int capacity = size * 2;
+                deviceIds = Arrays.copyOf(deviceIds, capacity);
+                deviceIdentifiers = Arrays.copyOf(deviceIdentifiers, capacity);
+                deviceTypes = Arrays.copyOf(deviceTypes, capacity);
+                owners = Arrays.copyOf(owners, capacity);
+            }
+            deviceIds[size] = deviceId;
+            deviceIdentifiers[size] = deviceIdentifier;
+            deviceTypes[size] = deviceType;
+            owners[size] = owner;
+            size++;
+            return this;
+        }
+
+        public SubscriptionTargets build() {
+            // Sort the positions by device id without boxing, by packing the id and the position into a long.
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) deviceIds[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+            int[] sortedDeviceIds = new int[size];
+            String[] sortedDeviceIdentifiers = new String[size];
+            String[] sortedDeviceTypes = new String[size];
+            String[] sortedOwners = new String[size];
+            int count = 0;
+            for (long key : keys) {
+                int deviceId = (int) (key >>> 32);
+                if (count > 0 && sortedDeviceIds[count - 1] == deviceId) {
+                    continue;
+                }
+                int position = (int) key;
+                sortedDeviceIds[count] = deviceId;
+                sortedDeviceIdentifiers[count] = deviceIdentifiers[position];
+                sortedDeviceTypes[count] = deviceTypes[position];
+                sortedOwners[count] = owners[position];
+                count++;
+            }
+            return new SubscriptionTargets(Arrays.copyOf(sortedDeviceIds, count),
+                    Arrays.copyOf(sortedDeviceIdentifiers, count), Arrays.copyOf(sortedDeviceTypes, count),
+                    Arrays.copyOf(sortedOwners, count));
+        }
+    }
+}
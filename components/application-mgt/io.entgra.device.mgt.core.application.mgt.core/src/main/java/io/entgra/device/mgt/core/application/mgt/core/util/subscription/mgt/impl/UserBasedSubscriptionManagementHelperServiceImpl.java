@@ -26,6 +26,7 @@ import io.entgra.device.mgt.core.application.mgt.common.SubscriptionInfo;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionMetadata;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionResponse;
 import io.entgra.device.mgt.core.application.mgt.common.SubscriptionStatistics;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationReleaseDTO;
 import io.entgra.device.mgt.core.application.mgt.common.dto.DeviceSubscriptionDTO;
@@ -155,8 +156,9 @@ public class UserBasedSubscriptionManagementHelperServiceImpl implements Subscri
             }
             List<SubscriptionEntity> subscriptionEntities = subscriptionDAO.
                     getUserSubscriptionsByAppReleaseID(applicationReleaseDTO.getId(), isUnsubscribe, tenantId, offset, limit);
-            int subscriptionCount = isUnsubscribe ? subscriptionDAO.getUserUnsubscriptionCount(applicationReleaseDTO.getId(), tenantId) :
-                    subscriptionDAO.getUserSubscriptionCount(applicationReleaseDTO.getId(), tenantId);
+            int subscriptionCount = SubscriptionManagementHelperUtil.getSubscriptionCount(subscriptionDAO.
+                    getReleaseSubscriptionStatistics(applicationReleaseDTO.getId(), tenantId),
+                    SubscriptionType.USER, isUnsubscribe);
             return new SubscriptionResponse(subscriptionInfo.getApplicationUUID(), subscriptionCount, subscriptionEntities);
         } catch (DBConnectionException | ApplicationManagementDAOException e) {
             String msg = "Error encountered while connecting to the database";
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.entgra.device.mgt.core.application.mgt.core;
+
+import io.entgra.device.mgt.core.application.mgt.common.SubAction;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionJobStatus;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
+import io.entgra.device.mgt.core.application.mgt.common.dto.SubscriptionJobDTO;
+import io.entgra.device.mgt.core.application.mgt.core.dao.SubscriptionDAO;
+import io.entgra.device.mgt.core.application.mgt.core.dao.common.ApplicationManagementDAOFactory;
+import io.entgra.device.mgt.core.application.mgt.core.impl.SubscriptionManagerImpl;
+import io.entgra.device.mgt.core.application.mgt.core.util.ConnectionManagerUtil;
+import io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt.SubscriptionTargets;
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.MultitenantConstants;
+
+import java.util.Collections;
+import java.util.UUID;
+
+public class SubscriptionJobTest {
+
+    private static final int TENANT_ID = MultitenantConstants.SUPER_TENANT_ID;
+
+    private SubscriptionDAO subscriptionDAO;
+
+    @BeforeClass
+    public void initialize() {
+        subscriptionDAO = ApplicationManagementDAOFactory.getSubscriptionDAO();
+    }
+
+    @Test
+    public void testClaim() throws Exception {
+        SubscriptionJobDTO job = createJob();
+        long version = job.getLastUpdatedAt();
+        Assert.assertTrue(updateStatus(job.getId(), version, version + 1));
+        Assert.assertFalse(updateStatus(job.getId(), version, version + 2),
+                "A node which read the job before it was claimed must not be able to claim it.");
+
+        SubscriptionJobDTO persistedJob = getJob(job.getId());
+        Assert.assertEquals(persistedJob.getStatus(), SubscriptionJobStatus.IN_PROGRESS);
+        Assert.assertEquals(persistedJob.getLastUpdatedAt(), version + 1);
+    }
+
+    @Test
+    public void testClaimedJobIsNotExecutedAgain() throws Exception {
+        SubscriptionJobDTO job = createJob();
+        long version = job.getLastUpdatedAt();
+        Assert.assertTrue(updateStatus(job.getId(), version, version + 1));
+
+        new SubscriptionManagerImpl().executeSubscriptionJob(job);
+
+        SubscriptionJobDTO persistedJob = getJob(job.getId());
+        Assert.assertEquals(persistedJob.getStatus(), SubscriptionJobStatus.IN_PROGRESS);
+        Assert.assertEquals(persistedJob.getLastUpdatedAt(), version + 1);
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws Exception {
+        SubscriptionJobDTO job = createJob();
+        long version = job.getLastUpdatedAt();
+        Assert.assertTrue(updateStatus(job.getId(), version, version + 1));
+        Assert.assertTrue(updateProgress(job.getId(), 3, 2, 20, version + 1, version + 2));
+
+        SubscriptionJobDTO persistedJob = getJob(job.getId());
+        Assert.assertEquals(persistedJob.getTotalDevices(), 3);
+        Assert.assertEquals(persistedJob.getProcessedDevices(), 2);
+        Assert.assertEquals(persistedJob.getLastDeviceId(), 20);
+
+        SubscriptionTargets.Builder builder = new SubscriptionTargets.Builder();
+        for (int id : new int[]{30, 10, 20}) {
+            builder.add(createDevice(id));
+        }
+        SubscriptionTargets targets = builder.build();
+        int fromIndex = targets.indexAfter(persistedJob.getLastDeviceId());
+        Assert.assertEquals(fromIndex, 2);
+        Assert.assertEquals(targets.getDevices(fromIndex, targets.size()).get(0).getId(), 30);
+    }
+
+    @Test
+    public void testLostLease() throws Exception {
+        SubscriptionJobDTO job = createJob();
+        long version = job.getLastUpdatedAt();
+        Assert.assertTrue(updateStatus(job.getId(), version, version + 1));
+
+        SubscriptionJobDTO staleJob = null;
+        ConnectionManagerUtil.openDBConnection();
+        try {
+            for (SubscriptionJobDTO candidate : subscriptionDAO.getStaleSubscriptionJobs(version + 2)) {
+                if (candidate.getId() == job.getId()) {
+                    staleJob = candidate;
+                }
+            }
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        Assert.assertNotNull(staleJob, "A job which stopped making progress should be swept.");
+        Assert.assertTrue(updateStatus(staleJob.getId(), staleJob.getLastUpdatedAt(), version + 10));
+
+        Assert.assertFalse(updateStatus(job.getId(), version + 1, version + 2),
+                "The lease of the node which lost the job must not be renewed.");
+        Assert.assertFalse(updateProgress(job.getId(), 3, 1, 10, version + 1, version + 2),
+                "The node which lost the job must not be able to save a checkpoint.");
+        Assert.assertEquals(getJob(job.getId()).getLastUpdatedAt(), version + 10);
+    }
+
+    @Test
+    public void testJobOfUnknownApplicationFails() throws Exception {
+        SubscriptionJobDTO job = createJob();
+        new SubscriptionManagerImpl().executeSubscriptionJob(job);
+        Assert.assertEquals(getJob(job.getId()).getStatus(), SubscriptionJobStatus.FAILED);
+    }
+
+    private SubscriptionJobDTO createJob() throws Exception {
+        long currentTime = System.currentTimeMillis();
+        SubscriptionJobDTO job = new SubscriptionJobDTO();
+        job.setApplicationUUID(UUID.randomUUID().toString());
+        job.setSubType(SubscriptionType.USER.toString());
+        job.setAction(SubAction.INSTALL.toString());
+        job.setSubscriberList(Collections.singletonList("user1"));
+        job.setStatus(SubscriptionJobStatus.QUEUED);
+        job.setCreatedBy("admin");
+        job.setCreatedAt(currentTime);
+        job.setLastUpdatedAt(currentTime);
+        job.setTenantId(TENANT_ID);
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            job.setId(subscriptionDAO.createSubscriptionJob(job, TENANT_ID));
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        return job;
+    }
+
+    private SubscriptionJobDTO getJob(int jobId) throws Exception {
+        ConnectionManagerUtil.openDBConnection();
+        try {
+            return subscriptionDAO.getSubscriptionJob(jobId, TENANT_ID);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
+
+    private boolean updateStatus(int jobId, long lastUpdatedAt, long updatedAt) throws Exception {
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            boolean isUpdated = subscriptionDAO.updateSubscriptionJobStatus(jobId, SubscriptionJobStatus.IN_PROGRESS,
+                    null, lastUpdatedAt, updatedAt);
+            ConnectionManagerUtil.commitDBTransaction();
+            return isUpdated;
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
+
+    private boolean updateProgress(int jobId, int totalDevices, int processedDevices, int lastDeviceId,
+                                   long lastUpdatedAt, long updatedAt) throws Exception {
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            boolean isUpdated = subscriptionDAO.updateSubscriptionJobProgress(jobId, totalDevices, processedDevices,
+                    lastDeviceId, lastUpdatedAt, updatedAt);
+            ConnectionManagerUtil.commitDBTransaction();
+            return isUpdated;
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
+
+    private Device createDevice(int id) {
+        Device device = new Device(id);
+        device.setDeviceIdentifier("device-" + id);
+        device.setType("android");
+        EnrolmentInfo enrolmentInfo = new EnrolmentInfo();
+        enrolmentInfo.setOwner("user-" + id);
+        device.setEnrolmentInfo(enrolmentInfo);
+        return device;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.core;
+
+import io.entgra.device.mgt.core.application.mgt.core.util.subscription.mgt.SubscriptionTargets;
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class SubscriptionTargetsTest {
+
+    @Test
+    public void testBuildSortsAndRemovesDuplicates() {
+        SubscriptionTargets.Builder builder = new SubscriptionTargets.Builder();
+        int[] ids = {42, 7, 19, 7, 100, 42, 1};
+        for (int id : ids) {
+            builder.add(createDevice(id));
+        }
+        SubscriptionTargets targets = builder.build();
+        Assert.assertEquals(targets.size(), 5);
+        int[] expected = {1, 7, 19, 42, 100};
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(targets.getDeviceId(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void testBuildGrowsBeyondInitialCapacity() {
+        SubscriptionTargets.Builder builder = new SubscriptionTargets.Builder();
+        for (int id = 1000; id > 0; id--) {
+            builder.add(createDevice(id));
+        }
+        SubscriptionTargets targets = builder.build();
+        Assert.assertEquals(targets.size(), 1000);
+        Assert.assertEquals(targets.getDeviceId(0), 1);
+        Assert.assertEquals(targets.getDeviceId(999), 1000);
+    }
+
+    @Test
+    public void testIndexAfter() {
+        SubscriptionTargets.Builder builder = new SubscriptionTargets.Builder();
+        for (int id : new int[]{10, 20, 30}) {
+            builder.add(createDevice(id));
+        }
+        SubscriptionTargets targets = builder.build();
+        Assert.assertEquals(targets.indexAfter(0), 0);
+        Assert.assertEquals(targets.indexAfter(10), 1);
+        Assert.assertEquals(targets.indexAfter(15), 1);
+        Assert.assertEquals(targets.indexAfter(30), 3);
+        Assert.assertEquals(targets.indexAfter(50), 3);
+    }
+
+    @Test
+    public void testGetDevices() {
+        SubscriptionTargets.Builder builder = new SubscriptionTargets.Builder();
+        for (int id : new int[]{3, 1, 2}) {
+            builder.add(createDevice(id));
+        }
+        List<Device> devices = builder.build().getDevices(1, 3);
+        Assert.assertEquals(devices.size(), 2);
+        Assert.assertEquals(devices.get(0).getId(), 2);
+        Assert.assertEquals(devices.get(0).getDeviceIdentifier(), "device-2");
+        Assert.assertEquals(devices.get(0).getType(), "android");
+        Assert.assertEquals(devices.get(0).getEnrolmentInfo().getOwner(), "user-2");
+        Assert.assertEquals(devices.get(1).getId(), 3);
+    }
+
+    private Device createDevice(int id) {
+        Device device = new Device(id);
+        device.setDeviceIdentifier("device-" + id);
+        device.setType("android");
+        EnrolmentInfo enrolmentInfo = new EnrolmentInfo();
+        enrolmentInfo.setOwner("user-" + id);
+        device.setEnrolmentInfo(enrolmentInfo);
+        return device;
+    }
+}
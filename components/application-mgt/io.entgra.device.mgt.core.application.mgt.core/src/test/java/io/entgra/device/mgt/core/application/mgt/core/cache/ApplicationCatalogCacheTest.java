@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.application.mgt.core.cache;
+
+import io.entgra.device.mgt.core.application.mgt.common.Filter;
+import io.entgra.device.mgt.core.application.mgt.common.config.CatalogCacheConfiguration;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationDTO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ApplicationCatalogCacheTest {
+
+    private static final int TENANT_ID = -1234;
+    private static final String KEY = "applications";
+    private static final AtomicInteger cacheCount = new AtomicInteger();
+
+    @Test
+    public void testApplicationsKeyIgnoresOrderAndDuplicates() {
+        Filter filter = new Filter();
+        filter.setTags(Arrays.asList("b", "a", "b"));
+        filter.setCategories(Arrays.asList("y", "x"));
+        Filter equivalentFilter = new Filter();
+        equivalentFilter.setTags(Arrays.asList("a", "b"));
+        equivalentFilter.setCategories(Arrays.asList("x", "y", "x"));
+        Assert.assertEquals(ApplicationCatalogCache.getApplicationsKey(filter, 1),
+                ApplicationCatalogCache.getApplicationsKey(equivalentFilter, 1));
+
+        Assert.assertNotEquals(ApplicationCatalogCache.getApplicationsKey(filter, 1),
+                ApplicationCatalogCache.getApplicationsKey(equivalentFilter, 2));
+        equivalentFilter.setOffset(20);
+        Assert.assertNotEquals(ApplicationCatalogCache.getApplicationsKey(filter, 1),
+                ApplicationCatalogCache.getApplicationsKey(equivalentFilter, 1));
+    }
+
+    @Test
+    public void testGetReturnsCopy() {
+        ApplicationCatalogCache cache = createCache(new CatalogCacheConfiguration());
+        cache.put(TENANT_ID, KEY, createPage("app"), cache.getGeneration(TENANT_ID));
+
+        ApplicationCatalogPage page = cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class);
+        Assert.assertNotNull(page);
+        Assert.assertEquals(page.getCount(), 1);
+        page.getApplications().get(0).setName("modified");
+
+        page = cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class);
+        Assert.assertEquals(page.getApplications().get(0).getName(), "app");
+        Assert.assertNull(cache.get(TENANT_ID + 1, KEY, ApplicationCatalogPage.class));
+    }
+
+    @Test
+    public void testInvalidate() {
+        ApplicationCatalogCache cache = createCache(new CatalogCacheConfiguration());
+        long generation = cache.getGeneration(TENANT_ID);
+        cache.put(TENANT_ID, KEY, createPage("app"), generation);
+        cache.invalidate(TENANT_ID);
+        Assert.assertNull(cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+
+        // A page which was read before the invalidation must not be cached
+        cache.put(TENANT_ID, KEY, createPage("app"), generation);
+        Assert.assertNull(cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+        cache.put(TENANT_ID, KEY, createPage("app"), cache.getGeneration(TENANT_ID));
+        Assert.assertNotNull(cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+    }
+
+    @Test
+    public void testInvalidateEvictsSharedCache() {
+        ApplicationCatalogCache cache = createCache(new CatalogCacheConfiguration());
+        // Another instance over the same Carbon cache, which stands in for the catalog cache of another node
+        ApplicationCatalogCache otherCache = new ApplicationCatalogCache(cache.getCacheName(),
+                new CatalogCacheConfiguration());
+        cache.put(TENANT_ID, KEY, createPage("app"), cache.getGeneration(TENANT_ID));
+        Assert.assertNotNull(otherCache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+        otherCache.invalidate(TENANT_ID);
+        Assert.assertNull(cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+    }
+
+    @Test
+    public void testExpiryAndCapacity() {
+        CatalogCacheConfiguration config = new CatalogCacheConfiguration();
+        config.setExpiryTimeMillis(0);
+        ApplicationCatalogCache cache = createCache(config);
+        cache.put(TENANT_ID, KEY, createPage("app"), cache.getGeneration(TENANT_ID));
+        Assert.assertNull(cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+
+        config = new CatalogCacheConfiguration();
+        config.setCapacity(1);
+        cache = createCache(config);
+        cache.put(TENANT_ID, KEY, createPage("app"), cache.getGeneration(TENANT_ID));
+        cache.put(TENANT_ID, KEY + 2, createPage("app"), cache.getGeneration(TENANT_ID));
+        // Older entries are evicted by the Carbon cache once the capacity is reached
+        Assert.assertNotNull(cache.get(TENANT_ID, KEY + 2, ApplicationCatalogPage.class));
+    }
+
+    @Test
+    public void testDisabled() {
+        CatalogCacheConfiguration config = new CatalogCacheConfiguration();
+        config.setEnabled(false);
+        ApplicationCatalogCache cache = createCache(config);
+        cache.put(TENANT_ID, KEY, createPage("app"), cache.getGeneration(TENANT_ID));
+        Assert.assertNull(cache.get(TENANT_ID, KEY, ApplicationCatalogPage.class));
+    }
+
+    @Test
+    public void testETagChangesWithContent() {
+        ApplicationCatalogPage page = createPage("app");
+        String eTag = ApplicationCatalogCache.generateETag(page);
+        Assert.assertTrue(eTag.startsWith("W/\""));
+        Assert.assertEquals(ApplicationCatalogCache.generateETag(createPage("app")), eTag);
+        Assert.assertNotEquals(ApplicationCatalogCache.generateETag(createPage("other")), eTag);
+    }
+
+    private ApplicationCatalogCache createCache(CatalogCacheConfiguration config) {
+        // Each test uses its own Carbon cache, since the configuration of a cache is set when it is built
+        return new ApplicationCatalogCache("TEST_CATALOG_CACHE_" + cacheCount.incrementAndGet(), config);
+    }
+
+    private ApplicationCatalogPage createPage(String name) {
+        ApplicationDTO applicationDTO = new ApplicationDTO();
+        applicationDTO.setId(1);
+        applicationDTO.setName(name);
+        applicationDTO.setTags(Collections.singletonList("tag"));
+        return new ApplicationCatalogPage(Collections.singletonList(applicationDTO), 1);
+    }
+}
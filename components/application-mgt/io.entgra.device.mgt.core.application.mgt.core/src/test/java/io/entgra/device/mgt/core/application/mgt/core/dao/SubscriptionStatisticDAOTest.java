@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.entgra.device.mgt.core.application.mgt.core.dao;
+
+import io.entgra.device.mgt.core.application.mgt.common.SubAction;
+import io.entgra.device.mgt.core.application.mgt.common.SubscriptionType;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ApplicationReleaseDTO;
+import io.entgra.device.mgt.core.application.mgt.common.dto.ReleaseSubscriptionStatisticDTO;
+import io.entgra.device.mgt.core.application.mgt.core.dao.common.ApplicationManagementDAOFactory;
+import io.entgra.device.mgt.core.application.mgt.core.dto.ApplicationsDTO;
+import io.entgra.device.mgt.core.application.mgt.core.util.ConnectionManagerUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class SubscriptionStatisticDAOTest {
+
+    private static final int TENANT_ID = 5;
+    private static final String SUBSCRIBED_BY = "admin";
+    private static final String PENDING = "PENDING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String USER_BUCKET = SubscriptionType.USER + ":" + SubscriptionType.USER + ":";
+
+    private SubscriptionDAO subscriptionDAO;
+    private int releaseId;
+
+    @BeforeClass
+    public void initialize() throws Exception {
+        subscriptionDAO = ApplicationManagementDAOFactory.getSubscriptionDAO();
+        ApplicationDTO application = ApplicationsDTO.getApp1();
+        application.setName("Subscription Statistic Test App");
+        ApplicationReleaseDTO release = new ApplicationReleaseDTO();
+        release.setDescription("Subscription statistic test release");
+        release.setVersion("1.0.0");
+        release.setUuid(UUID.randomUUID().toString());
+        release.setReleaseType("PRODUCTION");
+        release.setPackageName("io.entgra.statistic.test");
+        release.setInstallerName("statistic.apk");
+        release.setIconName("icon.png");
+        release.setScreenshotName1("sc1.png");
+        release.setAppHashValue("statistic-test-hash");
+        release.setSupportedOsVersions("ALL");
+        release.setCurrentState("PUBLISHED");
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            int appId = ApplicationManagementDAOFactory.getApplicationDAO().createApplication(application, TENANT_ID);
+            releaseId = ApplicationManagementDAOFactory.getApplicationReleaseDAO()
+                    .createRelease(release, appId, TENANT_ID).getId();
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+    }
+
+    @Test
+    public void testAddSubscriptions() throws Exception {
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            subscriptionDAO.addDeviceSubscription(SUBSCRIBED_BY, Arrays.asList(1, 2, 3),
+                    SubscriptionType.DEVICE.toString(), PENDING, releaseId, TENANT_ID);
+            subscriptionDAO.addUserSubscriptions(TENANT_ID, SUBSCRIBED_BY, Arrays.asList("user1", "user2"),
+                    releaseId, SubAction.INSTALL.toString());
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+
+        Map<String, Integer> statistics = getStatistics();
+        Assert.assertEquals(statistics.size(), 1, "Device subscriptions should not be materialized.");
+        Assert.assertEquals(statistics.get(USER_BUCKET + false + ":NONE"), Integer.valueOf(2));
+    }
+
+    @Test(dependsOnMethods = "testAddSubscriptions")
+    public void testUpdateDeviceSubscriptionStatus() throws Exception {
+        Map<String, Integer> expected = getStatistics();
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            int subscriptionId = subscriptionDAO.getDeviceSubscriptions(Collections.singletonList(1), releaseId,
+                    TENANT_ID).get(1).getId();
+            Assert.assertTrue(subscriptionDAO.updateDeviceSubStatus(1, Collections.singletonList(subscriptionId),
+                    COMPLETED, TENANT_ID));
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+
+        Assert.assertEquals(getStatistics(), expected, "Device subscription status updates should not touch the "
+                + "statistics.");
+    }
+
+    @Test(dependsOnMethods = "testUpdateDeviceSubscriptionStatus")
+    public void testUnsubscribe() throws Exception {
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            subscriptionDAO.updateDeviceSubscription(SUBSCRIBED_BY, Collections.singletonList(2),
+                    SubAction.UNINSTALL.toString(), SubscriptionType.DEVICE.toString(), PENDING, releaseId,
+                    TENANT_ID);
+            subscriptionDAO.updateSubscriptions(TENANT_ID, SUBSCRIBED_BY, Collections.singletonList("user1"),
+                    releaseId, SubscriptionType.USER.toString(), SubAction.UNINSTALL.toString());
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+
+        Map<String, Integer> statistics = getStatistics();
+        Assert.assertEquals(statistics.get(USER_BUCKET + false + ":NONE"), Integer.valueOf(1));
+        Assert.assertEquals(statistics.get(USER_BUCKET + true + ":NONE"), Integer.valueOf(1));
+    }
+
+    @Test(dependsOnMethods = "testUnsubscribe")
+    public void testRepeatedUnsubscribe() throws Exception {
+        Map<String, Integer> expected = getStatistics();
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            subscriptionDAO.updateSubscriptions(TENANT_ID, SUBSCRIBED_BY, Arrays.asList("user1", "user2"),
+                    releaseId, SubscriptionType.USER.toString(), SubAction.UNINSTALL.toString());
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        expected.merge(USER_BUCKET + false + ":NONE", -1, Integer::sum);
+        expected.merge(USER_BUCKET + true + ":NONE", 1, Integer::sum);
+        expected.remove(USER_BUCKET + false + ":NONE", 0);
+        Assert.assertEquals(getStatistics(), expected, "Only the subscription which changes its state should be "
+                + "moved between the statistic buckets.");
+    }
+
+    @Test(dependsOnMethods = "testRepeatedUnsubscribe")
+    public void testRebuildEqualsIncremental() throws Exception {
+        Map<String, Integer> incremental = getStatistics();
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            subscriptionDAO.rebuildSubscriptionStatistics(TENANT_ID);
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        Assert.assertEquals(getStatistics(), incremental);
+    }
+
+    @Test(dependsOnMethods = "testRebuildEqualsIncremental")
+    public void testPopulateOnFirstUse() throws Exception {
+        Map<String, Integer> expected = getStatistics();
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            subscriptionDAO.deleteSubscriptionStatisticsByTenant(TENANT_ID);
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        Assert.assertEquals(getStatistics(), expected, "Statistics of a tenant which has not been populated yet "
+                + "should be computed from the subscriptions.");
+
+        ConnectionManagerUtil.beginDBTransaction();
+        try {
+            subscriptionDAO.addUserSubscriptions(TENANT_ID, SUBSCRIBED_BY, Collections.singletonList("user3"),
+                    releaseId, SubAction.INSTALL.toString());
+            ConnectionManagerUtil.commitDBTransaction();
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        expected.merge(USER_BUCKET + false + ":NONE", 1, Integer::sum);
+        Assert.assertEquals(getStatistics(), expected);
+    }
+
+    private Map<String, Integer> getStatistics() throws Exception {
+        List<ReleaseSubscriptionStatisticDTO> statistics;
+        ConnectionManagerUtil.openDBConnection();
+        try {
+            statistics = subscriptionDAO.getReleaseSubscriptionStatistics(releaseId, TENANT_ID);
+        } finally {
+            ConnectionManagerUtil.closeDBConnection();
+        }
+        Map<String, Integer> buckets = new HashMap<>();
+        for (ReleaseSubscriptionStatisticDTO statistic : statistics) {
+            buckets.merge(statistic.getSubscriptionType() + ":" + statistic.getActionTriggeredFrom() + ":"
+                    + statistic.isUnsubscribed() + ":" + statistic.getStatus(), statistic.getCount(), Integer::sum);
+        }
+        return buckets;
+    }
+}
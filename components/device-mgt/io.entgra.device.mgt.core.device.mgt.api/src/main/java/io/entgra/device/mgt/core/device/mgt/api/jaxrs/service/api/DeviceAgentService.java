@@ -28,6 +28,8 @@ import io.swagger.annotations.*;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.List;
@@ -365,6 +367,68 @@ public interface DeviceAgentService {
                     value = "deviceId of the device")
             @PathParam("deviceId") String deviceId);
 
+    @POST
+    @Path("/events/publish/reporting/{type}/{deviceId}/{eventType}")
+    @ApiOperation(
+            produces = MediaType.APPLICATION_JSON,
+            consumes = MediaType.APPLICATION_JSON,
+            httpMethod = "POST",
+            value = "Publishing Events to the Reporting Backend",
+            notes = "Publish events received by the device client to the reporting backend. The request thread is " +
+                    "released while the reporting backend processes the event and the response is sent once the " +
+                    "event is published or the configured publish timeout elapses.",
+            tags = "Device Agent Management",
+            extensions = {
+                    @Extension(properties = {
+                            @ExtensionProperty(name = Constants.SCOPE, value = "dm:device:event:publish")
+                    })
+            },
+            nickname = "publishReportingEventFromAgent"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(code = 200, message = "OK. \n Successfully published the event"),
+                    @ApiResponse(
+                            code = 400,
+                            message = "Bad Request. \n Invalid request or validation error."),
+                    @ApiResponse(
+                            code = 401,
+                            message = "Unauthorized. \n Does not have permission to access the device."),
+                    @ApiResponse(
+                            code = 415,
+                            message = "Unsupported media type. \n The format of the requested entity was not " +
+                                    "supported."),
+                    @ApiResponse(
+                            code = 500,
+                            message = "Internal Server Error. \n " +
+                                    "Server error occurred while publishing events."),
+                    @ApiResponse(
+                            code = 502,
+                            message = "Bad Gateway. \n The reporting backend rejected the event."),
+                    @ApiResponse(
+                            code = 504,
+                            message = "Gateway Timeout. \n The reporting backend did not respond in time.")
+            })
+    void publishReportingEvent(
+            @ApiParam(
+                    name = "payloadData",
+                    value = "Information of the agent event to be published on the reporting backend.")
+            @Valid
+            Map<String, Object> payloadData,
+            @ApiParam(
+                    name = "type",
+                    value = "name of the device type")
+            @PathParam("type") String type,
+            @ApiParam(
+                    name = "deviceId",
+                    value = "deviceId of the device")
+            @PathParam("deviceId") String deviceId,
+            @ApiParam(
+                    name = "eventType",
+                    value = "Type of the event, which is used to resolve the reporting endpoint")
+            @PathParam("eventType") String eventType,
+            @Suspended AsyncResponse asyncResponse);
+
     @GET
     @Path("/pending/operations/{type}/{id}")
     @ApiOperation(
@@ -66,6 +66,13 @@ import javax.ws.rs.core.Response;
                         key = "am:admin:app:uninstall",
                         roles = {"Internal/devicemgt-admin"},
                         permissions = {"/device-mgt/admin/applications/uninstall"}
+                ),
+                @Scope(
+                        name = "Rebuilding Application Subscription Statistics (Internal API)",
+                        description = "Rebuilding Application Subscription Statistics (Internal API)",
+                        key = "am:admin:app:subscription-statistics:rebuild",
+                        roles = {"Internal/devicemgt-admin"},
+                        permissions = {"/device-mgt/admin/applications/subscription-statistics/rebuild"}
                 )
         }
 )
@@ -160,4 +167,34 @@ public interface ApplicationManagementAdminService {
                     value = "Application details of the application to be uninstalled.",
                     required = true) ApplicationWrapper applicationWrapper);
 
+    @POST
+    @Path("/subscription-statistics/rebuild")
+    @ApiOperation(
+            consumes = MediaType.APPLICATION_JSON,
+            produces = MediaType.APPLICATION_JSON,
+            httpMethod = "POST",
+            value = "Rebuilding Application Subscription Statistics (Internal API)",
+            notes = "This is an internal API that can be used to recompute the user, role and group subscription " +
+                    "statistics of the applications of the tenant, in case they are out of sync with the " +
+                    "subscriptions.",
+            tags = "Application Management Administrative Service",
+            extensions = {
+                    @Extension(properties = {
+                            @ExtensionProperty(name = Constants.SCOPE,
+                                    value = "am:admin:app:subscription-statistics:rebuild")
+                    })
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    code = 200,
+                    message = "OK. \n Successfully rebuilt the subscription statistics."),
+            @ApiResponse(
+                    code = 500,
+                    message = "Internal Server Error. \n Server error occurred while rebuilding the subscription " +
+                            "statistics.",
+                    response = ErrorResponse.class)
+    })
+    Response rebuildSubscriptionStatistics();
+
 }
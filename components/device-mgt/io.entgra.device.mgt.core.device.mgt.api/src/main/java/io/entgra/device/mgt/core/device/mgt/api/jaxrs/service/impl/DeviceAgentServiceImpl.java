@@ -28,6 +28,7 @@ import io.entgra.device.mgt.core.device.mgt.api.jaxrs.beans.analytics.EventAttri
 import io.entgra.device.mgt.core.device.mgt.api.jaxrs.service.api.DeviceAgentService;
 import io.entgra.device.mgt.core.device.mgt.api.jaxrs.util.Constants;
 import io.entgra.device.mgt.core.device.mgt.api.jaxrs.util.DeviceMgtAPIUtils;
+import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.DeviceDetailsMgtException;
 import io.entgra.device.mgt.core.device.mgt.core.permission.mgt.PermissionManagerServiceImpl;
 import org.apache.axis2.AxisFault;
 import org.apache.commons.logging.Log;
@@ -59,11 +60,14 @@ import org.wso2.carbon.user.api.UserStoreException;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Path("/device/agent")
 public class DeviceAgentServiceImpl implements DeviceAgentService {
@@ -422,6 +426,65 @@ public class DeviceAgentServiceImpl implements DeviceAgentService {
         }
     }
 
+    @POST
+    @Path("/events/publish/reporting/{type}/{deviceId}/{eventType}")
+    @Override
+    public void publishReportingEvent(@Valid Map<String, Object> payload, @PathParam("type") String type,
+                                      @PathParam("deviceId") String deviceId,
+                                      @PathParam("eventType") String eventType,
+                                      @Suspended AsyncResponse asyncResponse) {
+        if (payload == null) {
+            String msg = "Invalid payload structure";
+            asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST).entity(msg).build());
+            return;
+        }
+        try {
+            String requiredPermission = PermissionManagerServiceImpl.getInstance().getRequiredPermission();
+            String[] requiredPermissions = new String[] {requiredPermission};
+            boolean authorized = DeviceMgtAPIUtils.getDeviceAccessAuthorizationService().isUserAuthorized
+                    (new DeviceIdentifier(deviceId, type), requiredPermissions);
+            if (!authorized) {
+                String msg = "Does not have permission to access the device.";
+                asyncResponse.resume(Response.status(Response.Status.UNAUTHORIZED).entity(msg).build());
+                return;
+            }
+            DeviceMgtAPIUtils.getDeviceInformationManagerService()
+                    .publishEventsAsync(deviceId, type, new Gson().toJson(payload), eventType)
+                    .whenComplete((statusCode, throwable) -> {
+                        if (throwable == null) {
+                            if (statusCode == 0 || (statusCode >= 200 && statusCode < 300)) {
+                                asyncResponse.resume(Response.status(Response.Status.OK).build());
+                            } else {
+                                String msg = "Reporting backend responded with status " + statusCode
+                                        + " while publishing the event of device " + deviceId;
+                                log.error(msg);
+                                asyncResponse.resume(Response.status(Response.Status.BAD_GATEWAY).entity(msg)
+                                        .build());
+                            }
+                        } else if (throwable instanceof TimeoutException
+                                || throwable.getCause() instanceof TimeoutException) {
+                            String msg = "Timed out while publishing the event of device " + deviceId;
+                            log.error(msg, throwable);
+                            asyncResponse.resume(Response.status(Response.Status.GATEWAY_TIMEOUT).entity(msg)
+                                    .build());
+                        } else {
+                            String msg = "Error occurred while publishing the event of device " + deviceId;
+                            log.error(msg, throwable);
+                            asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                    .entity(msg).build());
+                        }
+                    });
+        } catch (DeviceAccessAuthorizationException e) {
+            String msg = "Error occurred when checking for authorization";
+            log.error(msg, e);
+            asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(msg).build());
+        } catch (DeviceDetailsMgtException e) {
+            String msg = "Error occurred while publishing the event of device " + deviceId;
+            log.error(msg, e);
+            asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(msg).build());
+        }
+    }
+
     @GET
     @Path("/pending/operations/{type}/{id}")
     public Response getPendingOperations(@PathParam("type") String type, @PathParam("id") String deviceId) {
@@ -398,13 +398,17 @@ public class GroupManagementServiceImpl implements GroupManagementService {
             DeviceMgtAPIUtils.getGroupManagementProviderService().addDevices(groupId, deviceIdentifiers);
             PolicyAdministratorPoint pap = DeviceMgtAPIUtils.getPolicyManagementService().getPAP();
             DeviceManagementProviderService dms = DeviceMgtAPIUtils.getDeviceManagementService();
+            List<Device> devices = new ArrayList<>();
             for(DeviceIdentifier deviceIdentifier : deviceIdentifiers) {
                 Device device = dms.getDevice(deviceIdentifier, false);
                 if(!device.getEnrolmentInfo().getStatus().equals(EnrolmentInfo.Status.REMOVED)) {
                     pap.removePolicyUsed(deviceIdentifier);
-                    DeviceMgtAPIUtils.getPolicyManagementService().getEffectivePolicy(deviceIdentifier);
+                    devices.add(device);
                 }
             }
+            if (!devices.isEmpty()) {
+                DeviceMgtAPIUtils.getPolicyManagementService().getEffectivePolicies(devices);
+            }
             pap.publishChanges();
             int deviceCount = DeviceMgtAPIUtils.getGroupManagementProviderService().getDeviceCount(groupId);
             List<String> deviceIdentifiersList = new ArrayList<>();
@@ -449,14 +453,18 @@ public class GroupManagementServiceImpl implements GroupManagementService {
             DeviceMgtAPIUtils.getGroupManagementProviderService().removeDevice(groupId, deviceIdentifiers);
             PolicyAdministratorPoint pap = DeviceMgtAPIUtils.getPolicyManagementService().getPAP();
             DeviceManagementProviderService dms = DeviceMgtAPIUtils.getDeviceManagementService();
+            List<Device> devices = new ArrayList<>();
             for(DeviceIdentifier deviceIdentifier : deviceIdentifiers) {
                 Device device = dms.getDevice(deviceIdentifier, false);
                 dms.sendPolicyRevokeOperation(deviceIdentifier);
                 if(!device.getEnrolmentInfo().getStatus().equals(EnrolmentInfo.Status.REMOVED)) {
                     pap.removePolicyUsed(deviceIdentifier);
-                    DeviceMgtAPIUtils.getPolicyManagementService().getEffectivePolicy(deviceIdentifier);
+                    devices.add(device);
                 }
             }
+            if (!devices.isEmpty()) {
+                DeviceMgtAPIUtils.getPolicyManagementService().getEffectivePolicies(devices);
+            }
             pap.publishChanges();
             return Response.status(Response.Status.OK).build();
         } catch (GroupManagementException e) {
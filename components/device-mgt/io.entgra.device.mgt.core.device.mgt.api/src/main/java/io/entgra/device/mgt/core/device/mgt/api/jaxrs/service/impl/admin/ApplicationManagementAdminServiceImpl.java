@@ -17,6 +17,7 @@
  */
 package io.entgra.device.mgt.core.device.mgt.api.jaxrs.service.impl.admin;
 
+import io.entgra.device.mgt.core.application.mgt.common.services.SubscriptionManager;
 import io.entgra.device.mgt.core.device.mgt.api.jaxrs.beans.ApplicationWrapper;
 import io.entgra.device.mgt.core.device.mgt.api.jaxrs.beans.ErrorResponse;
 import io.entgra.device.mgt.core.device.mgt.api.jaxrs.service.api.admin.ApplicationManagementAdminService;
@@ -147,4 +148,20 @@ public class ApplicationManagementAdminServiceImpl implements ApplicationManagem
         }
     }
 
+    @POST
+    @Path("/subscription-statistics/rebuild")
+    @Override
+    public Response rebuildSubscriptionStatistics() {
+        try {
+            SubscriptionManager subscriptionManager = DeviceMgtAPIUtils.getSubscriptionManager();
+            subscriptionManager.rebuildSubscriptionStatistics();
+            return Response.status(Response.Status.OK).build();
+        } catch (io.entgra.device.mgt.core.application.mgt.common.exception.ApplicationManagementException e) {
+            String msg = "Error occurred while rebuilding the application subscription statistics";
+            log.error(msg, e);
+            return Response.serverError().entity(
+                    new ErrorResponse.ErrorResponseBuilder().setMessage(msg).build()).build();
+        }
+    }
+
 }
@@ -39,6 +39,7 @@ import io.entgra.device.mgt.core.policy.mgt.core.PolicyManagerServiceImpl;
 import org.apache.axis2.AxisFault;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
@@ -57,6 +58,7 @@ import org.wso2.carbon.event.stream.stub.EventStreamAdminServiceStub;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.utils.CarbonUtils;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
@@ -424,6 +426,33 @@ public class DeviceAgentServiceTest {
         Mockito.reset(this.deviceAccessAuthorizationService);
     }
 
+    @Test(description = "Test publish reporting event with null payload.")
+    public void testPublishReportingEventWithNullPayload() {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.deviceAgentService.publishReportingEvent(null, TEST_DEVICE_TYPE, TEST_DEVICE_IDENTIFIER,
+                "events", asyncResponse);
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(asyncResponse).resume(responseCaptor.capture());
+        Assert.assertEquals(responseCaptor.getValue().getStatus(), Response.Status.BAD_REQUEST.getStatusCode(),
+                "The response status should be 400");
+    }
+
+    @Test(description = "Test publish reporting event with no device access authorization.")
+    public void testPublishReportingEventWithoutAuthorization() throws DeviceAccessAuthorizationException {
+        PowerMockito.stub(PowerMockito.method(DeviceMgtAPIUtils.class,
+                "getDeviceAccessAuthorizationService")).toReturn(this.deviceAccessAuthorizationService);
+        Mockito.when(this.deviceAccessAuthorizationService.isUserAuthorized(Mockito.any(DeviceIdentifier.class),
+                Mockito.any(String[].class))).thenReturn(false);
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.deviceAgentService.publishReportingEvent(new HashMap<>(), TEST_DEVICE_TYPE, TEST_DEVICE_IDENTIFIER,
+                "events", asyncResponse);
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(asyncResponse).resume(responseCaptor.capture());
+        Assert.assertEquals(responseCaptor.getValue().getStatus(), Response.Status.UNAUTHORIZED.getStatusCode(),
+                "The response status should be 401");
+        Mockito.reset(this.deviceAccessAuthorizationService);
+    }
+
     @Test(description = "Test publish events when device access authorization exception is thrown.")
     public void testPublishEventsWithDeviceAccessAuthorizationException() throws DeviceAccessAuthorizationException {
         PowerMockito.stub(PowerMockito.method(PrivilegedCarbonContext.class, "getThreadLocalCarbonContext"))
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact list of enrolled devices which carries only the identity of each device, i.e. the device id, the
+ * enrolment id, the device identifier, the device type, the owner and the enrolment status. Ids are held in
+ * primitive arrays and device types and statuses are held as indexes, so that a large number of devices can be
+ * resolved without loading full {@link Device} objects.
+ */
+public class DeviceRefList {
+
+    private static final EnrolmentInfo.Status[] STATUSES = EnrolmentInfo.Status.values();
+
+    private final int[] deviceIds;
+    private final int[] enrolmentIds;
+    private final String[] deviceIdentifiers;
+    private final byte[] typeIndexes;
+    private final String[] types;
+    private final String[] owners;
+    private final byte[] statuses;
+    private final int size;
+
+    private DeviceRefList(Builder builder) {
+        this.size = builder.size;
+        this.deviceIds = Arrays.copyOf(builder.deviceIds, size);
+        this.enrolmentIds = Arrays.copyOf(builder.enrolmentIds, size);
+        this.deviceIdentifiers = Arrays.copyOf(builder.deviceIdentifiers, size);
+        this.typeIndexes = Arrays.copyOf(builder.typeIndexes, size);
+        this.types = builder.types.toArray(new String[0]);
+        this.owners = Arrays.copyOf(builder.owners, size);
+        this.statuses = Arrays.copyOf(builder.statuses, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getDeviceId(int index) {
+        return deviceIds[index];
+    }
+
+    public int getEnrolmentId(int index) {
+        return enrolmentIds[index];
+    }
+
+    public String getDeviceIdentifier(int index) {
+        return deviceIdentifiers[index];
+    }
+
+    public String getType(int index) {
+        return types[typeIndexes[index]];
+    }
+
+    public String getOwner(int index) {
+        return owners[index];
+    }
+
+    public EnrolmentInfo.Status getStatus(int index) {
+        return statuses[index] < 0 ? null : STATUSES[statuses[index]];
+    }
+
+    public DeviceIdentifier getDeviceIdentifierOf(int index) {
+        return new DeviceIdentifier(deviceIdentifiers[index], getType(index));
+    }
+
+    /**
+     * Builds a {@link DeviceRefList}. Device types are interned, hence a list can hold devices of up to 127 device
+     * types, which is well beyond the number of device types of a tenant.
+     */
+    public static class Builder {
+
+        private int[] deviceIds;
+        private int[] enrolmentIds;
+        private String[] deviceIdentifiers;
+        private byte[] typeIndexes;
+        private String[] owners;
+        private byte[] statuses;
+        private final List<String> types = new ArrayList<>();
+        private final Map<String, Byte> typeIndexMap = new HashMap<>();
+        private int size;
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int initialCapacity) {
+            int capacity = Math.max(1, initialCapacity);
+            deviceIds = new int[capacity];
+            enrolmentIds = new int[capacity];
+            deviceIdentifiers = new String[capacity];
+            typeIndexes = new byte[capacity];
+            owners = new String[capacity];
+            statuses = new byte[capacity];
+        }
+
+        public Builder add(int deviceId, int enrolmentId, String deviceIdentifier, String type, String owner,
+                           EnrolmentInfo.Status status) {
+            if (size == deviceIds.length) {
+                int capacity = size * 2;
+                deviceIds = Arrays.copyOf(deviceIds, capacity);
+                enrolmentIds = Arrays.copyOf(enrolmentIds, capacity);
+                deviceIdentifiers = Arrays.copyOf(deviceIdentifiers, capacity);
+                typeIndexes = Arrays.copyOf(typeIndexes, capacity);
+                owners = Arrays.copyOf(owners, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+            Byte typeIndex = typeIndexMap.get(type);
+            if (typeIndex == null) {
+                if (types.size() > Byte.MAX_VALUE) {
+                    throw new IllegalStateException("Device reference list cannot hold more than "
+                            + (Byte.MAX_VALUE + 1) + " device types");
+                }
+                typeIndex = (byte) types.size();
+                types.add(type);
+                typeIndexMap.put(type, typeIndex);
+            }
+            deviceIds[size] = deviceId;
+            enrolmentIds[size] = enrolmentId;
+            deviceIdentifiers[size] = deviceIdentifier;
+            typeIndexes[size] = typeIndex;
+            // Devices of the same owner are returned together, hence reuse the previous owner string if it is equal.
+            owners[size] = size > 0 && owner != null && owner.equals(owners[size - 1]) ? owners[size - 1] : owner;
+            statuses[size] = status == null ? -1 : (byte) status.ordinal();
+            size++;
+            return this;
+        }
+
+        public Builder addAll(DeviceRefList deviceRefList) {
+            for (int i = 0; i < deviceRefList.size(); i++) {
+                add(deviceRefList.getDeviceId(i), deviceRefList.getEnrolmentId(i),
+                        deviceRefList.getDeviceIdentifier(i), deviceRefList.getType(i), deviceRefList.getOwner(i),
+                        deviceRefList.getStatus(i));
+            }
+            return this;
+        }
+
+        public DeviceRefList build() {
+            return new DeviceRefList(this);
+        }
+    }
+}
@@ -28,6 +28,7 @@ public final class DeviceManagementConstants {
     public static final String API_RESOURCE_PERMISSION_CACHE = "API_RESOURCE_CACHE_CACHE";
     public static final String GEOFENCE_CACHE = "GEOFENCE_CACHE";
     public static final String BILLING_CACHE = "BILLING_CACHE";
+    public static final String PENDING_OPERATION_CACHE = "PENDING_OPERATION_CACHE";
     public static final String META_KEY = "PER_DEVICE_COST";
     public static final String DEP_META_KEY = "DEP_CONFIG";
     public static final String ACTIVE_STATUS = "ACTIVE";
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.app.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.common.app.mgt.Application;
+import io.entgra.device.mgt.core.device.mgt.core.DeviceManagementConstants;
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Syncs the application list reported by a device with the installed applications saved for its enrolment. The
+ * digest of the reported list covers the attributes which are compared when diffing, so an unchanged digest means
+ * that diffing the list against the saved applications would not produce any change.
+ */
+public class ApplicationInventorySyncEngine {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String NOT_AVAILABLE_VERSION = "N/A";
+
+    private final ApplicationInventorySyncMetrics metrics = new ApplicationInventorySyncMetrics();
+
+    /**
+     * Normalize the versions of the reported applications to the values which are saved in the database.
+     *
+     * @param applications Applications reported by the device
+     */
+    public void normalize(List<Application> applications) {
+        for (Application application : applications) {
+            if (application.getVersion() == null) {
+                application.setVersion(NOT_AVAILABLE_VERSION);
+            } else if (application.getVersion().length()
+                    > DeviceManagementConstants.OperationAttributes.APPLIST_VERSION_MAX_LENGTH) {
+                application.setVersion(StringUtils.abbreviate(application.getVersion(),
+                        DeviceManagementConstants.OperationAttributes.APPLIST_VERSION_MAX_LENGTH));
+            }
+        }
+    }
+
+    /**
+     * Compute the digest of a normalized application list. The digest does not depend on the order of the list.
+     *
+     * @param applications Applications reported by the device
+     * @return Hex encoded digest of the application list
+     */
+    public String computeDigest(List<Application> applications) {
+        List<String> entries = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            entries.add(application.getApplicationIdentifier() + '\u0000' + application.getVersion() + '\u0000'
+                    + application.isActive() + '\u0000' + application.getMemoryUsage() + '\u0000'
+                    + application.isSystemApp());
+        }
+        Collections.sort(entries);
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported by the JVM", e);
+        }
+        for (String entry : entries) {
+            messageDigest.update(entry.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) '\n');
+        }
+        StringBuilder digest = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            digest.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return digest.toString();
+    }
+
+    /**
+     * Diff the normalized application list reported by a device against the installed applications saved for it.
+     *
+     * @param installedApplications Applications saved for the enrolment
+     * @param reportedApplications  Applications reported by the device
+     * @return Applications to be inserted, updated and removed
+     */
+    public ApplicationListDiff diff(List<Application> installedApplications,
+                                    List<Application> reportedApplications) {
+        Map<String, Application> reportedApps = new LinkedHashMap<>();
+        for (Application reportedApp : reportedApplications) {
+            reportedApps.put(reportedApp.getApplicationIdentifier(), reportedApp);
+        }
+        ApplicationListDiff diff = new ApplicationListDiff();
+        Map<String, Application> installedApps = new HashMap<>();
+        for (Application installedApp : installedApplications) {
+            if (reportedApps.containsKey(installedApp.getApplicationIdentifier())) {
+                installedApps.put(installedApp.getApplicationIdentifier(), installedApp);
+            } else {
+                diff.appsToRemove.put(installedApp.getApplicationIdentifier(), installedApp);
+            }
+        }
+        for (Application newApp : reportedApps.values()) {
+            Application oldApp = installedApps.get(newApp.getApplicationIdentifier());
+            if (oldApp == null) {
+                diff.appsToInsert.add(newApp);
+            } else if (oldApp.isActive() != newApp.isActive() || oldApp.getMemoryUsage() != newApp.getMemoryUsage()
+                    || !newApp.getVersion().equals(oldApp.getVersion())
+                    || oldApp.isSystemApp() != newApp.isSystemApp()) {
+                newApp.setId(oldApp.getId());
+                diff.appsToUpdate.add(newApp);
+            }
+        }
+        return diff;
+    }
+
+    public ApplicationInventorySyncMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Changes to be applied to the installed applications of an enrolment.
+     */
+    public static class ApplicationListDiff {
+
+        private final Map<String, Application> appsToRemove = new HashMap<>();
+        private final List<Application> appsToUpdate = new ArrayList<>();
+        private final List<Application> appsToInsert = new ArrayList<>();
+
+        public List<Application> getAppsToRemove() {
+            return new ArrayList<>(appsToRemove.values());
+        }
+
+        public List<Application> getAppsToUpdate() {
+            return appsToUpdate;
+        }
+
+        public List<Application> getAppsToInsert() {
+            return appsToInsert;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.app.mgt;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters maintained by the installed application inventory sync.
+ */
+public class ApplicationInventorySyncMetrics implements ApplicationInventorySyncMetricsMXBean {
+
+    private final AtomicLong skippedSyncs = new AtomicLong();
+    private final AtomicLong appliedSyncs = new AtomicLong();
+    private final AtomicLong insertedApplications = new AtomicLong();
+    private final AtomicLong updatedApplications = new AtomicLong();
+    private final AtomicLong removedApplications = new AtomicLong();
+
+    void recordSkipped() {
+        skippedSyncs.incrementAndGet();
+    }
+
+    void recordApplied(int inserted, int updated, int removed) {
+        appliedSyncs.incrementAndGet();
+        insertedApplications.addAndGet(inserted);
+        updatedApplications.addAndGet(updated);
+        removedApplications.addAndGet(removed);
+    }
+
+    /**
+     * @return Number of application lists which were not written since they matched the last saved list
+     */
+    @Override
+    public long getSkippedSyncs() {
+        return skippedSyncs.get();
+    }
+
+    /**
+     * @return Number of application lists which were diffed against and written to the database
+     */
+    @Override
+    public long getAppliedSyncs() {
+        return appliedSyncs.get();
+    }
+
+    @Override
+    public long getInsertedApplications() {
+        return insertedApplications.get();
+    }
+
+    @Override
+    public long getUpdatedApplications() {
+        return updatedApplications.get();
+    }
+
+    @Override
+    public long getRemovedApplications() {
+        return removedApplications.get();
+    }
+
+    @Override
+    public String toString() {
+        return "skipped=" + getSkippedSyncs() + ", applied=" + getAppliedSyncs() + ", inserted="
+                + getInsertedApplications() + ", updated=" + getUpdatedApplications() + ", removed="
+                + getRemovedApplications();
+    }
+}
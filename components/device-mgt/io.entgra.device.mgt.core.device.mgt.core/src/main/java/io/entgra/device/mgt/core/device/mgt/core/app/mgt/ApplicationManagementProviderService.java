@@ -40,4 +40,9 @@ public interface ApplicationManagementProviderService extends ApplicationManager
 
     List<Application> getApplicationListForDevice(Device device)
             throws ApplicationManagementException;
+
+    /**
+     * @return Counters of the application lists which were skipped and applied by the installed application sync
+     */
+    ApplicationInventorySyncMetrics getInventorySyncMetrics();
 }
@@ -49,9 +49,7 @@ import org.wso2.carbon.context.CarbonContext;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Implements Application Manager interface
@@ -59,6 +57,7 @@ import java.util.Map;
 public class ApplicationManagerProviderServiceImpl implements ApplicationManagementProviderService {
 
     private ApplicationDAO applicationDAO;
+    private final ApplicationInventorySyncEngine inventorySyncEngine = new ApplicationInventorySyncEngine();
 
     private static final Log log = LogFactory.getLog(ApplicationManagerProviderServiceImpl.class);
 
@@ -217,85 +216,56 @@ public class ApplicationManagerProviderServiceImpl implements ApplicationManagem
             log.debug("Apps in device: " + new Gson().toJson(newApplications));
         }
         int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        int enrolmentId = device.getEnrolmentInfo().getId();
+        inventorySyncEngine.normalize(newApplications);
+        String digest = inventorySyncEngine.computeDigest(newApplications);
+        try {
+            if (digest.equals(getApplicationListDigest(enrolmentId, tenantId))) {
+                inventorySyncEngine.getMetrics().recordSkipped();
+                if (log.isDebugEnabled()) {
+                    log.debug("Application list of device " + device.getDeviceIdentifier() + " is unchanged. "
+                            + "Inventory sync stats: " + inventorySyncEngine.getMetrics());
+                }
+                publishApplicationList(device, newApplications, tenantId);
+                return;
+            }
+        } catch (DeviceManagementDAOException | SQLException e) {
+            String msg = "Error occurred while reading the application list digest of the device "
+                    + device.getDeviceIdentifier();
+            log.error(msg, e);
+            throw new ApplicationManagementException(msg, e);
+        }
 
         try {
             DeviceManagementDAOFactory.beginTransaction();
             List<Application> installedAppList = applicationDAO
-                    .getInstalledApplications(device.getId(), device.getEnrolmentInfo().getId(), tenantId);
+                    .getInstalledApplications(device.getId(), enrolmentId, tenantId);
             if (log.isDebugEnabled()) {
                 log.debug("Previous app list: " + new Gson().toJson(installedAppList));
             }
-
-            Map<String, Application> appsToRemove = new HashMap<>();
-            Map<String, Application> appsToUpdate = new HashMap<>();
-            Map<String, Application> appsToInsert = new HashMap<>();
-
-            Map<String, Application> installedApps = new HashMap<>();
-            boolean removable;
-            for (Application installedApp: installedAppList) {
-                removable = true;
-                for (Application newApp : newApplications) {
-                    if (newApp.getApplicationIdentifier().equals(installedApp.getApplicationIdentifier())) {
-                        removable = false;
-                        break;
-                    }
-                }
-                if (removable) {
-                    appsToRemove.put(installedApp.getApplicationIdentifier(), installedApp);
-                } else {
-                    installedApps.put(installedApp.getApplicationIdentifier(), installedApp);
-                }
-            }
-
-            for (Application newApp : newApplications) {
-                if (newApp.getVersion() == null) {
-                    newApp.setVersion("N/A");
-                } else if (newApp.getVersion().length()
-                        > DeviceManagementConstants.OperationAttributes.APPLIST_VERSION_MAX_LENGTH) {
-                    newApp.setVersion(StringUtils.abbreviate(newApp.getVersion(),
-                            DeviceManagementConstants.OperationAttributes.APPLIST_VERSION_MAX_LENGTH));
-                }
-                if (installedApps.containsKey(newApp.getApplicationIdentifier())) {
-                    Application oldApp = installedApps.get(newApp.getApplicationIdentifier());
-                    if (oldApp.isActive() != newApp.isActive() || oldApp.getMemoryUsage() != newApp.getMemoryUsage()
-                            || !newApp.getVersion().equals(oldApp.getVersion()) || oldApp.isSystemApp() != newApp.isSystemApp()) {
-                        newApp.setId(oldApp.getId());
-                        appsToUpdate.put(newApp.getApplicationIdentifier(), newApp);
-                    }
-                } else {
-                    appsToInsert.put(newApp.getApplicationIdentifier(), newApp);
-                }
-            }
+            ApplicationInventorySyncEngine.ApplicationListDiff diff =
+                    inventorySyncEngine.diff(installedAppList, newApplications);
+            List<Application> appsToRemove = diff.getAppsToRemove();
             if (log.isDebugEnabled()) {
-                log.debug("Apps to remove: " + new Gson().toJson(appsToRemove.values()));
-                log.debug("Apps to update: " + new Gson().toJson(appsToUpdate.values()));
-                log.debug("Apps to insert: " + new Gson().toJson(appsToInsert.values()));
+                log.debug("Apps to remove: " + new Gson().toJson(appsToRemove));
+                log.debug("Apps to update: " + new Gson().toJson(diff.getAppsToUpdate()));
+                log.debug("Apps to insert: " + new Gson().toJson(diff.getAppsToInsert()));
             }
             if (!appsToRemove.isEmpty()) {
-                applicationDAO.removeApplications(new ArrayList<>(appsToRemove.values()), device.getId(),
-                        device.getEnrolmentInfo().getId(), tenantId);
+                applicationDAO.removeApplications(appsToRemove, device.getId(), enrolmentId, tenantId);
             }
-            if (!appsToUpdate.isEmpty()) {
-                applicationDAO.updateApplications(new ArrayList<>(appsToUpdate.values()), device.getId(),
-                        device.getEnrolmentInfo().getId(), tenantId);
+            if (!diff.getAppsToUpdate().isEmpty()) {
+                applicationDAO.updateApplications(diff.getAppsToUpdate(), device.getId(), enrolmentId, tenantId);
             }
-            if (!appsToInsert.isEmpty()) {
-                applicationDAO.addApplications(new ArrayList<>(appsToInsert.values()), device.getId(),
-                        device.getEnrolmentInfo().getId(), tenantId);
+            if (!diff.getAppsToInsert().isEmpty()) {
+                applicationDAO.addApplications(diff.getAppsToInsert(), device.getId(), enrolmentId, tenantId);
             }
+            applicationDAO.saveApplicationListDigest(enrolmentId, digest, tenantId);
             DeviceManagementDAOFactory.commitTransaction();
+            inventorySyncEngine.getMetrics().recordApplied(diff.getAppsToInsert().size(),
+                    diff.getAppsToUpdate().size(), appsToRemove.size());
 
-            String reportingHost = HttpReportingUtil.getReportingHost();
-            if (!StringUtils.isBlank(reportingHost) && HttpReportingUtil.isPublishingEnabledForTenant()) {
-                DeviceDetailsWrapper deviceDetailsWrapper = new DeviceDetailsWrapper();
-                deviceDetailsWrapper.setTenantId(tenantId);
-                deviceDetailsWrapper.setDevice(device);
-                deviceDetailsWrapper.setApplications(newApplications);
-                ReportingPublisherManager reportingManager = new ReportingPublisherManager();
-                reportingManager.publishData(deviceDetailsWrapper, DeviceManagementConstants
-                        .Report.APP_USAGE_ENDPOINT);
-            }
-
+            publishApplicationList(device, newApplications, tenantId);
         } catch (DeviceManagementDAOException e) {
             DeviceManagementDAOFactory.rollbackTransaction();
             String msg = "Error occurred saving application list of the device " + device.getDeviceIdentifier();
@@ -316,6 +286,38 @@ public class ApplicationManagerProviderServiceImpl implements ApplicationManagem
         }
     }
 
+    private void publishApplicationList(Device device, List<Application> applications, int tenantId) {
+        String reportingHost = HttpReportingUtil.getReportingHost();
+        if (!StringUtils.isBlank(reportingHost) && HttpReportingUtil.isPublishingEnabledForTenant()) {
+            DeviceDetailsWrapper deviceDetailsWrapper = new DeviceDetailsWrapper();
+            deviceDetailsWrapper.setTenantId(tenantId);
+            deviceDetailsWrapper.setDevice(device);
+            deviceDetailsWrapper.setApplications(applications);
+            ReportingPublisherManager reportingManager = new ReportingPublisherManager();
+            reportingManager.publishData(deviceDetailsWrapper, DeviceManagementConstants
+                    .Report.APP_USAGE_ENDPOINT);
+        }
+    }
+
+    /**
+     * Read the digest of the application list last saved for an enrolment. The digest is read outside of a
+     * transaction, so that an unchanged application list does not hold a write transaction.
+     */
+    private String getApplicationListDigest(int enrolmentId, int tenantId) throws DeviceManagementDAOException,
+            SQLException {
+        try {
+            DeviceManagementDAOFactory.openConnection();
+            return applicationDAO.getApplicationListDigest(enrolmentId, tenantId);
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+    }
+
+    @Override
+    public ApplicationInventorySyncMetrics getInventorySyncMetrics() {
+        return inventorySyncEngine.getMetrics();
+    }
+
     @Override
     public List<Application> getApplicationListForDevice(DeviceIdentifier deviceId)
             throws ApplicationManagementException {
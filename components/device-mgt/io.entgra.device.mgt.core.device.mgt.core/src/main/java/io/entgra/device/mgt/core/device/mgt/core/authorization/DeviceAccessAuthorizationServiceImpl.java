@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.device.mgt.core.authorization;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.authorization.DeviceAccessAuthorizationException;
 import io.entgra.device.mgt.core.device.mgt.common.authorization.DeviceAccessAuthorizationService;
@@ -36,8 +37,14 @@ import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation of DeviceAccessAuthorization service.
@@ -141,38 +148,85 @@ public class DeviceAccessAuthorizationServiceImpl implements DeviceAccessAuthori
             deviceAuthorizationResult.setAuthorizedDevices(deviceIdentifiers);
             return deviceAuthorizationResult;
         }
+        //Devices are resolved and checked against the shared groups in bulk, instead of one device at a time
+        Map<DeviceIdentifier, Device> devices = this.getDevices(deviceIdentifiers, username);
+        List<Integer> sharedGroupCandidates = new ArrayList<>();
+        for (Device device : devices.values()) {
+            if (!isDeviceOwner(device, username)) {
+                sharedGroupCandidates.add(device.getId());
+            }
+        }
+        Set<Integer> authorizedViaSharedGroups = Collections.emptySet();
+        if (!sharedGroupCandidates.isEmpty() && groupPermissions != null && groupPermissions.length != 0) {
+            authorizedViaSharedGroups = getDevicesAuthorizedViaSharedGroups(sharedGroupCandidates, username,
+                    groupPermissions);
+        }
         for (DeviceIdentifier deviceIdentifier : deviceIdentifiers) {
-            //check for admin and ownership permissions
-            if (isDeviceOwner(deviceIdentifier, username)) {
+            Device device = devices.get(deviceIdentifier);
+            if (device != null && (isDeviceOwner(device, username)
+                    || authorizedViaSharedGroups.contains(device.getId()))) {
                 deviceAuthorizationResult.addAuthorizedDevice(deviceIdentifier);
             } else {
-                try {
-                    if (groupPermissions == null || groupPermissions.length == 0) {
-                        deviceAuthorizationResult.setUnauthorizedDevices(deviceIdentifiers);
-                        return deviceAuthorizationResult;
-                    }
-                    //check for group permissions
-                    boolean isAuthorized = true;
-                    for (String groupPermission : groupPermissions) {
-                        if (!isAuthorizedViaSharedGroup(deviceIdentifier, username, groupPermission)) {
-                            //if at least one failed, authorizations fails and break the loop
-                            isAuthorized = false;
-                            break;
-                        }
-                    }
-                    if (isAuthorized) {
-                        deviceAuthorizationResult.addAuthorizedDevice(deviceIdentifier);
-                    } else {
-                        deviceAuthorizationResult.addUnauthorizedDevice(deviceIdentifier);
+                deviceAuthorizationResult.addUnauthorizedDevice(deviceIdentifier);
+            }
+        }
+        return deviceAuthorizationResult;
+    }
+
+    private Map<DeviceIdentifier, Device> getDevices(List<DeviceIdentifier> deviceIdentifiers, String username)
+            throws DeviceAccessAuthorizationException {
+        try {
+            Map<DeviceIdentifier, Device> devices = new HashMap<>();
+            for (Device device : DeviceManagementDataHolder.getInstance().getDeviceManagementProvider()
+                    .getDevicesByIdentifiers(deviceIdentifiers, false)) {
+                devices.put(new DeviceIdentifier(device.getDeviceIdentifier(), device.getType()), device);
+            }
+            return devices;
+        } catch (DeviceManagementException e) {
+            throw new DeviceAccessAuthorizationException("Unable to retrieve the devices to authorize the access " +
+                    "for the user : " + username, e);
+        }
+    }
+
+    private boolean isDeviceOwner(Device device, String username) {
+        return device.getEnrolmentInfo() != null && username.equals(device.getEnrolmentInfo().getOwner());
+    }
+
+    /**
+     * Returns the ids of the given devices which are shared with the user, through a group shared with one of the
+     * user's roles holding the permission, for every one of the given permissions.
+     */
+    private Set<Integer> getDevicesAuthorizedViaSharedGroups(List<Integer> deviceIds, String username,
+                                                             String[] groupPermissions)
+            throws DeviceAccessAuthorizationException {
+        try {
+            UserRealm userRealm = DeviceManagementDataHolder.getInstance().getRealmService()
+                    .getTenantUserRealm(getTenantId());
+            String[] userRoles = userRealm.getUserStoreManager().getRoleListOfUser(username);
+            Set<Integer> authorizedDeviceIds = new HashSet<>(deviceIds);
+            for (String groupPermission : groupPermissions) {
+                List<String> permittedRoles = new ArrayList<>();
+                for (String role : userRoles) {
+                    if (userRealm.getAuthorizationManager().isRoleAuthorized(role, groupPermission,
+                            CarbonConstants.UI_PERMISSION_ACTION)) {
+                        permittedRoles.add(role);
                     }
-                } catch (DeviceAccessAuthorizationException e) {
-                    throw new DeviceAccessAuthorizationException("Unable to authorize the access to device : " +
-                                                                 deviceIdentifier.getId() + " for the user : " +
-                                                                 username, e);
+                }
+                if (permittedRoles.isEmpty()) {
+                    return Collections.emptySet();
+                }
+                authorizedDeviceIds.retainAll(DeviceManagementDataHolder.getInstance()
+                        .getGroupManagementProviderService().getDeviceIdsSharedWithRoles(
+                                new ArrayList<>(authorizedDeviceIds), permittedRoles.toArray(new String[0])));
+                if (authorizedDeviceIds.isEmpty()) {
+                    break;
                 }
             }
+            return authorizedDeviceIds;
+        } catch (GroupManagementException | UserStoreException e) {
+            throw new DeviceAccessAuthorizationException("Unable to authorize via shared roles, for the user : " +
+                    username, e);
         }
-        return deviceAuthorizationResult;
     }
 
     @Override
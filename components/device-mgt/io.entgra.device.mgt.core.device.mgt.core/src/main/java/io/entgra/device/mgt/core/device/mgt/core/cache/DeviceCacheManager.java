@@ -20,6 +20,7 @@ package io.entgra.device.mgt.core.device.mgt.core.cache;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.NearCacheMetrics;
 
 import java.util.List;
 
@@ -70,4 +71,43 @@ public interface DeviceCacheManager {
      *
      */
     Device getDeviceFromCache(DeviceIdentifier deviceIdentifier, int tenantId);
+
+    /**
+     * Remembers that a device is not found in the database, if the negative cache is enabled.
+     * @param deviceIdentifier - DeviceIdentifier of the device which is not found.
+     * @param tenantId - Tenant in which the device is looked up.
+     *
+     */
+    void addUnknownDeviceToCache(DeviceIdentifier deviceIdentifier, int tenantId);
+
+    /**
+     * Forgets that a device is not found in the database, as it is being enrolled.
+     * @param deviceIdentifier - DeviceIdentifier of the device.
+     * @param tenantId - Tenant in which the device is enrolled.
+     *
+     */
+    void removeUnknownDeviceFromCache(DeviceIdentifier deviceIdentifier, int tenantId);
+
+    /**
+     * Checks whether a device was recently not found in the database.
+     * @param deviceIdentifier - DeviceIdentifier of the device to be checked.
+     * @param tenantId - Tenant in which the device is looked up.
+     * @return true if the device is known to be absent until the negative cache entry expires.
+     *
+     */
+    boolean isUnknownDevice(DeviceIdentifier deviceIdentifier, int tenantId);
+
+    /**
+     * Fetches the hit, miss and eviction counters of the device negative cache.
+     * @return negative cache counters, or null if the negative cache is not enabled.
+     *
+     */
+    NearCacheMetrics getNegativeCacheMetrics();
+
+    /**
+     * Fetches the hit, miss and eviction counters of the device near-cache.
+     * @return near-cache counters, or null if the near-cache is not enabled.
+     *
+     */
+    NearCacheMetrics getNearCacheMetrics();
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.cache;
+
+import java.util.Collection;
+
+/**
+ * This defines the contract to be implemented by PendingOperationCacheManager which keeps track of whether an
+ * enrolment may have operations waiting to be picked up, so that device polls can skip the operation lookup when
+ * there is nothing to deliver.
+ */
+public interface PendingOperationCacheManager {
+
+    /**
+     * Records that the given enrolment may have pending operations. Should be called after the operation mapping
+     * has been committed.
+     * @param enrolmentId - Id of the enrolment.
+     *
+     */
+    void markPending(int enrolmentId);
+
+    /**
+     * Records that the given enrolments may have pending operations.
+     * @param enrolmentIds - Ids of the enrolments.
+     *
+     */
+    void markPending(Collection<Integer> enrolmentIds);
+
+    /**
+     * Fetches the current state of the given enrolment. The state must be read before the operation tables are
+     * queried and handed back to {@link #markDrained(int, Long, boolean)} afterwards.
+     * @param enrolmentId - Id of the enrolment.
+     * @return Opaque state of the enrolment, or null if nothing is known about it.
+     *
+     */
+    Long getState(int enrolmentId);
+
+    /**
+     * Checks whether a state fetched through {@link #getState(int)} guarantees that there is nothing to deliver.
+     * @param state - State of the enrolment.
+     * @param includeNotNow - Whether NOTNOW operations are considered deliverable by the caller.
+     * @return true if the enrolment has no operations to deliver.
+     *
+     */
+    boolean isDrained(Long state, boolean includeNotNow);
+
+    /**
+     * Records that the operation tables returned nothing for the given enrolment. The record is discarded if the
+     * enrolment has been marked as pending since the given state was fetched.
+     * @param enrolmentId - Id of the enrolment.
+     * @param state - State of the enrolment fetched before the operation tables were queried.
+     * @param includesNotNow - Whether NOTNOW operations were also found to be absent.
+     *
+     */
+    void markDrained(int enrolmentId, Long state, boolean includesNotNow);
+}
@@ -20,24 +20,48 @@ package io.entgra.device.mgt.core.device.mgt.core.cache.impl;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.core.cache.DeviceCacheKey;
 import io.entgra.device.mgt.core.device.mgt.core.cache.DeviceCacheManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.cache.DeviceCacheConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.util.DeviceManagerUtil;
+import io.entgra.device.mgt.core.device.mgt.core.util.MBeanUtil;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import javax.cache.Cache;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Implementation of DeviceCacheManager.
+ * Implementation of DeviceCacheManager. When the near-cache is enabled, device snapshots are also held by reference
+ * in a size bounded local cache in front of the device cache. The device cache stores devices by value and carries
+ * the cluster wide invalidations, hence a snapshot is only served while its device is still present in the device
+ * cache, which is a key lookup that does not copy the device.
+ * <p>
+ * When the negative cache is enabled, identifiers of devices which are not found in the database are remembered for a
+ * short expiry time, so that repeated lookups of unknown devices do not reach the database.
  */
 public class DeviceCacheManagerImpl implements DeviceCacheManager {
 
     private static final Log log = LogFactory.getLog(DeviceCacheManagerImpl.class);
+    public static final String NEAR_CACHE_MBEAN = "DeviceNearCache";
+    public static final String NEGATIVE_CACHE_MBEAN = "DeviceNegativeCache";
 
     private static DeviceCacheManagerImpl deviceCacheManager;
 
+    private volatile boolean nearCacheInitialized;
+    private volatile WindowTinyLfuCache<DeviceCacheKey, Device> nearCache;
+    private volatile NearCacheMetrics nearCacheMetrics;
+    private volatile boolean negativeCacheInitialized;
+    private volatile WindowTinyLfuCache<DeviceCacheKey, Long> negativeCache;
+    private volatile NearCacheMetrics negativeCacheMetrics;
+    private volatile long negativeCacheExpiryTime;
+
     private DeviceCacheManagerImpl() {
     }
 
@@ -57,10 +81,14 @@ public class DeviceCacheManagerImpl implements DeviceCacheManager {
         Cache<DeviceCacheKey, Device> lCache = DeviceManagerUtil.getDeviceCache();
         if (lCache != null) {
             DeviceCacheKey cacheKey = getCacheKey(deviceIdentifier, tenantId);
-            if (lCache.containsKey(cacheKey)) {
-                this.updateDeviceInCache(deviceIdentifier, device, tenantId);
-            } else {
-                lCache.put(cacheKey, device);
+            lCache.put(cacheKey, device);
+            WindowTinyLfuCache<DeviceCacheKey, Device> lNearCache = getNearCache();
+            if (lNearCache != null) {
+                lNearCache.put(cacheKey, copyOf(device));
+            }
+            WindowTinyLfuCache<DeviceCacheKey, Long> lNegativeCache = getNegativeCache();
+            if (lNegativeCache != null) {
+                lNegativeCache.invalidate(cacheKey);
             }
         }
     }
@@ -70,8 +98,11 @@ public class DeviceCacheManagerImpl implements DeviceCacheManager {
         Cache<DeviceCacheKey, Device> lCache = DeviceManagerUtil.getDeviceCache();
         if (lCache != null) {
             DeviceCacheKey cacheKey = getCacheKey(deviceIdentifier, tenantId);
-            if (lCache.containsKey(cacheKey)) {
-                lCache.remove(cacheKey);
+            lCache.remove(cacheKey);
+            WindowTinyLfuCache<DeviceCacheKey, Device> lNearCache = getNearCache();
+            if (lNearCache != null) {
+                lNearCache.invalidate(cacheKey);
+                nearCacheMetrics.recordInvalidations(1);
             }
         }
     }
@@ -79,11 +110,12 @@ public class DeviceCacheManagerImpl implements DeviceCacheManager {
     @Override
     public void removeDevicesFromCache(List<DeviceCacheKey> deviceList) {
         Cache<DeviceCacheKey, Device> lCache = DeviceManagerUtil.getDeviceCache();
-        if (lCache != null) {
-            for (DeviceCacheKey cacheKey : deviceList) {
-                if (lCache.containsKey(cacheKey)) {
-                    lCache.remove(cacheKey);
-                }
+        if (lCache != null && !deviceList.isEmpty()) {
+            lCache.removeAll(new HashSet<>(deviceList));
+            WindowTinyLfuCache<DeviceCacheKey, Device> lNearCache = getNearCache();
+            if (lNearCache != null) {
+                lNearCache.invalidateAll(deviceList);
+                nearCacheMetrics.recordInvalidations(deviceList.size());
             }
         }
     }
@@ -93,8 +125,14 @@ public class DeviceCacheManagerImpl implements DeviceCacheManager {
         Cache<DeviceCacheKey, Device> lCache = DeviceManagerUtil.getDeviceCache();
         if (lCache != null) {
             DeviceCacheKey cacheKey = getCacheKey(deviceIdentifier, tenantId);
-            if (lCache.containsKey(cacheKey)) {
-                lCache.replace(cacheKey, device);
+            boolean replaced = lCache.replace(cacheKey, device);
+            WindowTinyLfuCache<DeviceCacheKey, Device> lNearCache = getNearCache();
+            if (lNearCache != null) {
+                if (replaced) {
+                    lNearCache.put(cacheKey, copyOf(device));
+                } else {
+                    lNearCache.invalidate(cacheKey);
+                }
             }
         }
     }
@@ -102,12 +140,172 @@ public class DeviceCacheManagerImpl implements DeviceCacheManager {
     @Override
     public Device getDeviceFromCache(DeviceIdentifier deviceIdentifier, int tenantId) {
         Cache<DeviceCacheKey, Device> lCache = DeviceManagerUtil.getDeviceCache();
-        if (lCache != null) {
-            return lCache.get(getCacheKey(deviceIdentifier, tenantId));
+        if (lCache == null) {
+            return null;
+        }
+        return getCachedDevice(lCache, getCacheKey(deviceIdentifier, tenantId));
+    }
+
+    @Override
+    public void addUnknownDeviceToCache(DeviceIdentifier deviceIdentifier, int tenantId) {
+        WindowTinyLfuCache<DeviceCacheKey, Long> lNegativeCache = getNegativeCache();
+        if (lNegativeCache != null) {
+            lNegativeCache.put(getCacheKey(deviceIdentifier, tenantId),
+                    System.currentTimeMillis() + negativeCacheExpiryTime);
+        }
+    }
+
+    @Override
+    public void removeUnknownDeviceFromCache(DeviceIdentifier deviceIdentifier, int tenantId) {
+        WindowTinyLfuCache<DeviceCacheKey, Long> lNegativeCache = getNegativeCache();
+        if (lNegativeCache != null) {
+            lNegativeCache.invalidate(getCacheKey(deviceIdentifier, tenantId));
+            negativeCacheMetrics.recordInvalidations(1);
+        }
+    }
+
+    @Override
+    public boolean isUnknownDevice(DeviceIdentifier deviceIdentifier, int tenantId) {
+        WindowTinyLfuCache<DeviceCacheKey, Long> lNegativeCache = getNegativeCache();
+        if (lNegativeCache == null) {
+            return false;
+        }
+        DeviceCacheKey cacheKey = getCacheKey(deviceIdentifier, tenantId);
+        Long expiryTime = lNegativeCache.get(cacheKey);
+        if (expiryTime != null) {
+            if (expiryTime > System.currentTimeMillis()) {
+                negativeCacheMetrics.recordHit();
+                return true;
+            }
+            lNegativeCache.invalidate(cacheKey);
+        }
+        negativeCacheMetrics.recordMiss();
+        return false;
+    }
+
+    @Override
+    public NearCacheMetrics getNegativeCacheMetrics() {
+        return getNegativeCache() == null ? null : negativeCacheMetrics;
+    }
+
+    @Override
+    public NearCacheMetrics getNearCacheMetrics() {
+        return getNearCache() == null ? null : nearCacheMetrics;
+    }
+
+    private Device getCachedDevice(Cache<DeviceCacheKey, Device> lCache, DeviceCacheKey cacheKey) {
+        WindowTinyLfuCache<DeviceCacheKey, Device> lNearCache = getNearCache();
+        if (lNearCache == null) {
+            return lCache.get(cacheKey);
+        }
+        Device snapshot = lNearCache.get(cacheKey);
+        if (snapshot != null) {
+            if (lCache.containsKey(cacheKey)) {
+                nearCacheMetrics.recordHit();
+                return copyOf(snapshot);
+            }
+            lNearCache.invalidate(cacheKey);
+            nearCacheMetrics.recordInvalidations(1);
+        }
+        nearCacheMetrics.recordMiss();
+        Device device = lCache.get(cacheKey);
+        if (device != null) {
+            // A writer may have replaced the device after it was read, in which case its snapshot is kept.
+            lNearCache.putIfAbsent(cacheKey, copyOf(device));
         }
-        return null;
+        return device;
     }
 
+    private WindowTinyLfuCache<DeviceCacheKey, Device> getNearCache() {
+        if (!nearCacheInitialized) {
+            synchronized (this) {
+                if (!nearCacheInitialized) {
+                    DeviceManagementConfig config = DeviceConfigurationManager.getInstance()
+                            .getDeviceManagementConfig();
+                    DeviceCacheConfiguration cacheConfig = config == null ? null
+                            : config.getDeviceCacheConfiguration();
+                    if (cacheConfig != null && cacheConfig.isEnabled() && cacheConfig.isNearCacheEnabled()) {
+                        nearCacheMetrics = new NearCacheMetrics();
+                        nearCache = new WindowTinyLfuCache<>(cacheConfig.getNearCacheCapacity(), nearCacheMetrics);
+                        MBeanUtil.registerMBean(nearCacheMetrics, NEAR_CACHE_MBEAN);
+                        if (log.isDebugEnabled()) {
+                            log.debug("Device near-cache enabled with the capacity of " +
+                                    cacheConfig.getNearCacheCapacity() + " devices");
+                        }
+                    }
+                    nearCacheInitialized = true;
+                }
+            }
+        }
+        return nearCache;
+    }
+
+    private WindowTinyLfuCache<DeviceCacheKey, Long> getNegativeCache() {
+        if (!negativeCacheInitialized) {
+            synchronized (this) {
+                if (!negativeCacheInitialized) {
+                    DeviceManagementConfig config = DeviceConfigurationManager.getInstance()
+                            .getDeviceManagementConfig();
+                    DeviceCacheConfiguration cacheConfig = config == null ? null
+                            : config.getDeviceCacheConfiguration();
+                    if (cacheConfig != null && cacheConfig.isEnabled() && cacheConfig.isNegativeCacheEnabled()) {
+                        negativeCacheExpiryTime = TimeUnit.SECONDS.toMillis(cacheConfig.getNegativeCacheExpiryTime());
+                        negativeCacheMetrics = new NearCacheMetrics();
+                        negativeCache = new WindowTinyLfuCache<>(cacheConfig.getNegativeCacheCapacity(),
+                                negativeCacheMetrics);
+                        MBeanUtil.registerMBean(negativeCacheMetrics, NEGATIVE_CACHE_MBEAN);
+                        if (log.isDebugEnabled()) {
+                            log.debug("Device negative cache enabled with the capacity of " +
+                                    cacheConfig.getNegativeCacheCapacity() + " identifiers and the expiry time of " +
+                                    cacheConfig.getNegativeCacheExpiryTime() + " seconds");
+                        }
+                    }
+                    negativeCacheInitialized = true;
+                }
+            }
+        }
+        return negativeCache;
+    }
+
+    /**
+     * Copy the parts of a device which callers modify, so that the snapshots held by the near-cache are never
+     * changed through the devices handed out. Features, properties, applications and device info objects are
+     * shared since callers replace them rather than modifying them.
+     */
+    static Device copyOf(Device device) {
+        Device copy = new Device();
+        copy.setId(device.getId());
+        copy.setName(device.getName());
+        copy.setType(device.getType());
+        copy.setDescription(device.getDescription());
+        copy.setDeviceIdentifier(device.getDeviceIdentifier());
+        copy.setLastUpdatedTimeStamp(device.getLastUpdatedTimeStamp());
+        copy.setCost(device.getCost());
+        copy.setDaysUsed(device.getDaysUsed());
+        copy.setDeviceInfo(device.getDeviceInfo());
+        copy.setHistorySnapshot(device.getHistorySnapshot());
+        copy.setFeatures(device.getFeatures() == null ? null : new ArrayList<>(device.getFeatures()));
+        copy.setProperties(device.getProperties() == null ? null : new ArrayList<>(device.getProperties()));
+        copy.setApplications(device.getApplications() == null ? null : new ArrayList<>(device.getApplications()));
+        copy.setDeviceStatusInfo(device.getDeviceStatusInfo() == null ? null
+                : new ArrayList<>(device.getDeviceStatusInfo()));
+        EnrolmentInfo enrolmentInfo = device.getEnrolmentInfo();
+        if (enrolmentInfo != null) {
+            EnrolmentInfo enrolmentInfoCopy = new EnrolmentInfo();
+            enrolmentInfoCopy.setId(enrolmentInfo.getId());
+            enrolmentInfoCopy.setTransferred(enrolmentInfo.isTransferred());
+            enrolmentInfoCopy.setDateOfEnrolment(enrolmentInfo.getDateOfEnrolment());
+            enrolmentInfoCopy.setDateOfLastUpdate(enrolmentInfo.getDateOfLastUpdate());
+            enrolmentInfoCopy.setLastBilledDate(enrolmentInfo.getLastBilledDate());
+            enrolmentInfoCopy.setOwnership(enrolmentInfo.getOwnership());
+            enrolmentInfoCopy.setStatus(enrolmentInfo.getStatus());
+            enrolmentInfoCopy.setOwner(enrolmentInfo.getOwner());
+            enrolmentInfoCopy.setTags(enrolmentInfo.getTags() == null ? null
+                    : new ArrayList<>(enrolmentInfo.getTags()));
+            copy.setEnrolmentInfo(enrolmentInfoCopy);
+        }
+        return copy;
+    }
 
     private DeviceCacheKey getCacheKey(DeviceIdentifier deviceIdentifier, int tenantId) {
         DeviceCacheKey deviceCacheKey = new DeviceCacheKey();
@@ -116,4 +314,4 @@ public class DeviceCacheManagerImpl implements DeviceCacheManager {
         deviceCacheKey.setTenantId(tenantId);
         return deviceCacheKey;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.cache.impl;
+
+import io.entgra.device.mgt.core.device.mgt.core.cache.PendingOperationCacheManager;
+import io.entgra.device.mgt.core.device.mgt.core.util.DeviceManagerUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import javax.cache.Cache;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementation of PendingOperationCacheManager. Each enrolment maps to one of the drained markers or to a random
+ * positive token written whenever the enrolment is marked as pending. Since every write produces a new token, a
+ * poll which read a token before querying the operation tables can only record the drained state if no operation
+ * was added in the meantime.
+ */
+public class PendingOperationCacheManagerImpl implements PendingOperationCacheManager {
+
+    private static final Log log = LogFactory.getLog(PendingOperationCacheManagerImpl.class);
+
+    /**
+     * Neither PENDING nor NOTNOW operations exist for the enrolment.
+     */
+    private static final Long NONE = 0L;
+    /**
+     * No PENDING operations exist for the enrolment, NOTNOW operations may exist.
+     */
+    private static final Long NO_PENDING = -1L;
+
+    private static PendingOperationCacheManagerImpl pendingOperationCacheManager;
+
+    private PendingOperationCacheManagerImpl() {
+    }
+
+    public static PendingOperationCacheManagerImpl getInstance() {
+        if (pendingOperationCacheManager == null) {
+            synchronized (PendingOperationCacheManagerImpl.class) {
+                if (pendingOperationCacheManager == null) {
+                    pendingOperationCacheManager = new PendingOperationCacheManagerImpl();
+                }
+            }
+        }
+        return pendingOperationCacheManager;
+    }
+
+    @Override
+    public void markPending(int enrolmentId) {
+        Cache<Integer, Long> lCache = DeviceManagerUtil.getPendingOperationCache();
+        if (lCache != null) {
+            lCache.put(enrolmentId, newToken());
+        }
+    }
+
+    @Override
+    public void markPending(Collection<Integer> enrolmentIds) {
+        Cache<Integer, Long> lCache = DeviceManagerUtil.getPendingOperationCache();
+        if (lCache != null) {
+            for (Integer enrolmentId : enrolmentIds) {
+                lCache.put(enrolmentId, newToken());
+            }
+        }
+    }
+
+    @Override
+    public Long getState(int enrolmentId) {
+        Cache<Integer, Long> lCache = DeviceManagerUtil.getPendingOperationCache();
+        if (lCache != null) {
+            return lCache.get(enrolmentId);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isDrained(Long state, boolean includeNotNow) {
+        if (state == null) {
+            return false;
+        }
+        return NONE.equals(state) || (!includeNotNow && NO_PENDING.equals(state));
+    }
+
+    @Override
+    public void markDrained(int enrolmentId, Long state, boolean includesNotNow) {
+        Cache<Integer, Long> lCache = DeviceManagerUtil.getPendingOperationCache();
+        if (lCache == null) {
+            return;
+        }
+        Long marker = includesNotNow ? NONE : NO_PENDING;
+        if (marker.equals(state)) {
+            return;
+        }
+        boolean updated = state == null ? lCache.putIfAbsent(enrolmentId, marker)
+                : lCache.replace(enrolmentId, state, marker);
+        if (!updated && log.isDebugEnabled()) {
+            log.debug("Enrolment " + enrolmentId + " was marked as pending while it was being polled, " +
+                    "hence keeping the pending state");
+        }
+    }
+
+    private Long newToken() {
+        return ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.cache.impl;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size bounded local cache which holds values by reference and evicts with the W-TinyLFU policy. New entries are
+ * admitted to a small LRU window. Entries leaving the window compete with the least recently used entry of the
+ * segmented LRU main space, and the one which was accessed more often recently, as estimated by a count-min sketch,
+ * is kept. Lookups do not block on the eviction lock; recording an access is skipped when the lock is contended.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class WindowTinyLfuCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = 3;
+
+    private final int capacity;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSpace = new AccessOrderDeque<>();
+    private final NearCacheMetrics metrics;
+
+    public WindowTinyLfuCache(int capacity, NearCacheMetrics metrics) {
+        this.capacity = Math.max(2, capacity);
+        this.windowCapacity = Math.max(1, this.capacity / 100);
+        this.protectedCapacity = (this.capacity - windowCapacity) * 4 / 5;
+        this.sketch = new FrequencySketch(this.capacity);
+        this.metrics = metrics;
+    }
+
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (evictionLock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, false);
+    }
+
+    /**
+     * Add a value unless the key is already mapped, so that a value loaded before a concurrent write does not
+     * replace the value of the write.
+     */
+    public void putIfAbsent(K key, V value) {
+        put(key, value, true);
+    }
+
+    private void put(K key, V value, boolean onlyIfAbsent) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                if (!onlyIfAbsent) {
+                    node.value = value;
+                }
+                onAccess(node);
+                return;
+            }
+            sketch.increment(key);
+            node = new Node<>(key, value);
+            node.segment = WINDOW;
+            window.addLast(node);
+            data.put(key, node);
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            unlink(data.remove(key));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll(Collection<? extends K> keys) {
+        evictionLock.lock();
+        try {
+            for (K key : keys) {
+                unlink(data.remove(key));
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                unlink(node);
+            }
+            data.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.segment == REMOVED) {
+            return;
+        }
+        sketch.increment(node.key);
+        if (node.segment == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.segment == PROBATION) {
+            probation.remove(node);
+            node.segment = PROTECTED;
+            protectedSpace.addLast(node);
+            if (protectedSpace.size() > protectedCapacity) {
+                Node<K, V> demoted = protectedSpace.pollFirst();
+                demoted.segment = PROBATION;
+                probation.addLast(demoted);
+            }
+        } else {
+            protectedSpace.moveToLast(node);
+        }
+    }
+
+    private void evict() {
+        Node<K, V> candidate = null;
+        if (window.size() > windowCapacity) {
+            candidate = window.pollFirst();
+            candidate.segment = PROBATION;
+            probation.addLast(candidate);
+        }
+        while (window.size() + probation.size() + protectedSpace.size() > capacity) {
+            Node<K, V> victim = probation.isEmpty() ? protectedSpace.peekFirst() : probation.peekFirst();
+            if (candidate == null || candidate == victim) {
+                evict(victim);
+                candidate = null;
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+                candidate = null;
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        metrics.recordEviction();
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node == null || node.segment == REMOVED) {
+            return;
+        }
+        if (node.segment == WINDOW) {
+            window.remove(node);
+        } else if (node.segment == PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedSpace.remove(node);
+        }
+        node.segment = REMOVED;
+    }
+
+    private static class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private int segment;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Doubly linked list of nodes ordered from the least recently used to the most recently used.
+     */
+    private static class AccessOrderDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private int size;
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private Node<K, V> peekFirst() {
+            return first;
+        }
+
+        private Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        private void addLast(Node<K, V> node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters estimating how often keys were accessed recently. Counters are halved
+     * once the number of increments reaches ten times the cache capacity, so that old popularity fades out.
+     */
+    private static class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final long ONE_MASK = 0x1111111111111111L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        private FrequencySketch(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(16, capacity) - 1) << 1;
+            this.table = new long[tableSize];
+            this.tableMask = tableSize - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        private int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added && ++size >= sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            int oddCounters = 0;
+            for (int i = 0; i < table.length; i++) {
+                oddCounters += Long.bitCount(table[i] & ONE_MASK);
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            size = (size >>> 1) - (oddCounters >>> 2);
+        }
+
+        private int indexOf(int hash, int i) {
+            long index = (hash + SEEDS[i]) * SEEDS[i];
+            index += index >>> 32;
+            return ((int) index) & tableMask;
+        }
+
+        private static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
+}
@@ -25,11 +25,13 @@ import io.entgra.device.mgt.core.device.mgt.core.config.cache.BillingCacheConfig
 import io.entgra.device.mgt.core.device.mgt.core.config.cache.CertificateCacheConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.cache.DeviceCacheConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.cache.GeoFenceCacheConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.config.cache.PendingOperationCacheConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.enrollment.guide.EnrollmentGuideConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.geo.location.GeoLocationConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.identity.IdentityConfigurations;
 import io.entgra.device.mgt.core.device.mgt.core.config.keymanager.KeyManagerConfigurations;
 import io.entgra.device.mgt.core.device.mgt.core.config.metadata.mgt.MetaDataConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.config.operation.codec.OperationPayloadCodecConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.operation.timeout.OperationTimeoutConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.pagination.PaginationConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.policy.PolicyConfiguration;
@@ -38,6 +40,7 @@ import io.entgra.device.mgt.core.device.mgt.core.config.push.notification.PushNo
 import io.entgra.device.mgt.core.device.mgt.core.config.remote.session.RemoteSessionConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.status.task.DeviceStatusTaskConfig;
 import io.entgra.device.mgt.core.device.mgt.core.config.task.TaskConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.config.task.TaskExecutorConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.event.config.EventOperationTaskConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.permission.DefaultPermissions;
 
@@ -64,7 +67,9 @@ public final class DeviceManagementConfig {
     private GeoFenceCacheConfiguration geoFenceCacheConfiguration;
     private BillingCacheConfiguration billingCacheConfiguration;
     private EventOperationTaskConfiguration eventOperationTaskConfiguration;
+    private TaskExecutorConfiguration taskExecutorConfiguration;
     private CertificateCacheConfiguration certificateCacheConfiguration;
+    private PendingOperationCacheConfiguration pendingOperationCacheConfiguration;
     private OperationAnalyticsConfiguration operationAnalyticsConfiguration;
     private GeoLocationConfiguration geoLocationConfiguration;
     private String defaultGroupsConfiguration;
@@ -73,6 +78,7 @@ public final class DeviceManagementConfig {
     private EnrollmentNotificationConfiguration enrollmentNotificationConfiguration;
     private DefaultRoles defaultRoles;
     private OperationTimeoutConfiguration operationTimeoutConfiguration;
+    private OperationPayloadCodecConfiguration operationPayloadCodecConfiguration;
     private MetaDataConfiguration metaDataConfiguration;
     private EnrollmentGuideConfiguration enrollmentGuideConfiguration;
 
@@ -187,6 +193,16 @@ public final class DeviceManagementConfig {
         this.billingCacheConfiguration = billingCacheConfiguration;
     }
 
+    @XmlElement(name = "PendingOperationCacheConfiguration")
+    public PendingOperationCacheConfiguration getPendingOperationCacheConfiguration() {
+        return pendingOperationCacheConfiguration;
+    }
+
+    public void setPendingOperationCacheConfiguration(
+            PendingOperationCacheConfiguration pendingOperationCacheConfiguration) {
+        this.pendingOperationCacheConfiguration = pendingOperationCacheConfiguration;
+    }
+
     @XmlElement(name = "EventOperationTaskConfiguration", required = true)
     public EventOperationTaskConfiguration getEventOperationTaskConfiguration() {
         return eventOperationTaskConfiguration;
@@ -196,6 +212,15 @@ public final class DeviceManagementConfig {
         this.eventOperationTaskConfiguration = eventOperationTaskConfiguration;
     }
 
+    @XmlElement(name = "TaskExecutorConfiguration")
+    public TaskExecutorConfiguration getTaskExecutorConfiguration() {
+        return taskExecutorConfiguration;
+    }
+
+    public void setTaskExecutorConfiguration(TaskExecutorConfiguration taskExecutorConfiguration) {
+        this.taskExecutorConfiguration = taskExecutorConfiguration;
+    }
+
     @XmlElement(name = "CertificateCacheConfiguration", required = true)
     public CertificateCacheConfiguration getCertificateCacheConfiguration() {
         return certificateCacheConfiguration;
@@ -273,6 +298,16 @@ public final class DeviceManagementConfig {
         this.operationTimeoutConfiguration = operationTimeoutConfiguration;
     }
 
+    @XmlElement(name = "OperationPayloadCodecConfiguration")
+    public OperationPayloadCodecConfiguration getOperationPayloadCodecConfiguration() {
+        return operationPayloadCodecConfiguration;
+    }
+
+    public void setOperationPayloadCodecConfiguration(
+            OperationPayloadCodecConfiguration operationPayloadCodecConfiguration) {
+        this.operationPayloadCodecConfiguration = operationPayloadCodecConfiguration;
+    }
+
     @XmlElement(name = "MetaDataConfiguration", required = true)
     public MetaDataConfiguration getMetaDataConfiguration() {
         return metaDataConfiguration;
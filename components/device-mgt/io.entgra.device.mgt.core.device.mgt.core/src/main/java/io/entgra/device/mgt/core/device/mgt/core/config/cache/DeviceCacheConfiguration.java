@@ -27,6 +27,11 @@ public class DeviceCacheConfiguration {
     private boolean isEnabled;
     private int expiryTime;
     private long capacity;
+    private boolean nearCacheEnabled = false;
+    private int nearCacheCapacity = 10000;
+    private boolean negativeCacheEnabled = false;
+    private int negativeCacheCapacity = 10000;
+    private int negativeCacheExpiryTime = 30;
 
     @XmlElement(name = "Enable", required = true)
     public boolean isEnabled() {
@@ -54,4 +59,49 @@ public class DeviceCacheConfiguration {
     public void setCapacity(long capacity) {
         this.capacity = capacity;
     }
+
+    @XmlElement(name = "NearCacheEnabled")
+    public boolean isNearCacheEnabled() {
+        return nearCacheEnabled;
+    }
+
+    public void setNearCacheEnabled(boolean nearCacheEnabled) {
+        this.nearCacheEnabled = nearCacheEnabled;
+    }
+
+    @XmlElement(name = "NearCacheCapacity")
+    public int getNearCacheCapacity() {
+        return nearCacheCapacity;
+    }
+
+    public void setNearCacheCapacity(int nearCacheCapacity) {
+        this.nearCacheCapacity = nearCacheCapacity;
+    }
+
+    @XmlElement(name = "NegativeCacheEnabled")
+    public boolean isNegativeCacheEnabled() {
+        return negativeCacheEnabled;
+    }
+
+    public void setNegativeCacheEnabled(boolean negativeCacheEnabled) {
+        this.negativeCacheEnabled = negativeCacheEnabled;
+    }
+
+    @XmlElement(name = "NegativeCacheCapacity")
+    public int getNegativeCacheCapacity() {
+        return negativeCacheCapacity;
+    }
+
+    public void setNegativeCacheCapacity(int negativeCacheCapacity) {
+        this.negativeCacheCapacity = negativeCacheCapacity;
+    }
+
+    @XmlElement(name = "NegativeCacheExpiryTime")
+    public int getNegativeCacheExpiryTime() {
+        return negativeCacheExpiryTime;
+    }
+
+    public void setNegativeCacheExpiryTime(int negativeCacheExpiryTime) {
+        this.negativeCacheExpiryTime = negativeCacheExpiryTime;
+    }
 }
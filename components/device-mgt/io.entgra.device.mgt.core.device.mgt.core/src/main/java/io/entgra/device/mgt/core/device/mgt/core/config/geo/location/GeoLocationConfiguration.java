@@ -28,6 +28,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 public class GeoLocationConfiguration {
 
     private boolean enabled;
+    private LocationIngestionConfiguration locationIngestionConfiguration = new LocationIngestionConfiguration();
 
     public boolean getEnabled() {
         return enabled;
@@ -37,4 +38,13 @@ public class GeoLocationConfiguration {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    @XmlElement(name = "LocationIngestion")
+    public LocationIngestionConfiguration getLocationIngestionConfiguration() {
+        return locationIngestionConfiguration;
+    }
+
+    public void setLocationIngestionConfiguration(LocationIngestionConfiguration locationIngestionConfiguration) {
+        this.locationIngestionConfiguration = locationIngestionConfiguration;
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.config.geo.location;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * This class represents the configuration of the write-behind ingestion of device locations. When enabled, location
+ * fixes are buffered and written to the database in batches instead of in a transaction per fix.
+ */
+@XmlRootElement(name = "LocationIngestion")
+public class LocationIngestionConfiguration {
+
+    public static final String OVERFLOW_SYNC_WRITE = "SYNC_WRITE";
+    public static final String OVERFLOW_DROP = "DROP";
+
+    private boolean writeBehindEnabled = false;
+    private int queueCapacity = 50000;
+    private int maxBatchSize = 1000;
+    private long flushIntervalMillis = 1000;
+    private String overflowPolicy = OVERFLOW_SYNC_WRITE;
+    private long shutdownFlushTimeoutMillis = 10000;
+
+    @XmlElement(name = "WriteBehindEnabled")
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    @XmlElement(name = "QueueCapacity")
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @XmlElement(name = "MaxBatchSize")
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @XmlElement(name = "FlushIntervalMillis")
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    /**
+     * @return What to do with a location fix when the buffer is full. {@link #OVERFLOW_SYNC_WRITE} writes the fix
+     * in the caller's thread so that no fix is lost, {@link #OVERFLOW_DROP} discards it.
+     */
+    @XmlElement(name = "OverflowPolicy")
+    public String getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(String overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * @return Maximum time to wait for the buffered fixes to be flushed when the server shuts down.
+     */
+    @XmlElement(name = "ShutdownFlushTimeoutMillis")
+    public long getShutdownFlushTimeoutMillis() {
+        return shutdownFlushTimeoutMillis;
+    }
+
+    public void setShutdownFlushTimeoutMillis(long shutdownFlushTimeoutMillis) {
+        this.shutdownFlushTimeoutMillis = shutdownFlushTimeoutMillis;
+    }
+}
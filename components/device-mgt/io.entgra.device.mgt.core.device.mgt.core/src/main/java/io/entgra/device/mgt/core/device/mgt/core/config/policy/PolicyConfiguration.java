@@ -35,6 +35,10 @@ public class PolicyConfiguration {
     private List<String> platforms;
     private String policyEvaluationPoint;
     private boolean cacheEnable;
+    private int monitoringBatchSize = 1000;
+    private int complianceRefreshInterval = 3600;
+    private int appliedPolicyCacheExpiryTime = 600;
+    private long appliedPolicyCacheCapacity = 10000;
 
     @XmlElement(name = "MonitoringClass", required = true)
     public String getMonitoringClass() {
@@ -118,4 +122,40 @@ public class PolicyConfiguration {
         this.cacheEnable = cacheEnable;
     }
 
+    @XmlElement(name = "MonitoringBatchSize")
+    public int getMonitoringBatchSize() {
+        return monitoringBatchSize;
+    }
+
+    public void setMonitoringBatchSize(int monitoringBatchSize) {
+        this.monitoringBatchSize = monitoringBatchSize;
+    }
+
+    @XmlElement(name = "ComplianceRefreshInterval")
+    public int getComplianceRefreshInterval() {
+        return complianceRefreshInterval;
+    }
+
+    public void setComplianceRefreshInterval(int complianceRefreshInterval) {
+        this.complianceRefreshInterval = complianceRefreshInterval;
+    }
+
+    @XmlElement(name = "AppliedPolicyCacheExpiryTime")
+    public int getAppliedPolicyCacheExpiryTime() {
+        return appliedPolicyCacheExpiryTime;
+    }
+
+    public void setAppliedPolicyCacheExpiryTime(int appliedPolicyCacheExpiryTime) {
+        this.appliedPolicyCacheExpiryTime = appliedPolicyCacheExpiryTime;
+    }
+
+    @XmlElement(name = "AppliedPolicyCacheCapacity")
+    public long getAppliedPolicyCacheCapacity() {
+        return appliedPolicyCacheCapacity;
+    }
+
+    public void setAppliedPolicyCacheCapacity(long appliedPolicyCacheCapacity) {
+        this.appliedPolicyCacheCapacity = appliedPolicyCacheCapacity;
+    }
+
 }
@@ -32,6 +32,8 @@ public class PushNotificationConfiguration {
     private int schedulerBatchDelayMills;
     private int schedulerTaskInitialDelay;
     private boolean schedulerTaskEnabled;
+    private int schedulerDispatchThreads = 10;
+    private int schedulerUpdateBatchSize = 500;
     private List<String> pushNotificationProviders;
     private List<ContextMetadata> contextMetadata;
 
@@ -71,6 +73,30 @@ public class PushNotificationConfiguration {
         this.schedulerTaskEnabled = schedulerTaskEnabled;
     }
 
+    /**
+     * @return Number of threads used by the scheduler task to send push notifications, per notification provider.
+     */
+    @XmlElement(name = "SchedulerDispatchThreads")
+    public int getSchedulerDispatchThreads() {
+        return schedulerDispatchThreads;
+    }
+
+    public void setSchedulerDispatchThreads(int schedulerDispatchThreads) {
+        this.schedulerDispatchThreads = schedulerDispatchThreads;
+    }
+
+    /**
+     * @return Number of sent notifications after which the scheduler task commits their operation mapping status.
+     */
+    @XmlElement(name = "SchedulerUpdateBatchSize")
+    public int getSchedulerUpdateBatchSize() {
+        return schedulerUpdateBatchSize;
+    }
+
+    public void setSchedulerUpdateBatchSize(int schedulerUpdateBatchSize) {
+        this.schedulerUpdateBatchSize = schedulerUpdateBatchSize;
+    }
+
     @XmlElementWrapper(name = "PushNotificationProviders", required = true)
     @XmlElement(name = "Provider", required = true)
     public List<String> getPushNotificationProviders() {
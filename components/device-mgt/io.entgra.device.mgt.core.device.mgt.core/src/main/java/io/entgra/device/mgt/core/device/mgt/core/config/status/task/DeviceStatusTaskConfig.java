@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 public class DeviceStatusTaskConfig {
 
     private boolean enabled;
+    private int batchSize = 1000;
+    private boolean setBasedUpdate = true;
 
     @XmlElement(name = "Enable", required = true)
     public boolean isEnabled() {
@@ -35,4 +37,29 @@ public class DeviceStatusTaskConfig {
         this.enabled = enabled;
     }
 
-}
\ No newline at end of file
+    /**
+     * @return Number of devices whose status is evaluated and updated in a single transaction.
+     */
+    @XmlElement(name = "BatchSize")
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return Whether the idle devices are transitioned with a single update statement per status instead of being
+     * read and updated page by page.
+     */
+    @XmlElement(name = "SetBasedUpdate")
+    public boolean isSetBasedUpdate() {
+        return setBasedUpdate;
+    }
+
+    public void setSetBasedUpdate(boolean setBasedUpdate) {
+        this.setBasedUpdate = setBasedUpdate;
+    }
+
+}
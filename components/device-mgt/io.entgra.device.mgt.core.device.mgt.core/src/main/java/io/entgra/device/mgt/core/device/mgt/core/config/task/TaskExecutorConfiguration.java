@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.config.task;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Configuration of the worker pool which executes the per tenant and per device type work units of the dynamically
+ * partitioned tasks, such as the policy delegation, policy monitoring and device status monitoring tasks.
+ */
+@XmlRootElement(name = "TaskExecutorConfiguration")
+public class TaskExecutorConfiguration {
+
+    private int parallelism = 1;
+    private int maxDatabaseConnections = 4;
+
+    /**
+     * Number of work units executed at the same time. Work units are executed one after another on the task thread
+     * when the parallelism is 1.
+     */
+    @XmlElement(name = "Parallelism")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Maximum number of work units, across all the tasks, which may hold a database connection at the same time.
+     * This should be kept well below the maximum pool size of the device management datasource.
+     */
+    @XmlElement(name = "MaxDatabaseConnections")
+    public int getMaxDatabaseConnections() {
+        return maxDatabaseConnections;
+    }
+
+    public void setMaxDatabaseConnections(int maxDatabaseConnections) {
+        this.maxDatabaseConnections = maxDatabaseConnections;
+    }
+}
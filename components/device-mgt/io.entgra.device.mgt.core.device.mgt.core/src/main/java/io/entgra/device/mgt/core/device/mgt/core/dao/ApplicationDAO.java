@@ -123,4 +123,22 @@ public interface ApplicationDAO {
      */
     List<Application> getInstalledApplicationListOnDevice(int deviceId, int enrolmentId, int tenantId)
             throws DeviceManagementDAOException;
+
+    /**
+     * This method is used to get the digest of the application list which was last saved for an enrolment.
+     * @param enrolmentId Enrolment ID of the device
+     * @param tenantId tenant ID
+     * @return Digest of the application list, or null if no application list was saved for the enrolment
+     * @throws DeviceManagementDAOException If any database error occurred
+     */
+    String getApplicationListDigest(int enrolmentId, int tenantId) throws DeviceManagementDAOException;
+
+    /**
+     * This method is used to save the digest of the application list which was saved for an enrolment.
+     * @param enrolmentId Enrolment ID of the device
+     * @param digest Digest of the application list
+     * @param tenantId tenant ID
+     * @throws DeviceManagementDAOException If any database error occurred
+     */
+    void saveApplicationListDigest(int enrolmentId, String digest, int tenantId) throws DeviceManagementDAOException;
 }
@@ -21,6 +21,7 @@ package io.entgra.device.mgt.core.device.mgt.core.dao;
 import io.entgra.device.mgt.core.device.mgt.common.Count;
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo.Status;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
@@ -445,6 +446,19 @@ public interface DeviceDAO {
     List<Device> getDevicesOfUser(String username, int tenantId, List<String> deviceStatuses)
             throws DeviceManagementDAOException;
 
+    /**
+     * This method is using to retrieve the identity of the devices of given users which are in one of the given
+     * statuses, without loading the device details.
+     *
+     * @param usernames Usernames of the owners
+     * @param deviceStatuses Device Statuses
+     * @param tenantId Tenant Id
+     * @return {@link DeviceRefList} of the devices
+     * @throws DeviceManagementDAOException if error occurred while getting devices from the database
+     */
+    DeviceRefList getDeviceRefsOfUsers(List<String> usernames, List<String> deviceStatuses, int tenantId)
+            throws DeviceManagementDAOException;
+
     /**
      * This method is used to retrieve the device count of a given tenant.
      *
@@ -636,6 +650,20 @@ public interface DeviceDAO {
     List<Device> getDevicesByIdentifiersAndStatuses(List<String> deviceIdentifiers, List<EnrolmentInfo.Status> statuses, int tenantId)
             throws DeviceManagementDAOException;
 
+    /**
+     * This method is used to retrieve the devices of a device type with the given device identifiers. Each device
+     * is returned with its latest enrolment, the same enrolment {@link #getDevice(DeviceIdentifier, int)} returns.
+     *
+     * @param deviceType        Device type of the devices.
+     * @param deviceIdentifiers List of device identifiers.
+     * @param tenantId          tenant id.
+     * @return returns list of devices that matches with device identifiers.
+     * @throws DeviceManagementDAOException throws {@link DeviceManagementDAOException} if connections establishment
+     * fails.
+     */
+    List<Device> getDevicesByIdentifiers(String deviceType, List<String> deviceIdentifiers, int tenantId)
+            throws DeviceManagementDAOException;
+
     /***
      * This method is used to permanently delete devices and their related details
      * @param deviceIdentifiers List of device identifiers.
@@ -754,6 +782,22 @@ public interface DeviceDAO {
                                                           int activeServerCount, int serverHashIndex)
             throws DeviceManagementDAOException;
 
+    /**
+     * Get a page of devices for monitoring, ordered by the device id
+     * @param deviceTypeId device type identifier
+     * @param deviceTypeName name of the type. (android, ios ...)
+     * @param activeServerCount Number of available servers
+     * @param serverHashIndex server index number
+     * @param lastDeviceId only devices with an id greater than this are returned
+     * @param limit maximum number of devices to return
+     * @return device monitoring data of the page
+     * @throws DeviceManagementDAOException
+     */
+    List<DeviceMonitoringData> getDevicesForMonitoring(int deviceTypeId, String deviceTypeName,
+                                                       int activeServerCount, int serverHashIndex,
+                                                       int lastDeviceId, int limit)
+            throws DeviceManagementDAOException;
+
     /**
      * Get a paginated list of devices filtered by given encryption status
      *
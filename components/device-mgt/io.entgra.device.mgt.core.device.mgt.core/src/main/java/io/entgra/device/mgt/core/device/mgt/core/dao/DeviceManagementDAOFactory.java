@@ -35,6 +35,7 @@ import io.entgra.device.mgt.core.device.mgt.core.dao.impl.device.OracleDeviceDAO
 import io.entgra.device.mgt.core.device.mgt.core.dao.impl.device.PostgreSQLDeviceDAOImpl;
 import io.entgra.device.mgt.core.device.mgt.core.dao.impl.device.SQLServerDeviceDAOImpl;
 import io.entgra.device.mgt.core.device.mgt.core.dao.impl.enrolment.GenericEnrollmentDAOImpl;
+import io.entgra.device.mgt.core.device.mgt.core.dao.impl.enrolment.PostgreSQLEnrollmentDAOImpl;
 import io.entgra.device.mgt.core.device.mgt.core.dao.impl.enrolment.SQLServerEnrollmentDAOImpl;
 import io.entgra.device.mgt.core.device.mgt.core.dao.impl.tracker.TrackerDAOImpl;
 import io.entgra.device.mgt.core.device.mgt.core.dao.util.DeviceManagementDAOUtil;
@@ -137,6 +138,7 @@ public class DeviceManagementDAOFactory {
                 case DeviceManagementConstants.DataBaseTypes.DB_TYPE_MSSQL:
                     return new SQLServerEnrollmentDAOImpl();
                 case DeviceManagementConstants.DataBaseTypes.DB_TYPE_POSTGRESQL:
+                    return new PostgreSQLEnrollmentDAOImpl();
                 case DeviceManagementConstants.DataBaseTypes.DB_TYPE_ORACLE:
                 case DeviceManagementConstants.DataBaseTypes.DB_TYPE_H2:
                 case DeviceManagementConstants.DataBaseTypes.DB_TYPE_MYSQL:
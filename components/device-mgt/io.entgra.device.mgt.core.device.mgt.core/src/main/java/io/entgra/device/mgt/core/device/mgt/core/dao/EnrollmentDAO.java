@@ -21,9 +21,11 @@ import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo.Status;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceMonitoringData;
 import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceDetailsDTO;
 import io.entgra.device.mgt.core.device.mgt.core.dto.OwnerWithDeviceDTO;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +38,23 @@ public interface EnrollmentDAO {
 
     boolean updateEnrollmentStatus(List<EnrolmentInfo> enrolmentInfos) throws DeviceManagementDAOException;
 
+    /**
+     * Moves the latest enrolments of idle devices of the given type to a new status with a single set-based update.
+     *
+     * @param deviceTypeId      id of the device type
+     * @param currentStatuses   only enrolments in one of these statuses are updated
+     * @param newStatus         status to set
+     * @param idleSince         enrolments which have not been updated since this time are considered idle
+     * @param activeServerCount number of active servers, or -1 if the task is not partitioned
+     * @param serverHashIndex   hash index of this server, or -1 if the task is not partitioned
+     * @return the updated enrolments along with their device and tenant
+     * @throws DeviceManagementDAOException if an error occurs while updating the enrolments
+     */
+    List<DeviceMonitoringData> updateIdleEnrollmentStatus(int deviceTypeId, List<Status> currentStatuses,
+                                                          Status newStatus, Timestamp idleSince,
+                                                          int activeServerCount, int serverHashIndex)
+            throws DeviceManagementDAOException;
+
     int removeEnrollment(int deviceId, String currentOwner, int tenantId) throws DeviceManagementDAOException;
 
     @Deprecated
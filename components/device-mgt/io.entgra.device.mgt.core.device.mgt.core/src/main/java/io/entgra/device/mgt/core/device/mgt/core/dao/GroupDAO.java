@@ -19,6 +19,7 @@
 package io.entgra.device.mgt.core.device.mgt.core.dao;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.GroupPaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.DeviceGroup;
@@ -360,6 +361,19 @@ public interface GroupDAO {
     List<Device> getAllDevicesOfGroup(String groupName, List<String> deviceStatuses, int tenantId)
             throws GroupManagementDAOException;
 
+    /**
+     * Get the identity of the devices that are in one of the given device statuses and belong to the given group,
+     * without loading the device details.
+     *
+     * @param groupName Group name
+     * @param deviceStatuses Device Statuses
+     * @param tenantId Tenant Id
+     * @return {@link DeviceRefList} of the devices
+     * @throws GroupManagementDAOException if error occurred while retrieving the devices of the group
+     */
+    DeviceRefList getDeviceRefsOfGroup(String groupName, List<String> deviceStatuses, int tenantId)
+            throws GroupManagementDAOException;
+
     List<Device> getAllDevicesOfGroup(String groupName, int tenantId) throws GroupManagementDAOException;
 
     /**
@@ -412,6 +426,49 @@ public interface GroupDAO {
      */
     List<Integer> getGroupIds(String[] roles, int tenantId) throws GroupManagementDAOException;
 
+    /**
+     * Get the ids of the given devices which belong to at least one device group shared with the given roles.
+     *
+     * @param deviceIds ids of the devices to be checked.
+     * @param roles     user roles which the groups are shared with.
+     * @param tenantId  of user's tenant.
+     * @return ids of the devices which are shared with the roles.
+     * @throws GroupManagementDAOException
+     */
+    List<Integer> getDeviceIdsSharedWithRoles(List<Integer> deviceIds, String[] roles, int tenantId)
+            throws GroupManagementDAOException;
+
+    /**
+     * Get the ids of the devices which belong to at least one of the given device groups.
+     *
+     * @param groupIds ids of the device groups.
+     * @param tenantId of user's tenant.
+     * @return ids of the devices in the groups.
+     * @throws GroupManagementDAOException
+     */
+    List<Integer> getDeviceIdsOfGroups(List<Integer> groupIds, int tenantId) throws GroupManagementDAOException;
+
+    /**
+     * Get the ids of the devices of a device type which do not belong to any device group.
+     *
+     * @param deviceType type of the devices.
+     * @param tenantId   of user's tenant.
+     * @return ids of the devices which are not in any group.
+     * @throws GroupManagementDAOException
+     */
+    List<Integer> getUngroupedDeviceIds(String deviceType, int tenantId) throws GroupManagementDAOException;
+
+    /**
+     * Get the groups of each of the given devices.
+     *
+     * @param deviceIds ids of the devices.
+     * @param tenantId  of user's tenant.
+     * @return groups of the devices, keyed by device id. Devices which are not in any group are not in the map.
+     * @throws GroupManagementDAOException
+     */
+    Map<Integer, List<DeviceGroup>> getGroupsOfDevices(List<Integer> deviceIds, int tenantId)
+            throws GroupManagementDAOException;
+
     /**
      * Get count of all device groups which shared with a user role.
      *
@@ -20,6 +20,7 @@ package io.entgra.device.mgt.core.device.mgt.core.dao.impl;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo.Status;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
@@ -1011,6 +1012,55 @@ public abstract class AbstractDeviceDAOImpl implements DeviceDAO {
         return devices;
     }
 
+    @Override
+    public DeviceRefList getDeviceRefsOfUsers(List<String> usernames, List<String> deviceStatuses, int tenantId)
+            throws DeviceManagementDAOException {
+        DeviceRefList.Builder builder = new DeviceRefList.Builder();
+        if (usernames.isEmpty() || deviceStatuses.isEmpty()) {
+            return builder.build();
+        }
+        StringJoiner ownerJoiner = new StringJoiner(", ", "LOWER(e.OWNER) IN (", ") ");
+        usernames.stream().map(ignored -> "LOWER(?)").forEach(ownerJoiner::add);
+        StringJoiner statusJoiner = new StringJoiner(", ", "e.STATUS IN (", ") ");
+        deviceStatuses.stream().map(ignored -> "?").forEach(statusJoiner::add);
+        String query = "SELECT "
+                + "e.DEVICE_ID, "
+                + "e.ID AS ENROLMENT_ID, "
+                + "d.DEVICE_IDENTIFICATION, "
+                + "e.DEVICE_TYPE, "
+                + "e.OWNER, "
+                + "e.STATUS "
+                + "FROM DM_ENROLMENT e "
+                + "INNER JOIN DM_DEVICE d ON d.ID = e.DEVICE_ID "
+                + "WHERE e.TENANT_ID = ? AND "
+                + ownerJoiner + "AND "
+                + statusJoiner
+                + "ORDER BY e.OWNER";
+        try {
+            Connection conn = this.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                int index = 1;
+                stmt.setInt(index++, tenantId);
+                for (String username : usernames) {
+                    stmt.setString(index++, username);
+                }
+                for (String status : deviceStatuses) {
+                    stmt.setString(index++, status);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        DeviceManagementDAOUtil.loadDeviceRef(rs, builder);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while fetching the device references of " + usernames.size() + " users";
+            log.error(msg, e);
+            throw new DeviceManagementDAOException(msg, e);
+        }
+        return builder.build();
+    }
+
     @Override
     public int getCountOfDevicesInGroup(PaginationRequest request, int tenantId)
             throws DeviceManagementDAOException {
@@ -2076,6 +2126,55 @@ public abstract class AbstractDeviceDAOImpl implements DeviceDAO {
         }
     }
 
+    @Override
+    public List<Device> getDevicesByIdentifiers(String deviceType, List<String> deviceIdentifiers, int tenantId)
+            throws DeviceManagementDAOException {
+        List<Device> devices = new ArrayList<>();
+        if (deviceIdentifiers.isEmpty()) {
+            return devices;
+        }
+        StringJoiner joiner = new StringJoiner(",",
+                "SELECT d1.ID AS DEVICE_ID, d1.DESCRIPTION, d1.NAME AS DEVICE_NAME, d1.LAST_UPDATED_TIMESTAMP, "
+                        + "e.DEVICE_TYPE, e.DEVICE_IDENTIFICATION, e.OWNER, e.OWNERSHIP, e.STATUS, e.IS_TRANSFERRED, "
+                        + "e.DATE_OF_LAST_UPDATE, e.DATE_OF_ENROLMENT, e.ID AS ENROLMENT_ID "
+                        + "FROM DM_ENROLMENT e, "
+                        + "(SELECT d.ID, d.DESCRIPTION, d.NAME, d.LAST_UPDATED_TIMESTAMP "
+                        + "FROM DM_DEVICE d WHERE d.DEVICE_IDENTIFICATION IN (",
+                ") AND d.TENANT_ID = ?) d1 "
+                        + "WHERE d1.ID = e.DEVICE_ID AND e.DEVICE_TYPE = ? AND TENANT_ID = ? "
+                        + "ORDER BY e.DEVICE_IDENTIFICATION, e.DATE_OF_LAST_UPDATE DESC, e.STATUS ASC");
+        for (int i = 0; i < deviceIdentifiers.size(); i++) {
+            joiner.add("?");
+        }
+        try {
+            Connection conn = this.getConnection();
+            try (PreparedStatement ps = conn.prepareStatement(joiner.toString())) {
+                int index = 1;
+                for (String identifier : deviceIdentifiers) {
+                    ps.setString(index++, identifier);
+                }
+                ps.setInt(index++, tenantId);
+                ps.setString(index++, deviceType);
+                ps.setInt(index, tenantId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    String lastIdentifier = null;
+                    while (rs.next()) {
+                        //Rows of a device are ordered with its latest enrolment first, hence the rest are skipped.
+                        String identifier = rs.getString("DEVICE_IDENTIFICATION");
+                        if (!identifier.equals(lastIdentifier)) {
+                            devices.add(DeviceManagementDAOUtil.loadMatchingDevice(rs, false));
+                            lastIdentifier = identifier;
+                        }
+                    }
+                }
+            }
+            return devices;
+        } catch (SQLException e) {
+            throw new DeviceManagementDAOException("Error occurred while retrieving devices of type '" + deviceType
+                    + "' for the given device identifiers.", e);
+        }
+    }
+
     @Override
     public List<Device> getDevicesByIdentifiersAndStatuses(List<String> deviceIdentifiers,
                                                            List<EnrolmentInfo.Status> statuses, int tenantId)
@@ -2228,6 +2327,7 @@ public abstract class AbstractDeviceDAOImpl implements DeviceDAO {
                             "identifiers: " + deviceIdentifiers);
                 }
                 removeEnrollmentDeviceDetail(conn, enrollmentIds);
+                removeEnrollmentApplicationListDigest(conn, enrollmentIds);
                 removeEnrollmentDeviceLocation(conn, enrollmentIds);
                 removeEnrollmentDeviceInfo(conn, enrollmentIds);
                 removeDeviceLargeOperationResponse(conn, enrollmentIds);
@@ -2648,6 +2748,30 @@ public abstract class AbstractDeviceDAOImpl implements DeviceDAO {
         }
     }
 
+    /***
+     * This method removes records of a given list of enrollments from the DM_APP_INVENTORY_DIGEST table
+     * @param conn Connection object
+     * @param enrollmentIds list of enrollment ids (primary keys)
+     * @throws DeviceManagementDAOException if deletion fails
+     */
+    private void removeEnrollmentApplicationListDigest(Connection conn, List<Integer> enrollmentIds)
+            throws DeviceManagementDAOException {
+        String sql = "DELETE FROM DM_APP_INVENTORY_DIGEST WHERE ENROLMENT_ID = ?";
+        try {
+            if (!executeBatchOperation(conn, sql, enrollmentIds)) {
+                String msg = "Failed to remove application list digests of devices with enrollmentIds : "
+                        + enrollmentIds + " while executing batch operation";
+                log.error(msg);
+                throw new DeviceManagementDAOException(msg);
+            }
+        } catch (SQLException e) {
+            String msg = "SQL error occurred while removing application list digests of devices with enrollmentIds : "
+                    + enrollmentIds;
+            log.error(msg, e);
+            throw new DeviceManagementDAOException(msg, e);
+        }
+    }
+
     /***
      * This method removes records of a given list of enrollments from the DM_DEVICE_LOCATION table
      * @param conn Connection object
@@ -3008,29 +3132,7 @@ public abstract class AbstractDeviceDAOImpl implements DeviceDAO {
             int deviceTypeId, String deviceTypeName, int activeServerCount, int serverHashIndex)
             throws DeviceManagementDAOException {
         List<DeviceMonitoringData> devices = new ArrayList<>();
-
-        String sql = "SELECT D.ID AS DEVICE_ID," +
-                " D.NAME AS DEVICE_NAME, " +
-                " D.DESCRIPTION AS DESCRIPTION," +
-                " D.DEVICE_IDENTIFICATION, " +
-                " D.LAST_UPDATED_TIMESTAMP, " +
-                " D.TENANT_ID, " +
-                " E.ENROLMENT_ID, " +
-                " EN.OWNER, " +
-                " EN.OWNERSHIP, " +
-                " EN.IS_TRANSFERRED, " +
-                " EN.DATE_OF_ENROLMENT, " +
-                " EN.DATE_OF_LAST_UPDATE, " +
-                " EN.STATUS " +
-                "FROM DM_DEVICE D, DM_ENROLMENT EN," +
-                " (SELECT DEVICE_ID, MAX(ID) AS ENROLMENT_ID" +
-                " FROM DM_ENROLMENT" +
-                " WHERE STATUS IN ('ACTIVE', 'UNREACHABLE') " +
-                " GROUP BY DEVICE_ID) E" +
-                " WHERE D.ID = E.DEVICE_ID AND E.ENROLMENT_ID = EN.ID AND D.DEVICE_TYPE_ID = ?";
-        if (activeServerCount > 0) {
-            sql += " AND MOD(D.ID, ?) = ?";
-        }
+        String sql = getDevicesForMonitoringQuery(activeServerCount, false);
 
         try {
             Connection conn = this.getConnection();
@@ -3055,6 +3157,100 @@ public abstract class AbstractDeviceDAOImpl implements DeviceDAO {
         }
     }
 
+    @Override
+    public List<DeviceMonitoringData> getDevicesForMonitoring(
+            int deviceTypeId, String deviceTypeName, int activeServerCount, int serverHashIndex,
+            int lastDeviceId, int limit) throws DeviceManagementDAOException {
+        List<DeviceMonitoringData> devices = new ArrayList<>();
+        //The page is limited on the device ids first, so that only the enrolments of the devices in the page are
+        //grouped instead of those of all the devices after the offset
+        String pageSql = "SELECT DEV.ID FROM DM_DEVICE DEV WHERE DEV.DEVICE_TYPE_ID = ? AND DEV.ID > ?";
+        if (activeServerCount > 0) {
+            pageSql += " AND MOD(DEV.ID, ?) = ?";
+        }
+        pageSql += " AND EXISTS (SELECT 1 FROM DM_ENROLMENT ENR WHERE ENR.DEVICE_ID = DEV.ID" +
+                " AND ENR.STATUS IN ('ACTIVE', 'UNREACHABLE')) ORDER BY DEV.ID";
+        String sql = getDevicesForMonitoringQuery(activeServerCount, true) + " ORDER BY D.ID";
+
+        try {
+            Connection conn = this.getConnection();
+            int pageLastDeviceId = -1;
+            try (PreparedStatement stmt = conn.prepareStatement(pageSql)) {
+                int paramIdx = 1;
+                stmt.setMaxRows(limit);
+                stmt.setInt(paramIdx++, deviceTypeId);
+                stmt.setInt(paramIdx++, lastDeviceId);
+                if (activeServerCount > 0) {
+                    stmt.setInt(paramIdx++, activeServerCount);
+                    stmt.setInt(paramIdx, serverHashIndex);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        pageLastDeviceId = rs.getInt("ID");
+                    }
+                }
+            }
+            if (pageLastDeviceId == -1) {
+                return devices;
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int paramIdx = 1;
+                stmt.setInt(paramIdx++, deviceTypeId);
+                stmt.setInt(paramIdx++, lastDeviceId);
+                stmt.setInt(paramIdx++, pageLastDeviceId);
+                if (activeServerCount > 0) {
+                    stmt.setInt(paramIdx++, activeServerCount);
+                    stmt.setInt(paramIdx, serverHashIndex);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        devices.add(DeviceManagementDAOUtil.loadDevice(rs, deviceTypeName));
+                    }
+                    return devices;
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while retrieving devices for monitoring after device id " + lastDeviceId;
+            log.error(msg, e);
+            throw new DeviceManagementDAOException(msg, e);
+        }
+    }
+
+    /**
+     * Builds the query of the devices to be monitored. The device type, the server hash and, for a page, the device id
+     * range filters are applied inside the derived table, so that only the enrolments of the matching devices are
+     * grouped.
+     */
+    private String getDevicesForMonitoringQuery(int activeServerCount, boolean deviceIdRange) {
+        String sql = "SELECT D.ID AS DEVICE_ID," +
+                " D.NAME AS DEVICE_NAME, " +
+                " D.DESCRIPTION AS DESCRIPTION," +
+                " D.DEVICE_IDENTIFICATION, " +
+                " D.LAST_UPDATED_TIMESTAMP, " +
+                " D.TENANT_ID, " +
+                " E.ENROLMENT_ID, " +
+                " EN.OWNER, " +
+                " EN.OWNERSHIP, " +
+                " EN.IS_TRANSFERRED, " +
+                " EN.DATE_OF_ENROLMENT, " +
+                " EN.DATE_OF_LAST_UPDATE, " +
+                " EN.STATUS " +
+                "FROM DM_DEVICE D, DM_ENROLMENT EN," +
+                " (SELECT ENR.DEVICE_ID, MAX(ENR.ID) AS ENROLMENT_ID" +
+                " FROM DM_ENROLMENT ENR, DM_DEVICE DEV" +
+                " WHERE ENR.DEVICE_ID = DEV.ID AND DEV.DEVICE_TYPE_ID = ?" +
+                " AND ENR.STATUS IN ('ACTIVE', 'UNREACHABLE')";
+        if (deviceIdRange) {
+            sql += " AND ENR.DEVICE_ID > ? AND ENR.DEVICE_ID <= ?";
+        }
+        if (activeServerCount > 0) {
+            sql += " AND MOD(ENR.DEVICE_ID, ?) = ?";
+        }
+        return sql + " GROUP BY ENR.DEVICE_ID) E" +
+                " WHERE D.ID = E.DEVICE_ID AND E.ENROLMENT_ID = EN.ID";
+    }
+
     @Override
     public int getGroupedDevicesCount(PaginationRequest request, List<Integer> deviceIds, String groupName,
                                       int tenantId) throws DeviceManagementDAOException {
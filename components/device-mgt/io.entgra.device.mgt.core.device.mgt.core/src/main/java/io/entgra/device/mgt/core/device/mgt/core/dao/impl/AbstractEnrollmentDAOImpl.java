@@ -21,6 +21,7 @@ import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceManagementConstants;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceMonitoringData;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.dao.EnrollmentDAO;
@@ -40,6 +41,7 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.StringJoiner;
 
 public abstract class AbstractEnrollmentDAOImpl implements EnrollmentDAO {
     private static final Log log = LogFactory.getLog(AbstractEnrollmentDAOImpl.class);
@@ -144,6 +146,131 @@ public abstract class AbstractEnrollmentDAOImpl implements EnrollmentDAO {
         return status;
     }
 
+    /**
+     * Updates the idle enrolments with a single statement and then reads them back by the new status and the update
+     * time written by that statement, since a multi-row RETURNING clause is not available on every supported
+     * database. The update time is truncated to seconds so that it matches columns which do not store fractional
+     * seconds.
+     */
+    @Override
+    public List<DeviceMonitoringData> updateIdleEnrollmentStatus(int deviceTypeId, List<EnrolmentInfo.Status>
+            currentStatuses, EnrolmentInfo.Status newStatus, Timestamp idleSince, int activeServerCount,
+                                                                 int serverHashIndex)
+            throws DeviceManagementDAOException {
+        List<DeviceMonitoringData> updatedEnrolments = new ArrayList<>();
+        if (currentStatuses.isEmpty()) {
+            return updatedEnrolments;
+        }
+        Timestamp updateTime = new Timestamp(System.currentTimeMillis() / 1000 * 1000);
+        String updateSql = "UPDATE DM_ENROLMENT SET STATUS = ?, DATE_OF_LAST_UPDATE = ? WHERE " +
+                getIdleEnrollmentFilter(currentStatuses.size(), activeServerCount);
+        String selectSql = "SELECT ID AS ENROLMENT_ID, DEVICE_ID, TENANT_ID, DEVICE_IDENTIFICATION " +
+                "FROM DM_ENROLMENT WHERE STATUS = ? AND DATE_OF_LAST_UPDATE = ? AND DEVICE_ID IN " +
+                "(SELECT DEV.ID FROM DM_DEVICE DEV WHERE DEV.DEVICE_TYPE_ID = ?";
+        if (activeServerCount > 0) {
+            selectSql += " AND " + getServerHashCondition();
+        }
+        selectSql += ")";
+        try {
+            Connection conn = this.getConnection();
+            int updatedCount;
+            try (PreparedStatement stmt = conn.prepareStatement(updateSql)) {
+                stmt.setString(1, newStatus.toString());
+                stmt.setTimestamp(2, updateTime);
+                setIdleEnrollmentFilterParams(stmt, 3, deviceTypeId, currentStatuses, idleSince,
+                        activeServerCount, serverHashIndex);
+                updatedCount = stmt.executeUpdate();
+            }
+            if (updatedCount == 0) {
+                return updatedEnrolments;
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(selectSql)) {
+                stmt.setString(1, newStatus.toString());
+                stmt.setTimestamp(2, updateTime);
+                stmt.setInt(3, deviceTypeId);
+                if (activeServerCount > 0) {
+                    stmt.setInt(4, activeServerCount);
+                    stmt.setInt(5, serverHashIndex);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        updatedEnrolments.add(loadIdleEnrolment(rs, newStatus));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DeviceManagementDAOException("Error occurred while updating the status of idle enrolments " +
+                    "of device type " + deviceTypeId + " to " + newStatus, e);
+        }
+        return updatedEnrolments;
+    }
+
+    /**
+     * Builds the filter of {@link #updateIdleEnrollmentStatus} over the updated DM_ENROLMENT table, which matches the
+     * latest enrolment of each device of the given type when it is in one of the given statuses and has not been
+     * updated since the idle time. The latest enrolments are selected through a grouped derived table, so that the
+     * updated table is not referenced directly by the subquery.
+     */
+    protected String getIdleEnrollmentFilter(int statusCount, int activeServerCount) {
+        String filter = "STATUS IN " + getPlaceholders(statusCount) + " AND DATE_OF_LAST_UPDATE < ? " +
+                "AND ID IN (SELECT LATEST.ENROLMENT_ID FROM (SELECT MAX(ENR.ID) AS ENROLMENT_ID " +
+                "FROM DM_ENROLMENT ENR, DM_DEVICE DEV WHERE ENR.DEVICE_ID = DEV.ID AND DEV.DEVICE_TYPE_ID = ?";
+        if (activeServerCount > 0) {
+            filter += " AND " + getServerHashCondition();
+        }
+        return filter + " GROUP BY ENR.DEVICE_ID) LATEST)";
+    }
+
+    /**
+     * Condition over the device alias DEV which assigns a device to the server with the given hash index, when the
+     * task is partitioned.
+     */
+    protected String getServerHashCondition() {
+        return "MOD(DEV.ID, ?) = ?";
+    }
+
+    protected String getPlaceholders(int count) {
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        for (int i = 0; i < count; i++) {
+            placeholders.add("?");
+        }
+        return placeholders.toString();
+    }
+
+    /**
+     * Sets the parameters of the idle enrolment filter in the order of the enrolment statuses, the idle time, the
+     * device type id and, if the task is partitioned, the active server count and the server hash index.
+     */
+    protected int setIdleEnrollmentFilterParams(PreparedStatement stmt, int paramIdx, int deviceTypeId,
+                                                List<EnrolmentInfo.Status> currentStatuses, Timestamp idleSince,
+                                                int activeServerCount, int serverHashIndex) throws SQLException {
+        for (EnrolmentInfo.Status status : currentStatuses) {
+            stmt.setString(paramIdx++, status.toString());
+        }
+        stmt.setTimestamp(paramIdx++, idleSince);
+        stmt.setInt(paramIdx++, deviceTypeId);
+        if (activeServerCount > 0) {
+            stmt.setInt(paramIdx++, activeServerCount);
+            stmt.setInt(paramIdx++, serverHashIndex);
+        }
+        return paramIdx;
+    }
+
+    protected DeviceMonitoringData loadIdleEnrolment(ResultSet rs, EnrolmentInfo.Status newStatus)
+            throws SQLException {
+        EnrolmentInfo enrolmentInfo = new EnrolmentInfo();
+        enrolmentInfo.setId(rs.getInt("ENROLMENT_ID"));
+        enrolmentInfo.setStatus(newStatus);
+        Device device = new Device();
+        device.setId(rs.getInt("DEVICE_ID"));
+        device.setDeviceIdentifier(rs.getString("DEVICE_IDENTIFICATION"));
+        device.setEnrolmentInfo(enrolmentInfo);
+        DeviceMonitoringData deviceMonitoringData = new DeviceMonitoringData();
+        deviceMonitoringData.setTenantId(rs.getInt("TENANT_ID"));
+        deviceMonitoringData.setDevice(device);
+        return deviceMonitoringData;
+    }
+
     @Override
     public int removeEnrollment(int deviceId, String currentOwner,
                                 int tenantId) throws DeviceManagementDAOException {
@@ -19,6 +19,7 @@
 package io.entgra.device.mgt.core.device.mgt.core.dao.impl;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.GroupPaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.DeviceGroup;
@@ -1149,6 +1150,143 @@ public abstract class AbstractGroupDAOImpl implements GroupDAO {
         return deviceGroupIdList;
     }
 
+    @Override
+    public List<Integer> getDeviceIdsSharedWithRoles(List<Integer> deviceIds, String[] roles, int tenantId)
+            throws GroupManagementDAOException {
+        List<Integer> sharedDeviceIds = new ArrayList<>();
+        if (deviceIds.isEmpty() || roles.length == 0) {
+            return sharedDeviceIds;
+        }
+        StringJoiner deviceIdJoiner = new StringJoiner(",", "(", ")");
+        for (int i = 0; i < deviceIds.size(); i++) {
+            deviceIdJoiner.add("?");
+        }
+        StringJoiner roleJoiner = new StringJoiner(",", "(", ")");
+        for (int i = 0; i < roles.length; i++) {
+            roleJoiner.add("?");
+        }
+        String sql = "SELECT DISTINCT gm.DEVICE_ID FROM DM_DEVICE_GROUP_MAP gm, DM_ROLE_GROUP_MAP rg " +
+                "WHERE gm.GROUP_ID = rg.GROUP_ID AND gm.DEVICE_ID IN " + deviceIdJoiner +
+                " AND rg.ROLE IN " + roleJoiner + " AND gm.TENANT_ID = ? AND rg.TENANT_ID = ?";
+        try {
+            Connection conn = GroupManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Integer deviceId : deviceIds) {
+                    stmt.setInt(index++, deviceId);
+                }
+                for (String role : roles) {
+                    stmt.setString(index++, role);
+                }
+                stmt.setInt(index++, tenantId);
+                stmt.setInt(index, tenantId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        sharedDeviceIds.add(resultSet.getInt("DEVICE_ID"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new GroupManagementDAOException("Error occurred while retrieving the devices shared with roles " +
+                    "in tenant: " + tenantId, e);
+        }
+        return sharedDeviceIds;
+    }
+
+    @Override
+    public List<Integer> getDeviceIdsOfGroups(List<Integer> groupIds, int tenantId)
+            throws GroupManagementDAOException {
+        List<Integer> deviceIds = new ArrayList<>();
+        if (groupIds.isEmpty()) {
+            return deviceIds;
+        }
+        StringJoiner groupIdJoiner = new StringJoiner(",", "(", ")");
+        for (int i = 0; i < groupIds.size(); i++) {
+            groupIdJoiner.add("?");
+        }
+        String sql = "SELECT DISTINCT DEVICE_ID FROM DM_DEVICE_GROUP_MAP WHERE GROUP_ID IN " + groupIdJoiner +
+                " AND TENANT_ID = ?";
+        try {
+            Connection conn = GroupManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Integer groupId : groupIds) {
+                    stmt.setInt(index++, groupId);
+                }
+                stmt.setInt(index, tenantId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        deviceIds.add(resultSet.getInt("DEVICE_ID"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new GroupManagementDAOException("Error occurred while retrieving the devices of groups " +
+                    groupIds + " in tenant: " + tenantId, e);
+        }
+        return deviceIds;
+    }
+
+    @Override
+    public List<Integer> getUngroupedDeviceIds(String deviceType, int tenantId) throws GroupManagementDAOException {
+        List<Integer> deviceIds = new ArrayList<>();
+        String sql = "SELECT d.ID FROM DM_DEVICE d, DM_DEVICE_TYPE t WHERE d.DEVICE_TYPE_ID = t.ID " +
+                "AND t.NAME = ? AND d.TENANT_ID = ? AND NOT EXISTS " +
+                "(SELECT 1 FROM DM_DEVICE_GROUP_MAP gm WHERE gm.DEVICE_ID = d.ID)";
+        try {
+            Connection conn = GroupManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, deviceType);
+                stmt.setInt(2, tenantId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        deviceIds.add(resultSet.getInt("ID"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new GroupManagementDAOException("Error occurred while retrieving the ungrouped devices of type " +
+                    deviceType + " in tenant: " + tenantId, e);
+        }
+        return deviceIds;
+    }
+
+    @Override
+    public Map<Integer, List<DeviceGroup>> getGroupsOfDevices(List<Integer> deviceIds, int tenantId)
+            throws GroupManagementDAOException {
+        Map<Integer, List<DeviceGroup>> deviceGroups = new HashMap<>();
+        if (deviceIds.isEmpty()) {
+            return deviceGroups;
+        }
+        StringJoiner deviceIdJoiner = new StringJoiner(",", "(", ")");
+        for (int i = 0; i < deviceIds.size(); i++) {
+            deviceIdJoiner.add("?");
+        }
+        String sql = "SELECT GM.DEVICE_ID, G.ID, G.GROUP_NAME, G.DESCRIPTION, G.OWNER, G.STATUS, G.PARENT_PATH, " +
+                "G.PARENT_GROUP_ID FROM DM_GROUP G INNER JOIN DM_DEVICE_GROUP_MAP GM ON G.ID = GM.GROUP_ID " +
+                "WHERE GM.DEVICE_ID IN " + deviceIdJoiner + " AND GM.TENANT_ID = ?";
+        try {
+            Connection conn = GroupManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Integer deviceId : deviceIds) {
+                    stmt.setInt(index++, deviceId);
+                }
+                stmt.setInt(index, tenantId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        deviceGroups.computeIfAbsent(resultSet.getInt("DEVICE_ID"), k -> new ArrayList<>())
+                                .add(GroupManagementDAOUtil.loadGroup(resultSet));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new GroupManagementDAOException("Error occurred while retrieving the groups of devices in tenant: "
+                    + tenantId, e);
+        }
+        return deviceGroups;
+    }
+
     @Override
     public int getGroupsCount(String[] roles, int tenantId, String parentPath) throws GroupManagementDAOException {
         int rolesCount = roles.length;
@@ -1335,6 +1473,51 @@ public abstract class AbstractGroupDAOImpl implements GroupDAO {
         return devices;
     }
 
+    @Override
+    public DeviceRefList getDeviceRefsOfGroup(String groupName, List<String> deviceStatuses, int tenantId)
+            throws GroupManagementDAOException {
+        DeviceRefList.Builder builder = new DeviceRefList.Builder();
+        if (deviceStatuses.isEmpty()) {
+            return builder.build();
+        }
+        StringJoiner joiner = new StringJoiner(", ", "SELECT "
+                + "e.DEVICE_ID, "
+                + "e.ID AS ENROLMENT_ID, "
+                + "d.DEVICE_IDENTIFICATION, "
+                + "e.DEVICE_TYPE, "
+                + "e.OWNER, "
+                + "e.STATUS "
+                + "FROM DM_GROUP g "
+                + "INNER JOIN DM_DEVICE_GROUP_MAP dgm ON dgm.GROUP_ID = g.ID "
+                + "INNER JOIN DM_DEVICE d ON d.ID = dgm.DEVICE_ID "
+                + "INNER JOIN DM_ENROLMENT e ON e.DEVICE_ID = d.ID "
+                + "WHERE g.GROUP_NAME = ? AND g.TENANT_ID = ? AND d.TENANT_ID = ? AND e.TENANT_ID = ? "
+                + "AND e.STATUS IN (", ")");
+        deviceStatuses.stream().map(ignored -> "?").forEach(joiner::add);
+        try {
+            Connection conn = GroupManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(joiner.toString())) {
+                int index = 1;
+                stmt.setString(index++, groupName);
+                stmt.setInt(index++, tenantId);
+                stmt.setInt(index++, tenantId);
+                stmt.setInt(index++, tenantId);
+                for (String status : deviceStatuses) {
+                    stmt.setString(index++, status);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        DeviceManagementDAOUtil.loadDeviceRef(rs, builder);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while fetching the device references of the group '" + groupName + "'";
+            log.error(msg, e);
+            throw new GroupManagementDAOException(msg, e);
+        }
+        return builder.build();
+    }
 
     @Override
     public List<Device> getAllDevicesOfGroup(String groupName, int tenantId) throws GroupManagementDAOException {
@@ -655,4 +655,58 @@ public class ApplicationDAOImpl implements ApplicationDAO {
         }
         return applicationList;
     }
+
+    @Override
+    public String getApplicationListDigest(int enrolmentId, int tenantId) throws DeviceManagementDAOException {
+        String sql = "SELECT DIGEST FROM DM_APP_INVENTORY_DIGEST WHERE ENROLMENT_ID = ? AND TENANT_ID = ?";
+        try {
+            Connection conn = this.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, enrolmentId);
+                stmt.setInt(2, tenantId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getString("DIGEST");
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "SQL Error occurred while retrieving the application list digest of enrolment " + enrolmentId;
+            log.error(msg, e);
+            throw new DeviceManagementDAOException(msg, e);
+        }
+        return null;
+    }
+
+    @Override
+    public void saveApplicationListDigest(int enrolmentId, String digest, int tenantId)
+            throws DeviceManagementDAOException {
+        long timestamp = System.currentTimeMillis();
+        try {
+            Connection conn = this.getConnection();
+            int updatedRows;
+            try (PreparedStatement stmt = conn.prepareStatement("UPDATE DM_APP_INVENTORY_DIGEST SET DIGEST = ?, " +
+                    "LAST_UPDATED_TIMESTAMP = ? WHERE ENROLMENT_ID = ? AND TENANT_ID = ?")) {
+                stmt.setString(1, digest);
+                stmt.setLong(2, timestamp);
+                stmt.setInt(3, enrolmentId);
+                stmt.setInt(4, tenantId);
+                updatedRows = stmt.executeUpdate();
+            }
+            if (updatedRows == 0) {
+                try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO DM_APP_INVENTORY_DIGEST " +
+                        "(ENROLMENT_ID, DIGEST, TENANT_ID, LAST_UPDATED_TIMESTAMP) VALUES (?, ?, ?, ?)")) {
+                    stmt.setInt(1, enrolmentId);
+                    stmt.setString(2, digest);
+                    stmt.setInt(3, tenantId);
+                    stmt.setLong(4, timestamp);
+                    stmt.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "SQL Error occurred while saving the application list digest of enrolment " + enrolmentId;
+            log.error(msg, e);
+            throw new DeviceManagementDAOException(msg, e);
+        }
+    }
 }
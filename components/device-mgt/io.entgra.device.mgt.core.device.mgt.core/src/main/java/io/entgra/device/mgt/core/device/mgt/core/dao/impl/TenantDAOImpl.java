@@ -249,6 +249,11 @@ public class TenantDAOImpl implements TenantDAO {
                 stmt.setInt(1, tenantId);
                 stmt.executeUpdate();
             }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "DELETE FROM DM_APP_INVENTORY_DIGEST WHERE TENANT_ID = ?")) {
+                stmt.setInt(1, tenantId);
+                stmt.executeUpdate();
+            }
         } catch (SQLException e) {
             String msg = "Error occurred while deleting applications for Tenant ID " + tenantId;
             log.error(msg, e);
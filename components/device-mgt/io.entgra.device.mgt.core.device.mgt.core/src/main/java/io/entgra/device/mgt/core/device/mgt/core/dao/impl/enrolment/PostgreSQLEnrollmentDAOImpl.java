@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.entgra.device.mgt.core.device.mgt.core.dao.impl.enrolment;
+
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceMonitoringData;
+import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOException;
+import io.entgra.device.mgt.core.device.mgt.core.dao.impl.AbstractEnrollmentDAOImpl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class PostgreSQLEnrollmentDAOImpl extends AbstractEnrollmentDAOImpl {
+
+    @Override
+    public List<DeviceMonitoringData> updateIdleEnrollmentStatus(int deviceTypeId, List<EnrolmentInfo.Status>
+            currentStatuses, EnrolmentInfo.Status newStatus, Timestamp idleSince, int activeServerCount,
+                                                                 int serverHashIndex)
+            throws DeviceManagementDAOException {
+        List<DeviceMonitoringData> updatedEnrolments = new ArrayList<>();
+        if (currentStatuses.isEmpty()) {
+            return updatedEnrolments;
+        }
+        String sql = "UPDATE DM_ENROLMENT SET STATUS = ?, DATE_OF_LAST_UPDATE = ? WHERE " +
+                getIdleEnrollmentFilter(currentStatuses.size(), activeServerCount) +
+                " RETURNING ID AS ENROLMENT_ID, DEVICE_ID, TENANT_ID, DEVICE_IDENTIFICATION";
+        try {
+            Connection conn = getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, newStatus.toString());
+                stmt.setTimestamp(2, new Timestamp(new Date().getTime()));
+                setIdleEnrollmentFilterParams(stmt, 3, deviceTypeId, currentStatuses, idleSince,
+                        activeServerCount, serverHashIndex);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        updatedEnrolments.add(loadIdleEnrolment(rs, newStatus));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DeviceManagementDAOException("Error occurred while updating the status of idle enrolments " +
+                    "of device type " + deviceTypeId + " to " + newStatus, e);
+        }
+        return updatedEnrolments;
+    }
+}
@@ -19,6 +19,7 @@ package io.entgra.device.mgt.core.device.mgt.core.dao.impl.enrolment;
 
 import io.entgra.device.mgt.core.device.mgt.common.DeviceManagementConstants;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceMonitoringData;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.dao.impl.AbstractEnrollmentDAOImpl;
 import io.entgra.device.mgt.core.device.mgt.core.dao.util.DeviceManagementDAOUtil;
@@ -29,7 +30,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 public class SQLServerEnrollmentDAOImpl extends AbstractEnrollmentDAOImpl {
 
@@ -94,4 +97,42 @@ public class SQLServerEnrollmentDAOImpl extends AbstractEnrollmentDAOImpl {
         return true;
     }
 
+    @Override
+    public List<DeviceMonitoringData> updateIdleEnrollmentStatus(int deviceTypeId, List<EnrolmentInfo.Status>
+            currentStatuses, EnrolmentInfo.Status newStatus, Timestamp idleSince, int activeServerCount,
+                                                                 int serverHashIndex)
+            throws DeviceManagementDAOException {
+        List<DeviceMonitoringData> updatedEnrolments = new ArrayList<>();
+        if (currentStatuses.isEmpty()) {
+            return updatedEnrolments;
+        }
+        String sql = "UPDATE DM_ENROLMENT SET STATUS = ?, DATE_OF_LAST_UPDATE = ? " +
+                "OUTPUT INSERTED.ID AS ENROLMENT_ID, INSERTED.DEVICE_ID, INSERTED.TENANT_ID, " +
+                "INSERTED.DEVICE_IDENTIFICATION WHERE " +
+                getIdleEnrollmentFilter(currentStatuses.size(), activeServerCount);
+        try {
+            Connection conn = getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, newStatus.toString());
+                stmt.setTimestamp(2, new Timestamp(new Date().getTime()));
+                setIdleEnrollmentFilterParams(stmt, 3, deviceTypeId, currentStatuses, idleSince,
+                        activeServerCount, serverHashIndex);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        updatedEnrolments.add(loadIdleEnrolment(rs, newStatus));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DeviceManagementDAOException("Error occurred while updating the status of idle enrolments " +
+                    "of device type " + deviceTypeId + " to " + newStatus, e);
+        }
+        return updatedEnrolments;
+    }
+
+    @Override
+    protected String getServerHashCondition() {
+        return "DEV.ID % ? = ?";
+    }
+
 }
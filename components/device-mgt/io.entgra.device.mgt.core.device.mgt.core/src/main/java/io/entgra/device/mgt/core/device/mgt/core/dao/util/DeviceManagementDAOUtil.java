@@ -19,6 +19,7 @@ package io.entgra.device.mgt.core.device.mgt.core.dao.util;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceInfo;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceLocationHistorySnapshot;
@@ -257,6 +258,16 @@ public final class DeviceManagementDAOUtil {
         return device;
     }
 
+    /**
+     * Add the device of the current row to the given device reference list. Only the id, enrolment id, identifier,
+     * type, owner and status of the device are read.
+     */
+    public static void loadDeviceRef(ResultSet rs, DeviceRefList.Builder builder) throws SQLException {
+        builder.add(rs.getInt("DEVICE_ID"), rs.getInt("ENROLMENT_ID"), rs.getString("DEVICE_IDENTIFICATION"),
+                rs.getString("DEVICE_TYPE"), rs.getString("OWNER"),
+                EnrolmentInfo.Status.valueOf(rs.getString("STATUS")));
+    }
+
     /* This is used to set the device data of the billing query */
     public static Device loadDeviceBilling(ResultSet rs) throws SQLException {
         Device device = new Device();
@@ -25,6 +25,7 @@ import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceInfo;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceLocation;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class will manage the storing of device details related generic information such as cpu/memory utilization, battery level,
@@ -111,6 +112,19 @@ public interface DeviceInformationManager {
      int publishEvents(String deviceId, String deviceType, String payload, String eventType)
              throws DeviceDetailsMgtException;
 
+    /**
+     * Send events to reporting backend without blocking the calling thread
+     * @param deviceId device identifier of the reporting device
+     * @param deviceType device type of an device
+     * @param payload payload of the event
+     * @param eventType Event type being sent
+     * @return Future which completes with the Http status code, with 0 if publishing is disabled, or exceptionally
+     * if the call failed or did not complete within the configured publish timeout
+     * @throws DeviceDetailsMgtException if the device could not be retrieved
+     */
+    CompletableFuture<Integer> publishEventsAsync(String deviceId, String deviceType, String payload,
+                                                  String eventType) throws DeviceDetailsMgtException;
+
 //    /**
 //     * This method will manage the storing of device application list.
 //     * @param deviceApplication - Device application list.
@@ -22,6 +22,7 @@ package io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao;
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceInfo;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceLocation;
+import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceLocationDTO;
 
 import java.util.List;
 import java.util.Map;
@@ -139,4 +140,19 @@ public interface DeviceDetailsDAO {
     void updateDeviceInformation(int deviceId, int enrollmentId, DeviceInfo newDeviceInfo) throws DeviceDetailsMgtDAOException;
 
     void updateDeviceLocation(DeviceLocation deviceLocation, int enrollmentId) throws DeviceDetailsMgtDAOException;
+
+    /**
+     * Update the latest locations of the given enrolments in a single batch, adding the locations of the enrolments
+     * which do not have a location yet.
+     * @param deviceLocations Latest location of each enrolment, keyed by the enrolment id
+     * @throws DeviceDetailsMgtDAOException
+     */
+    void updateDeviceLocations(Map<Integer, DeviceLocation> deviceLocations) throws DeviceDetailsMgtDAOException;
+
+    /**
+     * Add the location history of several devices, possibly of different tenants, in a single batch.
+     * @param deviceLocations Device location fixes
+     * @throws DeviceDetailsMgtDAOException
+     */
+    void addDeviceLocationsInfo(List<DeviceLocationDTO> deviceLocations) throws DeviceDetailsMgtDAOException;
 }
@@ -26,6 +26,7 @@ import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.dao.util.DeviceManagementDAOUtil;
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsDAO;
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsMgtDAOException;
+import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceLocationDTO;
 import io.entgra.device.mgt.core.device.mgt.core.geo.geoHash.GeoHashGenerator;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -35,6 +36,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -545,5 +548,151 @@ public class DeviceDetailsDAOImpl implements DeviceDetailsDAO {
     private Connection getConnection() throws SQLException {
         return DeviceManagementDAOFactory.getConnection();
     }
-}
 
+    @Override
+    public void updateDeviceLocations(Map<Integer, DeviceLocation> deviceLocations)
+            throws DeviceDetailsMgtDAOException {
+        if (deviceLocations.isEmpty()) {
+            return;
+        }
+        String updateSql = "UPDATE DM_DEVICE_LOCATION SET LATITUDE = ?, LONGITUDE = ?, STREET1 = ?, STREET2 = ?, " +
+                "CITY = ?, ZIP = ?, STATE = ?, COUNTRY = ?, GEO_HASH = ?, UPDATE_TIMESTAMP = ? " +
+                "WHERE DEVICE_ID = ? AND ENROLMENT_ID = ?";
+        String insertSql = "INSERT INTO DM_DEVICE_LOCATION (DEVICE_ID, LATITUDE, LONGITUDE, STREET1, STREET2, CITY, " +
+                "ZIP, STATE, COUNTRY, GEO_HASH, UPDATE_TIMESTAMP, ENROLMENT_ID, ALTITUDE, SPEED, BEARING, DISTANCE) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String existsSql = "SELECT 1 FROM DM_DEVICE_LOCATION WHERE DEVICE_ID = ? AND ENROLMENT_ID = ?";
+        try {
+            Connection conn = this.getConnection();
+            List<Map.Entry<Integer, DeviceLocation>> entries = new ArrayList<>(deviceLocations.entrySet());
+            List<Map.Entry<Integer, DeviceLocation>> newLocations = new ArrayList<>();
+            List<Map.Entry<Integer, DeviceLocation>> uncheckedLocations = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(updateSql)) {
+                long updateTime = DeviceManagementDAOUtil.getCurrentUTCTime() * 1000L;
+                for (Map.Entry<Integer, DeviceLocation> entry : entries) {
+                    DeviceLocation deviceLocation = entry.getValue();
+                    removeInvalidZip(deviceLocation, entry.getKey());
+                    stmt.setDouble(1, deviceLocation.getLatitude());
+                    stmt.setDouble(2, deviceLocation.getLongitude());
+                    stmt.setString(3, deviceLocation.getStreet1());
+                    stmt.setString(4, deviceLocation.getStreet2());
+                    stmt.setString(5, deviceLocation.getCity());
+                    stmt.setString(6, deviceLocation.getZip());
+                    stmt.setString(7, deviceLocation.getState());
+                    stmt.setString(8, deviceLocation.getCountry());
+                    stmt.setString(9, GeoHashGenerator.encodeGeohash(deviceLocation));
+                    stmt.setLong(10, updateTime);
+                    stmt.setInt(11, deviceLocation.getDeviceId());
+                    stmt.setInt(12, entry.getKey());
+                    stmt.addBatch();
+                }
+                int[] updatedCounts = stmt.executeBatch();
+                for (int i = 0; i < updatedCounts.length; i++) {
+                    if (updatedCounts[i] == 0) {
+                        newLocations.add(entries.get(i));
+                    } else if (updatedCounts[i] == Statement.SUCCESS_NO_INFO) {
+                        uncheckedLocations.add(entries.get(i));
+                    }
+                }
+            }
+            //Drivers which do not report the update counts of a batch leave it unknown whether the rows exist
+            if (!uncheckedLocations.isEmpty()) {
+                try (PreparedStatement stmt = conn.prepareStatement(existsSql)) {
+                    for (Map.Entry<Integer, DeviceLocation> entry : uncheckedLocations) {
+                        stmt.setInt(1, entry.getValue().getDeviceId());
+                        stmt.setInt(2, entry.getKey());
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            if (!rs.next()) {
+                                newLocations.add(entry);
+                            }
+                        }
+                    }
+                }
+            }
+            if (newLocations.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+                for (Map.Entry<Integer, DeviceLocation> entry : newLocations) {
+                    DeviceLocation deviceLocation = entry.getValue();
+                    stmt.setInt(1, deviceLocation.getDeviceId());
+                    stmt.setDouble(2, deviceLocation.getLatitude());
+                    stmt.setDouble(3, deviceLocation.getLongitude());
+                    stmt.setString(4, deviceLocation.getStreet1());
+                    stmt.setString(5, deviceLocation.getStreet2());
+                    stmt.setString(6, deviceLocation.getCity());
+                    stmt.setString(7, deviceLocation.getZip());
+                    stmt.setString(8, deviceLocation.getState());
+                    stmt.setString(9, deviceLocation.getCountry());
+                    stmt.setString(10, GeoHashGenerator.encodeGeohash(deviceLocation));
+                    if (deviceLocation.getUpdatedTime() == null) {
+                        stmt.setLong(11, DeviceManagementDAOUtil.getCurrentUTCTime() * 1000L);
+                    } else {
+                        stmt.setLong(11, DeviceManagementDAOUtil.convertLocalTimeIntoUTC(
+                                deviceLocation.getUpdatedTime()) * 1000L);
+                    }
+                    stmt.setInt(12, entry.getKey());
+                    stmt.setDouble(13, deviceLocation.getAltitude());
+                    stmt.setFloat(14, deviceLocation.getSpeed());
+                    stmt.setFloat(15, deviceLocation.getBearing());
+                    stmt.setDouble(16, deviceLocation.getDistance());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new DeviceDetailsMgtDAOException("Error occurred while updating the device locations in the " +
+                    "database.", e);
+        }
+    }
+
+    @Override
+    public void addDeviceLocationsInfo(List<DeviceLocationDTO> deviceLocations)
+            throws DeviceDetailsMgtDAOException {
+        if (deviceLocations.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO " +
+                "DM_DEVICE_HISTORY_LAST_SEVEN_DAYS " +
+                "(DEVICE_ID, DEVICE_ID_NAME, TENANT_ID, DEVICE_TYPE_NAME, LATITUDE, LONGITUDE, SPEED, HEADING, " +
+                "TIMESTAMP, GEO_HASH, DEVICE_OWNER, DEVICE_ALTITUDE, DISTANCE) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try {
+            Connection conn = this.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (DeviceLocationDTO deviceLocationDTO : deviceLocations) {
+                    Device device = deviceLocationDTO.getDevice();
+                    DeviceLocation location = deviceLocationDTO.getDeviceLocation();
+                    stmt.setInt(1, device.getId());
+                    stmt.setString(2, device.getDeviceIdentifier());
+                    stmt.setInt(3, deviceLocationDTO.getTenantId());
+                    stmt.setString(4, device.getType());
+                    stmt.setDouble(5, location.getLatitude());
+                    stmt.setDouble(6, location.getLongitude());
+                    stmt.setFloat(7, location.getSpeed());
+                    stmt.setFloat(8, location.getBearing());
+                    stmt.setLong(9, location.getUpdatedTime().getTime());
+                    stmt.setString(10, GeoHashGenerator.encodeGeohash(location));
+                    stmt.setString(11, device.getEnrolmentInfo().getOwner());
+                    stmt.setDouble(12, location.getAltitude());
+                    stmt.setDouble(13, location.getDistance());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            String errMessage = "Error occurred while adding the location history of " + deviceLocations.size()
+                    + " device location fixes to database.";
+            log.error(errMessage);
+            throw new DeviceDetailsMgtDAOException(errMessage, e);
+        }
+    }
+
+    private void removeInvalidZip(DeviceLocation deviceLocation, int enrollmentId) {
+        if (StringUtils.isNotBlank(deviceLocation.getZip()) && deviceLocation.getZip().length() > 10) {
+            log.error("Updating unusually long zip " + deviceLocation.getZip() + ", deviceId:"
+                    + deviceLocation.getDeviceId() + ", enrollmentId:" + enrollmentId);
+            deviceLocation.setZip(null);
+        }
+    }
+}
@@ -35,6 +35,9 @@ import io.entgra.device.mgt.core.device.mgt.common.exceptions.TransactionManagem
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.DeviceGroup;
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.GroupManagementException;
 import io.entgra.device.mgt.core.device.mgt.core.DeviceManagementConstants;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.geo.location.LocationIngestionConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceDAO;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOFactory;
@@ -42,6 +45,7 @@ import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.DeviceDetail
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.DeviceInformationManager;
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsDAO;
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsMgtDAOException;
+import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceLocationDTO;
 import io.entgra.device.mgt.core.device.mgt.core.internal.DeviceManagementDataHolder;
 import io.entgra.device.mgt.core.device.mgt.core.report.mgt.Constants;
 import io.entgra.device.mgt.core.device.mgt.core.service.GroupManagementProviderService;
@@ -55,8 +59,10 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class DeviceInformationManagerImpl implements DeviceInformationManager {
 
@@ -200,44 +206,51 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
         }
     }
 
+    @Override
     public int publishEvents(String deviceId, String deviceType, String payload, String eventType)
             throws DeviceDetailsMgtException {
+        try {
+            return publishEventsAsync(deviceId, deviceType, payload, eventType).get();
+        } catch (ExecutionException e) {
+            //Exceptions thrown in ReportingPublisherManager will be wrapped under this exception
+            String message;
+            if (e.getCause() instanceof TimeoutException) {
+                message = "Timed out while waiting for the response from the API for the reporting data publishing "
+                        + "for the device " + deviceId;
+            } else {
+                message = "Failed while publishing device information data to the reporting service for the device "
+                        + deviceId;
+            }
+            log.error(message, e);
+            throw new DeviceDetailsMgtException(message, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            String message = "Failed while publishing device information data to the reporting service. Thread " +
+                    "interrupted while waiting for the response from the API for the Device " + deviceId;
+            log.error(message, e);
+            throw new DeviceDetailsMgtException(message, e);
+        }
+    }
 
+    @Override
+    public CompletableFuture<Integer> publishEventsAsync(String deviceId, String deviceType, String payload,
+                                                         String eventType) throws DeviceDetailsMgtException {
         DeviceIdentifier deviceIdentifier = new DeviceIdentifier(deviceId, deviceType);
-
         try {
             Device device = DeviceManagementDataHolder.getInstance().
                     getDeviceManagementProvider().getDevice(deviceIdentifier, false);
             DeviceDetailsWrapper deviceDetailsWrapper = new DeviceDetailsWrapper();
             deviceDetailsWrapper.setEvents(payload);
-            Future<Integer> apiCallback = publishEvents(device, deviceDetailsWrapper, eventType);
-            if (null != apiCallback) {
-                boolean isDebugEnabled = log.isDebugEnabled();
-                while(!apiCallback.isDone()) {
-                    if (isDebugEnabled) {
-                        log.debug("Waiting for the response from the API for the reporting data " +
-                                "publishing for the device " + deviceId + ". Event payload: " + payload);
-                    }
-                }
-                return apiCallback.get();
+            CompletableFuture<Integer> apiCallback = publishEvents(device, deviceDetailsWrapper, eventType);
+            if (apiCallback == null) {
+                return CompletableFuture.completedFuture(0); // If the event publishing is disabled.
             }
-            return 0; // If the event publishing is disabled.
+            return apiCallback.orTimeout(new ReportingPublisherManager().getPublishTimeoutMillis(),
+                    TimeUnit.MILLISECONDS);
         } catch (DeviceManagementException e) {
-            DeviceManagementDAOFactory.rollbackTransaction();
             String msg = "Event publishing error. Could not get device " + deviceId;
             log.error(msg, e);
             throw new DeviceDetailsMgtException(msg, e);
-        } catch (ExecutionException e) {
-            //Exceptions thrown in ReportingPublisherManager will be wrapped under this exception
-            String message = "Failed while publishing device information data to the reporting service for the device "
-                    + deviceId;
-            log.error(message, e);
-            throw new DeviceDetailsMgtException(message, e);
-        } catch (InterruptedException e) {
-            String message = "Failed while publishing device information data to the reporting service. Thread " +
-                    "interrupted while waiting for the response from the API for the Device " + deviceId;
-            log.error(message, e);
-            throw new DeviceDetailsMgtException(message, e);
         }
     }
 
@@ -246,8 +259,8 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
      * @param device Device that is sending event
      * @param deviceDetailsWrapper Payload to send(example, deviceinfo, applist, raw events)
      */
-    private Future<Integer> publishEvents(Device device, DeviceDetailsWrapper deviceDetailsWrapper, String
-            eventType)  {
+    private CompletableFuture<Integer> publishEvents(Device device, DeviceDetailsWrapper deviceDetailsWrapper,
+                                                     String eventType) {
         String reportingHost = HttpReportingUtil.getReportingHost();
         if (!StringUtils.isBlank(reportingHost)
                 && HttpReportingUtil.isPublishingEnabledForTenant()) {
@@ -323,8 +336,7 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
             }
             deviceInfo.setDeviceDetailsMap(deviceDetailsDAO.getDeviceProperties(device.getId(),
                     device.getEnrolmentInfo().getId()));
-            DeviceLocation location = deviceDetailsDAO.getDeviceLocation(device.getId(),
-                    device.getEnrolmentInfo().getId());
+            DeviceLocation location = getLatestDeviceLocation(device);
             if (location != null) {
                 //There are some cases where the device-info is not updated properly. Hence returning a null value.
                 deviceInfo.setLocation(location);
@@ -403,8 +415,16 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
 
     @Override
     public void addDeviceLocation(Device device, DeviceLocation deviceLocation) throws DeviceDetailsMgtException {
+        deviceLocation.setDeviceId(device.getId());
+        //Locations pushed to the tracker are not persisted, hence they are never buffered
+        if (!(HttpReportingUtil.isLocationPublishing() && HttpReportingUtil.isTrackerEnabled())) {
+            DeviceLocationWriteBehindBuffer writeBehindBuffer = getLocationWriteBehindBuffer();
+            if (writeBehindBuffer != null && writeBehindBuffer.offer(new DeviceLocationDTO(device, deviceLocation,
+                    CarbonContext.getThreadLocalCarbonContext().getTenantId()))) {
+                return;
+            }
+        }
         try {
-            deviceLocation.setDeviceId(device.getId());
             DeviceManagementDAOFactory.beginTransaction();
             DeviceLocation previousLocation = deviceDetailsDAO.getDeviceLocation(device.getId(),
                     device.getEnrolmentInfo().getId());
@@ -466,6 +486,10 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
             if (log.isDebugEnabled()) {
                 log.debug("Deleting device location for device: " + device.getId());
             }
+            DeviceLocationWriteBehindBuffer writeBehindBuffer = getLocationWriteBehindBuffer();
+            if (writeBehindBuffer != null) {
+                writeBehindBuffer.discardPendingLocation(device.getEnrolmentInfo().getId());
+            }
             DeviceManagementDAOFactory.beginTransaction();
             DeviceLocation deviceLocation = deviceDetailsDAO.getDeviceLocation(device.getId(),
                     device.getEnrolmentInfo().getId());
@@ -544,7 +568,7 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
         }
         try {
             DeviceManagementDAOFactory.openConnection();
-            return deviceDetailsDAO.getDeviceLocation(device.getId(), device.getEnrolmentInfo().getId());
+            return getLatestDeviceLocation(device);
         } catch (SQLException e) {
             throw new DeviceDetailsMgtException("SQL error occurred while retrieving device from database.", e);
         } catch (DeviceDetailsMgtDAOException e) {
@@ -554,6 +578,38 @@ public class DeviceInformationManagerImpl implements DeviceInformationManager {
         }
     }
 
+    /**
+     * Returns the latest location of the device, including a location which is still buffered for write-behind.
+     * Should be invoked within an opened connection.
+     */
+    private DeviceLocation getLatestDeviceLocation(Device device) throws DeviceDetailsMgtDAOException {
+        DeviceLocationWriteBehindBuffer writeBehindBuffer = getLocationWriteBehindBuffer();
+        if (writeBehindBuffer != null) {
+            DeviceLocation pendingLocation = writeBehindBuffer.getPendingLocation(device.getEnrolmentInfo().getId());
+            if (pendingLocation != null) {
+                return pendingLocation;
+            }
+        }
+        return deviceDetailsDAO.getDeviceLocation(device.getId(), device.getEnrolmentInfo().getId());
+    }
+
+    /**
+     * @return Write-behind buffer of device locations, or null if write-behind ingestion is disabled
+     */
+    private DeviceLocationWriteBehindBuffer getLocationWriteBehindBuffer() {
+        DeviceManagementConfig deviceManagementConfig = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig();
+        if (deviceManagementConfig == null || deviceManagementConfig.getGeoLocationConfiguration() == null) {
+            return null;
+        }
+        LocationIngestionConfiguration locationIngestionConfiguration = deviceManagementConfig
+                .getGeoLocationConfiguration().getLocationIngestionConfiguration();
+        if (locationIngestionConfiguration == null || !locationIngestionConfiguration.isWriteBehindEnabled()) {
+            return null;
+        }
+        return DeviceLocationWriteBehindBuffer.getInstance(locationIngestionConfiguration, deviceDetailsDAO);
+    }
+
     private Device getDevice(DeviceIdentifier deviceId) throws DeviceDetailsMgtException {
         Device device;
         try {
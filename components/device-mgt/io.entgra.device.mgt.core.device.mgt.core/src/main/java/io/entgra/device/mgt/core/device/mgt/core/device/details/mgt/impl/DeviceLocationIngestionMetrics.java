@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters maintained by the device location write-behind buffer.
+ */
+public class DeviceLocationIngestionMetrics implements DeviceLocationIngestionMetricsMXBean {
+
+    private final AtomicLong enqueuedLocations = new AtomicLong();
+    private final AtomicLong droppedLocations = new AtomicLong();
+    private final AtomicLong syncFallbacks = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong historyRows = new AtomicLong();
+    private final AtomicLong coalescedUpserts = new AtomicLong();
+    private final AtomicLong failedLocations = new AtomicLong();
+
+    void recordEnqueued() {
+        enqueuedLocations.incrementAndGet();
+    }
+
+    void recordDropped() {
+        droppedLocations.incrementAndGet();
+    }
+
+    void recordSyncFallback() {
+        syncFallbacks.incrementAndGet();
+    }
+
+    void recordBatchFlushed(int locations, int upserts) {
+        flushedBatches.incrementAndGet();
+        historyRows.addAndGet(locations);
+        coalescedUpserts.addAndGet(upserts);
+    }
+
+    void recordFailed(int locations) {
+        failedLocations.addAndGet(locations);
+    }
+
+    @Override
+    public long getEnqueuedLocations() {
+        return enqueuedLocations.get();
+    }
+
+    @Override
+    public long getDroppedLocations() {
+        return droppedLocations.get();
+    }
+
+    @Override
+    public long getSyncFallbacks() {
+        return syncFallbacks.get();
+    }
+
+    @Override
+    public long getFlushedBatches() {
+        return flushedBatches.get();
+    }
+
+    @Override
+    public long getHistoryRows() {
+        return historyRows.get();
+    }
+
+    @Override
+    public long getCoalescedUpserts() {
+        return coalescedUpserts.get();
+    }
+
+    @Override
+    public long getFailedLocations() {
+        return failedLocations.get();
+    }
+
+    @Override
+    public String toString() {
+        return "enqueued=" + getEnqueuedLocations() + ", dropped=" + getDroppedLocations() + ", syncFallbacks="
+                + getSyncFallbacks() + ", flushedBatches=" + getFlushedBatches() + ", historyRows="
+                + getHistoryRows() + ", coalescedUpserts=" + getCoalescedUpserts() + ", failed="
+                + getFailedLocations();
+    }
+}
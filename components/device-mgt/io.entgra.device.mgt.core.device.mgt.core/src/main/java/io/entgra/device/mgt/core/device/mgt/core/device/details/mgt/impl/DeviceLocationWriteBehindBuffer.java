@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.impl;
+
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceLocation;
+import io.entgra.device.mgt.core.device.mgt.common.exceptions.TransactionManagementException;
+import io.entgra.device.mgt.core.device.mgt.core.config.geo.location.LocationIngestionConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOFactory;
+import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsDAO;
+import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsMgtDAOException;
+import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceLocationDTO;
+import io.entgra.device.mgt.core.device.mgt.core.util.MBeanUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers device location fixes in memory and writes them to the database in batches. The latest location of
+ * each enrolment in a batch is upserted once, while every fix is recorded in the location history with a single
+ * JDBC batch. Fixes which are still waiting in the buffer are served from memory, so reads of the latest
+ * location observe them before they are flushed.
+ */
+public class DeviceLocationWriteBehindBuffer {
+
+    private static final Log log = LogFactory.getLog(DeviceLocationWriteBehindBuffer.class);
+    private static final String MBEAN_TYPE = "DeviceLocationIngestion";
+    private static volatile DeviceLocationWriteBehindBuffer instance;
+    private static volatile boolean shutdown = false;
+
+    private final LocationIngestionConfiguration config;
+    private final DeviceDetailsDAO deviceDetailsDAO;
+    private final LinkedBlockingQueue<DeviceLocationDTO> queue;
+    private final Map<Integer, DeviceLocationDTO> pendingLocations = new ConcurrentHashMap<>();
+    private final DeviceLocationIngestionMetrics metrics = new DeviceLocationIngestionMetrics();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    DeviceLocationWriteBehindBuffer(LocationIngestionConfiguration config, DeviceDetailsDAO deviceDetailsDAO) {
+        this.config = config;
+        this.deviceDetailsDAO = deviceDetailsDAO;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        this.flusher = new Thread(this::flushLoop, "device-location-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * @return Shared buffer, which is started on first use, or null if the buffer has been shut down and locations
+     * have to be written synchronously
+     */
+    public static DeviceLocationWriteBehindBuffer getInstance(LocationIngestionConfiguration config,
+                                                              DeviceDetailsDAO deviceDetailsDAO) {
+        if (instance == null) {
+            synchronized (DeviceLocationWriteBehindBuffer.class) {
+                if (shutdown) {
+                    return null;
+                }
+                if (instance == null) {
+                    instance = new DeviceLocationWriteBehindBuffer(config, deviceDetailsDAO);
+                    MBeanUtil.registerMBean(instance.getMetrics(), MBEAN_TYPE);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the buffer, if it has been started, and wait for the buffered locations to be flushed within the
+     * configured shutdown timeout. Locations reported afterwards are written synchronously until the buffer is
+     * enabled again.
+     */
+    public static void shutdownInstance() {
+        DeviceLocationWriteBehindBuffer buffer;
+        synchronized (DeviceLocationWriteBehindBuffer.class) {
+            shutdown = true;
+            buffer = instance;
+            instance = null;
+        }
+        if (buffer != null) {
+            MBeanUtil.unregisterMBean(MBEAN_TYPE);
+            buffer.shutdown();
+        }
+    }
+
+    /**
+     * Allow the buffer to be started again after it has been shut down.
+     */
+    public static void enableInstance() {
+        synchronized (DeviceLocationWriteBehindBuffer.class) {
+            shutdown = false;
+        }
+    }
+
+    /**
+     * Buffer a location fix of a device.
+     *
+     * @param deviceLocationDTO Location fix along with the device and the tenant it belongs to
+     * @return false if the fix has not been buffered and has to be written synchronously by the caller
+     */
+    public boolean offer(DeviceLocationDTO deviceLocationDTO) {
+        int enrolmentId = deviceLocationDTO.getEnrolmentId();
+        //A fix which was reported without a time takes the time of its first access, which has to be the time it
+        //is buffered at rather than the time it is flushed at
+        deviceLocationDTO.getDeviceLocation().getUpdatedTime();
+        if (running) {
+            pendingLocations.put(enrolmentId, deviceLocationDTO);
+            if (queue.offer(deviceLocationDTO)) {
+                metrics.recordEnqueued();
+                return true;
+            }
+            if (LocationIngestionConfiguration.OVERFLOW_DROP.equals(config.getOverflowPolicy())) {
+                pendingLocations.remove(enrolmentId, deviceLocationDTO);
+                metrics.recordDropped();
+                if (log.isDebugEnabled()) {
+                    log.debug("Location of enrolment " + enrolmentId + " dropped since the location buffer is full");
+                }
+                return true;
+            }
+        }
+        // The synchronous write supersedes any fix of the enrolment which is still buffered, hence the buffered
+        // fixes are only recorded in the history once they are flushed.
+        pendingLocations.remove(enrolmentId);
+        metrics.recordSyncFallback();
+        return false;
+    }
+
+    /**
+     * @param enrolmentId Enrolment ID of the device
+     * @return Latest location of the enrolment which has not been flushed yet, or null if there is none
+     */
+    public DeviceLocation getPendingLocation(int enrolmentId) {
+        DeviceLocationDTO deviceLocationDTO = pendingLocations.get(enrolmentId);
+        return deviceLocationDTO == null ? null : deviceLocationDTO.getDeviceLocation();
+    }
+
+    /**
+     * Discard the buffered latest location of an enrolment, so that a flush does not bring back a location
+     * which has been deleted in the meantime.
+     *
+     * @param enrolmentId Enrolment ID of the device
+     */
+    public void discardPendingLocation(int enrolmentId) {
+        pendingLocations.remove(enrolmentId);
+    }
+
+    public DeviceLocationIngestionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    void shutdown() {
+        running = false;
+        try {
+            flusher.join(Math.max(1, config.getShutdownFlushTimeoutMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.warn("Device location buffer was not flushed within " + config.getShutdownFlushTimeoutMillis()
+                    + " ms. " + queue.size() + " buffered locations are discarded.");
+        } else if (log.isDebugEnabled()) {
+            log.debug("Device location buffer flushed on shutdown. Ingestion stats: " + metrics);
+        }
+    }
+
+    private void flushLoop() {
+        long flushInterval = Math.max(1, config.getFlushIntervalMillis());
+        int maxBatchSize = Math.max(1, config.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            List<DeviceLocationDTO> batch = new ArrayList<>();
+            try {
+                DeviceLocationDTO first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushInterval;
+                while (batch.size() < maxBatchSize) {
+                    long waitTime = running ? deadline - System.currentTimeMillis() : 0;
+                    DeviceLocationDTO next = queue.poll(Math.max(0, waitTime), TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                log.warn("Device location flusher interrupted, flushing buffered locations", e);
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch);
+                flush(batch);
+                break;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error occurred while flushing buffered device locations", e);
+            }
+        }
+    }
+
+    private void flush(List<DeviceLocationDTO> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Integer, DeviceLocation> latestLocations = new HashMap<>();
+        for (DeviceLocationDTO deviceLocationDTO : batch) {
+            //Only the fix which is still the pending one of the enrolment is upserted
+            if (pendingLocations.get(deviceLocationDTO.getEnrolmentId()) == deviceLocationDTO) {
+                latestLocations.put(deviceLocationDTO.getEnrolmentId(), deviceLocationDTO.getDeviceLocation());
+            }
+        }
+        boolean batchFailed = false;
+        try {
+            DeviceManagementDAOFactory.beginTransaction();
+            deviceDetailsDAO.updateDeviceLocations(latestLocations);
+            deviceDetailsDAO.addDeviceLocationsInfo(batch);
+            DeviceManagementDAOFactory.commitTransaction();
+            metrics.recordBatchFlushed(batch.size(), latestLocations.size());
+            if (log.isDebugEnabled()) {
+                log.debug("Flushed a batch of " + batch.size() + " device locations. Ingestion stats: " + metrics);
+            }
+        } catch (TransactionManagementException e) {
+            log.error("Transactional error occurred while flushing a batch of " + batch.size()
+                    + " device locations", e);
+            metrics.recordFailed(batch.size());
+        } catch (DeviceDetailsMgtDAOException e) {
+            DeviceManagementDAOFactory.rollbackTransaction();
+            log.warn("Error occurred while flushing a batch of " + batch.size() + " device locations, retrying "
+                    + "the locations one by one", e);
+            batchFailed = true;
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+        if (batchFailed) {
+            flushIndividually(batch, latestLocations);
+        }
+        for (DeviceLocationDTO deviceLocationDTO : batch) {
+            pendingLocations.remove(deviceLocationDTO.getEnrolmentId(), deviceLocationDTO);
+        }
+    }
+
+    private void flushIndividually(List<DeviceLocationDTO> batch, Map<Integer, DeviceLocation> latestLocations) {
+        for (DeviceLocationDTO deviceLocationDTO : batch) {
+            int enrolmentId = deviceLocationDTO.getEnrolmentId();
+            Map<Integer, DeviceLocation> latestLocation =
+                    latestLocations.get(enrolmentId) == deviceLocationDTO.getDeviceLocation()
+                            ? Collections.singletonMap(enrolmentId, deviceLocationDTO.getDeviceLocation())
+                            : Collections.emptyMap();
+            try {
+                DeviceManagementDAOFactory.beginTransaction();
+                deviceDetailsDAO.updateDeviceLocations(latestLocation);
+                deviceDetailsDAO.addDeviceLocationsInfo(Collections.singletonList(deviceLocationDTO));
+                DeviceManagementDAOFactory.commitTransaction();
+                metrics.recordBatchFlushed(1, latestLocation.size());
+            } catch (TransactionManagementException e) {
+                log.error("Transactional error occurred while writing the location of enrolment " + enrolmentId, e);
+                metrics.recordFailed(1);
+            } catch (DeviceDetailsMgtDAOException e) {
+                DeviceManagementDAOFactory.rollbackTransaction();
+                log.error("Error occurred while writing the location of enrolment " + enrolmentId
+                        + ", the location is discarded", e);
+                metrics.recordFailed(1);
+            } finally {
+                DeviceManagementDAOFactory.closeConnection();
+            }
+        }
+    }
+}
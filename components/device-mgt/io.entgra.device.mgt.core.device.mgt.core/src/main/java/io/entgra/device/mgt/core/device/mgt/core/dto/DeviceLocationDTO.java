@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.dto;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceLocation;
+
+/**
+ * A location fix of a device together with the tenant it was reported in.
+ */
+public class DeviceLocationDTO {
+
+    private final Device device;
+    private final DeviceLocation deviceLocation;
+    private final int tenantId;
+
+    public DeviceLocationDTO(Device device, DeviceLocation deviceLocation, int tenantId) {
+        this.device = device;
+        this.deviceLocation = deviceLocation;
+        this.tenantId = tenantId;
+    }
+
+    public Device getDevice() {
+        return device;
+    }
+
+    public DeviceLocation getDeviceLocation() {
+        return deviceLocation;
+    }
+
+    public int getTenantId() {
+        return tenantId;
+    }
+
+    public int getEnrolmentId() {
+        return device.getEnrolmentInfo().getId();
+    }
+}
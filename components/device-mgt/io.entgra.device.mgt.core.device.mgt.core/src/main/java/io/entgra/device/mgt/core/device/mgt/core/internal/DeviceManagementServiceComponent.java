@@ -44,8 +44,10 @@ import io.entgra.device.mgt.core.device.mgt.core.app.mgt.config.AppManagementCon
 import io.entgra.device.mgt.core.device.mgt.core.app.mgt.config.AppManagementConfigurationManager;
 import io.entgra.device.mgt.core.device.mgt.core.authorization.DeviceAccessAuthorizationServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.authorization.GroupAccessAuthorizationServiceImpl;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.DeviceCacheManagerImpl;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.cache.PendingOperationCacheConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.datasource.DataSourceConfig;
 import io.entgra.device.mgt.core.device.mgt.core.config.tenant.PlatformConfigurationManagementServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.config.ui.UIConfigurationManager;
@@ -55,6 +57,7 @@ import io.entgra.device.mgt.core.device.mgt.core.dao.GroupManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.dao.TrackerManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.DeviceInformationManager;
 import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.impl.DeviceInformationManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.impl.DeviceLocationWriteBehindBuffer;
 import io.entgra.device.mgt.core.device.mgt.core.event.config.EventConfigurationProviderServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.geo.service.GeoLocationProviderServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.metadata.mgt.DeviceStatusManagementServiceImpl;
@@ -64,6 +67,7 @@ import io.entgra.device.mgt.core.device.mgt.core.metadata.mgt.dao.MetadataManage
 import io.entgra.device.mgt.core.device.mgt.core.notification.mgt.NotificationManagementServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.notification.mgt.dao.NotificationManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.OperationManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.PendingOperationReconciliationTask;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.otp.mgt.dao.OTPManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.otp.mgt.service.OTPManagementServiceImpl;
@@ -73,6 +77,9 @@ import io.entgra.device.mgt.core.device.mgt.core.privacy.impl.PrivacyComplianceP
 import io.entgra.device.mgt.core.device.mgt.core.push.notification.mgt.PushNotificationProviderRepository;
 import io.entgra.device.mgt.core.device.mgt.core.push.notification.mgt.task.PushNotificationSchedulerTask;
 import io.entgra.device.mgt.core.device.mgt.core.report.mgt.ReportManagementServiceImpl;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.BatchingReportingPublisher;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.ReportingHttpTransport;
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.TaskWorkUnitExecutor;
 import io.entgra.device.mgt.core.device.mgt.core.search.mgt.SearchManagerService;
 import io.entgra.device.mgt.core.device.mgt.core.search.mgt.impl.SearchManagerServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
@@ -88,6 +95,7 @@ import io.entgra.device.mgt.core.device.mgt.core.traccar.api.service.DeviceAPICl
 import io.entgra.device.mgt.core.device.mgt.core.traccar.api.service.impl.DeviceAPIClientServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.util.DeviceManagementSchemaInitializer;
 import io.entgra.device.mgt.core.device.mgt.core.util.DeviceManagerUtil;
+import io.entgra.device.mgt.core.device.mgt.core.util.MBeanUtil;
 import io.entgra.device.mgt.core.server.bootup.heartbeat.beacon.service.HeartBeatManagementService;
 import io.entgra.device.mgt.core.transport.mgt.email.sender.core.service.EmailSenderService;
 import org.apache.commons.logging.Log;
@@ -125,6 +133,12 @@ public class DeviceManagementServiceComponent {
     private static final List<PluginInitializationListener> listeners = new ArrayList<>();
     private static final List<DeviceManagementService> deviceManagers = new ArrayList<>();
     private static final List<DeviceManagerStartupListener> startupListeners = new ArrayList<>();
+    private static final String PUSH_NOTIFICATION_DISPATCH_MBEAN = "PushNotificationDispatch";
+    private static final String APPLICATION_INVENTORY_SYNC_MBEAN = "ApplicationInventorySync";
+
+    private ScheduledExecutorService reconciliationExecutor;
+    private ScheduledExecutorService pushNotificationExecutor;
+    private PushNotificationSchedulerTask pushNotificationSchedulerTask;
 
     public static void registerPluginInitializationListener(PluginInitializationListener listener) {
         synchronized (LOCK) {
@@ -226,12 +240,31 @@ public class DeviceManagementServiceComponent {
                     config.getPushNotificationConfiguration().setSchedulerTaskInitialDelay(DeviceManagementConstants
                             .PushNotifications.DEFAULT_SCHEDULER_TASK_INITIAL_DELAY);
                 }
-                ScheduledExecutorService pushNotificationExecutor = Executors.newSingleThreadScheduledExecutor();
-                pushNotificationExecutor.scheduleWithFixedDelay(new PushNotificationSchedulerTask(), config
+                pushNotificationSchedulerTask = new PushNotificationSchedulerTask();
+                pushNotificationExecutor = Executors.newSingleThreadScheduledExecutor();
+                pushNotificationExecutor.scheduleWithFixedDelay(pushNotificationSchedulerTask, config
                         .getPushNotificationConfiguration().getSchedulerTaskInitialDelay(), config
                         .getPushNotificationConfiguration().getSchedulerBatchDelayMills(), TimeUnit.MILLISECONDS);
+                MBeanUtil.registerMBean(PushNotificationSchedulerTask.getMetrics(), PUSH_NOTIFICATION_DISPATCH_MBEAN);
+            }
+
+            // Correct the pending operation cache against the operation mappings written since the previous run
+            PendingOperationCacheConfiguration pendingOperationCacheConfig =
+                    config.getPendingOperationCacheConfiguration();
+            if (pendingOperationCacheConfig != null && pendingOperationCacheConfig.isEnabled()
+                    && pendingOperationCacheConfig.getReconciliationInterval() > 0) {
+                long reconciliationInterval = pendingOperationCacheConfig.getReconciliationInterval();
+                reconciliationExecutor = Executors.newSingleThreadScheduledExecutor();
+                reconciliationExecutor.scheduleWithFixedDelay(
+                        new PendingOperationReconciliationTask(reconciliationInterval), reconciliationInterval,
+                        reconciliationInterval, TimeUnit.SECONDS);
             }
 
+            // Buffer location fixes again if the bundle has been deactivated before
+            DeviceLocationWriteBehindBuffer.enableInstance();
+            // Execute the work units of the tasks in parallel again if the bundle has been deactivated before
+            TaskWorkUnitExecutor.enableInstance();
+
             PrivacyComplianceProvider privacyComplianceProvider = new PrivacyComplianceProviderImpl();
             DeviceManagementDataHolder.getInstance().setPrivacyComplianceProvider(privacyComplianceProvider);
             componentContext.getBundleContext().registerService(PrivacyComplianceProvider.class.getName(),
@@ -248,7 +281,28 @@ public class DeviceManagementServiceComponent {
     @SuppressWarnings("unused")
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
-        //do nothing
+        DeviceLocationWriteBehindBuffer.shutdownInstance();
+        //The publisher flushes its queued records through the transport, hence it has to be shut down first
+        BatchingReportingPublisher.shutdownInstance();
+        ReportingHttpTransport.shutdownInstance();
+        TaskWorkUnitExecutor.shutdownInstance();
+        MBeanUtil.unregisterMBean(PUSH_NOTIFICATION_DISPATCH_MBEAN);
+        MBeanUtil.unregisterMBean(APPLICATION_INVENTORY_SYNC_MBEAN);
+        MBeanUtil.unregisterMBean(DeviceCacheManagerImpl.NEAR_CACHE_MBEAN);
+        MBeanUtil.unregisterMBean(DeviceCacheManagerImpl.NEGATIVE_CACHE_MBEAN);
+        if (reconciliationExecutor != null) {
+            reconciliationExecutor.shutdownNow();
+            reconciliationExecutor = null;
+        }
+        //The scheduler may be waiting for the notifications of its dispatchers, hence it has to be stopped first
+        if (pushNotificationExecutor != null) {
+            pushNotificationExecutor.shutdownNow();
+            pushNotificationExecutor = null;
+        }
+        if (pushNotificationSchedulerTask != null) {
+            pushNotificationSchedulerTask.shutdown();
+            pushNotificationSchedulerTask = null;
+        }
     }
 
     private void initOperationsManager() throws OperationManagementException {
@@ -380,8 +434,12 @@ public class DeviceManagementServiceComponent {
             AppManagementConfigurationManager.getInstance().initConfig();
             AppManagementConfig appConfig =
                     AppManagementConfigurationManager.getInstance().getAppManagementConfig();
+            ApplicationManagerProviderServiceImpl applicationManagerProviderService =
+                    new ApplicationManagerProviderServiceImpl(appConfig);
             bundleContext.registerService(ApplicationManagementProviderService.class.getName(),
-                    new ApplicationManagerProviderServiceImpl(appConfig), null);
+                    applicationManagerProviderService, null);
+            MBeanUtil.registerMBean(applicationManagerProviderService.getInventorySyncMetrics(),
+                    APPLICATION_INVENTORY_SYNC_MBEAN);
         } catch (ApplicationManagementException e) {
             log.error("Application management service not registered.", e);
         }
@@ -25,6 +25,8 @@ import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
 import io.entgra.device.mgt.core.device.mgt.core.config.operation.timeout.OperationTimeout;
 import io.entgra.device.mgt.core.device.mgt.core.config.operation.timeout.OperationTimeoutConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceType;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.OperationPayloadMigrationTask;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
 import io.entgra.device.mgt.core.device.mgt.core.operation.timeout.task.OperationTimeoutTaskException;
 import io.entgra.device.mgt.core.device.mgt.core.operation.timeout.task.OperationTimeoutTaskManagerService;
 import io.entgra.device.mgt.core.device.mgt.core.operation.timeout.task.impl.OperationTimeoutTaskManagerServiceImpl;
@@ -39,9 +41,15 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.*;
+import org.wso2.carbon.ntask.common.TaskException;
+import org.wso2.carbon.ntask.core.TaskInfo;
+import org.wso2.carbon.ntask.core.TaskManager;
 import org.wso2.carbon.ntask.core.service.TaskService;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Component(
         name = "io.entgra.device.mgt.core.device.mgt.core.internal.DeviceTaskManagerServiceComponent",
         immediate = true)
@@ -49,6 +57,7 @@ import java.util.Map;
 public class DeviceTaskManagerServiceComponent {
 
     private static Log log = LogFactory.getLog(DeviceTaskManagerServiceComponent.class);
+    private static final long OPERATION_PAYLOAD_MIGRATION_INTERVAL = TimeUnit.MINUTES.toMillis(10);
     private DeviceManagementConfig deviceManagementConfig;
 
     @SuppressWarnings("unused")
@@ -69,6 +78,10 @@ public class DeviceTaskManagerServiceComponent {
             if (deviceManagementConfig != null && deviceManagementConfig.getOperationTimeoutConfiguration() != null) {
                 startOperationTimeoutTask(componentContext.getBundleContext());
             }
+
+            if (OperationPayloadCodecFactory.getConfiguration().isMigrationEnabled()) {
+                startOperationPayloadMigrationTask();
+            }
         } catch (Throwable e) {
             log.error("Error occurred while initializing device task manager service.", e);
         }
@@ -126,6 +139,33 @@ public class DeviceTaskManagerServiceComponent {
         }
     }
 
+    private void startOperationPayloadMigrationTask() {
+        OperationPayloadMigrationTask.setStopRequested(false);
+        try {
+            TaskService taskService = DeviceManagementDataHolder.getInstance().getTaskService();
+            taskService.registerTaskType(OperationPayloadMigrationTask.TASK_TYPE);
+            TaskManager taskManager = taskService.getTaskManager(OperationPayloadMigrationTask.TASK_TYPE);
+
+            TaskInfo.TriggerInfo triggerInfo = new TaskInfo.TriggerInfo();
+            triggerInfo.setIntervalMillis(OPERATION_PAYLOAD_MIGRATION_INTERVAL);
+            triggerInfo.setRepeatCount(-1);
+            triggerInfo.setDisallowConcurrentExecution(true);
+
+            Map<String, String> properties = new HashMap<>();
+            properties.put(OperationPayloadMigrationTask.BATCH_SIZE, String.valueOf(
+                    OperationPayloadCodecFactory.getConfiguration().getMigrationBatchSize()));
+
+            if (!taskManager.isTaskScheduled(OperationPayloadMigrationTask.TASK_NAME)) {
+                TaskInfo taskInfo = new TaskInfo(OperationPayloadMigrationTask.TASK_NAME,
+                        OperationPayloadMigrationTask.class.getName(), properties, triggerInfo);
+                taskManager.registerTask(taskInfo);
+                taskManager.rescheduleTask(taskInfo.getName());
+            }
+        } catch (TaskException e) {
+            log.error("Error occurred while starting the operation payload migration task", e);
+        }
+    }
+
     @SuppressWarnings("unused")
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
@@ -137,6 +177,9 @@ public class DeviceTaskManagerServiceComponent {
             if (deviceManagementConfig != null && deviceManagementConfig.getOperationTimeoutConfiguration() != null) {
                 stopOperationTimeoutTask();
             }
+            if (OperationPayloadCodecFactory.getConfiguration().isMigrationEnabled()) {
+                stopOperationPayloadMigrationTask();
+            }
         } catch (Throwable e) {
             log.error("Error occurred while shutting down device task manager service.", e);
         }
@@ -187,6 +230,14 @@ public class DeviceTaskManagerServiceComponent {
         }
     }
 
+    /**
+     * Stop the migration running on this node after its current batch. The task itself is shared by the cluster, hence
+     * it is left scheduled so that another node resumes the migration, and it removes itself once it is completed.
+     */
+    private void stopOperationPayloadMigrationTask() {
+        OperationPayloadMigrationTask.setStopRequested(true);
+    }
+
     @Reference(
             name = "task.service",
             service = org.wso2.carbon.ntask.core.service.TaskService.class,
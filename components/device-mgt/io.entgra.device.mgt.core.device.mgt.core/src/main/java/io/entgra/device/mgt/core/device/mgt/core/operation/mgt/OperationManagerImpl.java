@@ -37,6 +37,8 @@ import io.entgra.device.mgt.core.device.mgt.common.OperationMonitoringTaskConfig
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationResult;
 import io.entgra.device.mgt.core.device.mgt.common.authorization.DeviceAccessAuthorizationException;
+import io.entgra.device.mgt.core.device.mgt.common.authorization.DeviceAccessAuthorizationService;
+import io.entgra.device.mgt.core.device.mgt.common.authorization.DeviceAuthorizationResult;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.DeviceManagementException;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.InvalidDeviceException;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.TransactionManagementException;
@@ -56,7 +58,9 @@ import io.entgra.device.mgt.core.device.mgt.common.operation.mgt.*;
 import io.entgra.device.mgt.core.device.mgt.common.push.notification.*;
 import io.entgra.device.mgt.core.device.mgt.common.spi.DeviceManagementService;
 import io.entgra.device.mgt.core.device.mgt.core.DeviceManagementConstants;
+import io.entgra.device.mgt.core.device.mgt.core.cache.PendingOperationCacheManager;
 import io.entgra.device.mgt.core.device.mgt.core.cache.impl.DeviceCacheManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.PendingOperationCacheManagerImpl;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceDAO;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOException;
@@ -221,9 +225,9 @@ public class OperationManagerImpl implements OperationManager {
             String operationCode = operationDto.getCode();
             Map<Integer, Device> enrolments = new HashMap<>();
             Device device;
-            for (DeviceIdentifier deviceId : authorizedDeviceIds) {
-                device = getDevice(deviceId);
-                enrolments.put(device.getEnrolmentInfo().getId(), device);
+            List<Device> authorizedDevices = getDevices(authorizedDeviceIds);
+            for (Device authorizedDevice : authorizedDevices) {
+                enrolments.put(authorizedDevice.getEnrolmentInfo().getId(), authorizedDevice);
             }
 
             try {
@@ -266,9 +270,8 @@ public class OperationManagerImpl implements OperationManager {
                     activity.setActivityStatus(
                             this.getActivityStatus(deviceValidationResult, deviceAuthorizationResult));
                 }
-                for (DeviceIdentifier deviceId : authorizedDeviceIds) {
-                    device = getDevice(deviceId);
-                    log.info("Operation added", deviceConnectivityLogContextBuilder.setDeviceId(String.valueOf(device.getId())).setDeviceType(deviceType).setActionTag("ADD_OPERATION").setTenantDomain(tenantDomain).setTenantId(tenantId).setUserName(initiatedBy).setOperationCode(operationCode).build());
+                for (Device authorizedDevice : authorizedDevices) {
+                    log.info("Operation added", deviceConnectivityLogContextBuilder.setDeviceId(String.valueOf(authorizedDevice.getId())).setDeviceType(deviceType).setActionTag("ADD_OPERATION").setTenantDomain(tenantDomain).setTenantId(tenantId).setUserName(initiatedBy).setOperationCode(operationCode).build());
                 }
                 return activity;
             } catch (OperationManagementDAOException e) {
@@ -437,6 +440,7 @@ public class OperationManagerImpl implements OperationManager {
                 operationMappingDAO.addOperationMapping(operationDto,
                         new ArrayList<>(enrolments.values()), isScheduled, tenantId);
                 OperationManagementDAOFactory.commitTransaction();
+                PendingOperationCacheManagerImpl.getInstance().markPending(enrolments.keySet());
                 break;
             } catch (OperationManagementDAOException e) {
                 OperationManagementDAOFactory.rollbackTransaction();
@@ -569,17 +573,27 @@ public class OperationManagerImpl implements OperationManager {
             if (operation != null && isAuthenticationSkippedOperation(operation)) {
                 authorizedDeviceList = deviceIds;
             } else {
-                boolean isAuthorized;
-                authorizedDeviceList = new ArrayList<>();
                 String requiredPermission = PermissionManagerServiceImpl.getInstance().getRequiredPermission();
                 String[] requiredPermissions = new String[] {requiredPermission};
-                for (DeviceIdentifier devId : deviceIds) {
-                    isAuthorized = DeviceManagementDataHolder.getInstance().getDeviceAccessAuthorizationService().
-                            isUserAuthorized(devId, requiredPermissions);
-                    if (isAuthorized) {
-                        authorizedDeviceList.add(devId);
-                    } else {
-                        unAuthorizedDeviceList.add(devId);
+                DeviceAccessAuthorizationService deviceAccessAuthorizationService = DeviceManagementDataHolder
+                        .getInstance().getDeviceAccessAuthorizationService();
+                DeviceAuthorizationResult deviceAuthorizationResult = deviceAccessAuthorizationService
+                        .isUserAuthorized(deviceIds, requiredPermissions);
+                if (deviceAuthorizationResult != null) {
+                    authorizedDeviceList = deviceAuthorizationResult.getAuthorizedDevices();
+                    unAuthorizedDeviceList = deviceAuthorizationResult.getUnauthorizedDevices();
+                } else {
+                    //There is no user in the context, hence each device is only checked for whether its device
+                    //type requires authorization.
+                    boolean isAuthorized;
+                    authorizedDeviceList = new ArrayList<>();
+                    for (DeviceIdentifier devId : deviceIds) {
+                        isAuthorized = deviceAccessAuthorizationService.isUserAuthorized(devId, requiredPermissions);
+                        if (isAuthorized) {
+                            authorizedDeviceList.add(devId);
+                        } else {
+                            unAuthorizedDeviceList.add(devId);
+                        }
                     }
                 }
             }
@@ -592,6 +606,20 @@ public class OperationManagerImpl implements OperationManager {
         return deviceIDHolder;
     }
 
+    private List<Device> getDevices(List<DeviceIdentifier> deviceIds) throws OperationManagementException {
+        try {
+            List<Device> devices = DeviceManagementDataHolder.getInstance().getDeviceManagementProvider()
+                    .getDevicesByIdentifiers(deviceIds, false);
+            if (devices.size() < deviceIds.size() && log.isDebugEnabled()) {
+                log.debug((deviceIds.size() - devices.size()) + " of the given devices are not found");
+            }
+            return devices;
+        } catch (DeviceManagementException e) {
+            throw new OperationManagementException(
+                    "Error occurred while retrieving device info.", e);
+        }
+    }
+
     private Device getDevice(DeviceIdentifier deviceId) throws OperationManagementException {
         try {
             return DeviceManagementDataHolder.getInstance().getDeviceManagementProvider().getDevice(deviceId, false);
@@ -830,15 +858,24 @@ public class OperationManagerImpl implements OperationManager {
                 break;
         }
 
+        // skip the operation lookup if the enrolment is known to have nothing to deliver
+        PendingOperationCacheManager pendingOperationCacheManager = PendingOperationCacheManagerImpl.getInstance();
+        Long pendingOperationState = pendingOperationCacheManager.getState(enrolmentId);
+        if (pendingOperationCacheManager.isDrained(pendingOperationState, notNowOperationFrequency > 0)) {
+            return null;
+        }
+
         try {
             OperationManagementDAOFactory.openConnection();
             io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation dtoOperation = null;
+            boolean isNotNowDrained = true;
 
             // check whether notnow is set
             if (notNowOperationFrequency > 0) {
                 // retrieve Notnow operations
                 dtoOperation = operationDAO.getNextOperation(enrolmentInfo.getId(),
                         io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation.Status.NOTNOW);
+                isNotNowDrained = dtoOperation == null;
             }
 
             if (dtoOperation != null) {
@@ -875,6 +912,9 @@ public class OperationManagerImpl implements OperationManager {
 //                    dtoOperation = policyOperationDAO.getOperation(dtoOperation.getId());
 //                }
                 operation = OperationDAOUtil.convertOperation(dtoOperation);
+            } else {
+                pendingOperationCacheManager.markDrained(enrolmentId, pendingOperationState,
+                        notNowOperationFrequency > 0 && isNotNowDrained);
             }
         } catch (OperationManagementDAOException e) {
             throw new OperationManagementException("Error occurred while retrieving next pending operation", e);
@@ -918,6 +958,10 @@ public class OperationManagerImpl implements OperationManager {
                                         Operation.Status.valueOf(operation.getStatus().
                                         toString()));
                         OperationManagementDAOFactory.commitTransaction();
+                        if (isOperationUpdated && (Operation.Status.PENDING.equals(operation.getStatus())
+                                || Operation.Status.NOTNOW.equals(operation.getStatus()))) {
+                            PendingOperationCacheManagerImpl.getInstance().markPending(enrolmentId);
+                        }
                         break;
                     } catch (OperationManagementDAOException e) {
                         OperationManagementDAOFactory.rollbackTransaction();
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.common.exceptions.TransactionManagementException;
+import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.StoredOperationPayload;
+import io.entgra.device.mgt.core.device.mgt.core.internal.DeviceManagementDataHolder;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationDAO;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOException;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.RandomlyAssignedScheduleTask;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.ntask.common.TaskException;
+import org.wso2.carbon.ntask.core.service.TaskService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Re-encodes operation payloads, properties and large operation responses which were stored with a codec other
+ * than the configured one. Rows are walked in id order, one batch per transaction, and rows which are already in
+ * the configured format are left untouched, so the task can be stopped and run again at any time. The task runs on
+ * a single node of the cluster and removes itself once a full pass over the stored rows is completed.
+ */
+public class OperationPayloadMigrationTask extends RandomlyAssignedScheduleTask {
+
+    public static final String TASK_TYPE = "OPERATION_PAYLOAD_MIGRATION";
+    public static final String TASK_NAME = "OPERATION_PAYLOAD_MIGRATION_TASK";
+    public static final String BATCH_SIZE = "BATCH_SIZE";
+
+    private static final Log log = LogFactory.getLog(OperationPayloadMigrationTask.class);
+    private static volatile boolean stopRequested = false;
+    private OperationDAO operationDAO;
+    private int batchSize;
+
+    /**
+     * Request a running migration to stop after its current batch, or allow it to run again.
+     *
+     * @param stopRequested true to stop the migration, false to allow it to run
+     */
+    public static void setStopRequested(boolean stopRequested) {
+        OperationPayloadMigrationTask.stopRequested = stopRequested;
+    }
+
+    @Override
+    public void setProperties(Map<String, String> properties) {
+        String batchSizeProperty = properties.get(BATCH_SIZE);
+        batchSize = batchSizeProperty != null ? Integer.parseInt(batchSizeProperty)
+                : OperationPayloadCodecFactory.getConfiguration().getMigrationBatchSize();
+    }
+
+    @Override
+    protected void setup() {
+        operationDAO = OperationManagementDAOFactory.getOperationDAO();
+    }
+
+    @Override
+    protected void executeRandomlyAssignedTask() {
+        String codec = OperationPayloadCodecFactory.getCodec().getName();
+        log.info("Started re-encoding stored operation payloads with the " + codec + " codec");
+        try {
+            int operations = migrateOperationPayloads();
+            int responses = migrateLargeOperationResponses();
+            if (stopRequested) {
+                log.info("Stopped re-encoding stored operation payloads after re-encoding " + operations
+                        + " operation payloads and " + responses + " large operation responses");
+                return;
+            }
+            log.info("Re-encoded " + operations + " operation payloads and " + responses
+                    + " large operation responses with the " + codec + " codec");
+            removeTask();
+        } catch (OperationManagementDAOException e) {
+            log.error("Error occurred while re-encoding stored operation payloads", e);
+        } catch (TransactionManagementException e) {
+            log.error("Transactional error occurred while re-encoding stored operation payloads", e);
+        }
+    }
+
+    @Override
+    public String getTaskName() {
+        return TASK_NAME;
+    }
+
+    private void removeTask() {
+        try {
+            TaskService taskService = DeviceManagementDataHolder.getInstance().getTaskService();
+            if (taskService != null && taskService.isServerInit()) {
+                taskService.getTaskManager(TASK_TYPE).deleteTask(TASK_NAME);
+            }
+        } catch (TaskException e) {
+            log.error("Error occurred while removing the completed operation payload migration task", e);
+        }
+    }
+
+    private int migrateOperationPayloads() throws OperationManagementDAOException, TransactionManagementException {
+        int lastId = 0;
+        int migrated = 0;
+        while (!stopRequested) {
+            try {
+                OperationManagementDAOFactory.beginTransaction();
+                List<StoredOperationPayload> payloads = operationDAO.getStoredOperationPayloads(lastId, batchSize);
+                if (payloads.isEmpty()) {
+                    OperationManagementDAOFactory.commitTransaction();
+                    return migrated;
+                }
+                List<StoredOperationPayload> reEncoded = new ArrayList<>();
+                for (StoredOperationPayload payload : payloads) {
+                    if (!OperationPayloadCodecFactory.isEncodedWithCurrentCodec(payload.getPayload())
+                            || !OperationPayloadCodecFactory.isEncodedWithCurrentCodec(payload.getProperties())) {
+                        try {
+                            payload.setPayload(reEncode(payload.getPayload()));
+                            payload.setProperties(reEncode(payload.getProperties()));
+                            reEncoded.add(payload);
+                        } catch (IOException | ClassNotFoundException e) {
+                            log.warn("Skipping operation " + payload.getId() + " since its payload cannot be decoded",
+                                    e);
+                        }
+                    }
+                }
+                if (!reEncoded.isEmpty()) {
+                    operationDAO.updateStoredOperationPayloads(reEncoded);
+                }
+                OperationManagementDAOFactory.commitTransaction();
+                migrated += reEncoded.size();
+                lastId = payloads.get(payloads.size() - 1).getId();
+            } catch (OperationManagementDAOException e) {
+                OperationManagementDAOFactory.rollbackTransaction();
+                throw e;
+            } finally {
+                OperationManagementDAOFactory.closeConnection();
+            }
+        }
+        return migrated;
+    }
+
+    private int migrateLargeOperationResponses()
+            throws OperationManagementDAOException, TransactionManagementException {
+        int lastId = 0;
+        int migrated = 0;
+        while (!stopRequested) {
+            try {
+                OperationManagementDAOFactory.beginTransaction();
+                List<StoredOperationPayload> responses =
+                        operationDAO.getStoredLargeOperationResponses(lastId, batchSize);
+                if (responses.isEmpty()) {
+                    OperationManagementDAOFactory.commitTransaction();
+                    return migrated;
+                }
+                List<StoredOperationPayload> reEncoded = new ArrayList<>();
+                for (StoredOperationPayload response : responses) {
+                    if (!OperationPayloadCodecFactory.isEncodedWithCurrentCodec(response.getPayload())) {
+                        try {
+                            response.setPayload(reEncode(response.getPayload()));
+                            reEncoded.add(response);
+                        } catch (IOException | ClassNotFoundException e) {
+                            log.warn("Skipping large operation response " + response.getId()
+                                    + " since it cannot be decoded", e);
+                        }
+                    }
+                }
+                if (!reEncoded.isEmpty()) {
+                    operationDAO.updateStoredLargeOperationResponses(reEncoded);
+                }
+                OperationManagementDAOFactory.commitTransaction();
+                migrated += reEncoded.size();
+                lastId = responses.get(responses.size() - 1).getId();
+            } catch (OperationManagementDAOException e) {
+                OperationManagementDAOFactory.rollbackTransaction();
+                throw e;
+            } finally {
+                OperationManagementDAOFactory.closeConnection();
+            }
+        }
+        return migrated;
+    }
+
+    private byte[] reEncode(byte[] data) throws IOException, ClassNotFoundException {
+        if (OperationPayloadCodecFactory.isEncodedWithCurrentCodec(data)) {
+            return data;
+        }
+        return OperationPayloadCodecFactory.encode(OperationPayloadCodecFactory.decode(data));
+    }
+}
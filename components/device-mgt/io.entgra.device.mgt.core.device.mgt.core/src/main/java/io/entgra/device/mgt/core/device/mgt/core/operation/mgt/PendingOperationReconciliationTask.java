@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.core.cache.PendingOperationCacheManager;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.PendingOperationCacheManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationDAO;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOException;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Marks enrolments which have PENDING or NOTNOW operations updated since the previous run as pending in the
+ * pending operation cache. This corrects the cache for operation mappings which were written by paths that do not
+ * update the cache, such as status resets done directly through the DAO layer or by another node.
+ */
+public class PendingOperationReconciliationTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(PendingOperationReconciliationTask.class);
+    private final OperationDAO operationDAO = OperationManagementDAOFactory.getOperationDAO();
+    private final PendingOperationCacheManager pendingOperationCacheManager =
+            PendingOperationCacheManagerImpl.getInstance();
+    private final long overlap;
+    private long lastRunTime;
+
+    /**
+     * @param overlap Seconds by which each run looks back beyond the start of the previous run, so that mappings
+     *                committed while the previous run was in progress are not missed.
+     */
+    public PendingOperationReconciliationTask(long overlap) {
+        this.overlap = overlap;
+        this.lastRunTime = System.currentTimeMillis() / 1000;
+    }
+
+    @Override
+    public void run() {
+        long runTime = System.currentTimeMillis() / 1000;
+        Map<Integer, List<Integer>> enrolments;
+        try {
+            OperationManagementDAOFactory.openConnection();
+            enrolments = operationDAO.getEnrolmentsWithPendingOperations(lastRunTime - overlap);
+        } catch (OperationManagementDAOException e) {
+            log.error("Error occurred while retrieving enrolments with pending operations", e);
+            return;
+        } catch (SQLException e) {
+            log.error("Error occurred while opening a connection to the data source", e);
+            return;
+        } catch (RuntimeException e) {
+            log.error("Unexpected error occurred while reconciling the pending operation cache", e);
+            return;
+        } finally {
+            OperationManagementDAOFactory.closeConnection();
+        }
+        for (Map.Entry<Integer, List<Integer>> tenantEnrolments : enrolments.entrySet()) {
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(tenantEnrolments.getKey(), true);
+                pendingOperationCacheManager.markPending(tenantEnrolments.getValue());
+            } catch (RuntimeException e) {
+                log.error("Error occurred while reconciling the pending operation cache of tenant "
+                        + tenantEnrolments.getKey(), e);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Reconciled the pending operation cache for enrolments of " + enrolments.size() + " tenants");
+        }
+        lastRunTime = runTime;
+    }
+}
@@ -27,6 +27,7 @@ import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOExceptio
 import io.entgra.device.mgt.core.device.mgt.core.dto.OperationDTO;
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation;
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.OperationResponseMeta;
+import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.StoredOperationPayload;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.OperationMapping;
 
 import java.util.List;
@@ -140,4 +141,52 @@ public interface OperationDAO {
      */
     OperationDTO getOperationDetailsById(int operationId, int tenantId)
             throws OperationManagementDAOException;
+
+    /**
+     * Retrieve the stored payload and properties of operations, ordered by the operation id.
+     *
+     * @param lastId Only operations with an id greater than this are returned
+     * @param limit  Maximum number of operations to return
+     * @return Stored payloads of the operations
+     * @throws OperationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    List<StoredOperationPayload> getStoredOperationPayloads(int lastId, int limit)
+            throws OperationManagementDAOException;
+
+    /**
+     * Replace the stored payload and properties of the given operations.
+     *
+     * @param payloads Re-encoded payloads of the operations
+     * @throws OperationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    void updateStoredOperationPayloads(List<StoredOperationPayload> payloads) throws OperationManagementDAOException;
+
+    /**
+     * Retrieve the stored large operation responses, ordered by the response id.
+     *
+     * @param lastId Only responses with an id greater than this are returned
+     * @param limit  Maximum number of responses to return
+     * @return Stored large operation responses
+     * @throws OperationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    List<StoredOperationPayload> getStoredLargeOperationResponses(int lastId, int limit)
+            throws OperationManagementDAOException;
+
+    /**
+     * Replace the stored content of the given large operation responses.
+     *
+     * @param responses Re-encoded large operation responses
+     * @throws OperationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    void updateStoredLargeOperationResponses(List<StoredOperationPayload> responses)
+            throws OperationManagementDAOException;
+
+    /**
+     * Retrieve the enrolments which have PENDING or NOTNOW operations updated at or after the given time.
+     *
+     * @param since Epoch time in seconds
+     * @return Ids of the enrolments, grouped by the tenant id
+     * @throws OperationManagementDAOException if connection establishment or SQL execution fails.
+     */
+    Map<Integer, List<Integer>> getEnrolmentsWithPendingOperations(long since) throws OperationManagementDAOException;
 }
@@ -24,16 +24,12 @@ import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.ConfigOperati
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -55,10 +51,7 @@ public class ConfigOperationMSSQLDAOImpl extends GenericOperationDAOImpl {
             String sql = "INSERT INTO DM_OPERATION(TYPE, CREATED_TIMESTAMP, RECEIVED_TIMESTAMP, OPERATION_CODE, " +
                     "INITIATED_BY, OPERATION_DETAILS, TENANT_ID) VALUES (?, ?, ?, ?, ?, ?, ?)";
             try (PreparedStatement stmt = connection.prepareStatement(sql, new String[]{"id"})) {
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                ObjectOutputStream oos = new ObjectOutputStream(baos);
-                oos.writeObject(operation);
-                byte[] operationBytes = baos.toByteArray();
+                byte[] operationBytes = OperationPayloadCodecFactory.encode(operation);
                 stmt.setString(1, operation.getType().toString());
                 stmt.setLong(2, DeviceManagementDAOUtil.getCurrentUTCTime());
                 stmt.setLong(3, 0);
@@ -86,53 +79,9 @@ public class ConfigOperationMSSQLDAOImpl extends GenericOperationDAOImpl {
         }
     }
 
-    private ByteArrayInputStream toByteArrayInputStream(Operation operation) throws OperationManagementDAOException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        try {
-            ObjectOutputStream objectOutput = new ObjectOutputStream(bos);
-            objectOutput.writeObject(operation);
-            objectOutput.flush();
-        } catch (IOException e) {
-            String msg = "Error when  converting operation id " + operation + " to input stream";
-            log.error(msg, e);
-            throw new OperationManagementDAOException(msg, e);
-        }
-        return new ByteArrayInputStream(bos.toByteArray());
-    }
-
-    private Object fromByteArrayInputStream(InputStream binaryInput) throws OperationManagementDAOException {
-        Object object;
-        ObjectInputStream in = null;
-        try {
-            if (binaryInput == null || binaryInput.available() == 0) {
-                return null;
-            }
-            in = new ObjectInputStream(binaryInput);
-            object = in.readObject();
-        } catch (ClassNotFoundException e) {
-            String msg = "Error when  converting store config to operation due to missing class";
-            log.error(msg, e);
-            throw new OperationManagementDAOException(msg, e);
-        } catch (IOException e) {
-            String msg = "Error when  converting store config to operation";
-            log.error(msg, e);
-            throw new OperationManagementDAOException(msg, e);
-        } finally {
-            try {
-                if (in != null) {
-                    in.close();
-                }
-            } catch (IOException e) {
-            }
-        }
-        return object;
-    }
-
     @Override
     public Operation getOperation(int operationId) throws OperationManagementDAOException {
         ConfigOperation configOperation = null;
-        ByteArrayInputStream bais;
-        ObjectInputStream ois;
         try {
             Connection conn = OperationManagementDAOFactory.getConnection();
             String sql = "SELECT ID, ENABLED, OPERATION_DETAILS FROM DM_OPERATION WHERE ID = ? AND TYPE='CONFIG'";
@@ -141,9 +90,7 @@ public class ConfigOperationMSSQLDAOImpl extends GenericOperationDAOImpl {
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
                         byte[] operationDetails = rs.getBytes("OPERATION_DETAILS");
-                        bais = new ByteArrayInputStream(operationDetails);
-                        ois = new ObjectInputStream(bais);
-                        configOperation = (ConfigOperation) ois.readObject();
+                        configOperation = (ConfigOperation) OperationPayloadCodecFactory.decode(operationDetails);
                         configOperation.setId(rs.getInt("ID"));
                         configOperation.setEnabled(rs.getBoolean("ENABLED"));
                     }
@@ -174,8 +121,6 @@ public class ConfigOperationMSSQLDAOImpl extends GenericOperationDAOImpl {
             throws OperationManagementDAOException {
         ConfigOperation configOperation;
         List<Operation> operations = new ArrayList<>();
-        ByteArrayInputStream bais = null;
-        ObjectInputStream ois = null;
         try {
             Connection conn = OperationManagementDAOFactory.getConnection();
             String sql = "SELECT co.ID, co.OPERATION_DETAILS FROM DM_OPERATION co " +
@@ -187,9 +132,7 @@ public class ConfigOperationMSSQLDAOImpl extends GenericOperationDAOImpl {
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
                         byte[] operationDetails = rs.getBytes("OPERATION_DETAILS");
-                        bais = new ByteArrayInputStream(operationDetails);
-                        ois = new ObjectInputStream(bais);
-                        configOperation = (ConfigOperation) ois.readObject();
+                        configOperation = (ConfigOperation) OperationPayloadCodecFactory.decode(operationDetails);
                         configOperation.setStatus(status);
                         configOperation.setId(rs.getInt("ID"));
                         operations.add(configOperation);
@@ -211,21 +154,6 @@ public class ConfigOperationMSSQLDAOImpl extends GenericOperationDAOImpl {
                     "for the device'" + enrolmentId + "' with status '" + status.toString();
             log.error(msg, e);
             throw new OperationManagementDAOException(msg, e);
-        } finally {
-            if (bais != null) {
-                try {
-                    bais.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ByteArrayOutputStream", e);
-                }
-            }
-            if (ois != null) {
-                try {
-                    ois.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ObjectOutputStream", e);
-                }
-            }
         }
         return operations;
     }
@@ -24,6 +24,7 @@ import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOUtil;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -59,32 +60,18 @@ public class ConfigOperationPostgresDAOImpl extends GenericOperationDAOImpl {
     }
 
     private byte[] toByteArray(Operation operation) throws OperationManagementDAOException {
-        byte[] bytes;
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
         try {
-            ObjectOutputStream objectOutput = new ObjectOutputStream(bos);
-            objectOutput.writeObject(operation);
-            objectOutput.flush();
-            bytes = bos.toByteArray();
-            objectOutput.close();
+            return OperationPayloadCodecFactory.encode(operation);
         } catch (IOException e) {
             String msg = "Error when  converting operation id " + operation + " to input stream";
             log.error(msg, e);
             throw new OperationManagementDAOException(msg, e);
         }
-        return bytes;
     }
 
     private Object fromByteArray(byte[] bytes) throws OperationManagementDAOException {
-        InputStream binaryInput = new ByteArrayInputStream(bytes);
-        Object object;
-        ObjectInputStream in = null;
         try {
-            if (binaryInput.available() == 0) {
-                return null;
-            }
-            in = new ObjectInputStream(binaryInput);
-            object = in.readObject();
+            return OperationPayloadCodecFactory.decode(bytes);
         } catch (ClassNotFoundException e) {
             String msg = "Error when  converting store config to operation due to missing class";
             log.error(msg, e);
@@ -93,15 +80,7 @@ public class ConfigOperationPostgresDAOImpl extends GenericOperationDAOImpl {
             String msg = "Error when  converting store config to operation";
             log.error(msg, e);
             throw new OperationManagementDAOException(msg, e);
-        } finally {
-            try {
-                if (in != null) {
-                    in.close();
-                }
-            } catch (IOException e) {
-            }
         }
-        return object;
     }
 
     @Override
@@ -32,20 +32,20 @@ import io.entgra.device.mgt.core.device.mgt.core.dto.OperationResponseDTO;
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation;
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.OperationResponseMeta;
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.ProfileOperation;
+import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.StoredOperationPayload;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.OperationMapping;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationDAO;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOUtil;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationDAOUtil;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.JSONObject;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -83,8 +83,8 @@ public class GenericOperationDAOImpl implements OperationDAO {
             stmt.setLong(3, 0);
             stmt.setString(4, operation.getCode());
             stmt.setString(5, operation.getInitiatedBy());
-            stmt.setObject(6, operation.getPayLoad());
-            stmt.setObject(7, operation.getProperties());
+            stmt.setBytes(6, OperationPayloadCodecFactory.encode(operation.getPayLoad()));
+            stmt.setBytes(7, OperationPayloadCodecFactory.encode(operation.getProperties()));
             stmt.setInt(8, PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
             stmt.executeUpdate();
 
@@ -97,6 +97,9 @@ public class GenericOperationDAOImpl implements OperationDAO {
         } catch (SQLException e) {
             throw new OperationManagementDAOException("Error occurred while adding operation metadata. " +
                     e.getMessage(), e);
+        } catch (IOException e) {
+            throw new OperationManagementDAOException("Error occurred while encoding operation payload. " +
+                    e.getMessage(), e);
         } finally {
             OperationManagementDAOUtil.cleanupResources(stmt, rs);
         }
@@ -301,19 +304,14 @@ public class GenericOperationDAOImpl implements OperationDAO {
                                           io.entgra.device.mgt.core.device.mgt.common.operation.mgt.Operation operation,
                                           String deviceId) throws OperationManagementDAOException {
         PreparedStatement stmt = null;
-        ByteArrayOutputStream bao = null;
-        ObjectOutputStream oos = null;
         ResultSet rs = null;
         try {
             Connection connection = OperationManagementDAOFactory.getConnection();
             stmt = connection.prepareStatement("INSERT INTO DM_DEVICE_OPERATION_RESPONSE_LARGE " +
                     "(ID, OPERATION_RESPONSE, OPERATION_ID, EN_OP_MAP_ID, RECEIVED_TIMESTAMP, DEVICE_IDENTIFICATION) " +
                     "VALUES(?, ?, ?, ?, ?, ?)");
-            bao = new ByteArrayOutputStream();
-            oos = new ObjectOutputStream(bao);
-            oos.writeObject(operation.getOperationResponse());
             stmt.setInt(1, responseMeta.getId());
-            stmt.setBytes(2, bao.toByteArray());
+            stmt.setBytes(2, OperationPayloadCodecFactory.encode(operation.getOperationResponse()));
             stmt.setInt(3, operation.getId());
             stmt.setInt(4, responseMeta.getOperationMappingId());
             stmt.setTimestamp(5, responseMeta.getReceivedTimestamp());
@@ -326,20 +324,6 @@ public class GenericOperationDAOImpl implements OperationDAO {
             throw new OperationManagementDAOException("Error occurred while serializing operation response object. " +
                     e.getMessage(), e);
         } finally {
-            if (bao != null) {
-                try {
-                    bao.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ByteArrayOutputStream", e);
-                }
-            }
-            if (oos != null) {
-                try {
-                    oos.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ObjectOutputStream", e);
-                }
-            }
             OperationManagementDAOUtil.cleanupResources(stmt, rs);
         }
     }
@@ -2870,4 +2854,132 @@ public class GenericOperationDAOImpl implements OperationDAO {
 
         return operationDetails;
     }
+
+    @Override
+    public List<StoredOperationPayload> getStoredOperationPayloads(int lastId, int limit)
+            throws OperationManagementDAOException {
+        String sql = "SELECT ID, OPERATION_DETAILS, OPERATION_PROPERTIES FROM DM_OPERATION " +
+                "WHERE ID > ? ORDER BY ID";
+        List<StoredOperationPayload> payloads = new ArrayList<>();
+        try {
+            Connection conn = OperationManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setMaxRows(limit);
+                stmt.setInt(1, lastId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        StoredOperationPayload payload = new StoredOperationPayload();
+                        payload.setId(rs.getInt("ID"));
+                        payload.setPayload(rs.getBytes("OPERATION_DETAILS"));
+                        payload.setProperties(rs.getBytes("OPERATION_PROPERTIES"));
+                        payloads.add(payload);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while retrieving stored operation payloads after operation id " + lastId;
+            log.error(msg, e);
+            throw new OperationManagementDAOException(msg, e);
+        }
+        return payloads;
+    }
+
+    @Override
+    public void updateStoredOperationPayloads(List<StoredOperationPayload> payloads)
+            throws OperationManagementDAOException {
+        String sql = "UPDATE DM_OPERATION SET OPERATION_DETAILS = ?, OPERATION_PROPERTIES = ? WHERE ID = ?";
+        try {
+            Connection conn = OperationManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (StoredOperationPayload payload : payloads) {
+                    stmt.setBytes(1, payload.getPayload());
+                    stmt.setBytes(2, payload.getProperties());
+                    stmt.setInt(3, payload.getId());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while updating stored operation payloads";
+            log.error(msg, e);
+            throw new OperationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public List<StoredOperationPayload> getStoredLargeOperationResponses(int lastId, int limit)
+            throws OperationManagementDAOException {
+        String sql = "SELECT ID, OPERATION_RESPONSE FROM DM_DEVICE_OPERATION_RESPONSE_LARGE " +
+                "WHERE ID > ? ORDER BY ID";
+        List<StoredOperationPayload> responses = new ArrayList<>();
+        try {
+            Connection conn = OperationManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setMaxRows(limit);
+                stmt.setInt(1, lastId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        StoredOperationPayload response = new StoredOperationPayload();
+                        response.setId(rs.getInt("ID"));
+                        response.setPayload(rs.getBytes("OPERATION_RESPONSE"));
+                        responses.add(response);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while retrieving stored large operation responses after response id "
+                    + lastId;
+            log.error(msg, e);
+            throw new OperationManagementDAOException(msg, e);
+        }
+        return responses;
+    }
+
+    @Override
+    public void updateStoredLargeOperationResponses(List<StoredOperationPayload> responses)
+            throws OperationManagementDAOException {
+        String sql = "UPDATE DM_DEVICE_OPERATION_RESPONSE_LARGE SET OPERATION_RESPONSE = ? WHERE ID = ?";
+        try {
+            Connection conn = OperationManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (StoredOperationPayload response : responses) {
+                    stmt.setBytes(1, response.getPayload());
+                    stmt.setInt(2, response.getId());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while updating stored large operation responses";
+            log.error(msg, e);
+            throw new OperationManagementDAOException(msg, e);
+        }
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getEnrolmentsWithPendingOperations(long since)
+            throws OperationManagementDAOException {
+        String sql = "SELECT DISTINCT TENANT_ID, ENROLMENT_ID FROM DM_ENROLMENT_OP_MAPPING " +
+                "WHERE STATUS IN (?, ?) AND UPDATED_TIMESTAMP >= ?";
+        Map<Integer, List<Integer>> enrolments = new HashMap<>();
+        try {
+            Connection conn = OperationManagementDAOFactory.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, Operation.Status.PENDING.toString());
+                stmt.setString(2, Operation.Status.NOTNOW.toString());
+                stmt.setLong(3, since);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        enrolments.computeIfAbsent(rs.getInt("TENANT_ID"), k -> new ArrayList<>())
+                                .add(rs.getInt("ENROLMENT_ID"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error occurred while retrieving enrolments with pending operations updated since " + since;
+            log.error(msg, e);
+            throw new OperationManagementDAOException(msg, e);
+        }
+        return enrolments;
+    }
 }
@@ -26,6 +26,7 @@ import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.ProfileOperat
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOFactory;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationManagementDAOUtil;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
 
 import java.io.*;
 import java.sql.*;
@@ -40,8 +41,6 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
     public int addOperation(Operation operation) throws OperationManagementDAOException {
         PreparedStatement stmt = null;
         ResultSet rs = null;
-        ByteArrayOutputStream bao = null;
-        ObjectOutputStream oos = null;
         try {
             operation.setCreatedTimeStamp(new Timestamp(DeviceManagementDAOUtil.getCurrentUTCTime()).toString());
             operation.setEnabled(true);
@@ -54,12 +53,7 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
             stmt.setLong(3, 0);
             stmt.setString(4, operation.getCode());
             stmt.setString(5, operation.getInitiatedBy());
-
-            bao = new ByteArrayOutputStream();
-            oos = new ObjectOutputStream(bao);
-            oos.writeObject(operation.getPayLoad());
-
-            stmt.setBytes(6, bao.toByteArray());
+            stmt.setBytes(6, OperationPayloadCodecFactory.encode(operation.getPayLoad()));
             stmt.setBoolean(7, operation.isEnabled());
             stmt.setInt(8, PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
             stmt.executeUpdate();
@@ -75,20 +69,6 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
         } catch (IOException e) {
             throw new OperationManagementDAOException("Error occurred while serializing profile operation object", e);
         } finally {
-            if (bao != null) {
-                try {
-                    bao.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ByteArrayOutputStream", e);
-                }
-            }
-            if (oos != null) {
-                try {
-                    oos.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ObjectOutputStream", e);
-                }
-            }
             OperationManagementDAOUtil.cleanupResources(stmt);
         }
     }
@@ -98,8 +78,6 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
         ResultSet rs = null;
         ProfileOperation profileOperation = null;
 
-        ByteArrayInputStream bais;
-        ObjectInputStream ois;
         try {
             Connection conn = OperationManagementDAOFactory.getConnection();
             String sql = "SELECT po.ID, po.ENABLED, po.OPERATION_DETAILS, po.CREATED_TIMESTAMP, po.OPERATION_CODE " +
@@ -112,9 +90,7 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
             if (rs.next()) {
                 byte[] operationDetails = rs.getBytes("OPERATION_DETAILS");
                 int oppId = rs.getInt("ID");
-                bais = new ByteArrayInputStream(operationDetails);
-                ois = new ObjectInputStream(bais);
-                Object obj = ois.readObject();
+                Object obj = OperationPayloadCodecFactory.decode(operationDetails);
                 if(obj instanceof String){
                     profileOperation = new ProfileOperation();
                     profileOperation.setCode(rs.getString("OPERATION_CODE"));
@@ -153,9 +129,6 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
 
         List<Operation> operationList = new ArrayList<Operation>();
 
-        ByteArrayInputStream bais = null;
-        ObjectInputStream ois = null;
-
         try {
             Connection conn = OperationManagementDAOFactory.getConnection();
             String sql = "SELECT po1.ID, po1.ENABLED, po1.STATUS, po1.TYPE, po1.CREATED_TIMESTAMP, po1.RECEIVED_TIMESTAMP, " +
@@ -172,9 +145,7 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
 
             while (rs.next()) {
                 byte[] operationDetails = rs.getBytes("OPERATION_DETAILS");
-                bais = new ByteArrayInputStream(operationDetails);
-                ois = new ObjectInputStream(bais);
-                Object obj = ois.readObject();
+                Object obj = OperationPayloadCodecFactory.decode(operationDetails);
                 if(obj instanceof String){
                     profileOperation = new ProfileOperation();
                     profileOperation.setCode(rs.getString("OPERATION_CODE"));
@@ -203,20 +174,6 @@ public class ProfileOperationDAOImpl extends GenericOperationDAOImpl {
             throw new OperationManagementDAOException("SQL error occurred while retrieving the operation " +
                     "available for the device'" + enrolmentId + "' with status '" + status.toString(), e);
         } finally {
-            if (bais != null) {
-                try {
-                    bais.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ByteArrayOutputStream", e);
-                }
-            }
-            if (ois != null) {
-                try {
-                    ois.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ObjectOutputStream", e);
-                }
-            }
             OperationManagementDAOUtil.cleanupResources(stmt, rs);
         }
         return operationList;
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact, versioned storage format for operation payloads. Every value starts with a three byte header,
+ * <pre>
+ *     [format version][value type][flags]
+ * </pre>
+ * followed by the body. Strings, which most operation payloads and responses are, are stored as plain UTF-8 and
+ * properties holding only strings as length prefixed key value pairs, so neither pays for Java serialization.
+ * Any other payload type is stored with Java serialization inside the envelope, since its class is only known to
+ * the plugin which created it. Bodies larger than the compression threshold are gzipped when that makes them
+ * smaller. The format version byte can never be the first byte of a Java serialization stream (0xAC), which is
+ * how values written with the original format are told apart.
+ */
+public class CompactPayloadCodec implements OperationPayloadCodec {
+
+    public static final String NAME = "COMPACT";
+    public static final byte FORMAT_VERSION = 0x01;
+
+    static final byte TYPE_STRING = 0x01;
+    static final byte TYPE_PROPERTIES = 0x02;
+    static final byte TYPE_SERIALIZED = 0x03;
+    static final byte FLAG_GZIP = 0x01;
+
+    private static final int HEADER_LENGTH = 3;
+
+    private final int compressionThreshold;
+
+    public CompactPayloadCodec(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length >= HEADER_LENGTH && data[0] == FORMAT_VERSION;
+    }
+
+    @Override
+    public byte[] encode(Object payload) throws IOException {
+        byte type;
+        byte[] body;
+        if (payload instanceof String) {
+            type = TYPE_STRING;
+            body = ((String) payload).getBytes(StandardCharsets.UTF_8);
+        } else if (payload instanceof Properties && hasOnlyStrings((Properties) payload)) {
+            type = TYPE_PROPERTIES;
+            body = writeProperties((Properties) payload);
+        } else {
+            type = TYPE_SERIALIZED;
+            body = serialize(payload);
+        }
+        byte flags = 0;
+        if (compressionThreshold >= 0 && body.length >= compressionThreshold) {
+            byte[] compressed = gzip(body);
+            if (compressed.length < body.length) {
+                body = compressed;
+                flags |= FLAG_GZIP;
+            }
+        }
+        byte[] data = new byte[HEADER_LENGTH + body.length];
+        data[0] = FORMAT_VERSION;
+        data[1] = type;
+        data[2] = flags;
+        System.arraycopy(body, 0, data, HEADER_LENGTH, body.length);
+        return data;
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        if (!canDecode(data)) {
+            throw new IOException("Unsupported operation payload format version: " + data[0]);
+        }
+        byte type = data[1];
+        byte[] body = data;
+        int offset = HEADER_LENGTH;
+        int length = data.length - HEADER_LENGTH;
+        if ((data[2] & FLAG_GZIP) != 0) {
+            body = gunzip(data, offset, length);
+            offset = 0;
+            length = body.length;
+        }
+        switch (type) {
+            case TYPE_STRING:
+                return new String(body, offset, length, StandardCharsets.UTF_8);
+            case TYPE_PROPERTIES:
+                return readProperties(new ByteArrayInputStream(body, offset, length));
+            case TYPE_SERIALIZED:
+                return JavaSerializationPayloadCodec.deserialize(body, offset, length);
+            default:
+                throw new IOException("Unknown operation payload type: " + type);
+        }
+    }
+
+    private static boolean hasOnlyStrings(Properties properties) {
+        for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+            if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] writeProperties(Properties properties) throws IOException {
+        ByteArrayOutputStream bao = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bao)) {
+            out.writeInt(properties.size());
+            for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+                writeString(out, (String) entry.getKey());
+                writeString(out, (String) entry.getValue());
+            }
+        }
+        return bao.toByteArray();
+    }
+
+    private static Properties readProperties(InputStream inputStream) throws IOException {
+        Properties properties = new Properties();
+        try (DataInputStream in = new DataInputStream(inputStream)) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                properties.setProperty(readString(in), readString(in));
+            }
+        }
+        return properties;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] serialize(Object payload) throws IOException {
+        ByteArrayOutputStream bao = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bao)) {
+            oos.writeObject(payload);
+        }
+        return bao.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bao = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(bao)) {
+            out.write(body);
+        }
+        return bao.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] data, int offset, int length) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data, offset, length))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -32,11 +32,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.JSONObject;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.sql.Blob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -145,30 +143,11 @@ public class OperationDAOUtil {
             Timestamp receivedTimestamp = rs.getTimestamp("RECEIVED_TIMESTAMP");
             response.setReceivedTimeStamp(new Date(receivedTimestamp.getTime()).toString());
         }
-        ByteArrayInputStream bais = null;
-        ObjectInputStream ois = null;
-        byte[] contentBytes;
-        try {
-            if (rs.getBytes("OPERATION_RESPONSE") != null) {
-                contentBytes = (byte[]) rs.getBytes("OPERATION_RESPONSE");
-                bais = new ByteArrayInputStream(contentBytes);
-                ois = new ObjectInputStream(bais);
-                response.setResponse(ois.readObject().toString());
-            }
-        } finally {
-            if (bais != null) {
-                try {
-                    bais.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ByteArrayOutputStream", e);
-                }
-            }
-            if (ois != null) {
-                try {
-                    ois.close();
-                } catch (IOException e) {
-                    log.warn("Error occurred while closing ObjectOutputStream", e);
-                }
+        byte[] contentBytes = rs.getBytes("OPERATION_RESPONSE");
+        if (contentBytes != null) {
+            Object content = OperationPayloadCodecFactory.decode(contentBytes);
+            if (content != null) {
+                response.setResponse(content.toString());
             }
         }
         return response;
@@ -348,9 +327,8 @@ public class OperationDAOUtil {
         operation.setInitiatedBy(rs.getString("INITIATED_BY"));
         byte[] operationDetails = rs.getBytes("OPERATION_DETAILS");
         if (!rs.wasNull()) {
-            try (ByteArrayInputStream bais = new ByteArrayInputStream(operationDetails);
-                 ObjectInputStream ois = new ObjectInputStream(bais)) {
-                operation.setPayLoad(ois.readObject());
+            try {
+                operation.setPayLoad(OperationPayloadCodecFactory.decode(operationDetails));
             } catch (IOException e) {
                 String msg = "IO Error occurred while retrieving operation details";
                 log.error(msg, e);
@@ -367,9 +345,8 @@ public class OperationDAOUtil {
         }
         byte[] operationProperties = rs.getBytes("OPERATION_PROPERTIES");
         if (!rs.wasNull()) {
-            try (ByteArrayInputStream bais = new ByteArrayInputStream(operationProperties);
-                 ObjectInputStream ois = new ObjectInputStream(bais)) {
-                operation.setProperties((Properties) ois.readObject());
+            try {
+                operation.setProperties((Properties) OperationPayloadCodecFactory.decode(operationProperties));
             } catch (IOException e) {
                 String msg = "IO Error occurred while retrieving operation properties";
                 log.error(msg, e);
@@ -404,24 +381,17 @@ public class OperationDAOUtil {
             }
             byte[] blobBytes = outputStream.toByteArray();
 
-            // Check if the blob data is a serialized Java object
-            if (blobBytes.length > 2 && (blobBytes[0] & 0xFF) == 0xAC && (blobBytes[1] & 0xFF) == 0xED) {
-                // Deserialize the object
-                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(blobBytes))) {
-                    Object obj = ois.readObject();
-                    if (obj instanceof String) {
-                        jsonString = (String) obj;
-                    } else {
-                        jsonString = new JSONObject(obj).toString();
-                    }
-                } catch (ClassNotFoundException e) {
-                    String msg = "Failed to deserialize object from BLOB";
-                    log.error(msg, e);
-                    throw new SQLException(msg, e);
+            try {
+                Object obj = OperationPayloadCodecFactory.decode(blobBytes);
+                if (obj == null || obj instanceof String) {
+                    jsonString = (String) obj;
+                } else {
+                    jsonString = new JSONObject(obj).toString();
                 }
-            } else {
-                // If not serialized, treat it as plain JSON string
-                jsonString = new String(blobBytes, "UTF-8");
+            } catch (ClassNotFoundException e) {
+                String msg = "Failed to deserialize object from BLOB";
+                log.error(msg, e);
+                throw new SQLException(msg, e);
             }
         } catch (IOException e) {
             String msg = "Failed to convert BLOB to JSON string";
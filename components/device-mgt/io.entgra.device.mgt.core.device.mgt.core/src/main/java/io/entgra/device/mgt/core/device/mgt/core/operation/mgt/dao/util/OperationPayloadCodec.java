@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util;
+
+import java.io.IOException;
+
+/**
+ * Encodes operation payloads, operation properties and large operation responses into the byte form which is
+ * stored in the operation BLOB columns, and decodes them back.
+ */
+public interface OperationPayloadCodec {
+
+    /**
+     * @return Name used to select this codec in cdm-config.xml
+     */
+    String getName();
+
+    /**
+     * Check whether the given bytes were written by this codec.
+     *
+     * @param data Stored bytes, never null or empty
+     * @return true if this codec is able to decode the given bytes
+     */
+    boolean canDecode(byte[] data);
+
+    byte[] encode(Object payload) throws IOException;
+
+    Object decode(byte[] data) throws IOException, ClassNotFoundException;
+}
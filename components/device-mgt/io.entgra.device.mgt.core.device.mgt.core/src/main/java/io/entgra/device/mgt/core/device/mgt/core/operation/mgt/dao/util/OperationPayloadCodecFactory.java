@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util;
+
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.operation.codec.OperationPayloadCodecConfiguration;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resolves the codec configured in cdm-config.xml for writing operation payloads and decodes stored payloads
+ * regardless of the format they were written in, so rows written before the codec was changed stay readable.
+ */
+public class OperationPayloadCodecFactory {
+
+    private static final Log log = LogFactory.getLog(OperationPayloadCodecFactory.class);
+    private static final OperationPayloadCodec JAVA_CODEC = new JavaSerializationPayloadCodec();
+    private static volatile OperationPayloadCodec codec;
+
+    private OperationPayloadCodecFactory() {
+        throw new AssertionError();
+    }
+
+    public static OperationPayloadCodec getCodec() {
+        if (codec == null) {
+            synchronized (OperationPayloadCodecFactory.class) {
+                if (codec == null) {
+                    codec = createCodec(getConfiguration());
+                }
+            }
+        }
+        return codec;
+    }
+
+    public static void setCodec(OperationPayloadCodec operationPayloadCodec) {
+        codec = operationPayloadCodec;
+    }
+
+    public static OperationPayloadCodecConfiguration getConfiguration() {
+        DeviceManagementConfig deviceManagementConfig =
+                DeviceConfigurationManager.getInstance().getDeviceManagementConfig();
+        if (deviceManagementConfig == null || deviceManagementConfig.getOperationPayloadCodecConfiguration() == null) {
+            return new OperationPayloadCodecConfiguration();
+        }
+        return deviceManagementConfig.getOperationPayloadCodecConfiguration();
+    }
+
+    /**
+     * Encode the given payload with the configured codec.
+     *
+     * @param payload Operation payload, properties or response
+     * @return Encoded bytes, or null if the payload is null so that the column is left as NULL
+     * @throws IOException if the payload cannot be encoded
+     */
+    public static byte[] encode(Object payload) throws IOException {
+        if (payload == null) {
+            return null;
+        }
+        return getCodec().encode(payload);
+    }
+
+    /**
+     * Decode a stored payload. Values written with Java serialization, the compact format or the configured codec
+     * are detected by their leading bytes. Anything else is a value some JDBC drivers stored as plain text when
+     * the payload was bound with setObject, and is returned as a string.
+     *
+     * @param data Stored bytes
+     * @return Decoded payload, or null if there is nothing stored
+     * @throws IOException            if the stored bytes are corrupted
+     * @throws ClassNotFoundException if the class of a serialized payload is not visible
+     */
+    public static Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        OperationPayloadCodec configuredCodec = getCodec();
+        if (configuredCodec.canDecode(data)) {
+            return configuredCodec.decode(data);
+        }
+        if (JAVA_CODEC.canDecode(data)) {
+            return JAVA_CODEC.decode(data);
+        }
+        if (data[0] == CompactPayloadCodec.FORMAT_VERSION) {
+            return new CompactPayloadCodec(-1).decode(data);
+        }
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param data Stored bytes
+     * @return true if the given bytes are already in the format of the configured codec
+     */
+    public static boolean isEncodedWithCurrentCodec(byte[] data) {
+        return data == null || data.length == 0 || getCodec().canDecode(data);
+    }
+
+    private static OperationPayloadCodec createCodec(OperationPayloadCodecConfiguration config) {
+        String name = config.getCodec();
+        if (name == null || JavaSerializationPayloadCodec.NAME.equalsIgnoreCase(name.trim())) {
+            return JAVA_CODEC;
+        }
+        if (CompactPayloadCodec.NAME.equalsIgnoreCase(name.trim())) {
+            return new CompactPayloadCodec(config.getCompressionThreshold());
+        }
+        try {
+            Class<?> codecClass = Class.forName(name.trim());
+            return (OperationPayloadCodec) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.error("Unable to load the operation payload codec '" + name + "', falling back to "
+                    + JavaSerializationPayloadCodec.NAME, e);
+            return JAVA_CODEC;
+        }
+    }
+}
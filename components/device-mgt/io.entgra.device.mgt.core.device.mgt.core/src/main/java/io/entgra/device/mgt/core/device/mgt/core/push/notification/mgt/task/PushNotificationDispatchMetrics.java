@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.push.notification.mgt.task;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters maintained by the push notification scheduler task.
+ */
+public class PushNotificationDispatchMetrics implements PushNotificationDispatchMetricsMXBean {
+
+    private final AtomicLong cycles = new AtomicLong();
+    private final AtomicLong sentNotifications = new AtomicLong();
+    private final AtomicLong failedNotifications = new AtomicLong();
+    private final AtomicLong operationFetches = new AtomicLong();
+    private final AtomicLong committedMappings = new AtomicLong();
+    private final AtomicLong sendTimeNanos = new AtomicLong();
+    private final AtomicLong lastCycleNotifications = new AtomicLong();
+    private final AtomicLong lastCycleMillis = new AtomicLong();
+
+    void recordOperationFetch() {
+        operationFetches.incrementAndGet();
+    }
+
+    void recordSent(long elapsedNanos) {
+        sentNotifications.incrementAndGet();
+        sendTimeNanos.addAndGet(elapsedNanos);
+    }
+
+    void recordFailed(long elapsedNanos) {
+        failedNotifications.incrementAndGet();
+        sendTimeNanos.addAndGet(elapsedNanos);
+    }
+
+    void recordCommitted(int count) {
+        committedMappings.addAndGet(count);
+    }
+
+    void recordCycle(int notifications, long elapsedMillis) {
+        cycles.incrementAndGet();
+        lastCycleNotifications.set(notifications);
+        lastCycleMillis.set(elapsedMillis);
+    }
+
+    @Override
+    public long getCycles() {
+        return cycles.get();
+    }
+
+    @Override
+    public long getSentNotifications() {
+        return sentNotifications.get();
+    }
+
+    @Override
+    public long getFailedNotifications() {
+        return failedNotifications.get();
+    }
+
+    @Override
+    public long getOperationFetches() {
+        return operationFetches.get();
+    }
+
+    @Override
+    public long getCommittedMappings() {
+        return committedMappings.get();
+    }
+
+    /**
+     * @return Average time taken by a notification provider to send a notification, in milliseconds.
+     */
+    @Override
+    public double getAverageSendLatencyMillis() {
+        long attempts = getSentNotifications() + getFailedNotifications();
+        return attempts == 0 ? 0 : sendTimeNanos.get() / 1_000_000.0 / attempts;
+    }
+
+    /**
+     * @return Notifications dispatched per second during the last scheduler cycle.
+     */
+    @Override
+    public double getLastCycleThroughput() {
+        long elapsed = lastCycleMillis.get();
+        return elapsed == 0 ? lastCycleNotifications.get() : lastCycleNotifications.get() * 1000.0 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "cycles=" + getCycles() + ", sent=" + getSentNotifications() + ", failed=" + getFailedNotifications()
+                + ", operationFetches=" + getOperationFetches() + ", committed=" + getCommittedMappings()
+                + ", avgSendLatencyMillis=" + String.format("%.2f", getAverageSendLatencyMillis())
+                + ", lastCycleThroughput=" + String.format("%.2f", getLastCycleThroughput());
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.push.notification.mgt.task;
+
+/**
+ * JMX view of the notifications dispatched by the push notification scheduler task.
+ */
+public interface PushNotificationDispatchMetricsMXBean {
+
+    long getCycles();
+
+    long getSentNotifications();
+
+    long getFailedNotifications();
+
+    long getOperationFetches();
+
+    long getCommittedMappings();
+
+    double getAverageSendLatencyMillis();
+
+    double getLastCycleThroughput();
+}
@@ -30,6 +30,7 @@ import io.entgra.device.mgt.core.device.mgt.common.push.notification.Notificatio
 import io.entgra.device.mgt.core.device.mgt.common.push.notification.NotificationStrategy;
 import io.entgra.device.mgt.core.device.mgt.common.push.notification.PushNotificationExecutionFailedException;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.push.notification.PushNotificationConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.Operation;
 import io.entgra.device.mgt.core.device.mgt.core.internal.DeviceManagementDataHolder;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.OperationMapping;
@@ -39,27 +40,40 @@ import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationMana
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.OperationMappingDAO;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * ${{@link PushNotificationSchedulerTask}} is for sending push notifications for given device batch.
+ * Notifications are sent in parallel through a bounded worker pool per notification provider. Each operation is
+ * fetched once per batch regardless of the number of devices it targets, tenants are interleaved so that a large
+ * operation of one tenant does not hold back the others, and the mapping status of sent notifications is committed
+ * in batches as they complete.
  */
 public class PushNotificationSchedulerTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(PushNotificationSchedulerTask.class);
+    private static final PushNotificationDispatchMetrics metrics = new PushNotificationDispatchMetrics();
     private final OperationDAO operationDAO = OperationManagementDAOFactory.getOperationDAO();
     private final OperationMappingDAO operationMappingDAO = OperationManagementDAOFactory.getOperationMappingDAO();
     private final DeviceManagementProviderService provider = DeviceManagementDataHolder.getInstance()
             .getDeviceManagementProvider();
+    private final Map<String, ExecutorService> dispatchers = new ConcurrentHashMap<>();
+    private volatile boolean stopped;
 
     @Override
     public void run() {
         try {
             Map<Integer, List<OperationMapping>> operationMappingsTenantMap = new HashMap<>();
-            List<OperationMapping> operationsCompletedList = new LinkedList<>();
             if (log.isDebugEnabled()) {
                 log.debug("Push notification job started");
             }
@@ -92,64 +106,224 @@ public class PushNotificationSchedulerTask implements Runnable {
             } finally {
                 OperationManagementDAOFactory.closeConnection();
             }
-            // Sending push notification to each device
-            for (List<OperationMapping> operationMappings : operationMappingsTenantMap.values()) {
-                for (OperationMapping operationMapping : operationMappings) {
-                    try {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Sending push notification for operationId :" + operationMapping.getOperationId() +
-                                    " to deviceId : " + operationMapping.getDeviceIdentifier().getId());
-                        }
-                        // Set tenant id and domain
-                        PrivilegedCarbonContext.startTenantFlow();
-                        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(operationMapping.getTenantId(), true);
-                        // Get notification strategy for given device type
-                        NotificationStrategy notificationStrategy = provider.getNotificationStrategyByDeviceType
-                                (operationMapping.getDeviceIdentifier().getType());
-                        // Send the push notification on given strategy
-                        if (notificationStrategy != null) {
-                            notificationStrategy.execute(new NotificationContext(operationMapping.getDeviceIdentifier(),
-                                    provider.getOperation(operationMapping.getDeviceIdentifier().getType(), operationMapping
-                                            .getOperationId())));
-                            operationMapping.setPushNotificationStatus(Operation.PushNotificationStatus.COMPLETED);
-                            operationsCompletedList.add(operationMapping);
-                        } else {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Tenant '" + PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                        .getTenantDomain() + "' does not have push notification strategy.");
-                            }
-                        }
-                    } catch (DeviceManagementException e) {
-                        log.error("Error occurred while getting notification strategy for operation mapping " +
-                                operationMapping.getDeviceIdentifier().getType(), e);
-                    } catch (OperationManagementException e) {
-                        log.error("Unable to get the operation for operation " + operationMapping.getOperationId(), e);
-                    } catch (PushNotificationExecutionFailedException e) {
-                        log.error("Error occurred while sending push notification to operation:  " + operationMapping
-                                .getOperationId(), e);
-                    } finally {
-                        PrivilegedCarbonContext.endTenantFlow();
+            dispatch(operationMappingsTenantMap);
+            if (log.isDebugEnabled()) {
+                log.debug("Push notification job running completed.");
+            }
+        } catch (Throwable cause) {
+            log.error("PushNotificationSchedulerTask failed due to " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * @return Counters of the notifications dispatched by the scheduler task.
+     */
+    public static PushNotificationDispatchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stop the dispatcher pools of the notification providers. Notifications which are not sent yet are sent again
+     * by a later run, once the scheduler is started again.
+     */
+    public void shutdown() {
+        synchronized (dispatchers) {
+            stopped = true;
+            for (ExecutorService dispatcher : dispatchers.values()) {
+                dispatcher.shutdownNow();
+            }
+            dispatchers.clear();
+        }
+    }
+
+    private void dispatch(Map<Integer, List<OperationMapping>> operationMappingsTenantMap) {
+        long cycleStartTime = System.currentTimeMillis();
+        PushNotificationConfiguration config = DeviceConfigurationManager.getInstance().getDeviceManagementConfig()
+                .getPushNotificationConfiguration();
+        BlockingQueue<DispatchResult> results = new LinkedBlockingQueue<>();
+        Map<String, NotificationStrategy> strategies = new HashMap<>();
+        Map<String, io.entgra.device.mgt.core.device.mgt.common.operation.mgt.Operation> operations =
+                new HashMap<>();
+        int dispatched = 0;
+        for (OperationMapping operationMapping : interleaveTenants(operationMappingsTenantMap)) {
+            if (stopped) {
+                break;
+            }
+            String deviceType = operationMapping.getDeviceIdentifier().getType();
+            try {
+                // Set tenant id and domain
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(operationMapping.getTenantId(), true);
+                // Get notification strategy for given device type
+                String strategyKey = operationMapping.getTenantId() + ":" + deviceType;
+                if (!strategies.containsKey(strategyKey)) {
+                    strategies.put(strategyKey, provider.getNotificationStrategyByDeviceType(deviceType));
+                }
+                NotificationStrategy notificationStrategy = strategies.get(strategyKey);
+                if (notificationStrategy == null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Tenant '" + PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                                .getTenantDomain() + "' does not have push notification strategy.");
                     }
+                    continue;
                 }
-            }
-            // Update push notification status to competed for operations which already sent
-            if (operationsCompletedList.size() > 0) {
+                // Fetch each operation only once, since the same operation usually targets many devices
+                String operationKey = operationMapping.getTenantId() + ":" + deviceType + ":"
+                        + operationMapping.getOperationId();
+                io.entgra.device.mgt.core.device.mgt.common.operation.mgt.Operation operation =
+                        operations.get(operationKey);
+                if (operation == null) {
+                    operation = provider.getOperation(deviceType, operationMapping.getOperationId());
+                    operations.put(operationKey, operation);
+                    metrics.recordOperationFetch();
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Sending push notification for operationId :" + operationMapping.getOperationId() +
+                            " to deviceId : " + operationMapping.getDeviceIdentifier().getId());
+                }
+                io.entgra.device.mgt.core.device.mgt.common.operation.mgt.Operation notificationOperation = operation;
                 try {
-                    OperationManagementDAOFactory.beginTransaction();
-                    operationMappingDAO.updateOperationMapping(operationsCompletedList);
-                    OperationManagementDAOFactory.commitTransaction();
-                } catch (TransactionManagementException | OperationManagementDAOException e) {
-                    OperationManagementDAOFactory.rollbackTransaction();
-                    log.error("Error occurred while updating operation mappings for sent notifications ", e);
-                } finally {
-                    OperationManagementDAOFactory.closeConnection();
+                    getDispatcher(notificationStrategy, deviceType, config).execute(
+                            () -> send(operationMapping, notificationStrategy, notificationOperation, results));
+                } catch (RejectedExecutionException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Push notification scheduler has been stopped, remaining notifications will be " +
+                                "sent in a later run");
+                    }
+                    break;
                 }
+                dispatched++;
+            } catch (DeviceManagementException e) {
+                log.error("Error occurred while getting notification strategy for operation mapping " +
+                        deviceType, e);
+            } catch (OperationManagementException e) {
+                log.error("Unable to get the operation for operation " + operationMapping.getOperationId(), e);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
             }
-            if (log.isDebugEnabled()) {
-                log.debug("Push notification job running completed.");
+        }
+        // Update push notification status to competed for operations which already sent
+        int updateBatchSize = Math.max(1, config.getSchedulerUpdateBatchSize());
+        List<OperationMapping> operationsCompletedList = new ArrayList<>();
+        try {
+            for (int i = 0; i < dispatched; i++) {
+                DispatchResult result = results.take();
+                if (result.sent) {
+                    operationsCompletedList.add(result.operationMapping);
+                }
+                if (operationsCompletedList.size() >= updateBatchSize) {
+                    updateOperationMappings(operationsCompletedList);
+                    operationsCompletedList = new ArrayList<>();
+                }
             }
-        } catch (Throwable cause) {
-            log.error("PushNotificationSchedulerTask failed due to " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while waiting for push notifications to be sent, notifications which are still " +
+                    "in progress will be sent again in a later run", e);
+            Thread.currentThread().interrupt();
+        }
+        if (!operationsCompletedList.isEmpty()) {
+            updateOperationMappings(operationsCompletedList);
+        }
+        metrics.recordCycle(dispatched, System.currentTimeMillis() - cycleStartTime);
+        if (log.isDebugEnabled()) {
+            log.debug("Dispatched " + dispatched + " push notifications. Dispatch stats: " + metrics);
+        }
+    }
+
+    private void send(OperationMapping operationMapping, NotificationStrategy notificationStrategy,
+                      io.entgra.device.mgt.core.device.mgt.common.operation.mgt.Operation operation,
+                      BlockingQueue<DispatchResult> results) {
+        long startTime = System.nanoTime();
+        boolean sent = false;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(operationMapping.getTenantId(), true);
+            // Send the push notification on given strategy
+            notificationStrategy.execute(new NotificationContext(operationMapping.getDeviceIdentifier(), operation));
+            operationMapping.setPushNotificationStatus(Operation.PushNotificationStatus.COMPLETED);
+            sent = true;
+        } catch (PushNotificationExecutionFailedException e) {
+            log.error("Error occurred while sending push notification to operation:  " + operationMapping
+                    .getOperationId(), e);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error occurred while sending push notification to operation: " +
+                    operationMapping.getOperationId(), e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            long elapsedTime = System.nanoTime() - startTime;
+            if (sent) {
+                metrics.recordSent(elapsedTime);
+            } else {
+                metrics.recordFailed(elapsedTime);
+            }
+            results.add(new DispatchResult(operationMapping, sent));
+        }
+    }
+
+    private void updateOperationMappings(List<OperationMapping> operationMappings) {
+        try {
+            OperationManagementDAOFactory.beginTransaction();
+            operationMappingDAO.updateOperationMapping(operationMappings);
+            OperationManagementDAOFactory.commitTransaction();
+            metrics.recordCommitted(operationMappings.size());
+        } catch (TransactionManagementException | OperationManagementDAOException e) {
+            OperationManagementDAOFactory.rollbackTransaction();
+            log.error("Error occurred while updating operation mappings for sent notifications ", e);
+        } finally {
+            OperationManagementDAOFactory.closeConnection();
+        }
+    }
+
+    /**
+     * Orders the operation mappings by taking one mapping from each tenant in turn.
+     */
+    private List<OperationMapping> interleaveTenants(Map<Integer, List<OperationMapping>> operationMappingsTenantMap) {
+        List<OperationMapping> interleaved = new ArrayList<>();
+        List<Iterator<OperationMapping>> tenantIterators = new ArrayList<>();
+        for (List<OperationMapping> operationMappings : operationMappingsTenantMap.values()) {
+            tenantIterators.add(operationMappings.iterator());
+        }
+        while (!tenantIterators.isEmpty()) {
+            Iterator<Iterator<OperationMapping>> iterator = tenantIterators.iterator();
+            while (iterator.hasNext()) {
+                Iterator<OperationMapping> tenantIterator = iterator.next();
+                if (tenantIterator.hasNext()) {
+                    interleaved.add(tenantIterator.next());
+                } else {
+                    iterator.remove();
+                }
+            }
+        }
+        return interleaved;
+    }
+
+    private ExecutorService getDispatcher(NotificationStrategy notificationStrategy, String deviceType,
+                                          PushNotificationConfiguration config) {
+        String providerType = notificationStrategy.getConfig() != null
+                && notificationStrategy.getConfig().getType() != null
+                ? notificationStrategy.getConfig().getType() : deviceType;
+        synchronized (dispatchers) {
+            if (stopped) {
+                throw new RejectedExecutionException("Push notification scheduler has been stopped");
+            }
+            return dispatchers.computeIfAbsent(providerType, type -> {
+                int threads = Math.max(1, config.getSchedulerDispatchThreads());
+                return Executors.newFixedThreadPool(threads, runnable -> {
+                    Thread thread = new Thread(runnable, "push-notification-dispatcher-" + type);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            });
+        }
+    }
+
+    private static class DispatchResult {
+        private final OperationMapping operationMapping;
+        private final boolean sent;
+
+        private DispatchResult(OperationMapping operationMapping, boolean sent) {
+            this.operationMapping = operationMapping;
+            this.sent = sent;
         }
     }
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.report.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.common.exceptions.EventPublishingException;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.config.ReportingPublisherConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.util.MBeanUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes reporting records in batches. Records are buffered in a bounded queue and coalesced per reporting
+ * endpoint into a single JSON array POST once the batch reaches the configured record count or size, or once
+ * the flush interval elapses. The body of a batched request is therefore a JSON array of the records rather than a
+ * single record, hence the publisher is only used when batching is enabled explicitly. The number of batches in
+ * flight is bounded by the publisher thread count, so a slow reporting backend fills up the queue and the configured
+ * drop policy is applied to the overflow.
+ */
+public class BatchingReportingPublisher {
+
+    private static final Log log = LogFactory.getLog(BatchingReportingPublisher.class);
+    //Upper bound of the time the dispatcher waits for records, so that a shutdown is noticed promptly
+    private static final long SHUTDOWN_CHECK_INTERVAL_MILLIS = 500;
+    private static final String MBEAN_TYPE = "ReportingPublisher";
+    private static volatile BatchingReportingPublisher instance;
+
+    private final ReportingPublisherConfiguration config;
+    private final LinkedBlockingDeque<PendingRecord> queue;
+    private final ExecutorService senderExecutor;
+    private final Semaphore inFlightBatches;
+    private final ReportingPublisherMetrics metrics = new ReportingPublisherMetrics();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    BatchingReportingPublisher(ReportingPublisherConfiguration config) {
+        this.config = config;
+        this.queue = new LinkedBlockingDeque<>(Math.max(1, config.getQueueCapacity()));
+        int publisherThreads = Math.max(1, config.getPublisherThreads());
+        this.inFlightBatches = new Semaphore(publisherThreads);
+        this.senderExecutor = Executors.newFixedThreadPool(publisherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "reporting-batch-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatch, "reporting-batch-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public static BatchingReportingPublisher getInstance(ReportingPublisherConfiguration config) {
+        if (instance == null) {
+            synchronized (BatchingReportingPublisher.class) {
+                if (instance == null) {
+                    instance = new BatchingReportingPublisher(config);
+                    MBeanUtil.registerMBean(instance.getMetrics(), MBEAN_TYPE);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the publisher, if it has been created, once the records which are already queued have been
+     * published or the publish timeout has elapsed.
+     */
+    public static void shutdownInstance() {
+        BatchingReportingPublisher publisher;
+        synchronized (BatchingReportingPublisher.class) {
+            publisher = instance;
+            instance = null;
+        }
+        if (publisher != null) {
+            MBeanUtil.unregisterMBean(MBEAN_TYPE);
+            publisher.shutdown();
+            try {
+                if (!publisher.awaitTermination(publisher.config.getPublishTimeoutMillis())) {
+                    log.warn("Reporting publisher was shut down before publishing all the queued records. "
+                            + "Publisher stats: " + publisher.metrics);
+                }
+            } catch (InterruptedException e) {
+                log.warn("Interrupted while waiting for the queued reporting records to be published", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Enqueue a record to be published to the given reporting endpoint.
+     *
+     * @param endpoint Reporting endpoint URL
+     * @param payload  JSON payload of the record
+     * @return Future which completes with the HTTP status code of the batch the record was published in
+     */
+    public CompletableFuture<Integer> publish(String endpoint, String payload) {
+        PendingRecord record = new PendingRecord(endpoint, payload);
+        if (!running) {
+            reject(record, "Reporting publisher has been shut down");
+            return record.future;
+        }
+        if (!queue.offer(record)) {
+            if (ReportingPublisherConfiguration.DROP_OLDEST.equals(config.getDropPolicy())) {
+                PendingRecord evicted = queue.pollFirst();
+                if (evicted != null) {
+                    reject(evicted, "Reporting record evicted since the publisher queue is full");
+                }
+                if (!queue.offer(record)) {
+                    reject(record, "Reporting record dropped since the publisher queue is full");
+                    return record.future;
+                }
+            } else {
+                reject(record, "Reporting record dropped since the publisher queue is full");
+                return record.future;
+            }
+        }
+        metrics.recordEnqueued();
+        return record.future;
+    }
+
+    public ReportingPublisherMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting records. Records which are already queued are flushed before the dispatcher exits.
+     */
+    public void shutdown() {
+        running = false;
+    }
+
+    /**
+     * Wait until the publisher has been shut down and the records which were queued have been published.
+     *
+     * @param timeoutMillis Maximum time to wait in milliseconds
+     * @return true if the publisher terminated within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        dispatcher.join(Math.max(1, timeoutMillis));
+        if (dispatcher.isAlive()) {
+            return false;
+        }
+        return senderExecutor.awaitTermination(Math.max(1, deadline - System.currentTimeMillis()),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void reject(PendingRecord record, String message) {
+        metrics.recordDropped();
+        if (log.isDebugEnabled()) {
+            log.debug(message + ". Endpoint: " + record.endpoint);
+        }
+        record.future.completeExceptionally(new EventPublishingException(message));
+    }
+
+    private void dispatch() {
+        Map<String, Batch> openBatches = new HashMap<>();
+        long flushInterval = Math.max(1, config.getFlushIntervalMillis());
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitTime = Math.min(flushInterval, SHUTDOWN_CHECK_INTERVAL_MILLIS);
+                long now = System.currentTimeMillis();
+                for (Batch batch : openBatches.values()) {
+                    waitTime = Math.min(waitTime, Math.max(0, batch.createdTime + flushInterval - now));
+                }
+                PendingRecord record = queue.poll(waitTime, TimeUnit.MILLISECONDS);
+                if (record != null) {
+                    Batch batch = openBatches.computeIfAbsent(record.endpoint, Batch::new);
+                    batch.add(record);
+                    if (batch.records.size() >= config.getMaxBatchSize()
+                            || batch.size >= config.getMaxBatchBytes()) {
+                        openBatches.remove(record.endpoint);
+                        send(batch);
+                    }
+                }
+                now = System.currentTimeMillis();
+                Iterator<Batch> iterator = openBatches.values().iterator();
+                while (iterator.hasNext()) {
+                    Batch batch = iterator.next();
+                    if (batch.createdTime + flushInterval <= now) {
+                        iterator.remove();
+                        send(batch);
+                    }
+                }
+            } catch (InterruptedException e) {
+                log.warn("Reporting batch dispatcher interrupted, flushing pending batches", e);
+                Thread.currentThread().interrupt();
+                running = false;
+                break;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error occurred in the reporting batch dispatcher", e);
+            }
+        }
+        for (Batch batch : openBatches.values()) {
+            publishBatch(batch);
+        }
+        //Records which were enqueued while the publisher was being shut down
+        PendingRecord record;
+        while ((record = queue.poll()) != null) {
+            reject(record, "Reporting publisher has been shut down");
+        }
+        senderExecutor.shutdown();
+    }
+
+    private void send(Batch batch) throws InterruptedException {
+        inFlightBatches.acquire();
+        try {
+            senderExecutor.execute(() -> {
+                try {
+                    publishBatch(batch);
+                } finally {
+                    inFlightBatches.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightBatches.release();
+            throw e;
+        }
+    }
+
+    private void publishBatch(Batch batch) {
+        try {
+            //The transport is looked up per batch since it is closed and recreated along with the bundle
+            int statusCode = ReportingHttpTransport.getInstance(config).post(batch.endpoint, batch.toJSONArray());
+            metrics.recordBatchPublished(batch.records.size());
+            if (log.isDebugEnabled()) {
+                log.debug("Published a batch of " + batch.records.size() + " records to the reporting backend: "
+                        + batch.endpoint + ", Response code: " + statusCode + ", Publisher stats: " + metrics);
+            }
+            for (PendingRecord record : batch.records) {
+                record.future.complete(statusCode);
+            }
+        } catch (IOException e) {
+            metrics.recordBatchFailed(batch.records.size());
+            String message = "Error occurred when publishing a batch of " + batch.records.size()
+                    + " reporting records to the API: " + batch.endpoint;
+            log.error(message, e);
+            EventPublishingException exception = new EventPublishingException(message, e);
+            for (PendingRecord record : batch.records) {
+                record.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private static class PendingRecord {
+        private final String endpoint;
+        private final String payload;
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        private PendingRecord(String endpoint, String payload) {
+            this.endpoint = endpoint;
+            this.payload = payload;
+        }
+    }
+
+    private static class Batch {
+        private final String endpoint;
+        private final long createdTime = System.currentTimeMillis();
+        private final List<PendingRecord> records = new ArrayList<>();
+        // Size is measured in characters, which is close enough to the encoded size for the JSON payloads.
+        private int size = 2;
+
+        private Batch(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private void add(PendingRecord record) {
+            records.add(record);
+            size += record.payload.length() + 1;
+        }
+
+        private String toJSONArray() {
+            StringBuilder body = new StringBuilder(size);
+            body.append('[');
+            for (int i = 0; i < records.size(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append(records.get(i).payload);
+            }
+            return body.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.report.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.config.ReportingPublisherConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.util.MBeanUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.entity.GzipCompressingEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-lived HTTP transport for the reporting backend. A single client and connection pool is shared by every
+ * reporting call of the node, so persistent connections are reused across calls instead of being torn down with
+ * a per-call client. The pool and the publisher executor are sized from the publisher configuration, and the pool
+ * statistics are exposed over JMX.
+ */
+public class ReportingHttpTransport implements ReportingHttpTransportMXBean {
+
+    private static final Log log = LogFactory.getLog(ReportingHttpTransport.class);
+    private static final String MBEAN_TYPE = "ReportingHttpTransport";
+    private static volatile ReportingHttpTransport instance;
+
+    private final ReportingPublisherConfiguration config;
+    private final PoolingHttpClientConnectionManager poolingManager;
+    private final CloseableHttpClient httpClient;
+    private final ExecutorService publisherExecutor;
+    private final ScheduledExecutorService idleConnectionReaper;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failedRequestCount = new AtomicLong();
+    private final AtomicLong compressedRequestCount = new AtomicLong();
+
+    private ReportingHttpTransport(ReportingPublisherConfiguration config) {
+        this.config = config;
+        this.poolingManager = new PoolingHttpClientConnectionManager();
+        poolingManager.setMaxTotal(Math.max(1, config.getMaxConnections()));
+        poolingManager.setDefaultMaxPerRoute(Math.max(1, config.getMaxConnectionsPerRoute()));
+        ConnectionKeepAliveStrategy serverKeepAlive = new DefaultConnectionKeepAliveStrategy();
+        //Connections are kept alive for the configured time unless the backend advertises a keep-alive timeout
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long keepAlive = serverKeepAlive.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : config.getKeepAliveMillis();
+        };
+        this.httpClient = HttpClients.custom().setConnectionManager(poolingManager)
+                .setKeepAliveStrategy(keepAliveStrategy).build();
+        this.publisherExecutor = Executors.newFixedThreadPool(Math.max(1, config.getPublisherThreads()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reporting-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.idleConnectionReaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reporting-idle-connection-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long idleTimeout = Math.max(1000, config.getIdleConnectionTimeoutMillis());
+        idleConnectionReaper.scheduleWithFixedDelay(() -> {
+            poolingManager.closeExpiredConnections();
+            poolingManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        }, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+        MBeanUtil.registerMBean(this, MBEAN_TYPE);
+    }
+
+    public static ReportingHttpTransport getInstance(ReportingPublisherConfiguration config) {
+        if (instance == null) {
+            synchronized (ReportingHttpTransport.class) {
+                if (instance == null) {
+                    instance = new ReportingHttpTransport(config);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Close the transport, if it has been created, along with the pooled connections.
+     */
+    public static void shutdownInstance() {
+        ReportingHttpTransport transport;
+        synchronized (ReportingHttpTransport.class) {
+            transport = instance;
+            instance = null;
+        }
+        if (transport != null) {
+            transport.shutdown();
+        }
+    }
+
+    /**
+     * Post a JSON payload to the reporting backend. The request body is gzip compressed when compression is
+     * enabled and the payload is large enough to benefit from it.
+     *
+     * @param endpoint Reporting endpoint URL
+     * @param payload  JSON payload
+     * @return HTTP status code returned by the reporting backend
+     * @throws IOException if the request could not be completed
+     */
+    public int post(String endpoint, String payload) throws IOException {
+        HttpPost apiEndpoint = new HttpPost(endpoint);
+        apiEndpoint.setHeader(HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString());
+        StringEntity requestEntity = new StringEntity(payload, ContentType.APPLICATION_JSON);
+        if (config.isGzipEnabled() && payload.length() >= config.getGzipMinBytes()) {
+            apiEndpoint.setEntity(new GzipCompressingEntity(requestEntity));
+            compressedRequestCount.incrementAndGet();
+        } else {
+            apiEndpoint.setEntity(requestEntity);
+        }
+        requestCount.incrementAndGet();
+        try (CloseableHttpResponse response = httpClient.execute(apiEndpoint)) {
+            //The response has to be fully consumed for the connection to be released back to the pool
+            EntityUtils.consumeQuietly(response.getEntity());
+            return response.getStatusLine().getStatusCode();
+        } catch (IOException e) {
+            failedRequestCount.incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Executor on which the non-batched reporting calls are made
+     */
+    public ExecutorService getPublisherExecutor() {
+        return publisherExecutor;
+    }
+
+    @Override
+    public int getLeasedConnections() {
+        return poolingManager.getTotalStats().getLeased();
+    }
+
+    @Override
+    public int getAvailableConnections() {
+        return poolingManager.getTotalStats().getAvailable();
+    }
+
+    @Override
+    public int getPendingConnectionRequests() {
+        return poolingManager.getTotalStats().getPending();
+    }
+
+    @Override
+    public int getMaxConnections() {
+        return poolingManager.getTotalStats().getMax();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public long getFailedRequestCount() {
+        return failedRequestCount.get();
+    }
+
+    @Override
+    public long getCompressedRequestCount() {
+        return compressedRequestCount.get();
+    }
+
+    @Override
+    public String toString() {
+        PoolStats stats = poolingManager.getTotalStats();
+        return "leased=" + stats.getLeased() + ", available=" + stats.getAvailable() + ", pending="
+                + stats.getPending() + ", max=" + stats.getMax() + ", requests=" + getRequestCount()
+                + ", failed=" + getFailedRequestCount() + ", compressed=" + getCompressedRequestCount();
+    }
+
+    private void shutdown() {
+        publisherExecutor.shutdown();
+        idleConnectionReaper.shutdownNow();
+        MBeanUtil.unregisterMBean(MBEAN_TYPE);
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Error occurred while closing the reporting HTTP client", e);
+        }
+    }
+}
@@ -20,55 +20,85 @@ package io.entgra.device.mgt.core.device.mgt.core.report.mgt;
 
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceDetailsWrapper;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.EventPublishingException;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.config.ReportMgtConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.config.ReportMgtConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.config.ReportingPublisherConfiguration;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.apache.http.protocol.HTTP;
 
 import java.io.IOException;
 import java.net.ConnectException;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class ReportingPublisherManager {
 
     private static final Log log = LogFactory.getLog(ReportingPublisherManager.class);
-    private final static ExecutorService executorService;
     private DeviceDetailsWrapper payload;
     private String endpoint;
-    private static final PoolingHttpClientConnectionManager poolingManager;
+    private static final long DEFAULT_PUBLISH_TIMEOUT_MILLIS = 30000;
 
-    static {
-        executorService = Executors.newFixedThreadPool(10); //todo make this configurable
-        poolingManager = new PoolingHttpClientConnectionManager();
-        poolingManager.setMaxTotal(10); //todo make this configurable
-        poolingManager.setDefaultMaxPerRoute(10);
-    }
-
-    public Future<Integer> publishData(DeviceDetailsWrapper deviceDetailsWrapper, String eventUrl) {
+    /**
+     * Publish the payload to the reporting backend asynchronously.
+     *
+     * @param deviceDetailsWrapper Payload to be published
+     * @param eventUrl             Reporting endpoint URL
+     * @return Future which completes with the HTTP status code returned by the reporting backend
+     */
+    public CompletableFuture<Integer> publishData(DeviceDetailsWrapper deviceDetailsWrapper, String eventUrl) {
+        ReportingPublisherConfiguration publisherConfiguration = getPublisherConfiguration();
+        if (publisherConfiguration == null) {
+            publisherConfiguration = new ReportingPublisherConfiguration();
+        }
+        if (publisherConfiguration.isBatchingEnabled()) {
+            return BatchingReportingPublisher.getInstance(publisherConfiguration)
+                    .publish(eventUrl, deviceDetailsWrapper.getJSONString());
+        }
         this.payload = deviceDetailsWrapper;
         this.endpoint = eventUrl;
-        return executorService.submit(new ReportingPublisher());
+        ReportingHttpTransport transport = ReportingHttpTransport.getInstance(publisherConfiguration);
+        ReportingPublisher reportingPublisher = new ReportingPublisher(transport);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return reportingPublisher.call();
+            } catch (EventPublishingException e) {
+                throw new CompletionException(e);
+            }
+        }, transport.getPublisherExecutor());
+    }
+
+    /**
+     * @return Maximum time in milliseconds a caller should wait for a reporting call to complete
+     */
+    public long getPublishTimeoutMillis() {
+        ReportingPublisherConfiguration publisherConfiguration = getPublisherConfiguration();
+        if (publisherConfiguration == null || publisherConfiguration.getPublishTimeoutMillis() <= 0) {
+            return DEFAULT_PUBLISH_TIMEOUT_MILLIS;
+        }
+        return publisherConfiguration.getPublishTimeoutMillis();
+    }
+
+    private ReportingPublisherConfiguration getPublisherConfiguration() {
+        ReportMgtConfiguration reportMgtConfiguration = ReportMgtConfigurationManager.getInstance().getConfiguration();
+        if (reportMgtConfiguration == null) {
+            return null;
+        }
+        return reportMgtConfiguration.getPublisherConfiguration();
     }
 
     private class ReportingPublisher implements Callable<Integer> {
+
+        private final ReportingHttpTransport transport;
+
+        private ReportingPublisher(ReportingHttpTransport transport) {
+            this.transport = transport;
+        }
+
         @Override
         public Integer call() throws EventPublishingException {
-            try (CloseableHttpClient client = HttpClients.custom().setConnectionManager(poolingManager).build()) {
-                HttpPost apiEndpoint = new HttpPost(endpoint);
-                apiEndpoint.setHeader(HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString());
-                StringEntity requestEntity = new StringEntity(payload.getJSONString(), ContentType.APPLICATION_JSON);
-                apiEndpoint.setEntity(requestEntity);
-                HttpResponse response = client.execute(apiEndpoint);
-                int statusCode = response.getStatusLine().getStatusCode();
+            try {
+                int statusCode = transport.post(endpoint, payload.getJSONString());
                 if (log.isDebugEnabled()) {
                     log.debug("Published data to the reporting backend: " + endpoint + ", Response code: " + statusCode);
                 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.report.mgt;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters maintained by the batching reporting publisher.
+ */
+public class ReportingPublisherMetrics implements ReportingPublisherMetricsMXBean {
+
+    private final AtomicLong enqueuedRecords = new AtomicLong();
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final AtomicLong publishedRecords = new AtomicLong();
+    private final AtomicLong failedRecords = new AtomicLong();
+    private final AtomicLong publishedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    void recordEnqueued() {
+        enqueuedRecords.incrementAndGet();
+    }
+
+    void recordDropped() {
+        droppedRecords.incrementAndGet();
+    }
+
+    void recordBatchPublished(int size) {
+        publishedBatches.incrementAndGet();
+        publishedRecords.addAndGet(size);
+    }
+
+    void recordBatchFailed(int size) {
+        failedBatches.incrementAndGet();
+        failedRecords.addAndGet(size);
+    }
+
+    @Override
+    public long getEnqueuedRecords() {
+        return enqueuedRecords.get();
+    }
+
+    @Override
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    @Override
+    public long getPublishedRecords() {
+        return publishedRecords.get();
+    }
+
+    @Override
+    public long getFailedRecords() {
+        return failedRecords.get();
+    }
+
+    @Override
+    public long getPublishedBatches() {
+        return publishedBatches.get();
+    }
+
+    @Override
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    @Override
+    public String toString() {
+        return "enqueued=" + getEnqueuedRecords() + ", dropped=" + getDroppedRecords() + ", published="
+                + getPublishedRecords() + ", failed=" + getFailedRecords() + ", publishedBatches="
+                + getPublishedBatches() + ", failedBatches=" + getFailedBatches();
+    }
+}
@@ -27,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 public class ReportMgtConfiguration {
 
     private String datasourceName;
+    private ReportingPublisherConfiguration publisherConfiguration;
 
     @XmlElement(name = "DatasourceName", required = true)
     public String getDatasourceName() {
@@ -37,5 +38,14 @@ public class ReportMgtConfiguration {
         this.datasourceName = datasourceName;
     }
 
+    @XmlElement(name = "PublisherConfiguration")
+    public ReportingPublisherConfiguration getPublisherConfiguration() {
+        return publisherConfiguration;
+    }
+
+    public void setPublisherConfiguration(ReportingPublisherConfiguration publisherConfiguration) {
+        this.publisherConfiguration = publisherConfiguration;
+    }
+
 }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.report.mgt.config;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Represents the configuration of the publisher which pushes device details and events to the reporting backend.
+ */
+@XmlRootElement(name = "PublisherConfiguration")
+public class ReportingPublisherConfiguration {
+
+    public static final String DROP_NEWEST = "DROP_NEWEST";
+    public static final String DROP_OLDEST = "DROP_OLDEST";
+
+    private boolean batchingEnabled = false;
+    private int queueCapacity = 10000;
+    private int maxBatchSize = 100;
+    private int maxBatchBytes = 1024 * 1024;
+    private long flushIntervalMillis = 1000;
+    private int publisherThreads = 10;
+    private String dropPolicy = DROP_NEWEST;
+    private long publishTimeoutMillis = 30000;
+    private int maxConnections = 20;
+    private int maxConnectionsPerRoute = 20;
+    private long keepAliveMillis = 30000;
+    private long idleConnectionTimeoutMillis = 60000;
+    private boolean gzipEnabled = false;
+    private int gzipMinBytes = 1024;
+
+    /**
+     * @return Whether the records are published in batches. A batched request carries a JSON array of device details
+     * instead of a single device details object, which the reporting backend has to accept before this is enabled.
+     */
+    @XmlElement(name = "BatchingEnabled")
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    public void setBatchingEnabled(boolean batchingEnabled) {
+        this.batchingEnabled = batchingEnabled;
+    }
+
+    @XmlElement(name = "QueueCapacity")
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @XmlElement(name = "MaxBatchSize")
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @XmlElement(name = "MaxBatchBytes")
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public void setMaxBatchBytes(int maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    @XmlElement(name = "FlushIntervalMillis")
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @XmlElement(name = "PublisherThreads")
+    public int getPublisherThreads() {
+        return publisherThreads;
+    }
+
+    public void setPublisherThreads(int publisherThreads) {
+        this.publisherThreads = publisherThreads;
+    }
+
+    @XmlElement(name = "DropPolicy")
+    public String getDropPolicy() {
+        return dropPolicy;
+    }
+
+    public void setDropPolicy(String dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    @XmlElement(name = "PublishTimeoutMillis")
+    public long getPublishTimeoutMillis() {
+        return publishTimeoutMillis;
+    }
+
+    public void setPublishTimeoutMillis(long publishTimeoutMillis) {
+        this.publishTimeoutMillis = publishTimeoutMillis;
+    }
+
+    @XmlElement(name = "MaxConnections")
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    @XmlElement(name = "MaxConnectionsPerRoute")
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    @XmlElement(name = "KeepAliveMillis")
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public void setKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    @XmlElement(name = "IdleConnectionTimeoutMillis")
+    public long getIdleConnectionTimeoutMillis() {
+        return idleConnectionTimeoutMillis;
+    }
+
+    public void setIdleConnectionTimeoutMillis(long idleConnectionTimeoutMillis) {
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+    }
+
+    @XmlElement(name = "GzipEnabled")
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    public void setGzipEnabled(boolean gzipEnabled) {
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    @XmlElement(name = "GzipMinBytes")
+    public int getGzipMinBytes() {
+        return gzipMinBytes;
+    }
+
+    public void setGzipMinBytes(int gzipMinBytes) {
+        this.gzipMinBytes = gzipMinBytes;
+    }
+}
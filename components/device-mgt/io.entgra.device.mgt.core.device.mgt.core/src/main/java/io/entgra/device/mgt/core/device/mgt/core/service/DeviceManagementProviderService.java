@@ -493,6 +493,29 @@ public interface DeviceManagementProviderService {
     List<Device> getAllDevicesOfRole(String roleName, List<String> deviceStatuses, boolean requireDeviceInfo)
             throws DeviceManagementException;
 
+    /**
+     * Method to get the identity of the devices that are in one of the given statuses and owned by a particular user.
+     * Only the device id, enrolment id, identifier, type, owner and status of the devices are retrieved.
+     *
+     * @param username Username of the owner
+     * @param deviceStatuses List of device statuses
+     * @return {@link DeviceRefList} of the devices
+     * @throws DeviceManagementException If some unusual behaviour is observed while fetching the devices
+     */
+    DeviceRefList getDeviceRefsOfUser(String username, List<String> deviceStatuses) throws DeviceManagementException;
+
+    /**
+     * Method to get the identity of the devices that are in one of the given statuses and owned by users of a
+     * particular user-role. Only the device id, enrolment id, identifier, type, owner and status of the devices are
+     * retrieved.
+     *
+     * @param roleName Role name of the users
+     * @param deviceStatuses List of device statuses
+     * @return {@link DeviceRefList} of the devices
+     * @throws DeviceManagementException If some unusual behaviour is observed while fetching the devices
+     */
+    DeviceRefList getDeviceRefsOfRole(String roleName, List<String> deviceStatuses) throws DeviceManagementException;
+
     /**
      * This method is used to retrieve list of devices based on the device status with paging information.
      *
@@ -1004,6 +1027,18 @@ public interface DeviceManagementProviderService {
     List<Device> getDevicesByIdentifiersAndStatuses(List<String> deviceIdentifiers, List<EnrolmentInfo.Status> statuses)
             throws DeviceManagementException;
 
+    /**
+     * This method is used to retrieve the devices of the given device identifiers in bulk. Devices which are available
+     * in the device cache are served from the cache and the rest are retrieved with one query per device type.
+     *
+     * @param deviceIdentifiers A list of device identifiers
+     * @param requireDeviceInfo Whether the device info of the devices is required
+     * @return A list of the devices which were found, devices which do not exist are omitted
+     * @throws {@link DeviceManagementException}
+     */
+    List<Device> getDevicesByIdentifiers(List<DeviceIdentifier> deviceIdentifiers, boolean requireDeviceInfo)
+            throws DeviceManagementException;
+
     List<Activity> getActivities(ActivityPaginationRequest activityPaginationRequest) throws OperationManagementException;
 
     int getActivitiesCount(ActivityPaginationRequest activityPaginationRequest)
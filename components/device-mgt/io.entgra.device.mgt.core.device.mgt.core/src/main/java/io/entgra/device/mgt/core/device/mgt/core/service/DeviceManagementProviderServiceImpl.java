@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.device.mgt.core.service;
 
+import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.ConflictException;
@@ -56,6 +57,7 @@ import io.entgra.device.mgt.core.device.mgt.common.ActivityPaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceEnrollmentInfoNotification;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceManager;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceNotification;
 import io.entgra.device.mgt.core.device.mgt.common.DevicePropertyNotification;
@@ -123,6 +125,7 @@ import io.entgra.device.mgt.core.device.mgt.common.type.mgt.DeviceTypePlatformVe
 import io.entgra.device.mgt.core.device.mgt.core.DeviceManagementConstants;
 import io.entgra.device.mgt.core.device.mgt.core.DeviceManagementPluginRepository;
 import io.entgra.device.mgt.core.device.mgt.core.cache.DeviceCacheKey;
+import io.entgra.device.mgt.core.device.mgt.core.cache.DeviceCacheManager;
 import io.entgra.device.mgt.core.device.mgt.core.cache.impl.BillingCacheManagerImpl;
 import io.entgra.device.mgt.core.device.mgt.core.cache.impl.DeviceCacheManagerImpl;
 import io.entgra.device.mgt.core.device.mgt.core.common.Constants;
@@ -189,6 +192,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
     private static final EntgraLogger log = new EntgraDeviceEnrolmentLoggerImpl(DeviceManagementProviderServiceImpl.class);
 
     private static final String OPERATION_RESPONSE_EVENT_STREAM_DEFINITION = "org.wso2.iot.OperationResponseStream";
+    private static final int MAX_IDENTIFIERS_PER_QUERY = 1000;
     private final DeviceManagementPluginRepository pluginRepository;
     private final DeviceDAO deviceDAO;
     private final DeviceTypeDAO deviceTypeDAO;
@@ -301,7 +305,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         DeviceIdentifier deviceIdentifier = new DeviceIdentifier(device.getDeviceIdentifier(), device.getType());
 
         int tenantId = this.getTenantId();
-        Device existingDevice = this.getDevice(deviceIdentifier, false);
+        Device existingDevice = this.getDevice(deviceIdentifier, false, false);
 
         if (existingDevice != null) {
             deviceManager.modifyEnrollment(device);
@@ -414,6 +418,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
                     }
                     device.setEnrolmentInfo(enrollment);
                     DeviceManagementDAOFactory.commitTransaction();
+                    DeviceCacheManagerImpl.getInstance().removeUnknownDeviceFromCache(deviceIdentifier, tenantId);
                     log.info("Device enrolled successfully", deviceEnrolmentLogContextBuilder.setDeviceId(String.valueOf(device.getId())).setDeviceType(String.valueOf(device.getType())).setOwner(enrollment.getOwner()).setOwnership(String.valueOf(enrollment.getOwnership())).setTenantID(String.valueOf(tenantId)).setTenantDomain(tenantDomain).setUserName(userName).build());
                 } else {
                     DeviceManagementDAOFactory.rollbackTransaction();
@@ -531,7 +536,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         boolean status = deviceManager.modifyEnrollment(device);
         try {
             int tenantId = this.getTenantId();
-            Device currentDevice = this.getDevice(deviceIdentifier, false);
+            Device currentDevice = this.getDevice(deviceIdentifier, false, false);
             DeviceManagementDAOFactory.beginTransaction();
             device.setId(currentDevice.getId());
             DeviceStatusManagementService deviceStatusManagementService = DeviceManagementDataHolder
@@ -645,7 +650,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         int tenantId = this.getTenantId();
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         String userName = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-        Device device = this.getDevice(deviceId, false);
+        Device device = this.getDevice(deviceId, false, false);
         if (device == null) {
             if (log.isDebugEnabled()) {
                 log.debug("Device not found for id '" + deviceId.getId() + "'");
@@ -729,7 +734,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         }
 
         int tenantId = this.getTenantId();
-        Device device = this.getDevice(deviceId, false);
+        Device device = this.getDevice(deviceId, false, false);
         if (device == null) {
             if (log.isDebugEnabled()) {
                 log.debug("Device not found for id '" + deviceId.getId() + "'");
@@ -1518,6 +1523,22 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
 
     @Override
     public Device getDevice(DeviceIdentifier deviceId, boolean requireDeviceInfo) throws DeviceManagementException {
+        return this.getDevice(deviceId, requireDeviceInfo, true);
+    }
+
+    /**
+     * Get the device of the given identifier. The negative cache only reflects the enrolments handled by this node,
+     * hence paths which write the device have to skip it and look the device up in the database.
+     *
+     * @param deviceId           Identifier of the device
+     * @param requireDeviceInfo  Whether the device info has to be populated
+     * @param checkUnknownDevices Whether a device which was recently not found can be reported as not found again
+     *                            without looking it up in the database
+     * @return Device or null if the device is not found
+     * @throws DeviceManagementException if the device could not be retrieved
+     */
+    private Device getDevice(DeviceIdentifier deviceId, boolean requireDeviceInfo, boolean checkUnknownDevices)
+            throws DeviceManagementException {
         if (deviceId == null) {
             String msg = "Received null device identifier for method getDevice";
             log.error(msg);
@@ -1530,6 +1551,14 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         int tenantId = this.getTenantId();
         Device device = this.getDeviceFromCache(deviceId);
         if (device == null) {
+            DeviceCacheManager deviceCacheManager = DeviceCacheManagerImpl.getInstance();
+            if (checkUnknownDevices && deviceCacheManager.isUnknownDevice(deviceId, tenantId)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Device of type '" + deviceId.getType() + "' and id '" + deviceId.getId() +
+                            "' is recently not found, hence not looking it up again");
+                }
+                return null;
+            }
             try {
                 DeviceManagementDAOFactory.openConnection();
                 device = deviceDAO.getDevice(deviceId, tenantId);
@@ -1539,6 +1568,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
                     if (log.isDebugEnabled()) {
                         log.debug(msg);
                     }
+                    deviceCacheManager.addUnknownDeviceToCache(deviceId, tenantId);
                     return null;
                 }
             } catch (DeviceManagementDAOException e) {
@@ -3080,6 +3110,60 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         return devices;
     }
 
+    @Override
+    public DeviceRefList getDeviceRefsOfUser(String username, List<String> deviceStatuses)
+            throws DeviceManagementException {
+        if (username == null) {
+            String msg = "Username null in getDeviceRefsOfUser";
+            log.error(msg);
+            throw new DeviceManagementException(msg);
+        }
+        return getDeviceRefsOfUsers(Collections.singletonList(username), deviceStatuses);
+    }
+
+    @Override
+    public DeviceRefList getDeviceRefsOfRole(String role, List<String> deviceStatuses)
+            throws DeviceManagementException {
+        if (role == null || role.isEmpty()) {
+            String msg = "Received empty role for the method getDeviceRefsOfRole";
+            log.error(msg);
+            throw new DeviceManagementException(msg);
+        }
+        return getDeviceRefsOfUsers(Arrays.asList(getUserListOfRole(role)), deviceStatuses);
+    }
+
+    /**
+     * Retrieve the device references of the given users. Users are queried in batches to keep the number of
+     * parameters of a query within the limits of the databases.
+     */
+    private DeviceRefList getDeviceRefsOfUsers(List<String> usernames, List<String> deviceStatuses)
+            throws DeviceManagementException {
+        if (log.isDebugEnabled()) {
+            log.debug("Get device references of " + usernames.size() + " users");
+        }
+        DeviceRefList.Builder builder = new DeviceRefList.Builder();
+        if (usernames.isEmpty()) {
+            return builder.build();
+        }
+        try {
+            DeviceManagementDAOFactory.openConnection();
+            for (List<String> batch : Lists.partition(usernames, MAX_IDENTIFIERS_PER_QUERY)) {
+                builder.addAll(deviceDAO.getDeviceRefsOfUsers(batch, deviceStatuses, this.getTenantId()));
+            }
+        } catch (DeviceManagementDAOException e) {
+            String msg = "Error occurred while retrieving the device references of " + usernames.size() + " users";
+            log.error(msg, e);
+            throw new DeviceManagementException(msg, e);
+        } catch (SQLException e) {
+            String msg = "Error occurred while opening a connection to the data source to get device references";
+            log.error(msg, e);
+            throw new DeviceManagementException(msg, e);
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+        return builder.build();
+    }
+
     private String[] getUserListOfRole(String role) throws DeviceManagementException {
         if (log.isDebugEnabled()) {
             log.debug("Get users of role '" + role);
@@ -3475,7 +3559,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         }
         boolean isDeviceUpdated;
         this.removeDeviceFromCache(deviceIdentifier);
-        Device device = getDevice(deviceIdentifier, false);
+        Device device = getDevice(deviceIdentifier, false, false);
         int deviceId = device.getId();
         EnrolmentInfo enrolmentInfo = device.getEnrolmentInfo();
         if (enrolmentInfo.getStatus().equals(newStatus)) {
@@ -5045,6 +5129,54 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
         }
     }
 
+    @Override
+    public List<Device> getDevicesByIdentifiers(List<DeviceIdentifier> deviceIdentifiers, boolean requireDeviceInfo)
+            throws DeviceManagementException {
+        List<Device> devices = new ArrayList<>();
+        Map<String, List<String>> uncachedIdentifiers = new HashMap<>();
+        for (DeviceIdentifier deviceIdentifier : deviceIdentifiers) {
+            Device device = this.getDeviceFromCache(deviceIdentifier);
+            if (device != null) {
+                devices.add(device);
+            } else {
+                uncachedIdentifiers.computeIfAbsent(deviceIdentifier.getType(), k -> new ArrayList<>())
+                        .add(deviceIdentifier.getId());
+            }
+        }
+        if (!uncachedIdentifiers.isEmpty()) {
+            int tenantId = this.getTenantId();
+            try {
+                DeviceManagementDAOFactory.openConnection();
+                for (Map.Entry<String, List<String>> entry : uncachedIdentifiers.entrySet()) {
+                    for (List<String> identifiers : Lists.partition(entry.getValue(), MAX_IDENTIFIERS_PER_QUERY)) {
+                        for (Device device : deviceDAO.getDevicesByIdentifiers(entry.getKey(), identifiers,
+                                tenantId)) {
+                            this.addDeviceToCache(new DeviceIdentifier(device.getDeviceIdentifier(),
+                                    device.getType()), device);
+                            devices.add(device);
+                        }
+                    }
+                }
+            } catch (DeviceManagementDAOException e) {
+                String msg = "Error occurred while retrieving devices for the given device identifiers.";
+                log.error(msg, e);
+                throw new DeviceManagementException(msg, e);
+            } catch (SQLException e) {
+                String msg = "Error occurred while opening a connection to the data source";
+                log.error(msg, e);
+                throw new DeviceManagementException(msg, e);
+            } finally {
+                DeviceManagementDAOFactory.closeConnection();
+            }
+        }
+        if (requireDeviceInfo) {
+            for (Device device : devices) {
+                this.populateAllDeviceInfo(device);
+            }
+        }
+        return devices;
+    }
+
     @Override
     public License getLicenseConfig(String deviceTypeName) throws DeviceManagementException {
         DeviceManagementService deviceManagementService =
@@ -5629,7 +5761,7 @@ public class DeviceManagementProviderServiceImpl implements DeviceManagementProv
     @Override
     public Device updateDeviceName(Device device, String deviceType, String deviceId)
             throws DeviceManagementException, DeviceNotFoundException, ConflictException {
-        Device persistedDevice = this.getDevice(new DeviceIdentifier(deviceId, deviceType), true);
+        Device persistedDevice = this.getDevice(new DeviceIdentifier(deviceId, deviceType), true, false);
         if (persistedDevice == null) {
             String msg = "Device not found for the given deviceId and deviceType";
             log.error(msg);
@@ -20,6 +20,7 @@ package io.entgra.device.mgt.core.device.mgt.core.service;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.DeviceNotFoundException;
 import io.entgra.device.mgt.core.device.mgt.common.GroupPaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationResult;
@@ -36,6 +37,7 @@ import org.wso2.carbon.user.api.AuthorizationManager;
 import org.wso2.carbon.user.api.UserStoreManager;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for Group Management Services
@@ -254,6 +256,46 @@ public interface GroupManagementProviderService {
      */
     List<String> getRoles(int groupId) throws GroupManagementException;
 
+    /**
+     * Get the ids of the given devices which belong to at least one device group shared with the given roles.
+     *
+     * @param deviceIds ids of the devices to be checked
+     * @param roles     roles which the groups are shared with
+     * @return ids of the devices which are shared with the roles
+     * @throws GroupManagementException
+     */
+    List<Integer> getDeviceIdsSharedWithRoles(List<Integer> deviceIds, String[] roles)
+            throws GroupManagementException;
+
+    /**
+     * Get the ids of the devices which belong to at least one of the given device groups.
+     *
+     * @param groupIds ids of the device groups
+     * @return ids of the devices in the groups
+     * @throws GroupManagementException
+     */
+    List<Integer> getDeviceIdsOfGroups(List<Integer> groupIds) throws GroupManagementException;
+
+    /**
+     * Get the ids of the devices of a device type which do not belong to any device group.
+     *
+     * @param deviceType type of the devices
+     * @return ids of the devices which are not in any group
+     * @throws GroupManagementException
+     */
+    List<Integer> getUngroupedDeviceIds(String deviceType) throws GroupManagementException;
+
+    /**
+     * Get the groups of each of the given devices.
+     *
+     * @param deviceIds         ids of the devices
+     * @param requireGroupProps to include group properties
+     * @return groups of the devices, keyed by device id. Devices which are not in any group are not in the map
+     * @throws GroupManagementException
+     */
+    Map<Integer, List<DeviceGroup>> getGroupsOfDevices(List<Integer> deviceIds, boolean requireGroupProps)
+            throws GroupManagementException;
+
     /**
      * Get all devices in device group as paginated result.
      *
@@ -289,6 +331,17 @@ public interface GroupManagementProviderService {
     List<Device> getAllDevicesOfGroup(String groupName, List<String> deviceStatuses, boolean requireDeviceProps)
             throws GroupManagementException;
 
+    /**
+     * Get the identity of the devices that are in one of the given device statuses and belong to the given group.
+     * Only the device id, enrolment id, identifier, type, owner and status of the devices are retrieved.
+     *
+     * @param groupName Group name.
+     * @param deviceStatuses Device statuses list.
+     * @return {@link DeviceRefList} of the devices in group.
+     * @throws GroupManagementException if error occurred while fetching devices
+     */
+    DeviceRefList getDeviceRefsOfGroup(String groupName, List<String> deviceStatuses) throws GroupManagementException;
+
     /**
      * This method is used to retrieve the device count of a given group.
      *
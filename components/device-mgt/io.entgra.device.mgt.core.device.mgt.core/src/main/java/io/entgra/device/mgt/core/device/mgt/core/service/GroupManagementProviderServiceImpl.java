@@ -18,8 +18,10 @@
 
 package io.entgra.device.mgt.core.device.mgt.core.service;
 
+import com.google.common.collect.Lists;
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceManagementConstants;
 import io.entgra.device.mgt.core.device.mgt.common.GroupPaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationResult;
@@ -74,6 +76,7 @@ public class GroupManagementProviderServiceImpl implements GroupManagementProvid
 
     private static final Log log = LogFactory.getLog(GroupManagementProviderServiceImpl.class);
     private static final String DEVICE_STATUS_REMOVED = "REMOVED";
+    private static final int MAX_DEVICE_IDS_PER_QUERY = 1000;
 
     private final GroupDAO groupDAO;
     private final DeviceDAO deviceDAO;
@@ -1136,6 +1139,99 @@ public class GroupManagementProviderServiceImpl implements GroupManagementProvid
         }
     }
 
+    @Override
+    public List<Integer> getDeviceIdsSharedWithRoles(List<Integer> deviceIds, String[] roles)
+            throws GroupManagementException {
+        if (log.isDebugEnabled()) {
+            log.debug("Get devices shared with roles: " + Arrays.toString(roles));
+        }
+        List<Integer> sharedDeviceIds = new ArrayList<>();
+        try {
+            int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+            GroupManagementDAOFactory.openConnection();
+            for (List<Integer> deviceIdsChunk : Lists.partition(deviceIds, MAX_DEVICE_IDS_PER_QUERY)) {
+                sharedDeviceIds.addAll(groupDAO.getDeviceIdsSharedWithRoles(deviceIdsChunk, roles, tenantId));
+            }
+            return sharedDeviceIds;
+        } catch (GroupManagementDAOException | SQLException e) {
+            String msg = "Error occurred while retrieving the devices shared with roles";
+            log.error(msg, e);
+            throw new GroupManagementException(msg, e);
+        } finally {
+            GroupManagementDAOFactory.closeConnection();
+        }
+    }
+
+    @Override
+    public List<Integer> getDeviceIdsOfGroups(List<Integer> groupIds) throws GroupManagementException {
+        if (log.isDebugEnabled()) {
+            log.debug("Get devices of groups: " + groupIds);
+        }
+        List<Integer> deviceIds = new ArrayList<>();
+        try {
+            int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+            GroupManagementDAOFactory.openConnection();
+            for (List<Integer> groupIdsChunk : Lists.partition(groupIds, MAX_DEVICE_IDS_PER_QUERY)) {
+                deviceIds.addAll(groupDAO.getDeviceIdsOfGroups(groupIdsChunk, tenantId));
+            }
+            return deviceIds;
+        } catch (GroupManagementDAOException | SQLException e) {
+            String msg = "Error occurred while retrieving the devices of groups " + groupIds;
+            log.error(msg, e);
+            throw new GroupManagementException(msg, e);
+        } finally {
+            GroupManagementDAOFactory.closeConnection();
+        }
+    }
+
+    @Override
+    public List<Integer> getUngroupedDeviceIds(String deviceType) throws GroupManagementException {
+        if (log.isDebugEnabled()) {
+            log.debug("Get ungrouped devices of type: " + deviceType);
+        }
+        try {
+            int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+            GroupManagementDAOFactory.openConnection();
+            return groupDAO.getUngroupedDeviceIds(deviceType, tenantId);
+        } catch (GroupManagementDAOException | SQLException e) {
+            String msg = "Error occurred while retrieving the ungrouped devices of type " + deviceType;
+            log.error(msg, e);
+            throw new GroupManagementException(msg, e);
+        } finally {
+            GroupManagementDAOFactory.closeConnection();
+        }
+    }
+
+    @Override
+    public Map<Integer, List<DeviceGroup>> getGroupsOfDevices(List<Integer> deviceIds, boolean requireGroupProps)
+            throws GroupManagementException {
+        if (log.isDebugEnabled()) {
+            log.debug("Get groups of " + deviceIds.size() + " devices");
+        }
+        Map<Integer, List<DeviceGroup>> deviceGroups = new HashMap<>();
+        try {
+            int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+            GroupManagementDAOFactory.openConnection();
+            for (List<Integer> deviceIdsChunk : Lists.partition(deviceIds, MAX_DEVICE_IDS_PER_QUERY)) {
+                deviceGroups.putAll(groupDAO.getGroupsOfDevices(deviceIdsChunk, tenantId));
+            }
+            if (requireGroupProps) {
+                for (List<DeviceGroup> groups : deviceGroups.values()) {
+                    for (DeviceGroup group : groups) {
+                        populateGroupProperties(group, tenantId);
+                    }
+                }
+            }
+            return deviceGroups;
+        } catch (GroupManagementDAOException | SQLException e) {
+            String msg = "Error occurred while retrieving the groups of " + deviceIds.size() + " devices";
+            log.error(msg, e);
+            throw new GroupManagementException(msg, e);
+        } finally {
+            GroupManagementDAOFactory.closeConnection();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1233,6 +1329,25 @@ public class GroupManagementProviderServiceImpl implements GroupManagementProvid
         return devices;
     }
 
+    @Override
+    public DeviceRefList getDeviceRefsOfGroup(String groupName, List<String> deviceStatuses)
+            throws GroupManagementException {
+        if (log.isDebugEnabled()) {
+            log.debug("Group device references of group: " + groupName);
+        }
+        int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        try {
+            GroupManagementDAOFactory.openConnection();
+            return this.groupDAO.getDeviceRefsOfGroup(groupName, deviceStatuses, tenantId);
+        } catch (GroupManagementDAOException | SQLException e) {
+            String msg = "Error occurred while getting device references in group.";
+            log.error(msg, e);
+            throw new GroupManagementException(msg, e);
+        } finally {
+            GroupManagementDAOFactory.closeConnection();
+        }
+    }
+
     /**
      * Load Dice properties of given list of devices
      *
@@ -24,28 +24,36 @@ import io.entgra.device.mgt.core.device.mgt.common.metadata.mgt.DeviceStatusMana
 import io.entgra.device.mgt.core.device.mgt.core.internal.DeviceManagementDataHolder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceStatusTaskPluginConfig;
 import io.entgra.device.mgt.core.device.mgt.common.DynamicTaskContext;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceMonitoringData;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.DeviceManagementException;
 import io.entgra.device.mgt.core.device.mgt.common.exceptions.TransactionManagementException;
+import io.entgra.device.mgt.core.device.mgt.core.cache.DeviceCacheKey;
 import io.entgra.device.mgt.core.device.mgt.core.cache.impl.DeviceCacheManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.status.task.DeviceStatusTaskConfig;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOException;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOFactory;
+import io.entgra.device.mgt.core.device.mgt.core.dao.EnrollmentDAO;
 import io.entgra.device.mgt.core.device.mgt.core.status.task.DeviceStatusTaskException;
 import io.entgra.device.mgt.core.device.mgt.core.task.impl.DynamicPartitionedScheduleTask;
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.TaskWorkUnit;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This implements the Task service which monitors the device activity periodically & update the device-status if
@@ -54,6 +62,7 @@ import java.util.Map;
 public class DeviceStatusMonitoringTask extends DynamicPartitionedScheduleTask {
 
     private static final Log log = LogFactory.getLog(DeviceStatusMonitoringTask.class);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
     private String deviceType;
     private int deviceTypeId = -1;
 
@@ -61,18 +70,28 @@ public class DeviceStatusMonitoringTask extends DynamicPartitionedScheduleTask {
     protected void setup() {
     }
 
-    public List<DeviceMonitoringData> getAllDevicesForMonitoring() throws DeviceManagementException {
+    /**
+     * Retrieve a page of the devices to be monitored, ordered by the device id. Pages are only read when the set
+     * based update of the task is disabled, which is enabled by default.
+     *
+     * @param lastDeviceId Only devices with an id greater than this are returned
+     * @param limit        Maximum number of devices to return
+     * @return Monitoring data of the devices in the page
+     * @throws DeviceManagementException if the devices cannot be retrieved
+     */
+    public List<DeviceMonitoringData> getDevicesForMonitoring(int lastDeviceId, int limit)
+            throws DeviceManagementException {
 
         try {
             DeviceManagementDAOFactory.openConnection();
             DynamicTaskContext ctx = getTaskContext();
             if (ctx != null && ctx.isPartitioningEnabled()) {
                 return DeviceManagementDAOFactory.getDeviceDAO()
-                        .getAllDevicesForMonitoring(this.deviceTypeId, this.deviceType,
-                                ctx.getActiveServerCount(), ctx.getServerHashIndex());
+                        .getDevicesForMonitoring(this.deviceTypeId, this.deviceType,
+                                ctx.getActiveServerCount(), ctx.getServerHashIndex(), lastDeviceId, limit);
             } else {
                 return DeviceManagementDAOFactory.getDeviceDAO()
-                        .getAllDevicesForMonitoring(this.deviceTypeId, this.deviceType, -1, -1);
+                        .getDevicesForMonitoring(this.deviceTypeId, this.deviceType, -1, -1, lastDeviceId, limit);
             }
         } catch (DeviceManagementDAOException e) {
             String msg = "Error occurred while retrieving devices list for monitoring.";
@@ -94,81 +113,43 @@ public class DeviceStatusMonitoringTask extends DynamicPartitionedScheduleTask {
         String deviceStatusTaskConfigStr = getProperty(DeviceStatusTaskManagerServiceImpl.DEVICE_STATUS_TASK_CONFIG);
         Gson gson = new Gson();
         DeviceStatusTaskPluginConfig deviceStatusTaskPluginConfig = gson.fromJson(deviceStatusTaskConfigStr, DeviceStatusTaskPluginConfig.class);
-        try {
-            List<EnrolmentInfo> enrolmentInfoTobeUpdated = new ArrayList<>();
-            List<DeviceMonitoringData> allDevicesForMonitoring = getAllDevicesForMonitoring();
-            Map<Integer, List<DeviceMonitoringData>> tenantDevicesMap = new HashMap<>();
-            List<DeviceMonitoringData> tenantMonitoringData = null;
-            //Delegate the devices in each tenant to a separate list to be updated the statuses.
-            //This improvement has been done since the tenants maintain a separate caches and the task is running
-            //in the super-tenant space. Hence, the device status updates are not reflected in the tenant caches.
-            //Refer to https://roadmap.entgra.net/issues/11386 for more information.
-            for (DeviceMonitoringData deviceMonitoringData : allDevicesForMonitoring) {
-                tenantMonitoringData = tenantDevicesMap.get(deviceMonitoringData.getTenantId());
-                if (tenantMonitoringData == null) {
-                    tenantMonitoringData = new ArrayList<>();
+        long timeMillis = System.currentTimeMillis();
+        DeviceStatusTaskConfig deviceStatusTaskConfig = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig().getDeviceStatusTaskConfig();
+        if (deviceStatusTaskConfig == null || deviceStatusTaskConfig.isSetBasedUpdate()) {
+            try {
+                int updatedDevices = updateIdleDevices(deviceStatusTaskPluginConfig, timeMillis);
+                if (log.isDebugEnabled()) {
+                    log.debug("Updated the status of " + updatedDevices + " non-responsive devices of type '"
+                            + deviceType + "'");
                 }
-                tenantMonitoringData.add(deviceMonitoringData);
-                tenantDevicesMap.put(deviceMonitoringData.getTenantId(), tenantMonitoringData);
+            } catch (DeviceStatusTaskException e) {
+                log.error("Error occurred while updating non-responsive " +
+                        "device-status of devices of type '" + deviceType + "'", e);
             }
-
-            List<DeviceMonitoringData> monitoringDevices = null;
-            long timeMillis = System.currentTimeMillis();
-            //Retrieving the devices belongs for each tenants and updating the status of the devices.
-            for (Map.Entry<Integer, List<DeviceMonitoringData>> entry : tenantDevicesMap.entrySet()) {
-                Integer tenantId = entry.getKey();
-                RealmService realmService = DeviceManagementDataHolder.getInstance().getRealmService();
-                if (realmService != null) {
-                    String domain = realmService.getTenantManager().getDomain(tenantId);
-                    if (domain != null) {
-                        try {
-                            PrivilegedCarbonContext.startTenantFlow();
-                            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(domain, true);
-                            monitoringDevices = entry.getValue();
-                            for (DeviceMonitoringData monitoringData : monitoringDevices) {
-                                long lastUpdatedTime = (timeMillis - monitoringData
-                                        .getLastUpdatedTime()) / 1000;
-
-                                EnrolmentInfo enrolmentInfo = monitoringData.getDevice().getEnrolmentInfo();
-                                EnrolmentInfo.Status status = null;
-                                if (lastUpdatedTime >= deviceStatusTaskPluginConfig
-                                        .getIdleTimeToMarkInactive()) {
-                                    status = EnrolmentInfo.Status.INACTIVE;
-                                } else if (lastUpdatedTime >= deviceStatusTaskPluginConfig
-                                        .getIdleTimeToMarkUnreachable()) {
-                                    status = EnrolmentInfo.Status.UNREACHABLE;
-                                }
-
-                                if (status != null) {
-                                    enrolmentInfo.setStatus(status);
-                                    enrolmentInfoTobeUpdated.add(enrolmentInfo);
-                                    DeviceIdentifier deviceIdentifier =
-                                            new DeviceIdentifier(monitoringData.getDevice()
-                                                    .getDeviceIdentifier(), deviceType);
-                                    monitoringData.getDevice().setEnrolmentInfo(enrolmentInfo);
-                                    DeviceCacheManagerImpl.getInstance().addDeviceToCache(deviceIdentifier,
-                                            monitoringData.getDevice(), monitoringData.getTenantId());
-                                }
-                            }
-                        } finally {
-                            PrivilegedCarbonContext.endTenantFlow();
-                        }
-                    } else {
-                        log.error("Failed while running the device status update task. Failed while " +
-                                "extracting tenant domain of the tenant id : " + tenantId);
-                    }
-                } else {
-                    log.error("Failed while running the device status update task. RealmService is not initiated");
+            return;
+        }
+        int batchSize = getBatchSize();
+        int lastDeviceId = 0;
+        int updatedDevices = 0;
+        try {
+            //Devices are processed one page at a time, so that the memory used by the task and the length of the
+            //update transactions do not grow with the number of devices.
+            while (true) {
+                List<DeviceMonitoringData> monitoringDevices = getDevicesForMonitoring(lastDeviceId, batchSize);
+                if (monitoringDevices.isEmpty()) {
+                    break;
                 }
-            }
-            if (!enrolmentInfoTobeUpdated.isEmpty()) {
-                try {
-                    this.updateDeviceStatus(enrolmentInfoTobeUpdated);
-                } catch (DeviceStatusTaskException e) {
-                    log.error("Error occurred while updating non-responsive " +
-                            "device-status of devices of type '" + deviceType + "'", e);
+                lastDeviceId = monitoringDevices.get(monitoringDevices.size() - 1).getDevice().getId();
+                updatedDevices += updateDeviceStatus(monitoringDevices, deviceStatusTaskPluginConfig, timeMillis);
+                if (monitoringDevices.size() < batchSize) {
+                    break;
                 }
             }
+            if (log.isDebugEnabled()) {
+                log.debug("Updated the status of " + updatedDevices + " non-responsive devices of type '"
+                        + deviceType + "'");
+            }
         } catch (DeviceManagementException e) {
             String msg = "Error occurred while retrieving devices list for monitoring.";
             log.error(msg, e);
@@ -178,6 +159,189 @@ public class DeviceStatusMonitoringTask extends DynamicPartitionedScheduleTask {
         }
     }
 
+    /**
+     * Transition the idle devices with one update statement per status, instead of reading the devices into memory
+     * and writing the new statuses back. Devices which exceeded the inactive threshold are marked INACTIVE first so
+     * that the UNREACHABLE update only picks the devices which are still ACTIVE.
+     *
+     * @return Number of devices whose status was updated
+     */
+    private int updateIdleDevices(DeviceStatusTaskPluginConfig deviceStatusTaskPluginConfig, long timeMillis)
+            throws DeviceStatusTaskException {
+        int activeServerCount = -1;
+        int serverHashIndex = -1;
+        DynamicTaskContext ctx = getTaskContext();
+        if (ctx != null && ctx.isPartitioningEnabled()) {
+            activeServerCount = ctx.getActiveServerCount();
+            serverHashIndex = ctx.getServerHashIndex();
+        }
+        Timestamp inactiveSince = new Timestamp(
+                timeMillis - deviceStatusTaskPluginConfig.getIdleTimeToMarkInactive() * 1000L);
+        Timestamp unreachableSince = new Timestamp(
+                timeMillis - deviceStatusTaskPluginConfig.getIdleTimeToMarkUnreachable() * 1000L);
+        Map<Integer, List<DeviceMonitoringData>> tenantDevicesMap = new HashMap<>();
+        int updatedDevices;
+        try {
+            DeviceManagementDAOFactory.beginTransaction();
+            EnrollmentDAO enrollmentDAO = DeviceManagementDAOFactory.getEnrollmentDAO();
+            List<DeviceMonitoringData> updatedEnrolments = new ArrayList<>(enrollmentDAO.updateIdleEnrollmentStatus(
+                    deviceTypeId, Arrays.asList(EnrolmentInfo.Status.ACTIVE, EnrolmentInfo.Status.UNREACHABLE),
+                    EnrolmentInfo.Status.INACTIVE, inactiveSince, activeServerCount, serverHashIndex));
+            updatedEnrolments.addAll(enrollmentDAO.updateIdleEnrollmentStatus(deviceTypeId,
+                    Collections.singletonList(EnrolmentInfo.Status.ACTIVE), EnrolmentInfo.Status.UNREACHABLE,
+                    unreachableSince, activeServerCount, serverHashIndex));
+            for (DeviceMonitoringData monitoringData : updatedEnrolments) {
+                tenantDevicesMap.computeIfAbsent(monitoringData.getTenantId(), k -> new ArrayList<>())
+                        .add(monitoringData);
+            }
+            for (Map.Entry<Integer, List<DeviceMonitoringData>> entry : tenantDevicesMap.entrySet()) {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(entry.getKey(), true);
+                    addDeviceStatusHistory(enrollmentDAO, entry.getValue(), entry.getKey());
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }
+            DeviceManagementDAOFactory.commitTransaction();
+            updatedDevices = updatedEnrolments.size();
+        } catch (DeviceManagementDAOException | MetadataManagementException e) {
+            DeviceManagementDAOFactory.rollbackTransaction();
+            throw new DeviceStatusTaskException("Error occurred while updating enrollment status of devices of type '"
+                    + deviceType + "'", e);
+        } catch (TransactionManagementException e) {
+            throw new DeviceStatusTaskException("Error occurred while initiating a transaction for updating the device " +
+                    "status of type '" + deviceType + "'", e);
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+
+        //The device caches are maintained per tenant, hence the updated devices are evicted within each tenant flow.
+        for (Map.Entry<Integer, List<DeviceMonitoringData>> entry : tenantDevicesMap.entrySet()) {
+            List<DeviceCacheKey> deviceCacheKeys = new ArrayList<>();
+            for (DeviceMonitoringData monitoringData : entry.getValue()) {
+                DeviceCacheKey deviceCacheKey = new DeviceCacheKey();
+                deviceCacheKey.setDeviceId(monitoringData.getDevice().getDeviceIdentifier());
+                deviceCacheKey.setDeviceType(deviceType);
+                deviceCacheKey.setTenantId(entry.getKey());
+                deviceCacheKeys.add(deviceCacheKey);
+            }
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(entry.getKey(), true);
+                DeviceCacheManagerImpl.getInstance().removeDevicesFromCache(deviceCacheKeys);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+        return updatedDevices;
+    }
+
+    private void addDeviceStatusHistory(EnrollmentDAO enrollmentDAO, List<DeviceMonitoringData> monitoringDevices,
+                                        int tenantId)
+            throws DeviceManagementDAOException, MetadataManagementException {
+        DeviceStatusManagementService deviceStatusManagementService = DeviceManagementDataHolder
+                .getInstance().getDeviceStatusManagementService();
+        boolean isEnableDeviceStatusCheck = deviceStatusManagementService.getDeviceStatusCheck(tenantId);
+        for (DeviceMonitoringData monitoringData : monitoringDevices) {
+            EnrolmentInfo enrolmentInfo = monitoringData.getDevice().getEnrolmentInfo();
+            if (!isEnableDeviceStatusCheck || deviceStatusManagementService
+                    .isDeviceStatusValid(this.deviceType, enrolmentInfo.getStatus().name(), tenantId)) {
+                enrollmentDAO.addDeviceStatus(enrolmentInfo);
+            }
+        }
+    }
+
+    /**
+     * Decide the status of a page of devices and update the devices which became non-responsive.
+     *
+     * @return Number of devices whose status was updated
+     */
+    private int updateDeviceStatus(List<DeviceMonitoringData> monitoringDevices,
+                                   DeviceStatusTaskPluginConfig deviceStatusTaskPluginConfig, long timeMillis)
+            throws UserStoreException {
+        //Delegate the devices in each tenant to a separate list to be updated the statuses.
+        //This improvement has been done since the tenants maintain a separate caches and the task is running
+        //in the super-tenant space. Hence, the device status updates are not reflected in the tenant caches.
+        //Refer to https://roadmap.entgra.net/issues/11386 for more information.
+        Map<Integer, List<DeviceMonitoringData>> tenantDevicesMap = new HashMap<>();
+        for (DeviceMonitoringData monitoringData : monitoringDevices) {
+            long lastUpdatedTime = (timeMillis - monitoringData.getLastUpdatedTime()) / 1000;
+            EnrolmentInfo.Status status = null;
+            if (lastUpdatedTime >= deviceStatusTaskPluginConfig.getIdleTimeToMarkInactive()) {
+                status = EnrolmentInfo.Status.INACTIVE;
+            } else if (lastUpdatedTime >= deviceStatusTaskPluginConfig.getIdleTimeToMarkUnreachable()) {
+                status = EnrolmentInfo.Status.UNREACHABLE;
+            }
+            if (status != null) {
+                monitoringData.getDevice().getEnrolmentInfo().setStatus(status);
+                tenantDevicesMap.computeIfAbsent(monitoringData.getTenantId(), k -> new ArrayList<>())
+                        .add(monitoringData);
+            }
+        }
+
+        AtomicInteger updatedDevices = new AtomicInteger();
+        RealmService realmService = DeviceManagementDataHolder.getInstance().getRealmService();
+        if (realmService == null) {
+            if (!tenantDevicesMap.isEmpty()) {
+                log.error("Failed while running the device status update task. RealmService is not initiated");
+            }
+            return updatedDevices.get();
+        }
+        //Retrieving the devices belongs for each tenants and updating the status of the devices. Each tenant is
+        //updated as a separate work unit, so that the tenants can be updated in parallel.
+        List<TaskWorkUnit> workUnits = new ArrayList<>();
+        for (Map.Entry<Integer, List<DeviceMonitoringData>> entry : tenantDevicesMap.entrySet()) {
+            Integer tenantId = entry.getKey();
+            String domain = realmService.getTenantManager().getDomain(tenantId);
+            if (domain == null) {
+                log.error("Failed while running the device status update task. Failed while " +
+                        "extracting tenant domain of the tenant id : " + tenantId);
+                continue;
+            }
+            workUnits.add(new TaskWorkUnit(tenantId, domain, deviceType,
+                    () -> updatedDevices.addAndGet(updateTenantDeviceStatus(tenantId, entry.getValue()))));
+        }
+        executeWorkUnits(workUnits);
+        return updatedDevices.get();
+    }
+
+    /**
+     * Update the status of the devices of a tenant and evict them from the device cache of the tenant. This is
+     * expected to be called within the flow of the tenant.
+     *
+     * @return Number of devices whose status was updated
+     */
+    private int updateTenantDeviceStatus(int tenantId, List<DeviceMonitoringData> monitoringDevices) {
+        List<EnrolmentInfo> enrolmentInfoTobeUpdated = new ArrayList<>();
+        List<DeviceCacheKey> deviceCacheKeys = new ArrayList<>();
+        for (DeviceMonitoringData monitoringData : monitoringDevices) {
+            enrolmentInfoTobeUpdated.add(monitoringData.getDevice().getEnrolmentInfo());
+            DeviceCacheKey deviceCacheKey = new DeviceCacheKey();
+            deviceCacheKey.setDeviceId(monitoringData.getDevice().getDeviceIdentifier());
+            deviceCacheKey.setDeviceType(deviceType);
+            deviceCacheKey.setTenantId(tenantId);
+            deviceCacheKeys.add(deviceCacheKey);
+        }
+        try {
+            this.updateDeviceStatus(enrolmentInfoTobeUpdated);
+            DeviceCacheManagerImpl.getInstance().removeDevicesFromCache(deviceCacheKeys);
+            return enrolmentInfoTobeUpdated.size();
+        } catch (DeviceStatusTaskException e) {
+            log.error("Error occurred while updating non-responsive " +
+                    "device-status of devices of type '" + deviceType + "'", e);
+            return 0;
+        }
+    }
+
+    private int getBatchSize() {
+        DeviceStatusTaskConfig deviceStatusTaskConfig = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig().getDeviceStatusTaskConfig();
+        if (deviceStatusTaskConfig == null || deviceStatusTaskConfig.getBatchSize() <= 0) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        return deviceStatusTaskConfig.getBatchSize();
+    }
 
     private boolean updateDeviceStatus(List<EnrolmentInfo> enrolmentInfos) throws
             DeviceStatusTaskException {
@@ -27,6 +27,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.ntask.core.Task;
 
+import java.util.List;
 import java.util.Map;
 
 
@@ -150,6 +151,21 @@ public abstract class DynamicPartitionedScheduleTask implements Task {
         }
     }
 
+    /**
+     * Execute the work units of the task and wait until all of them are completed, so that an execution of the task
+     * does not overlap with the next one. Work units are executed in parallel on the worker pool shared by the
+     * dynamically partitioned tasks when a parallelism greater than one is configured.
+     *
+     * @param workUnits Work units of the task, each belonging to a single tenant and device type
+     */
+    protected final void executeWorkUnits(List<TaskWorkUnit> workUnits) {
+        String taskName = getTaskName();
+        if (taskName == null) {
+            taskName = this.getClass().getSimpleName();
+        }
+        TaskWorkUnitExecutor.getInstance().execute(taskName, workUnits);
+    }
+
     protected abstract void setup();
 
     protected abstract void executeDynamicTask();
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.task.impl;
+
+/**
+ * Part of the work of a dynamically partitioned task which belongs to a single tenant and device type. Work units of a
+ * task are independent of each other, hence they can be executed in parallel, each in the flow of its own tenant.
+ */
+public class TaskWorkUnit {
+
+    private final int tenantId;
+    private final String tenantDomain;
+    private final String deviceType;
+    private final Runnable work;
+
+    /**
+     * @param tenantId   Id of the tenant which the work belongs to
+     * @param deviceType Device type which the work belongs to, or null if the work is not specific to a device type
+     * @param work       Work to be executed. Failures are expected to be handled within the work itself.
+     */
+    public TaskWorkUnit(int tenantId, String deviceType, Runnable work) {
+        this(tenantId, null, deviceType, work);
+    }
+
+    /**
+     * @param tenantId     Id of the tenant which the work belongs to
+     * @param tenantDomain Domain of the tenant, or null if it has to be resolved from the tenant id
+     * @param deviceType   Device type which the work belongs to, or null if the work is not specific to a device type
+     * @param work         Work to be executed. Failures are expected to be handled within the work itself.
+     */
+    public TaskWorkUnit(int tenantId, String tenantDomain, String deviceType, Runnable work) {
+        this.tenantId = tenantId;
+        this.tenantDomain = tenantDomain;
+        this.deviceType = deviceType;
+        this.work = work;
+    }
+
+    public int getTenantId() {
+        return tenantId;
+    }
+
+    public String getTenantDomain() {
+        return tenantDomain;
+    }
+
+    public String getDeviceType() {
+        return deviceType;
+    }
+
+    public Runnable getWork() {
+        return work;
+    }
+
+    @Override
+    public String toString() {
+        return "TID:[" + tenantId + "] device type: " + deviceType;
+    }
+}
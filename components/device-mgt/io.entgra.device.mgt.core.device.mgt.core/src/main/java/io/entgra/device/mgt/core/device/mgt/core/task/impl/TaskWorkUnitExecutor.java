@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.task.impl;
+
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.task.TaskExecutorConfiguration;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the work units of the dynamically partitioned tasks on a worker pool shared by all the tasks, so that a
+ * slow tenant or device type does not hold back the others. The number of work units which run at the same time is
+ * bounded by the configured parallelism, and the number of those which may use a database connection at the same
+ * time is bounded across all the tasks, so that the tasks can not exhaust the connections of the datasource.
+ */
+public class TaskWorkUnitExecutor {
+
+    private static final Log log = LogFactory.getLog(TaskWorkUnitExecutor.class);
+    private static final ThreadLocal<Boolean> workerThread = new ThreadLocal<>();
+    private static final TaskWorkUnitExecutor inlineExecutor = new TaskWorkUnitExecutor(1, 1);
+    private static volatile TaskWorkUnitExecutor instance;
+    private static volatile boolean shutdown;
+
+    private final ExecutorService executorService;
+    private final Semaphore databaseConnections;
+
+    public TaskWorkUnitExecutor(int parallelism, int maxDatabaseConnections) {
+        this.databaseConnections = new Semaphore(Math.max(1, maxDatabaseConnections));
+        if (parallelism > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(() -> {
+                    workerThread.set(Boolean.TRUE);
+                    runnable.run();
+                }, "dynamic-task-worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executorService = null;
+        }
+    }
+
+    /**
+     * @return Shared executor, which is started on first use, or an executor which runs the work units on the calling
+     * thread if the shared executor has been shut down
+     */
+    public static TaskWorkUnitExecutor getInstance() {
+        TaskWorkUnitExecutor executor = instance;
+        if (executor != null) {
+            return executor;
+        }
+        synchronized (TaskWorkUnitExecutor.class) {
+            if (shutdown) {
+                return inlineExecutor;
+            }
+            if (instance == null) {
+                TaskExecutorConfiguration config = null;
+                DeviceManagementConfig deviceManagementConfig = DeviceConfigurationManager.getInstance()
+                        .getDeviceManagementConfig();
+                if (deviceManagementConfig != null) {
+                    config = deviceManagementConfig.getTaskExecutorConfiguration();
+                }
+                if (config == null) {
+                    config = new TaskExecutorConfiguration();
+                }
+                instance = new TaskWorkUnitExecutor(config.getParallelism(), config.getMaxDatabaseConnections());
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Shut down the shared executor, so that its workers do not outlive the bundle. Work units executed afterwards run
+     * on the calling thread until the executor is enabled again.
+     */
+    public static void shutdownInstance() {
+        TaskWorkUnitExecutor executor;
+        synchronized (TaskWorkUnitExecutor.class) {
+            shutdown = true;
+            executor = instance;
+            instance = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Allow the shared executor to be started again after it has been shut down.
+     */
+    public static void enableInstance() {
+        synchronized (TaskWorkUnitExecutor.class) {
+            shutdown = false;
+        }
+    }
+
+    /**
+     * Execute the given work units and wait until all of them are completed. Work units are executed on the calling
+     * thread when parallel execution is disabled or the executor is shut down, when there is only a single work unit,
+     * or when the calling thread is itself a worker of this executor.
+     *
+     * @param taskName  Name of the task which the work units belong to
+     * @param workUnits Work units to be executed
+     */
+    public void execute(String taskName, List<TaskWorkUnit> workUnits) {
+        if (workUnits.isEmpty()) {
+            return;
+        }
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        CallerContext callerContext = new CallerContext(carbonContext.getTenantId(), carbonContext.getTenantDomain(),
+                carbonContext.getUsername());
+        if (executorService == null || executorService.isShutdown() || workUnits.size() == 1
+                || Boolean.TRUE.equals(workerThread.get())) {
+            for (TaskWorkUnit workUnit : workUnits) {
+                executeInTenantFlow(taskName, workUnit, callerContext);
+            }
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        List<Future<?>> futures = new ArrayList<>(workUnits.size());
+        for (TaskWorkUnit workUnit : workUnits) {
+            try {
+                futures.add(executorService.submit(() -> executeThrottled(taskName, workUnit, callerContext)));
+            } catch (RejectedExecutionException e) {
+                //The executor has been shut down after the work units were started to be submitted
+                futures.add(null);
+                executeInTenantFlow(taskName, workUnit, callerContext);
+            }
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            if (futures.get(i) == null) {
+                continue;
+            }
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException e) {
+                log.error("Error occurred while executing the work unit (" + workUnits.get(i) + ") of task "
+                        + taskName, e.getCause());
+            } catch (InterruptedException e) {
+                log.warn("Interrupted while waiting for the work units of task " + taskName + ", cancelling "
+                        + (futures.size() - i) + " work units");
+                for (int j = i; j < futures.size(); j++) {
+                    if (futures.get(j) != null) {
+                        futures.get(j).cancel(true);
+                    }
+                }
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Executed " + workUnits.size() + " work units of task " + taskName + " in "
+                    + (System.currentTimeMillis() - startTime) + " ms");
+        }
+    }
+
+    private void executeThrottled(String taskName, TaskWorkUnit workUnit, CallerContext callerContext) {
+        try {
+            databaseConnections.acquire();
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while waiting to execute the work unit (" + workUnit + ") of task " + taskName);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            executeInTenantFlow(taskName, workUnit, callerContext);
+        } finally {
+            databaseConnections.release();
+        }
+    }
+
+    private void executeInTenantFlow(String taskName, TaskWorkUnit workUnit, CallerContext callerContext) {
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            if (workUnit.getTenantDomain() != null) {
+                carbonContext.setTenantDomain(workUnit.getTenantDomain());
+                carbonContext.setTenantId(workUnit.getTenantId());
+            } else if (workUnit.getTenantId() == callerContext.tenantId && callerContext.tenantDomain != null) {
+                carbonContext.setTenantDomain(callerContext.tenantDomain);
+                carbonContext.setTenantId(callerContext.tenantId);
+                carbonContext.setUsername(callerContext.username);
+            } else {
+                carbonContext.setTenantId(workUnit.getTenantId(), true);
+            }
+            workUnit.getWork().run();
+        } catch (RuntimeException e) {
+            log.error("Error occurred while executing the work unit (" + workUnit + ") of task " + taskName, e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Stop the workers of the executor. Work units which are already submitted are completed.
+     */
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    private static class CallerContext {
+        private final int tenantId;
+        private final String tenantDomain;
+        private final String username;
+
+        private CallerContext(int tenantId, String tenantDomain, String username) {
+            this.tenantId = tenantId;
+            this.tenantDomain = tenantDomain;
+            this.username = username;
+        }
+    }
+}
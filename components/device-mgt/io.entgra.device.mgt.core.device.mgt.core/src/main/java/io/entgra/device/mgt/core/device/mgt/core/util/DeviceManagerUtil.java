@@ -67,6 +67,7 @@ import io.entgra.device.mgt.core.device.mgt.core.cache.DeviceCacheKey;
 import io.entgra.device.mgt.core.device.mgt.core.cache.GeoCacheKey;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.cache.PendingOperationCacheConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.config.datasource.DataSourceConfig;
 import io.entgra.device.mgt.core.device.mgt.core.config.datasource.JNDILookupDefinition;
 import io.entgra.device.mgt.core.device.mgt.core.config.tenant.PlatformConfigurationManagementServiceImpl;
@@ -131,6 +132,7 @@ public final class DeviceManagerUtil {
     private  static boolean isBillingCacheInitialized = false;
     private  static boolean isAPIResourcePermissionCacheInitialized = false;
     private static boolean isGeoFenceCacheInitialized = false;
+    private static boolean isPendingOperationCacheInitialized = false;
 
     public static Document convertToDocument(File file) throws DeviceManagementException {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
@@ -735,6 +737,60 @@ public final class DeviceManagerUtil {
         }
     }
 
+    /**
+     * Enable pending operation caching according to the configurations provided by cdm-config.xml
+     */
+    public static void initializePendingOperationCache() {
+        PendingOperationCacheConfiguration cacheConfig = getPendingOperationCacheConfiguration();
+        if (cacheConfig != null && cacheConfig.isEnabled() && !isPendingOperationCacheInitialized) {
+            isPendingOperationCacheInitialized = true;
+            int cacheExpiry = cacheConfig.getExpiryTime();
+            long cacheCapacity = cacheConfig.getCapacity();
+            CacheManager manager = getCacheManager();
+            if (manager == null) {
+                manager = Caching.getCacheManager();
+            }
+            if (cacheExpiry > 0) {
+                manager.<Integer, Long>createCacheBuilder(DeviceManagementConstants.PENDING_OPERATION_CACHE).
+                        setExpiry(CacheConfiguration.ExpiryType.MODIFIED, new CacheConfiguration.Duration(TimeUnit.SECONDS,
+                                cacheExpiry)).setStoreByValue(true).build();
+                if (cacheCapacity > 0) {
+                    ((CacheImpl) manager.<Integer, Long>getCache(DeviceManagementConstants.PENDING_OPERATION_CACHE)).
+                            setCapacity(cacheCapacity);
+                }
+            } else {
+                manager.<Integer, Long>getCache(DeviceManagementConstants.PENDING_OPERATION_CACHE);
+            }
+        }
+    }
+
+    /**
+     * Get pending operation cache object
+     * @return {@link Cache<Integer, Long>} keyed by enrolment id, or null if the cache is disabled
+     */
+    public static Cache<Integer, Long> getPendingOperationCache() {
+        PendingOperationCacheConfiguration cacheConfig = getPendingOperationCacheConfiguration();
+        Cache<Integer, Long> pendingOperationCache = null;
+        if (cacheConfig != null && cacheConfig.isEnabled()) {
+            if (!isPendingOperationCacheInitialized) {
+                initializePendingOperationCache();
+            }
+            CacheManager manager = getCacheManager();
+            if (manager != null) {
+                pendingOperationCache = manager.getCache(DeviceManagementConstants.PENDING_OPERATION_CACHE);
+            } else {
+                pendingOperationCache = Caching.getCacheManager(DeviceManagementConstants.DM_CACHE_MANAGER)
+                        .getCache(DeviceManagementConstants.PENDING_OPERATION_CACHE);
+            }
+        }
+        return pendingOperationCache;
+    }
+
+    public static PendingOperationCacheConfiguration getPendingOperationCacheConfiguration() {
+        DeviceManagementConfig config = DeviceConfigurationManager.getInstance().getDeviceManagementConfig();
+        return config == null ? null : config.getPendingOperationCacheConfiguration();
+    }
+
     public static Cache<DeviceCacheKey, Device> getDeviceCache() {
         DeviceManagementConfig config = DeviceConfigurationManager.getInstance().getDeviceManagementConfig();
         CacheManager manager = getCacheManager();
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers the JMX views of device management components on the platform MBean server under the
+ * io.entgra.device.mgt.core domain.
+ */
+public class MBeanUtil {
+
+    private static final Log log = LogFactory.getLog(MBeanUtil.class);
+    private static final String MBEAN_DOMAIN = "io.entgra.device.mgt.core";
+
+    /**
+     * Register an MBean, replacing the MBean which is already registered with the same type.
+     *
+     * @param mBean MBean or MXBean to register
+     * @param type  Type the MBean is registered with
+     */
+    public static void registerMBean(Object mBean, String type) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getObjectName(type);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(mBean, objectName);
+        } catch (JMException e) {
+            log.warn("Unable to register the " + type + " MBean", e);
+        }
+    }
+
+    /**
+     * Unregister the MBean registered with the given type, if there is one.
+     *
+     * @param type Type the MBean is registered with
+     */
+    public static void unregisterMBean(String type) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getObjectName(type);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Unable to unregister the " + type + " MBean", e);
+        }
+    }
+
+    private static ObjectName getObjectName(String type) throws JMException {
+        return new ObjectName(MBEAN_DOMAIN + ":type=" + type);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.app.mgt;
+
+import io.entgra.device.mgt.core.device.mgt.common.app.mgt.Application;
+import io.entgra.device.mgt.core.device.mgt.core.DeviceManagementConstants;
+import io.entgra.device.mgt.core.device.mgt.core.common.TestDataHolder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This is a test class to test the functionality in {@link ApplicationInventorySyncEngine}.
+ */
+public class ApplicationInventorySyncEngineTest {
+
+    private final ApplicationInventorySyncEngine syncEngine = new ApplicationInventorySyncEngine();
+
+    @Test(description = "Digest does not depend on the order of the applications but changes with their attributes")
+    public void testComputeDigest() {
+        List<Application> applications = Arrays.asList(generateApplication("org.wso2.app1", 10),
+                generateApplication("org.wso2.app2", 20));
+        List<Application> reorderedApplications = new ArrayList<>(applications);
+        Collections.reverse(reorderedApplications);
+        String digest = syncEngine.computeDigest(applications);
+        Assert.assertEquals(syncEngine.computeDigest(reorderedApplications), digest);
+
+        reorderedApplications.get(0).setMemoryUsage(30);
+        Assert.assertNotEquals(syncEngine.computeDigest(reorderedApplications), digest,
+                "Digest was not changed when the memory usage of an application changed.");
+    }
+
+    @Test(description = "Versions are normalized to the values saved in the database")
+    public void testNormalize() {
+        Application withoutVersion = generateApplication("org.wso2.app1", 10);
+        withoutVersion.setVersion(null);
+        Application longVersion = generateApplication("org.wso2.app2", 10);
+        char[] version = new char[DeviceManagementConstants.OperationAttributes.APPLIST_VERSION_MAX_LENGTH + 10];
+        Arrays.fill(version, '1');
+        longVersion.setVersion(new String(version));
+        syncEngine.normalize(Arrays.asList(withoutVersion, longVersion));
+        Assert.assertEquals(withoutVersion.getVersion(), "N/A");
+        Assert.assertEquals(longVersion.getVersion().length(),
+                DeviceManagementConstants.OperationAttributes.APPLIST_VERSION_MAX_LENGTH);
+    }
+
+    @Test(description = "Diff finds the applications to be inserted, updated and removed")
+    public void testDiff() {
+        Application removedApp = generateApplication("org.wso2.app1", 10);
+        removedApp.setId(1);
+        Application unchangedApp = generateApplication("org.wso2.app2", 10);
+        unchangedApp.setId(2);
+        Application updatedApp = generateApplication("org.wso2.app3", 10);
+        updatedApp.setId(3);
+        List<Application> installedApplications = Arrays.asList(removedApp, unchangedApp, updatedApp);
+
+        Application reportedUpdatedApp = generateApplication("org.wso2.app3", 10);
+        reportedUpdatedApp.setVersion("2.0.0");
+        Application insertedApp = generateApplication("org.wso2.app4", 10);
+        List<Application> reportedApplications = Arrays.asList(generateApplication("org.wso2.app2", 10),
+                reportedUpdatedApp, insertedApp);
+
+        ApplicationInventorySyncEngine.ApplicationListDiff diff =
+                syncEngine.diff(installedApplications, reportedApplications);
+        Assert.assertEquals(diff.getAppsToRemove(), Collections.singletonList(removedApp));
+        Assert.assertEquals(diff.getAppsToUpdate(), Collections.singletonList(reportedUpdatedApp));
+        Assert.assertEquals(diff.getAppsToUpdate().get(0).getId(), 3,
+                "Updated application was not given the id of the saved application.");
+        Assert.assertEquals(diff.getAppsToInsert(), Collections.singletonList(insertedApp));
+    }
+
+    private Application generateApplication(String appIdentifier, int memoryUsage) {
+        Application application = TestDataHolder.generateApplicationDummyData(appIdentifier);
+        application.setMemoryUsage(memoryUsage);
+        application.setActive(true);
+        return application;
+    }
+}
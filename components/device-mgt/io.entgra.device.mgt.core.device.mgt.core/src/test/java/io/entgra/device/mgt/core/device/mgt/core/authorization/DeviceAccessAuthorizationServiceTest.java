@@ -75,7 +75,9 @@ public class DeviceAccessAuthorizationServiceTest {
     private static final String ADMIN_ROLE = "adminRole";
     private static final String NON_ADMIN_ROLE = "nonAdminRole";
     private static final String DEFAULT_GROUP = "defaultGroup";
+    private static final String SHARED_GROUP = "sharedGroup";
     private static final String DEVICE_ID_PREFIX = "AUTH-SERVICE-TEST-DEVICE-ID-";
+    private static final String SHARED_GROUP_DEVICE_ID_PREFIX = "AUTH-SERVICE-TEST-SHARED-GROUP-DEVICE-ID-";
     private static final String USER_CLAIM_EMAIL_ADDRESS = "http://wso2.org/claims/emailaddress";
     private static final String USER_CLAIM_FIRST_NAME = "http://wso2.org/claims/givenname";
     private static final String USER_CLAIM_LAST_NAME = "http://wso2.org/claims/lastname";
@@ -289,6 +291,44 @@ public class DeviceAccessAuthorizationServiceTest {
                 "Non admin user authentication to 3 devices in a non-shared group failed");
     }
 
+    @Test(description = "Authorization for multiple devices shared with the user through more than one group")
+    public void userAuthDevIdsViaSharedGroups() throws Exception {
+        List<DeviceIdentifier> sharedGroupDeviceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sharedGroupDeviceIds.add(new DeviceIdentifier(SHARED_GROUP_DEVICE_ID_PREFIX + i, DEVICE_TYPE));
+        }
+        DeviceManagementProviderService deviceMgtService = DeviceManagementDataHolder.getInstance()
+                .getDeviceManagementProvider();
+        for (Device device : TestDataHolder.generateDummyDeviceData(sharedGroupDeviceIds)) {
+            deviceMgtService.enrollDevice(device);
+        }
+        GroupManagementProviderService groupManagementProviderService = DeviceManagementDataHolder.getInstance()
+                .getGroupManagementProviderService();
+        int groupId = groupManagementProviderService.createDefaultGroup(SHARED_GROUP).getGroupId();
+        groupManagementProviderService.manageGroupSharing(groupId, new ArrayList<>(Collections.singletonList(
+                NON_ADMIN_ROLE)));
+        //Adding the first 2 new devices and a device of the default group, which is also shared with the user
+        List<DeviceIdentifier> sharedDeviceIds = new ArrayList<>(sharedGroupDeviceIds.subList(0, 2));
+        sharedDeviceIds.add(groupDeviceIds.get(0));
+        groupManagementProviderService.addDevices(groupId, sharedDeviceIds);
+
+        List<DeviceIdentifier> requestedDeviceIds = new ArrayList<>(sharedGroupDeviceIds);
+        requestedDeviceIds.add(groupDeviceIds.get(0));
+        requestedDeviceIds.add(groupDeviceIds.get(1));
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(NON_ADMIN_ALLOWED_USER);
+        DeviceAuthorizationResult deviceAuthorizationResult = deviceAccessAuthorizationService.
+                isUserAuthorized(requestedDeviceIds, NON_ADMIN_ALLOWED_USER, new String[]{NON_ADMIN_PERMISSION});
+        Assert.assertEquals(deviceAuthorizationResult.getAuthorizedDevices().size(), 4,
+                "Non admin user authentication to 4 devices in shared groups failed");
+        Assert.assertTrue(deviceAuthorizationResult.getAuthorizedDevices().containsAll(sharedDeviceIds),
+                "Devices of the second shared group are not authorized for the non admin user");
+        Assert.assertTrue(deviceAuthorizationResult.getAuthorizedDevices().contains(groupDeviceIds.get(1)),
+                "Device of the default shared group is not authorized for the non admin user");
+        Assert.assertEquals(deviceAuthorizationResult.getUnauthorizedDevices(),
+                Collections.singletonList(sharedGroupDeviceIds.get(2)),
+                "Non admin user authentication to a device in a non-shared group failed");
+    }
+
     @Test(description = "Authorization for device admin called by normal user")
     public void isDevAdminNormalUser() throws DeviceAccessAuthorizationException {
         PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(NORMAL_USER);
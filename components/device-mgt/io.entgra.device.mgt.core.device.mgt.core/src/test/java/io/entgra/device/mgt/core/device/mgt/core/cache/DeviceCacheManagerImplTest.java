@@ -62,6 +62,7 @@ public class DeviceCacheManagerImplTest extends BaseDeviceManagementTest {
         deviceCacheManager = Mockito.mock(DeviceCacheManagerImpl.class, Mockito.CALLS_REAL_METHODS);
         DeviceCacheConfiguration configuration = new DeviceCacheConfiguration();
         configuration.setEnabled(true);
+        configuration.setNegativeCacheEnabled(true);
         DeviceManagementConfig config = DeviceConfigurationManager.getInstance().getDeviceManagementConfig();
         config.setDeviceCacheConfiguration(configuration);
         initializeCarbonContext();
@@ -110,6 +111,32 @@ public class DeviceCacheManagerImplTest extends BaseDeviceManagementTest {
                 "with the saved device");
     }
 
+    @Test(description = "test remembering a device which is not found until it is enrolled")
+    public void testUnknownDeviceInCache() {
+        DeviceIdentifier deviceIdentifier = new DeviceIdentifier(DEVICE_ID_PREFIX + "UNKNOWN", DEVICE_TYPE);
+        Assert.assertFalse(deviceCacheManager.isUnknownDevice(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID));
+        deviceCacheManager.addUnknownDeviceToCache(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID);
+        Assert.assertTrue(deviceCacheManager.isUnknownDevice(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID),
+                "Device which is not found is not remembered");
+        Assert.assertFalse(deviceCacheManager.isUnknownDevice(deviceIdentifier, 1),
+                "Device which is not found is remembered for another tenant");
+        Assert.assertFalse(deviceCacheManager.isUnknownDevice(new DeviceIdentifier(deviceIdentifier.getId(),
+                "OTHER_TYPE"), MultitenantConstants.SUPER_TENANT_ID),
+                "Device which is not found is remembered for another device type");
+
+        deviceCacheManager.addDeviceToCache(deviceIdentifier, TestDataHolder.generateDummyDeviceData(deviceIdentifier),
+                MultitenantConstants.SUPER_TENANT_ID);
+        Assert.assertFalse(deviceCacheManager.isUnknownDevice(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID),
+                "Cached device is still remembered as not found");
+        deviceCacheManager.removeDeviceFromCache(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID);
+
+        deviceCacheManager.addUnknownDeviceToCache(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID);
+        deviceCacheManager.removeUnknownDeviceFromCache(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID);
+        Assert.assertFalse(deviceCacheManager.isUnknownDevice(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID),
+                "Enrolled device is still remembered as not found");
+        Assert.assertTrue(deviceCacheManager.getNegativeCacheMetrics().getHits() > 0);
+    }
+
     @Test(description = "test removing a device from cache", dependsOnMethods = {"testUpdateDeviceInCache"})
     public void testRemoveDeviceFromCache() throws DeviceManagementException {
         deviceCacheManager.removeDeviceFromCache(deviceIds.get(0), MultitenantConstants.SUPER_TENANT_ID);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.cache;
+
+import io.entgra.device.mgt.core.device.mgt.common.exceptions.DeviceManagementException;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.PendingOperationCacheManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.common.BaseDeviceManagementTest;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceManagementConfig;
+import io.entgra.device.mgt.core.device.mgt.core.config.cache.PendingOperationCacheConfiguration;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.io.File;
+import java.util.Arrays;
+
+/*
+    Unit tests for PendingOperationCacheManagerImpl
+ */
+public class PendingOperationCacheManagerImplTest extends BaseDeviceManagementTest {
+    private static final int ENROLMENT_ID = 1001;
+    private static final int OTHER_ENROLMENT_ID = 1002;
+    private PendingOperationCacheManager pendingOperationCacheManager;
+
+    @BeforeClass
+    public void init() throws DeviceManagementException {
+        DeviceConfigurationManager.getInstance().initConfig();
+        PendingOperationCacheConfiguration configuration = new PendingOperationCacheConfiguration();
+        configuration.setEnabled(true);
+        DeviceManagementConfig config = DeviceConfigurationManager.getInstance().getDeviceManagementConfig();
+        config.setPendingOperationCacheConfiguration(configuration);
+        if (System.getProperty("carbon.home") == null) {
+            File file = new File("src/test/resources");
+            if (file.exists()) {
+                System.setProperty("carbon.home", file.getAbsolutePath());
+            }
+        }
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(
+                org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(
+                org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID);
+        pendingOperationCacheManager = PendingOperationCacheManagerImpl.getInstance();
+    }
+
+    @Test(description = "Unknown enrolments always fall back to the operation lookup")
+    public void testUnknownEnrolment() {
+        Long state = pendingOperationCacheManager.getState(ENROLMENT_ID);
+        Assert.assertNull(state);
+        Assert.assertFalse(pendingOperationCacheManager.isDrained(state, false));
+        Assert.assertFalse(pendingOperationCacheManager.isDrained(state, true));
+    }
+
+    @Test(description = "Recording an empty poll of an unknown enrolment", dependsOnMethods = "testUnknownEnrolment")
+    public void testMarkDrained() {
+        pendingOperationCacheManager.markDrained(ENROLMENT_ID, pendingOperationCacheManager.getState(ENROLMENT_ID),
+                false);
+        Long state = pendingOperationCacheManager.getState(ENROLMENT_ID);
+        Assert.assertTrue(pendingOperationCacheManager.isDrained(state, false));
+        Assert.assertFalse(pendingOperationCacheManager.isDrained(state, true),
+                "NOTNOW operations were not looked up, hence polls which include them cannot be skipped");
+        pendingOperationCacheManager.markDrained(ENROLMENT_ID, state, true);
+        Assert.assertTrue(pendingOperationCacheManager.isDrained(
+                pendingOperationCacheManager.getState(ENROLMENT_ID), true));
+    }
+
+    @Test(description = "Adding an operation makes the enrolment pending", dependsOnMethods = "testMarkDrained")
+    public void testMarkPending() {
+        pendingOperationCacheManager.markPending(Arrays.asList(ENROLMENT_ID, OTHER_ENROLMENT_ID));
+        Assert.assertFalse(pendingOperationCacheManager.isDrained(
+                pendingOperationCacheManager.getState(ENROLMENT_ID), false));
+        Assert.assertFalse(pendingOperationCacheManager.isDrained(
+                pendingOperationCacheManager.getState(OTHER_ENROLMENT_ID), false));
+    }
+
+    @Test(description = "An empty poll which raced with an added operation must not drain the enrolment",
+            dependsOnMethods = "testMarkPending")
+    public void testStaleMarkDrained() {
+        Long state = pendingOperationCacheManager.getState(ENROLMENT_ID);
+        pendingOperationCacheManager.markPending(ENROLMENT_ID);
+        pendingOperationCacheManager.markDrained(ENROLMENT_ID, state, true);
+        Assert.assertFalse(pendingOperationCacheManager.isDrained(
+                pendingOperationCacheManager.getState(ENROLMENT_ID), false));
+
+        state = pendingOperationCacheManager.getState(ENROLMENT_ID);
+        pendingOperationCacheManager.markDrained(ENROLMENT_ID, state, true);
+        Assert.assertTrue(pendingOperationCacheManager.isDrained(
+                pendingOperationCacheManager.getState(ENROLMENT_ID), true));
+    }
+}
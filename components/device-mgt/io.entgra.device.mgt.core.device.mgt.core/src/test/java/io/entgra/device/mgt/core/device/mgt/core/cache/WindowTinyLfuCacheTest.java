@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.cache;
+
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.NearCacheMetrics;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.WindowTinyLfuCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/*
+    Unit tests for WindowTinyLfuCache
+ */
+public class WindowTinyLfuCacheTest {
+    private static final int CAPACITY = 100;
+
+    @Test(description = "Test whether the cache stays within its capacity")
+    public void testCapacityIsBounded() {
+        NearCacheMetrics metrics = new NearCacheMetrics();
+        WindowTinyLfuCache<Integer, String> cache = new WindowTinyLfuCache<>(CAPACITY, metrics);
+        for (int i = 0; i < CAPACITY * 10; i++) {
+            cache.put(i, "value-" + i);
+        }
+        Assert.assertEquals(cache.size(), CAPACITY, "Cache grew beyond its capacity");
+        Assert.assertEquals(metrics.getEvictions(), CAPACITY * 9, "Evictions were not counted");
+    }
+
+    @Test(description = "Test whether frequently accessed entries survive a scan of one time entries")
+    public void testFrequentEntriesSurviveScan() {
+        WindowTinyLfuCache<Integer, String> cache = new WindowTinyLfuCache<>(CAPACITY, new NearCacheMetrics());
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            cache.put(i, "hot-" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < CAPACITY / 2; i++) {
+                cache.get(i);
+            }
+        }
+        for (int i = CAPACITY; i < CAPACITY * 20; i++) {
+            cache.put(i, "scan-" + i);
+        }
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            Assert.assertEquals(cache.get(i), "hot-" + i, "Frequently accessed entry " + i + " was evicted");
+        }
+    }
+
+    @Test(description = "Test invalidating entries and adding entries only if absent")
+    public void testInvalidateAndPutIfAbsent() {
+        WindowTinyLfuCache<Integer, String> cache = new WindowTinyLfuCache<>(CAPACITY, new NearCacheMetrics());
+        cache.put(1, "first");
+        cache.putIfAbsent(1, "stale");
+        Assert.assertEquals(cache.get(1), "first", "Existing entry was replaced by putIfAbsent");
+        cache.put(2, "second");
+        cache.put(3, "third");
+        cache.invalidate(1);
+        Assert.assertNull(cache.get(1), "Invalidated entry is still cached");
+        cache.invalidateAll(Arrays.asList(2, 3));
+        Assert.assertEquals(cache.size(), 0, "Invalidated entries are still cached");
+        cache.putIfAbsent(1, "new");
+        Assert.assertEquals(cache.get(1), "new", "Absent entry was not added by putIfAbsent");
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.cache.impl;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.app.mgt.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a device lookup from a cache which stores devices by value, which copies the whole device graph on every
+ * hit, with a lookup from the device near-cache, which copies only the top level of the device snapshot. Lookups
+ * follow a skewed key distribution over more devices than the near-cache holds. This is not part of the test suite,
+ * run it with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DeviceNearCacheBenchmark {
+
+    private static final int DEVICE_COUNT = 20000;
+    private static final int LOOKUP_COUNT = 1 << 16;
+
+    @Param({"10", "50"})
+    public int applicationCount;
+
+    private final Map<Integer, byte[]> storeByValueCache = new ConcurrentHashMap<>();
+    private WindowTinyLfuCache<Integer, Device> nearCache;
+    private Device[] devices;
+    private int[] lookups;
+
+    @Setup
+    public void setup() throws IOException {
+        devices = new Device[DEVICE_COUNT];
+        nearCache = new WindowTinyLfuCache<>(DEVICE_COUNT / 4, new NearCacheMetrics());
+        for (int i = 0; i < DEVICE_COUNT; i++) {
+            devices[i] = createDevice(i, applicationCount);
+            storeByValueCache.put(i, serialize(devices[i]));
+        }
+        Random random = new Random(42);
+        lookups = new int[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            // Squaring a uniform sample skews the lookups towards the devices with low indexes.
+            double sample = random.nextDouble();
+            lookups[i] = (int) (sample * sample * DEVICE_COUNT);
+        }
+    }
+
+    @Benchmark
+    public Device storeByValue() throws IOException, ClassNotFoundException {
+        int key = nextKey();
+        return deserialize(storeByValueCache.get(key));
+    }
+
+    @Benchmark
+    public Device nearCache() throws IOException, ClassNotFoundException {
+        int key = nextKey();
+        Device snapshot = nearCache.get(key);
+        if (snapshot != null) {
+            return DeviceCacheManagerImpl.copyOf(snapshot);
+        }
+        Device device = deserialize(storeByValueCache.get(key));
+        nearCache.putIfAbsent(key, DeviceCacheManagerImpl.copyOf(device));
+        return device;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(DeviceNearCacheBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+
+    private int nextKey() {
+        return lookups[ThreadLocalRandom.current().nextInt(LOOKUP_COUNT)];
+    }
+
+    private static Device createDevice(int index, int applicationCount) {
+        EnrolmentInfo enrolmentInfo = new EnrolmentInfo("admin", EnrolmentInfo.OwnerShip.BYOD,
+                EnrolmentInfo.Status.ACTIVE);
+        enrolmentInfo.setId(index);
+        enrolmentInfo.setDateOfEnrolment(System.currentTimeMillis());
+        enrolmentInfo.setDateOfLastUpdate(System.currentTimeMillis());
+        enrolmentInfo.setTags(new ArrayList<>(Arrays.asList("tag1", "tag2")));
+        Device device = new Device();
+        device.setId(index);
+        device.setName("device-" + index);
+        device.setType("android");
+        device.setDescription("Benchmark device " + index);
+        device.setDeviceIdentifier("9a4f1f3c-" + index);
+        device.setEnrolmentInfo(enrolmentInfo);
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < applicationCount; i++) {
+            Application application = new Application();
+            application.setId(i);
+            application.setName("Application " + i);
+            application.setApplicationIdentifier("io.entgra.sample.application" + i);
+            application.setVersion("1.0." + i);
+            application.setPlatform("android");
+            applications.add(application);
+        }
+        device.setApplications(applications);
+        return device;
+    }
+
+    private static byte[] serialize(Device device) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(device);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Device deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Device) in.readObject();
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.entgra.device.mgt.core.device.mgt.core.dao;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo.Status;
 import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceData;
@@ -519,6 +520,30 @@ public class DevicePersistTests extends BaseDeviceManagementTest {
         }
     }
 
+    @Test(dependsOnMethods = "testAddDeviceTest")
+    public void getDeviceRefsOfUsers() throws DeviceManagementDAOException, TransactionManagementException {
+        Device device = TestDataHolder.initialTestDevice;
+        List<String> status = new ArrayList<>();
+        status.add(Status.ACTIVE.name());
+        try {
+            DeviceManagementDAOFactory.beginTransaction();
+            DeviceRefList results = deviceDAO.getDeviceRefsOfUsers(
+                    Collections.singletonList(TestDataHolder.OWNER.toUpperCase()), status,
+                    TestDataHolder.SUPER_TENANT_ID);
+            Assert.assertEquals(results.size(), 1, "No device reference returned");
+            Assert.assertEquals(results.getDeviceIdentifier(0), device.getDeviceIdentifier());
+            Assert.assertEquals(results.getType(0), device.getType());
+            Assert.assertEquals(results.getStatus(0), Status.ACTIVE);
+            Assert.assertTrue(deviceDAO.getDeviceRefsOfUsers(Collections.singletonList(TestDataHolder.OWNER),
+                    Collections.singletonList(Status.REMOVED.name()), TestDataHolder.SUPER_TENANT_ID).isEmpty());
+            DeviceManagementDAOFactory.commitTransaction();
+        } catch (DeviceManagementDAOException e) {
+            throw new DeviceManagementDAOException("Error occurred while retrieving the device references" + e);
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+    }
+
     @Test(dependsOnMethods = "testAddDeviceTest")
     public void getDevicesWithTag() throws DeviceManagementDAOException, TransactionManagementException {
         try {
@@ -20,6 +20,7 @@ package io.entgra.device.mgt.core.device.mgt.core.dao;
 import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceMonitoringData;
 import io.entgra.device.mgt.core.device.mgt.core.common.BaseDeviceManagementTest;
 import io.entgra.device.mgt.core.device.mgt.core.common.TestDataHolder;
 import org.apache.commons.logging.Log;
@@ -29,6 +30,9 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
 
 public class EnrolmentPersistenceTests extends BaseDeviceManagementTest {
 
@@ -81,6 +85,55 @@ public class EnrolmentPersistenceTests extends BaseDeviceManagementTest {
         }
     }
 
+    @Test
+    public void testUpdateIdleEnrollmentStatus() throws Exception {
+        String owner = "admin";
+        String previousOwner = "previous-owner";
+        int deviceId;
+        int enrolmentId;
+        try {
+            DeviceManagementDAOFactory.beginTransaction();
+            Device device = TestDataHolder.generateDummyDeviceData(TestDataHolder.TEST_DEVICE_TYPE);
+            deviceId = DeviceManagementDAOFactory.getDeviceDAO().addDevice(
+                    TestDataHolder.initialTestDeviceType.getId(), device, TestDataHolder.SUPER_TENANT_ID);
+            /* An earlier enrolment of the device, which is not the current one */
+            enrollmentDAO.addEnrollment(deviceId, new DeviceIdentifier(device.getDeviceIdentifier(), device.getType()),
+                    new EnrolmentInfo(previousOwner, EnrolmentInfo.OwnerShip.BYOD, EnrolmentInfo.Status.ACTIVE),
+                    TestDataHolder.SUPER_TENANT_ID);
+            EnrolmentInfo enrolmentInfo = enrollmentDAO.addEnrollment(deviceId,
+                    new DeviceIdentifier(device.getDeviceIdentifier(), device.getType()),
+                    new EnrolmentInfo(owner, EnrolmentInfo.OwnerShip.BYOD, EnrolmentInfo.Status.ACTIVE),
+                    TestDataHolder.SUPER_TENANT_ID);
+            enrolmentId = enrolmentInfo.getId();
+            DeviceManagementDAOFactory.commitTransaction();
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+
+        /* The partition filter restricts the update to the device added above */
+        int partitionCount = Integer.MAX_VALUE;
+        Timestamp idleSince = new Timestamp(System.currentTimeMillis() + 60000);
+        List<DeviceMonitoringData> updatedEnrolments;
+        try {
+            DeviceManagementDAOFactory.beginTransaction();
+            updatedEnrolments = enrollmentDAO.updateIdleEnrollmentStatus(
+                    TestDataHolder.initialTestDeviceType.getId(), Collections.singletonList(EnrolmentInfo.Status.ACTIVE),
+                    EnrolmentInfo.Status.UNREACHABLE, idleSince, partitionCount, deviceId);
+            DeviceManagementDAOFactory.commitTransaction();
+        } finally {
+            DeviceManagementDAOFactory.closeConnection();
+        }
+        Assert.assertEquals(updatedEnrolments.size(), 1, "Only the idle enrolment should have been updated");
+        DeviceMonitoringData updatedEnrolment = updatedEnrolments.get(0);
+        Assert.assertEquals(updatedEnrolment.getDevice().getId(), deviceId);
+        Assert.assertEquals(updatedEnrolment.getDevice().getEnrolmentInfo().getId(), enrolmentId);
+        Assert.assertEquals(updatedEnrolment.getTenantId(), TestDataHolder.SUPER_TENANT_ID);
+        Assert.assertEquals(this.getEnrolmentConfig(deviceId, owner, TestDataHolder.SUPER_TENANT_ID).getStatus(),
+                EnrolmentInfo.Status.UNREACHABLE, "Enrolment status has not been updated");
+        Assert.assertEquals(this.getEnrolmentConfig(deviceId, previousOwner, TestDataHolder.SUPER_TENANT_ID)
+                .getStatus(), EnrolmentInfo.Status.ACTIVE, "Only the latest enrolment of the device should be updated");
+    }
+
     private EnrolmentInfo getEnrolmentConfig(int deviceId, String currentOwner,
                                              int tenantId) throws DeviceManagementDAOException {
         EnrolmentInfo enrolmentInfo = null;
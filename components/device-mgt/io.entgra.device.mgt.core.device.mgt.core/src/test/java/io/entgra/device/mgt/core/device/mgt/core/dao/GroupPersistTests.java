@@ -19,6 +19,7 @@
 package io.entgra.device.mgt.core.device.mgt.core.dao;
 
 import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceRefList;
 import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.GroupPaginationRequest;
 import io.entgra.device.mgt.core.device.mgt.common.PaginationRequest;
@@ -365,6 +366,37 @@ public class GroupPersistTests extends BaseDeviceManagementTest {
         }
     }
 
+    @Test(dependsOnMethods = {"addDeviceToGroupTest"})
+    public void getDeviceRefsOfGroup() {
+        DeviceGroup deviceGroup = getGroupById(groupId);
+        Assert.assertNotNull(deviceGroup, "Group is null");
+        List<String> deviceStatus = new ArrayList<>();
+        deviceStatus.add(EnrolmentInfo.Status.ACTIVE.name());
+        try {
+            GroupManagementDAOFactory.beginTransaction();
+            List<Device> devices = groupDAO.getAllDevicesOfGroup(deviceGroup.getName(), deviceStatus,
+                    TestDataHolder.SUPER_TENANT_ID);
+            DeviceRefList deviceRefs = groupDAO.getDeviceRefsOfGroup(deviceGroup.getName(), deviceStatus,
+                    TestDataHolder.SUPER_TENANT_ID);
+            GroupManagementDAOFactory.commitTransaction();
+            Assert.assertEquals(deviceRefs.size(), devices.size(), "Device reference count mismatch");
+            for (int i = 0; i < deviceRefs.size(); i++) {
+                Assert.assertEquals(deviceRefs.getStatus(i), EnrolmentInfo.Status.ACTIVE);
+            }
+        } catch (GroupManagementDAOException e) {
+            GroupManagementDAOFactory.rollbackTransaction();
+            String msg = "Error occurred while getting device references of group '" + groupId + "'.";
+            log.error(msg, e);
+            Assert.fail(msg, e);
+        } catch (TransactionManagementException e) {
+            String msg = "Error occurred while initiating transaction.";
+            log.error(msg, e);
+            Assert.fail(msg, e);
+        } finally {
+            GroupManagementDAOFactory.closeConnection();
+        }
+    }
+
     @Test(dependsOnMethods = {"addDeviceToGroupTest"})
     public void getAllDevicesOfGroup() {
         DeviceGroup deviceGroup = getGroupById(groupId);
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.impl;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.device.details.DeviceLocation;
+import io.entgra.device.mgt.core.device.mgt.core.common.BaseDeviceManagementTest;
+import io.entgra.device.mgt.core.device.mgt.core.common.TestDataHolder;
+import io.entgra.device.mgt.core.device.mgt.core.config.geo.location.LocationIngestionConfiguration;
+import io.entgra.device.mgt.core.device.mgt.core.device.details.mgt.dao.DeviceDetailsDAO;
+import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceLocationDTO;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains unit tests to test {@link DeviceLocationWriteBehindBuffer} class.
+ */
+public class DeviceLocationWriteBehindBufferTest extends BaseDeviceManagementTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private DeviceDetailsDAO deviceDetailsDAO;
+    private final Queue<Map<Integer, DeviceLocation>> upsertedLocations = new ConcurrentLinkedQueue<>();
+    private final Queue<List<DeviceLocationDTO>> historyBatches = new ConcurrentLinkedQueue<>();
+    private volatile CountDownLatch flushedLatch;
+    private volatile CountDownLatch releaseLatch;
+
+    @Override
+    public void init() {
+    }
+
+    @BeforeMethod
+    @SuppressWarnings("unchecked")
+    public void setupDeviceDetailsDAO() throws Exception {
+        upsertedLocations.clear();
+        historyBatches.clear();
+        flushedLatch = new CountDownLatch(1);
+        releaseLatch = new CountDownLatch(0);
+        deviceDetailsDAO = Mockito.mock(DeviceDetailsDAO.class);
+        Mockito.doAnswer(invocation -> {
+            upsertedLocations.add(new HashMap<>((Map<Integer, DeviceLocation>) invocation.getArgument(0)));
+            return null;
+        }).when(deviceDetailsDAO).updateDeviceLocations(Mockito.anyMap());
+        Mockito.doAnswer(invocation -> {
+            historyBatches.add(new ArrayList<>((List<DeviceLocationDTO>) invocation.getArgument(0)));
+            flushedLatch.countDown();
+            releaseLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(deviceDetailsDAO).addDeviceLocationsInfo(Mockito.anyList());
+    }
+
+    @Test(description = "Tests that only the latest location of an enrolment in a batch is upserted")
+    public void testCoalesceLatestLocationPerEnrolment() throws Exception {
+        LocationIngestionConfiguration config = createConfiguration();
+        config.setMaxBatchSize(3);
+        DeviceLocationWriteBehindBuffer buffer = new DeviceLocationWriteBehindBuffer(config, deviceDetailsDAO);
+        try {
+            DeviceLocationDTO first = createLocation(1);
+            DeviceLocationDTO other = createLocation(2);
+            DeviceLocationDTO latest = createLocation(1);
+            Assert.assertTrue(buffer.offer(first));
+            Assert.assertTrue(buffer.offer(other));
+            Assert.assertSame(buffer.getPendingLocation(1), first.getDeviceLocation());
+            Assert.assertTrue(buffer.offer(latest));
+
+            Assert.assertTrue(flushedLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(historyBatches.size(), 1);
+            Assert.assertEquals(historyBatches.peek().size(), 3, "Every location has to be added to the history");
+            Assert.assertEquals(upsertedLocations.size(), 1);
+            Map<Integer, DeviceLocation> upserted = upsertedLocations.peek();
+            Assert.assertEquals(upserted.size(), 2, "Only one location per enrolment has to be upserted");
+            Assert.assertSame(upserted.get(1), latest.getDeviceLocation());
+            Assert.assertSame(upserted.get(2), other.getDeviceLocation());
+        } finally {
+            buffer.shutdown();
+        }
+    }
+
+    @Test(description = "Tests that a location is dropped when the buffer is full and the overflow policy is DROP")
+    public void testDropWhenBufferIsFull() throws Exception {
+        LocationIngestionConfiguration config = createBlockingConfiguration();
+        config.setOverflowPolicy(LocationIngestionConfiguration.OVERFLOW_DROP);
+        DeviceLocationWriteBehindBuffer buffer = new DeviceLocationWriteBehindBuffer(config, deviceDetailsDAO);
+        try {
+            fillBuffer(buffer);
+            Assert.assertTrue(buffer.offer(createLocation(3)), "A dropped location must not be written by the caller");
+            Assert.assertNull(buffer.getPendingLocation(3));
+        } finally {
+            releaseLatch.countDown();
+            buffer.shutdown();
+        }
+        Assert.assertEquals(countHistoryRows(), 2);
+    }
+
+    @Test(description = "Tests that the caller writes the location when the buffer is full and the overflow policy "
+            + "is SYNC_WRITE")
+    public void testSyncWriteWhenBufferIsFull() throws Exception {
+        LocationIngestionConfiguration config = createBlockingConfiguration();
+        config.setOverflowPolicy(LocationIngestionConfiguration.OVERFLOW_SYNC_WRITE);
+        DeviceLocationWriteBehindBuffer buffer = new DeviceLocationWriteBehindBuffer(config, deviceDetailsDAO);
+        try {
+            fillBuffer(buffer);
+            Assert.assertFalse(buffer.offer(createLocation(3)), "The caller has to write the location");
+            Assert.assertNull(buffer.getPendingLocation(3));
+        } finally {
+            releaseLatch.countDown();
+            buffer.shutdown();
+        }
+        Assert.assertEquals(countHistoryRows(), 2);
+    }
+
+    @Test(description = "Tests that the buffered locations are flushed when the buffer is shut down")
+    public void testFlushOnShutdown() throws Exception {
+        DeviceLocationWriteBehindBuffer buffer = new DeviceLocationWriteBehindBuffer(createConfiguration(),
+                deviceDetailsDAO);
+        Assert.assertTrue(buffer.offer(createLocation(1)));
+        Assert.assertTrue(buffer.offer(createLocation(2)));
+        buffer.shutdown();
+
+        Assert.assertEquals(countHistoryRows(), 2);
+        Assert.assertNull(buffer.getPendingLocation(1));
+        Assert.assertNull(buffer.getPendingLocation(2));
+        Assert.assertFalse(buffer.offer(createLocation(1)), "A stopped buffer must not accept locations");
+    }
+
+    @Test(description = "Tests that the shared buffer is not started again once it has been shut down")
+    public void testNoInstanceAfterShutdown() {
+        LocationIngestionConfiguration config = createConfiguration();
+        try {
+            Assert.assertNotNull(DeviceLocationWriteBehindBuffer.getInstance(config, deviceDetailsDAO));
+            DeviceLocationWriteBehindBuffer.shutdownInstance();
+            Assert.assertNull(DeviceLocationWriteBehindBuffer.getInstance(config, deviceDetailsDAO),
+                    "Locations reported after the shutdown have to be written synchronously");
+            DeviceLocationWriteBehindBuffer.enableInstance();
+            Assert.assertNotNull(DeviceLocationWriteBehindBuffer.getInstance(config, deviceDetailsDAO));
+        } finally {
+            DeviceLocationWriteBehindBuffer.shutdownInstance();
+            DeviceLocationWriteBehindBuffer.enableInstance();
+        }
+    }
+
+    @Test(description = "Tests that a location without a reported time is recorded with the time it was buffered at")
+    public void testHistoryTimeOfBufferedLocation() throws Exception {
+        DeviceLocationWriteBehindBuffer buffer = new DeviceLocationWriteBehindBuffer(createConfiguration(),
+                deviceDetailsDAO);
+        DeviceLocationDTO deviceLocationDTO = new DeviceLocationDTO(createDevice(1), new DeviceLocation(),
+                TestDataHolder.SUPER_TENANT_ID);
+        long beforeOffer = System.currentTimeMillis();
+        Assert.assertTrue(buffer.offer(deviceLocationDTO));
+        long afterOffer = System.currentTimeMillis();
+        Thread.sleep(100);
+        buffer.shutdown();
+
+        Assert.assertEquals(countHistoryRows(), 1);
+        long recordedTime = historyBatches.peek().get(0).getDeviceLocation().getUpdatedTime().getTime();
+        Assert.assertTrue(recordedTime >= beforeOffer && recordedTime <= afterOffer,
+                "The location has to be recorded with the time it was buffered at");
+    }
+
+    /**
+     * The first location is held by the database, so the second location waits in the buffer and fills it up.
+     */
+    private void fillBuffer(DeviceLocationWriteBehindBuffer buffer) throws Exception {
+        releaseLatch = new CountDownLatch(1);
+        Assert.assertTrue(buffer.offer(createLocation(1)));
+        Assert.assertTrue(flushedLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(buffer.offer(createLocation(2)));
+        Assert.assertEquals(buffer.getQueueSize(), 1);
+    }
+
+    private int countHistoryRows() {
+        int rows = 0;
+        for (List<DeviceLocationDTO> batch : historyBatches) {
+            rows += batch.size();
+        }
+        return rows;
+    }
+
+    private LocationIngestionConfiguration createConfiguration() {
+        LocationIngestionConfiguration config = new LocationIngestionConfiguration();
+        config.setWriteBehindEnabled(true);
+        config.setFlushIntervalMillis(60000);
+        return config;
+    }
+
+    private LocationIngestionConfiguration createBlockingConfiguration() {
+        LocationIngestionConfiguration config = createConfiguration();
+        config.setMaxBatchSize(1);
+        config.setQueueCapacity(1);
+        return config;
+    }
+
+    private DeviceLocationDTO createLocation(int enrolmentId) {
+        DeviceLocation deviceLocation = new DeviceLocation();
+        deviceLocation.setLatitude((double) enrolmentId);
+        deviceLocation.setLongitude((double) enrolmentId);
+        return new DeviceLocationDTO(createDevice(enrolmentId), deviceLocation, TestDataHolder.SUPER_TENANT_ID);
+    }
+
+    private Device createDevice(int enrolmentId) {
+        EnrolmentInfo enrolmentInfo = new EnrolmentInfo();
+        enrolmentInfo.setId(enrolmentId);
+        enrolmentInfo.setOwner("admin");
+        Device device = new Device();
+        device.setId(enrolmentId);
+        device.setDeviceIdentifier("location-device-" + enrolmentId);
+        device.setType("TEST_TYPE");
+        device.setEnrolmentInfo(enrolmentInfo);
+        return device;
+    }
+}
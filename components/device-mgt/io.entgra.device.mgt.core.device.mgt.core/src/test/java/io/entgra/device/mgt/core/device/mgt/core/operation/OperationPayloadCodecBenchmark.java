@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation;
+
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.CompactPayloadCodec;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.JavaSerializationPayloadCodec;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the encode and decode cost of the operation payload codecs for typical operation payloads. This is
+ * not part of the test suite, run it with the main method from the test classpath. The encoded size of each
+ * payload is printed before the benchmarks start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationPayloadCodecBenchmark {
+
+    @Param({JavaSerializationPayloadCodec.NAME, CompactPayloadCodec.NAME})
+    public String codecName;
+
+    @Param({"COMMAND", "POLICY", "RESPONSE", "PROPERTIES"})
+    public String payloadType;
+
+    private OperationPayloadCodec codec;
+    private Object payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        codec = createCodec(codecName);
+        payload = createPayload(payloadType);
+        encoded = codec.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(payload);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException, ClassNotFoundException {
+        return codec.decode(encoded);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        for (String type : new String[]{"COMMAND", "POLICY", "RESPONSE", "PROPERTIES"}) {
+            Object payload = createPayload(type);
+            System.out.println(type + ": " + JavaSerializationPayloadCodec.NAME + "="
+                    + createCodec(JavaSerializationPayloadCodec.NAME).encode(payload).length + " bytes, "
+                    + CompactPayloadCodec.NAME + "=" + createCodec(CompactPayloadCodec.NAME).encode(payload).length
+                    + " bytes");
+        }
+        Options options = new OptionsBuilder().include(OperationPayloadCodecBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+
+    private static OperationPayloadCodec createCodec(String name) {
+        if (CompactPayloadCodec.NAME.equals(name)) {
+            return new CompactPayloadCodec(1024);
+        }
+        return new JavaSerializationPayloadCodec();
+    }
+
+    private static Object createPayload(String type) {
+        switch (type) {
+            case "COMMAND":
+                return "{\"code\":\"DEVICE_LOCATION\",\"type\":\"COMMAND\",\"enabled\":true}";
+            case "POLICY":
+                return jsonArray(40, "{\"featureCode\":\"PASSCODE_POLICY\",\"deviceType\":\"android\","
+                        + "\"content\":{\"allowSimple\":false,\"requireAlphanumeric\":true,\"minLength\":8}}");
+            case "RESPONSE":
+                return jsonArray(1000, "{\"name\":\"io.entgra.sample.application\",\"version\":\"1.0.0\","
+                        + "\"platform\":\"android\",\"isActive\":true}");
+            default:
+                Properties properties = new Properties();
+                properties.setProperty("INITIATED_BY", "admin");
+                properties.setProperty("CORRELATION_ID", "3f0c2d51-6a7b-4c25-9d3e-8f1b2a4c6d7e");
+                properties.setProperty("IS_CONTROLLED_BY_POLICY", "true");
+                return properties;
+        }
+    }
+
+    private static String jsonArray(int count, String element) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(element);
+        }
+        return json.append(']').toString();
+    }
+}
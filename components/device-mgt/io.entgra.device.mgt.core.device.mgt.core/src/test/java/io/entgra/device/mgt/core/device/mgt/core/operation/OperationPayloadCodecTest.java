@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.operation;
+
+import io.entgra.device.mgt.core.device.mgt.core.dto.operation.mgt.PolicyOperation;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.CompactPayloadCodec;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.JavaSerializationPayloadCodec;
+import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.dao.util.OperationPayloadCodecFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Tests the operation payload codecs and the detection of the format of stored payloads.
+ */
+public class OperationPayloadCodecTest {
+
+    private static final String PAYLOAD = "{\"code\":\"DEVICE_LOCATION\",\"type\":\"COMMAND\"}";
+
+    private final CompactPayloadCodec compactCodec = new CompactPayloadCodec(64);
+    private final JavaSerializationPayloadCodec javaCodec = new JavaSerializationPayloadCodec();
+
+    @AfterClass
+    public void resetCodec() {
+        OperationPayloadCodecFactory.setCodec(null);
+    }
+
+    @Test
+    public void testCompactStringRoundTrip() throws Exception {
+        byte[] encoded = compactCodec.encode(PAYLOAD);
+        Assert.assertEquals(encoded[0], CompactPayloadCodec.FORMAT_VERSION);
+        Assert.assertTrue(encoded.length < javaCodec.encode(PAYLOAD).length);
+        Assert.assertEquals(compactCodec.decode(encoded), PAYLOAD);
+    }
+
+    @Test
+    public void testCompactCompressedStringRoundTrip() throws Exception {
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            payload.append(PAYLOAD);
+        }
+        byte[] encoded = compactCodec.encode(payload.toString());
+        Assert.assertTrue(encoded.length < payload.length());
+        Assert.assertEquals(compactCodec.decode(encoded), payload.toString());
+    }
+
+    @Test
+    public void testCompactPropertiesRoundTrip() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("INITIATED_BY", "admin");
+        properties.setProperty("CORRELATION_ID", "c0ffee");
+        Assert.assertEquals(compactCodec.decode(compactCodec.encode(properties)), properties);
+    }
+
+    @Test
+    public void testCompactSerializableRoundTrip() throws Exception {
+        PolicyOperation operation = new PolicyOperation();
+        operation.setCode("POLICY_BUNDLE");
+        operation.setPayLoad(PAYLOAD);
+        PolicyOperation decoded = (PolicyOperation) compactCodec.decode(compactCodec.encode(operation));
+        Assert.assertEquals(decoded.getCode(), operation.getCode());
+        Assert.assertEquals(decoded.getPayLoad(), PAYLOAD);
+    }
+
+    @Test
+    public void testDecodeStoredFormats() throws Exception {
+        OperationPayloadCodecFactory.setCodec(compactCodec);
+        Assert.assertEquals(OperationPayloadCodecFactory.decode(javaCodec.encode(PAYLOAD)), PAYLOAD);
+        Assert.assertEquals(OperationPayloadCodecFactory.decode(compactCodec.encode(PAYLOAD)), PAYLOAD);
+        Assert.assertEquals(OperationPayloadCodecFactory.decode(PAYLOAD.getBytes(StandardCharsets.UTF_8)), PAYLOAD);
+        Assert.assertNull(OperationPayloadCodecFactory.decode(null));
+        Assert.assertNull(OperationPayloadCodecFactory.encode(null));
+
+        OperationPayloadCodecFactory.setCodec(javaCodec);
+        Assert.assertEquals(OperationPayloadCodecFactory.decode(compactCodec.encode(PAYLOAD)), PAYLOAD);
+        Assert.assertFalse(OperationPayloadCodecFactory.isEncodedWithCurrentCodec(compactCodec.encode(PAYLOAD)));
+        Assert.assertTrue(OperationPayloadCodecFactory.isEncodedWithCurrentCodec(javaCodec.encode(PAYLOAD)));
+    }
+}
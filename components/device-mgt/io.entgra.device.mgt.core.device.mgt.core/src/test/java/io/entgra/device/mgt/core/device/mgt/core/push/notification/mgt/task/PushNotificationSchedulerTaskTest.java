@@ -93,4 +93,29 @@ public class PushNotificationSchedulerTaskTest extends BaseDeviceManagementTest
             OperationManagementDAOFactory.closeConnection();
         }
     }
+
+    @Test(description = "Tests the dispatch counters of the push notification scheduler",
+            dependsOnMethods = "testPushNotificationScheduler")
+    public void testPushNotificationDispatchMetrics() {
+        PushNotificationDispatchMetrics metrics = PushNotificationSchedulerTask.getMetrics();
+        Assert.assertTrue(metrics.getCycles() > 0, "Scheduler cycle was not recorded");
+        Assert.assertEquals(metrics.getCommittedMappings(), metrics.getSentNotifications(),
+                "Status of all sent notifications should be committed");
+        Assert.assertTrue(metrics.getOperationFetches() <= metrics.getSentNotifications()
+                        + metrics.getFailedNotifications(), "Operations should be fetched at most once per batch");
+    }
+
+    @Test(description = "Tests that a stopped scheduler does not dispatch notifications any more",
+            dependsOnMethods = "testPushNotificationDispatchMetrics")
+    public void testPushNotificationSchedulerShutdown() {
+        PushNotificationDispatchMetrics metrics = PushNotificationSchedulerTask.getMetrics();
+        long sentNotifications = metrics.getSentNotifications();
+        long failedNotifications = metrics.getFailedNotifications();
+        this.pushNotificationSchedulerTask.shutdown();
+        this.pushNotificationSchedulerTask.run();
+        Assert.assertEquals(metrics.getSentNotifications(), sentNotifications,
+                "Notifications should not be sent after the scheduler is stopped");
+        Assert.assertEquals(metrics.getFailedNotifications(), failedNotifications,
+                "Notifications should not be sent after the scheduler is stopped");
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.report.mgt;
+
+import com.sun.net.httpserver.HttpServer;
+import io.entgra.device.mgt.core.device.mgt.core.report.mgt.config.ReportingPublisherConfiguration;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class BatchingReportingPublisherTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String endpoint;
+    private final Queue<String> receivedBatches = new ConcurrentLinkedQueue<>();
+    private volatile CountDownLatch receivedLatch;
+    private volatile CountDownLatch releaseLatch;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        receivedBatches.clear();
+        receivedLatch = new CountDownLatch(1);
+        releaseLatch = new CountDownLatch(0);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/report", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                receivedBatches.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            receivedLatch.countDown();
+            try {
+                releaseLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        endpoint = "http://localhost:" + server.getAddress().getPort() + "/report";
+    }
+
+    @AfterMethod
+    public void stopServer() {
+        releaseLatch.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testBatchBySize() throws Exception {
+        ReportingPublisherConfiguration config = createConfiguration();
+        config.setMaxBatchSize(3);
+        BatchingReportingPublisher publisher = new BatchingReportingPublisher(config);
+        try {
+            List<CompletableFuture<Integer>> futures = publish(publisher, 3);
+            assertPublished(futures);
+            Assert.assertEquals(receivedBatches.size(), 1);
+            Assert.assertEquals(receivedBatches.peek(), "[{\"id\":0},{\"id\":1},{\"id\":2}]");
+            Assert.assertEquals(publisher.getMetrics().getPublishedBatches(), 1);
+        } finally {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchByTime() throws Exception {
+        ReportingPublisherConfiguration config = createConfiguration();
+        config.setFlushIntervalMillis(200);
+        BatchingReportingPublisher publisher = new BatchingReportingPublisher(config);
+        try {
+            List<CompletableFuture<Integer>> futures = publish(publisher, 2);
+            assertPublished(futures);
+            Assert.assertEquals(receivedBatches.size(), 1);
+            Assert.assertEquals(receivedBatches.peek(), "[{\"id\":0},{\"id\":1}]");
+        } finally {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropNewestWhenQueueIsFull() throws Exception {
+        ReportingPublisherConfiguration config = createBlockingConfiguration();
+        config.setDropPolicy(ReportingPublisherConfiguration.DROP_NEWEST);
+        BatchingReportingPublisher publisher = new BatchingReportingPublisher(config);
+        try {
+            List<CompletableFuture<Integer>> futures = fillQueue(publisher);
+            CompletableFuture<Integer> dropped = publisher.publish(endpoint, "{\"id\":3}");
+            assertRejected(dropped);
+            Assert.assertEquals(publisher.getMetrics().getDroppedRecords(), 1);
+
+            releaseLatch.countDown();
+            assertPublished(futures);
+        } finally {
+            releaseLatch.countDown();
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropOldestWhenQueueIsFull() throws Exception {
+        ReportingPublisherConfiguration config = createBlockingConfiguration();
+        config.setDropPolicy(ReportingPublisherConfiguration.DROP_OLDEST);
+        BatchingReportingPublisher publisher = new BatchingReportingPublisher(config);
+        try {
+            List<CompletableFuture<Integer>> futures = fillQueue(publisher);
+            CompletableFuture<Integer> newest = publisher.publish(endpoint, "{\"id\":3}");
+            assertRejected(futures.remove(2));
+            Assert.assertEquals(publisher.getMetrics().getDroppedRecords(), 1);
+
+            releaseLatch.countDown();
+            futures.add(newest);
+            assertPublished(futures);
+        } finally {
+            releaseLatch.countDown();
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testFlushOnShutdown() throws Exception {
+        ReportingPublisherConfiguration config = createConfiguration();
+        BatchingReportingPublisher publisher = new BatchingReportingPublisher(config);
+        List<CompletableFuture<Integer>> futures = publish(publisher, 2);
+        publisher.shutdown();
+        Assert.assertTrue(publisher.awaitTermination(TIMEOUT_MILLIS));
+        assertPublished(futures);
+        Assert.assertEquals(receivedBatches.size(), 1);
+        Assert.assertEquals(receivedBatches.peek(), "[{\"id\":0},{\"id\":1}]");
+
+        assertRejected(publisher.publish(endpoint, "{\"id\":2}"));
+    }
+
+    /**
+     * Records are published one at a time on a single thread, and the first one is held by the backend, so the
+     * second record occupies the dispatcher and the third one fills up the queue.
+     */
+    private List<CompletableFuture<Integer>> fillQueue(BatchingReportingPublisher publisher) throws Exception {
+        releaseLatch = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        futures.add(publisher.publish(endpoint, "{\"id\":0}"));
+        Assert.assertTrue(receivedLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        futures.add(publisher.publish(endpoint, "{\"id\":1}"));
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (publisher.getQueueSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(publisher.getQueueSize(), 0);
+        futures.add(publisher.publish(endpoint, "{\"id\":2}"));
+        Assert.assertEquals(publisher.getQueueSize(), 1);
+        return futures;
+    }
+
+    private ReportingPublisherConfiguration createConfiguration() {
+        ReportingPublisherConfiguration config = new ReportingPublisherConfiguration();
+        config.setBatchingEnabled(true);
+        config.setFlushIntervalMillis(60000);
+        return config;
+    }
+
+    private ReportingPublisherConfiguration createBlockingConfiguration() {
+        ReportingPublisherConfiguration config = createConfiguration();
+        config.setMaxBatchSize(1);
+        config.setQueueCapacity(1);
+        config.setPublisherThreads(1);
+        return config;
+    }
+
+    private List<CompletableFuture<Integer>> publish(BatchingReportingPublisher publisher, int count) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(publisher.publish(endpoint, "{\"id\":" + i + "}"));
+        }
+        return futures;
+    }
+
+    private void assertPublished(List<CompletableFuture<Integer>> futures) throws Exception {
+        for (CompletableFuture<Integer> future : futures) {
+            Assert.assertEquals(future.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), Integer.valueOf(200));
+        }
+    }
+
+    private void assertRejected(CompletableFuture<Integer> future) throws Exception {
+        try {
+            future.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            Assert.fail("Reporting record was expected to be rejected");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(future.isCompletedExceptionally());
+        }
+    }
+}
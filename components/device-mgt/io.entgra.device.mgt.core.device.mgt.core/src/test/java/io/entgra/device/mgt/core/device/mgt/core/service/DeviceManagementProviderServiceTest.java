@@ -37,6 +37,9 @@ import io.entgra.device.mgt.core.device.mgt.common.exceptions.TransactionManagem
 import io.entgra.device.mgt.core.device.mgt.common.license.mgt.License;
 import io.entgra.device.mgt.core.device.mgt.core.TestDeviceManagementService;
 import io.entgra.device.mgt.core.device.mgt.core.authorization.DeviceAccessAuthorizationServiceImpl;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.DeviceCacheManagerImpl;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.NearCacheMetrics;
+import io.entgra.device.mgt.core.device.mgt.core.cache.impl.WindowTinyLfuCache;
 import io.entgra.device.mgt.core.device.mgt.core.common.BaseDeviceManagementTest;
 import io.entgra.device.mgt.core.device.mgt.core.common.TestDataHolder;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
@@ -215,6 +218,51 @@ public class DeviceManagementProviderServiceTest extends BaseDeviceManagementTes
         }
     }
 
+    @Test(dependsOnMethods = {"testSuccessfulDeviceEnrollment"})
+    public void testReEnrollmentOfNegativeCachedDevice() throws Exception {
+        if (!isMock()) {
+            DeviceStatusManagementService deviceStatusManagementService = DeviceManagementDataHolder
+                    .getInstance().getDeviceStatusManagementService();
+            deviceStatusManagementService.addDefaultDeviceStatusFilterIfNotExist(MultitenantConstants.SUPER_TENANT_ID);
+            String deviceId = "NEGATIVE-CACHED-DEVICE";
+            DeviceIdentifier deviceIdentifier = new DeviceIdentifier(deviceId, DEVICE_TYPE);
+            Assert.assertTrue(deviceMgtService.enrollDevice(TestDataHolder.generateDummyDeviceData(deviceIdentifier)));
+
+            DeviceCacheManagerImpl cacheManager = DeviceCacheManagerImpl.getInstance();
+            NearCacheMetrics metrics = new NearCacheMetrics();
+            setNegativeCacheField(cacheManager, "negativeCacheExpiryTime", 30000L);
+            setNegativeCacheField(cacheManager, "negativeCacheMetrics", metrics);
+            setNegativeCacheField(cacheManager, "negativeCache", new WindowTinyLfuCache<>(100, metrics));
+            setNegativeCacheField(cacheManager, "negativeCacheInitialized", true);
+            try {
+                // Simulates a stale "unknown device" entry left on this node while another node enrolled it
+                cacheManager.addUnknownDeviceToCache(deviceIdentifier, MultitenantConstants.SUPER_TENANT_ID);
+                Assert.assertTrue(deviceMgtService.enrollDevice(
+                        TestDataHolder.generateDummyDeviceData(deviceIdentifier)));
+
+                int matchingDevices = 0;
+                for (Device device : deviceMgtService.getAllDevices(DEVICE_TYPE, false)) {
+                    if (deviceId.equals(device.getDeviceIdentifier())) {
+                        matchingDevices++;
+                    }
+                }
+                Assert.assertEquals(matchingDevices, 1, "Re-enrolment of a negative cached device must not " +
+                        "create a duplicate device.");
+            } finally {
+                setNegativeCacheField(cacheManager, "negativeCacheInitialized", false);
+                setNegativeCacheField(cacheManager, "negativeCache", null);
+                setNegativeCacheField(cacheManager, "negativeCacheMetrics", null);
+            }
+        }
+    }
+
+    private void setNegativeCacheField(DeviceCacheManagerImpl cacheManager, String name, Object value)
+            throws NoSuchFieldException, IllegalAccessException {
+        Field field = DeviceCacheManagerImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(cacheManager, value);
+    }
+
     @Test(dependsOnMethods = {"testReEnrollmentofSameDeviceUnderSameUser"})
     public void testReEnrollmentofSameDeviceWithOtherUser() throws DeviceManagementException {
         if (!isMock()) {
@@ -361,6 +409,17 @@ public class DeviceManagementProviderServiceTest extends BaseDeviceManagementTes
         Assert.assertTrue(device.getDeviceIdentifier().equalsIgnoreCase(DEVICE_ID));
     }
 
+    @Test(dependsOnMethods = {"testSuccessfulDeviceEnrollment"})
+    public void testGetDevicesByIdentifiers() throws DeviceManagementException {
+        List<Device> devices = deviceMgtService.getDevicesByIdentifiers(Arrays.asList(
+                new DeviceIdentifier(DEVICE_ID, DEVICE_TYPE), new DeviceIdentifier("NON_EXISTING_ID", DEVICE_TYPE)),
+                false);
+        if (!isMock()) {
+            Assert.assertEquals(devices.size(), 1, "Only the existing device should be returned");
+            Assert.assertTrue(devices.get(0).getDeviceIdentifier().equalsIgnoreCase(DEVICE_ID));
+        }
+    }
+
     @Test(dependsOnMethods = {"testSuccessfulDeviceEnrollment"})
     public void testGetDeviceWithInfo() throws DeviceManagementException {
         Device device = deviceMgtService.getDevice(new DeviceIdentifier(DEVICE_ID, DEVICE_TYPE)
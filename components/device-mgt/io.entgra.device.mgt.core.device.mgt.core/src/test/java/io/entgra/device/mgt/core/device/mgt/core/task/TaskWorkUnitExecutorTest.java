@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.device.mgt.core.task;
+
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.TaskWorkUnit;
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.TaskWorkUnitExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is a test class to test the functionality in {@link TaskWorkUnitExecutor}.
+ */
+public class TaskWorkUnitExecutorTest {
+
+    private static final String DEVICE_TYPE = "TEST_DEVICE_TYPE";
+
+    @Test(description = "Work units are executed in parallel and the executor waits until all of them complete")
+    public void testParallelExecution() {
+        TaskWorkUnitExecutor executor = new TaskWorkUnitExecutor(3, 3);
+        CountDownLatch started = new CountDownLatch(3);
+        AtomicInteger completed = new AtomicInteger();
+        List<TaskWorkUnit> workUnits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            workUnits.add(new TaskWorkUnit(MultitenantConstants.SUPER_TENANT_ID,
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, DEVICE_TYPE, () -> {
+                started.countDown();
+                try {
+                    //Each work unit completes only if all the work units are running at the same time
+                    if (started.await(10, TimeUnit.SECONDS)) {
+                        completed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        executor.execute("testParallelExecution", workUnits);
+        Assert.assertEquals(completed.get(), 3, "Work units were not executed in parallel.");
+        executor.shutdown();
+    }
+
+    @Test(description = "Work units using database connections are throttled and run in the flow of their tenant")
+    public void testDatabaseConnectionThrottling() {
+        TaskWorkUnitExecutor executor = new TaskWorkUnitExecutor(4, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger tenantMismatches = new AtomicInteger();
+        List<TaskWorkUnit> workUnits = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            workUnits.add(new TaskWorkUnit(MultitenantConstants.SUPER_TENANT_ID,
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, DEVICE_TYPE + i, () -> {
+                if (PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId()
+                        != MultitenantConstants.SUPER_TENANT_ID) {
+                    tenantMismatches.incrementAndGet();
+                }
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }));
+        }
+        executor.execute("testDatabaseConnectionThrottling", workUnits);
+        Assert.assertTrue(maxRunning.get() <= 2, "More work units than the allowed database connections ran at once.");
+        Assert.assertEquals(tenantMismatches.get(), 0, "Work units were not executed in the flow of their tenant.");
+        executor.shutdown();
+    }
+
+    @Test(description = "Failure of a work unit does not prevent the execution of the other work units")
+    public void testFailedWorkUnit() {
+        TaskWorkUnitExecutor executor = new TaskWorkUnitExecutor(2, 2);
+        AtomicInteger completed = new AtomicInteger();
+        List<TaskWorkUnit> workUnits = new ArrayList<>();
+        workUnits.add(new TaskWorkUnit(MultitenantConstants.SUPER_TENANT_ID,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, DEVICE_TYPE, () -> {
+            throw new IllegalStateException("Failed work unit");
+        }));
+        workUnits.add(new TaskWorkUnit(MultitenantConstants.SUPER_TENANT_ID,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, DEVICE_TYPE, completed::incrementAndGet));
+        executor.execute("testFailedWorkUnit", workUnits);
+        Assert.assertEquals(completed.get(), 1, "Work unit was not executed after the failure of another.");
+        executor.shutdown();
+    }
+}
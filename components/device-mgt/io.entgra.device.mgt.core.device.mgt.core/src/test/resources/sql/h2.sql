@@ -456,6 +456,14 @@ CREATE TABLE IF NOT EXISTS DM_APPLICATION (
       ON UPDATE NO ACTION
 );
 
+CREATE TABLE IF NOT EXISTS DM_APP_INVENTORY_DIGEST (
+    ENROLMENT_ID INTEGER NOT NULL,
+    DIGEST VARCHAR(64) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    LAST_UPDATED_TIMESTAMP BIGINT NOT NULL,
+    PRIMARY KEY (ENROLMENT_ID)
+);
+
 -- POLICY RELATED TABLES  FINISHED --
 
 -- NOTIFICATION TABLE --
@@ -360,6 +360,14 @@ CREATE TABLE IF NOT EXISTS DM_APPLICATION (
       ON UPDATE NO ACTION
 );
 
+CREATE TABLE IF NOT EXISTS DM_APP_INVENTORY_DIGEST (
+    ENROLMENT_ID INTEGER NOT NULL,
+    DIGEST VARCHAR(64) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    LAST_UPDATED_TIMESTAMP BIGINT NOT NULL,
+    PRIMARY KEY (ENROLMENT_ID)
+);
+
 CREATE TABLE IF NOT EXISTS DM_DEVICE_APPLICATION_MAPPING (
     ID INTEGER AUTO_INCREMENT NOT NULL,
     DEVICE_ID INTEGER NOT NULL,
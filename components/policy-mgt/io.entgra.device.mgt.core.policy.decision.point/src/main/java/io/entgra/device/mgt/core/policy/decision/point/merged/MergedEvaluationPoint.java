@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.policy.decision.point.merged;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Profile;
@@ -57,7 +58,6 @@ public class MergedEvaluationPoint implements PolicyEvaluationPoint {
     public Policy getEffectivePolicy(DeviceIdentifier deviceIdentifier) throws PolicyEvaluationException {
         PIPDevice pipDevice;
         List<Policy> policyList;
-        Policy policy;
         try {
             policyManagerService = getPolicyManagerService();
             if (policyManagerService == null) {
@@ -66,47 +66,77 @@ public class MergedEvaluationPoint implements PolicyEvaluationPoint {
             PolicyInformationPoint policyInformationPoint = policyManagerService.getPIP();
             pipDevice = policyInformationPoint.getDeviceData(deviceIdentifier);
             policyList = policyInformationPoint.getRelatedPolicies(pipDevice);
+            return mergePolicies(pipDevice, policyList);
+        } catch (PolicyManagementException e) {
+            String msg = "Error occurred when retrieving the policy related data from policy management service.";
+            log.error(msg, e);
+            throw new PolicyEvaluationException(msg, e);
+        }
+    }
 
-            if (policyList.size() == 0) {
-                return null;
+    @Override
+    public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyEvaluationException {
+        Map<Integer, Policy> effectivePolicies = new HashMap<>();
+        try {
+            policyManagerService = getPolicyManagerService();
+            if (policyManagerService == null) {
+                return effectivePolicies;
             }
-
-            // Set effective-policy information
-            Profile profile = new Profile();
-            policy = policyResolve(policyList);
-            profile.setProfileFeaturesList(policy.getProfile().getProfileFeaturesList());
-            policy.setProfile(profile);
-            Timestamp currentTimestamp = new Timestamp(Calendar.getInstance().getTime().getTime());
-            profile.setCreatedDate(currentTimestamp);
-            profile.setUpdatedDate(currentTimestamp);
-            profile.setDeviceType(deviceIdentifier.getType());
-            profile.setTenantId(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
-            // Set effective policy name
-            policy.setPolicyName(effectivePolicyName);
-            policy.setOwnershipType(pipDevice.getOwnershipType());
-            // Set effective policy Active and Updated
-            policy.setActive(true);
-            policy.setUpdated(true);
-            policy.setTenantId(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
-            String policyIds = "";
-            Collections.sort(policyList);
-            for (Policy appliedPolicy : policyList) {
-                policyIds += appliedPolicy.getId() + ", ";
+            PolicyInformationPoint policyInformationPoint = policyManagerService.getPIP();
+            Map<Integer, PIPDevice> pipDevices = policyInformationPoint.getDevicesData(devices);
+            for (Map.Entry<Integer, PIPDevice> pipDevice : pipDevices.entrySet()) {
+                Policy policy = mergePolicies(pipDevice.getValue(),
+                        new ArrayList<>(policyInformationPoint.getRelatedPolicies(pipDevice.getValue())));
+                if (policy != null) {
+                    effectivePolicies.put(pipDevice.getKey(), policy);
+                }
             }
-            policyIds = policyIds.substring(0, policyIds.length() - 2);
-            policy.setDescription("This is a system generated effective policy by merging Policy Id : " + policyIds);
-            // Need to set compliance of the effective policy. Get compliance of first policy using priority order
-            policy.setCompliance(policyList.get(0).getCompliance());
-            // Change default 0 effective policy id to (-1)
-            policy.setId(-1);
-            return policy;
+            return effectivePolicies;
         } catch (PolicyManagementException e) {
-            String msg = "Error occurred when retrieving the policy related data from policy management service.";
+            String msg = "Error occurred when retrieving the policy related data of " + devices.size()
+                    + " devices from policy management service.";
             log.error(msg, e);
             throw new PolicyEvaluationException(msg, e);
         }
     }
 
+    private Policy mergePolicies(PIPDevice pipDevice, List<Policy> policyList)
+            throws PolicyEvaluationException, PolicyManagementException {
+        if (policyList.size() == 0) {
+            return null;
+        }
+
+        // Set effective-policy information
+        Profile profile = new Profile();
+        Policy policy = policyResolve(policyList);
+        profile.setProfileFeaturesList(policy.getProfile().getProfileFeaturesList());
+        policy.setProfile(profile);
+        Timestamp currentTimestamp = new Timestamp(Calendar.getInstance().getTime().getTime());
+        profile.setCreatedDate(currentTimestamp);
+        profile.setUpdatedDate(currentTimestamp);
+        profile.setDeviceType(pipDevice.getDeviceIdentifier().getType());
+        profile.setTenantId(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+        // Set effective policy name
+        policy.setPolicyName(effectivePolicyName);
+        policy.setOwnershipType(pipDevice.getOwnershipType());
+        // Set effective policy Active and Updated
+        policy.setActive(true);
+        policy.setUpdated(true);
+        policy.setTenantId(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+        String policyIds = "";
+        Collections.sort(policyList);
+        for (Policy appliedPolicy : policyList) {
+            policyIds += appliedPolicy.getId() + ", ";
+        }
+        policyIds = policyIds.substring(0, policyIds.length() - 2);
+        policy.setDescription("This is a system generated effective policy by merging Policy Id : " + policyIds);
+        // Need to set compliance of the effective policy. Get compliance of first policy using priority order
+        policy.setCompliance(policyList.get(0).getCompliance());
+        // Change default 0 effective policy id to (-1)
+        policy.setId(-1);
+        return policy;
+    }
+
     private Policy policyResolve(List<Policy> policyList) throws PolicyEvaluationException, PolicyManagementException {
         Collections.sort(policyList, Collections.reverseOrder());
 
@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.policy.decision.point.simple;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.ProfileFeature;
@@ -25,6 +26,7 @@ import io.entgra.device.mgt.core.policy.mgt.common.PolicyEvaluationException;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyEvaluationPoint;
 
 import java.util.List;
+import java.util.Map;
 
 public class PolicyEvaluationServiceImpl implements PolicyEvaluationPoint {
 
@@ -40,6 +42,11 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationPoint {
         return evaluation.getEffectivePolicy(deviceIdentifier);
     }
 
+    @Override
+    public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyEvaluationException {
+        return evaluation.getEffectivePolicies(devices);
+    }
+
     @Override
     public List<ProfileFeature> getEffectiveFeatures(DeviceIdentifier deviceIdentifier)
             throws PolicyEvaluationException {
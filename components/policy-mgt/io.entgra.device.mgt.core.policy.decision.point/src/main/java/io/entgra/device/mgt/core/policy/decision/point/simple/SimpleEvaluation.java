@@ -19,14 +19,20 @@
 
 package io.entgra.device.mgt.core.policy.decision.point.simple;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyEvaluationException;
 
+import java.util.List;
+import java.util.Map;
+
 public interface SimpleEvaluation  {
 
     void sortPolicies() throws PolicyEvaluationException;
 
     Policy getEffectivePolicy(DeviceIdentifier deviceIdentifier)  throws PolicyEvaluationException;
 
+    Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyEvaluationException;
+
 }
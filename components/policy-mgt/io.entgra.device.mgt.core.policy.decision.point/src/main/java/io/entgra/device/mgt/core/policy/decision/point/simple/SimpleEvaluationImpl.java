@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.policy.decision.point.simple;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.policy.decision.point.internal.PolicyDecisionPointDataHolder;
@@ -28,7 +29,9 @@ import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SimpleEvaluationImpl implements SimpleEvaluation {
 
@@ -70,6 +73,33 @@ public class SimpleEvaluationImpl implements SimpleEvaluation {
         return policy;
     }
 
+    @Override
+    public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyEvaluationException {
+        Map<Integer, Policy> effectivePolicies = new HashMap<>();
+        policyManagerService = getPolicyManagerService();
+        if (policyManagerService == null) {
+            return effectivePolicies;
+        }
+        try {
+            PolicyInformationPoint policyInformationPoint = policyManagerService.getPIP();
+            Map<Integer, PIPDevice> pipDevices = policyInformationPoint.getDevicesData(devices);
+            for (Map.Entry<Integer, PIPDevice> pipDevice : pipDevices.entrySet()) {
+                // Policies are sorted in a local list since the shared policy list is only safe for single lookups.
+                List<Policy> policies = new ArrayList<>(policyInformationPoint.getRelatedPolicies(pipDevice.getValue()));
+                Collections.sort(policies);
+                if (!policies.isEmpty()) {
+                    effectivePolicies.put(pipDevice.getKey(), policies.get(0));
+                }
+            }
+        } catch (PolicyManagementException e) {
+            String msg = "Error occurred when retrieving the policy related data of " + devices.size()
+                    + " devices from policy management service.";
+            log.error(msg, e);
+            throw new PolicyEvaluationException(msg, e);
+        }
+        return effectivePolicies;
+    }
+
     @Override
     public synchronized void sortPolicies() throws PolicyEvaluationException {
         Collections.sort(policyList);
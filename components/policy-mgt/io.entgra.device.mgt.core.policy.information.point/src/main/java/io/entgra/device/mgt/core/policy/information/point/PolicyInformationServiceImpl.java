@@ -18,6 +18,7 @@
 
 package io.entgra.device.mgt.core.policy.information.point;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.Feature;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
@@ -25,6 +26,7 @@ import io.entgra.device.mgt.core.policy.mgt.common.PIPDevice;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyInformationPoint;
 
 import java.util.List;
+import java.util.Map;
 
 public class PolicyInformationServiceImpl implements PolicyInformationPoint {
     @Override
@@ -32,6 +34,11 @@ public class PolicyInformationServiceImpl implements PolicyInformationPoint {
         return null;
     }
 
+    @Override
+    public Map<Integer, PIPDevice> getDevicesData(List<Device> devices) {
+        return null;
+    }
+
     @Override
     public List<Policy> getRelatedPolicies(PIPDevice pipDevice) {
         return null;
@@ -19,11 +19,13 @@
 
 package io.entgra.device.mgt.core.policy.mgt.common;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.ProfileFeature;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is the interface which will be used to create plug-able policy decision points.
@@ -38,6 +40,14 @@ public interface PolicyEvaluationPoint {
      */
     Policy getEffectivePolicy(DeviceIdentifier deviceIdentifier) throws PolicyEvaluationException;
 
+    /**
+     * This method returns the effective policies of a set of devices, evaluating them together instead of one
+     * device at a time.
+     * @param devices devices which are already retrieved with their enrolment information.
+     * @return effective policies keyed by the device id. Devices without an effective policy are not in the map.
+     */
+    Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyEvaluationException;
+
 
     /**
      * This class will return the effective feature set from the list.
@@ -19,11 +19,13 @@
 
 package io.entgra.device.mgt.core.policy.mgt.common;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.Feature;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This will be used retrieve data database. This interface has to be implemented by PIP. PIP will be plug-able.
@@ -38,6 +40,15 @@ public interface PolicyInformationPoint {
      */
     PIPDevice getDeviceData(DeviceIdentifier deviceIdentifier) throws PolicyManagementException;
 
+    /**
+     * This method will return the data related to each of the given devices in the same form as
+     * {@link #getDeviceData(DeviceIdentifier)}, loading the groups of all the devices together and the roles of
+     * each distinct owner only once.
+     * @param devices devices which are already retrieved with their enrolment information.
+     * @return PIPDevices keyed by the device id.
+     */
+    Map<Integer, PIPDevice> getDevicesData(List<Device> devices) throws PolicyManagementException;
+
     /**
      * This method will retrieve the policies related given device Data.
      * @param pipDevice
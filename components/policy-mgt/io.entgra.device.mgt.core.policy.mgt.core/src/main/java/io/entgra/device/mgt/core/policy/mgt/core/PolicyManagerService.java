@@ -31,6 +31,7 @@ import io.entgra.device.mgt.core.policy.mgt.common.*;
 import io.entgra.device.mgt.core.policy.mgt.core.task.TaskScheduleService;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PolicyManagerService {
 
@@ -48,6 +49,15 @@ public interface PolicyManagerService {
 
     Policy getEffectivePolicy(DeviceIdentifier deviceIdentifier) throws PolicyManagementException;
 
+    /**
+     * Evaluate the effective policies of a set of devices together, record them as the policies used by the devices
+     * and add the policy operations.
+     *
+     * @param devices devices which are already retrieved with their enrolment information
+     * @return effective policies keyed by the device id. Devices without an effective policy are not in the map
+     */
+    Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyManagementException;
+
     List<ProfileFeature> getEffectiveFeatures(DeviceIdentifier deviceIdentifier) throws FeatureManagementException;
 
     List<Policy> getPolicies(String deviceType) throws PolicyManagementException;
@@ -43,7 +43,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class PolicyManagerServiceImpl implements PolicyManagerService {
 
@@ -142,6 +144,80 @@ public class PolicyManagerServiceImpl implements PolicyManagerService {
         }
     }
 
+    @Override
+    public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyManagementException {
+        PolicyEvaluationPoint policyEvaluationPoint = PolicyManagementDataHolder.getInstance()
+                .getPolicyEvaluationPoint();
+        if (policyEvaluationPoint == null) {
+            String msg = "Error occurred while getting the policy evaluation point for " + devices.size() + " devices";
+            log.error(msg);
+            throw new PolicyManagementException(msg);
+        }
+        Map<Integer, Policy> effectivePolicies;
+        try {
+            effectivePolicies = policyEvaluationPoint.getEffectivePolicies(devices);
+        } catch (PolicyEvaluationException e) {
+            String msg = "Error occurred while getting the effective policies from the PEP service for "
+                    + devices.size() + " devices";
+            log.error(msg, e);
+            throw new PolicyManagementException(msg, e);
+        }
+        // Devices which resolve to the same policy share a single policy operation.
+        Map<String, Policy> policies = new HashMap<>();
+        Map<String, List<DeviceIdentifier>> policyDevices = new HashMap<>();
+        for (Device device : devices) {
+            DeviceIdentifier deviceIdentifier = new DeviceIdentifier(device.getDeviceIdentifier(), device.getType());
+            Policy policy = effectivePolicies.get(device.getId());
+            if (policy == null) {
+                policyAdministratorPoint.removePolicyUsed(deviceIdentifier);
+            } else {
+                policyAdministratorPoint.setPolicyUsed(deviceIdentifier, policy);
+                String policyKey = getPolicyKey(policy);
+                policies.putIfAbsent(policyKey, policy);
+                policyDevices.computeIfAbsent(policyKey, k -> new ArrayList<>()).add(deviceIdentifier);
+            }
+        }
+        for (Map.Entry<String, List<DeviceIdentifier>> entry : policyDevices.entrySet()) {
+            Policy policy = policies.get(entry.getKey());
+            try {
+                PolicyManagementDataHolder.getInstance().getDeviceManagementService().addOperation(
+                        entry.getValue().get(0).getType(), PolicyManagerUtil.transformPolicy(policy),
+                        entry.getValue());
+            } catch (InvalidDeviceException e) {
+                String msg = "Error occurred while getting the effective policies for invalid DeviceIdentifiers";
+                log.error(msg, e);
+                throw new PolicyManagementException(msg, e);
+            } catch (OperationManagementException e) {
+                String msg = "Error occurred while adding the effective policy " + policy.getId() + " to "
+                        + entry.getValue().size() + " devices";
+                log.error(msg, e);
+                throw new PolicyManagementException(msg, e);
+            } catch (PolicyTransformException e) {
+                String msg = "Error occurred while transforming policy object to operation object type for policy "
+                        + policy.getId() + " - " + policy.getPolicyName();
+                log.error(msg, e);
+                throw new PolicyManagementException(msg, e);
+            }
+        }
+        return effectivePolicies;
+    }
+
+    /**
+     * Key which identifies the content of an effective policy. Effective policies which are merged from several
+     * policies are built per device and share the id -1, hence they are identified by the policies they are merged
+     * from along with the device type and ownership they are built for.
+     *
+     * @param policy Effective policy
+     * @return Key of the policy
+     */
+    private static String getPolicyKey(Policy policy) {
+        if (policy.getId() > 0) {
+            return String.valueOf(policy.getId());
+        }
+        return policy.getId() + ":" + policy.getProfile().getDeviceType() + ":" + policy.getOwnershipType() + ":"
+                + policy.getDescription();
+    }
+
     @Override
     public List<ProfileFeature> getEffectiveFeatures(DeviceIdentifier deviceIdentifier) throws
             FeatureManagementException {
@@ -21,6 +21,7 @@ package io.entgra.device.mgt.core.policy.mgt.core.cache;
 
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
+import io.entgra.device.mgt.core.policy.mgt.core.impl.PolicyMatchIndex;
 
 import java.util.List;
 
@@ -94,11 +95,11 @@ public interface PolicyCacheManager {
     Policy getPolicy(int policyId) throws PolicyManagementException;
 
     /**
-     * This method will add a policy id against a device id.
-     * @param deviceId - Id of the device.
-     * @param policyId - Id of the policy
+     * This method will add the policy applied to an enrolment to the cache.
+     * @param enrolmentId - Id of the enrolment.
+     * @param policy - Policy applied to the enrolment.
      */
-    void addPolicyToDevice(int deviceId, int policyId);
+    void addAppliedPolicy(int enrolmentId, Policy policy);
 
     /**
      * This method will return the device ids, a certain policy is applied.
@@ -108,11 +109,24 @@ public interface PolicyCacheManager {
     List<Integer> getPolicyAppliedDeviceIds(int policyId);
 
     /**
-     * This method will return the applied policy id of the device.
-     * @param deviceId - Id of the device
-     * @return - Id of the policy.
+     * This method will return the cached policy applied to an enrolment.
+     * @param enrolmentId - Id of the enrolment.
+     * @return - Applied policy, or null if it is not cached.
      */
-    int getPolicyIdOfDevice(int deviceId);
+    Policy getAppliedPolicy(int enrolmentId);
+
+    /**
+     * This method will remove the policy applied to an enrolment from the cache, once the applied policy is changed.
+     * @param enrolmentId - Id of the enrolment.
+     */
+    void removeAppliedPolicy(int enrolmentId);
+
+    /**
+     * This method will load the policies applied to the enrolments of the current tenant to the cache, up to the
+     * capacity of the cache.
+     * @throws PolicyManagementException
+     */
+    void warmUpAppliedPolicies() throws PolicyManagementException;
 
     /**
      * This method will return the all policies belongs to the specific type.
@@ -122,4 +136,13 @@ public interface PolicyCacheManager {
      * @throws PolicyManagementException
      */
     List<Policy> getAllPolicies(String policyType) throws PolicyManagementException;
+
+    /**
+     * This method will return the compiled match index of the cached policies. The index is compiled again after
+     * the cached policies have been changed.
+     *
+     * @return - match index of the cached policies
+     * @throws PolicyManagementException
+     */
+    PolicyMatchIndex getPolicyMatchIndex() throws PolicyManagementException;
 }
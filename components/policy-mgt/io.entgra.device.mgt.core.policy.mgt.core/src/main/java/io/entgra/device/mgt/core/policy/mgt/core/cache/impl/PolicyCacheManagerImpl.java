@@ -20,25 +20,33 @@
 package io.entgra.device.mgt.core.policy.mgt.core.cache.impl;
 
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
 import io.entgra.device.mgt.core.policy.mgt.core.cache.PolicyCacheManager;
+import io.entgra.device.mgt.core.policy.mgt.core.impl.PolicyMatchIndex;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.PolicyManager;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.impl.PolicyManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagementConstants;
 import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagerUtil;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import javax.cache.Cache;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PolicyCacheManagerImpl implements PolicyCacheManager {
 
     private static final Log log = LogFactory.getLog(PolicyCacheManagerImpl.class);
 
+    private static final int APPLIED_POLICY_WARM_UP_BATCH_SIZE = 1000;
+
     private static PolicyCacheManagerImpl policyCacheManager;
+    private final Map<Integer, PolicyMatchIndex> policyMatchIndexes = new ConcurrentHashMap<>();
 
     private static Cache<Integer, List<Policy>> getPolicyListCache() {
         return PolicyManagerUtil.getPolicyListCache(PolicyManagementConstants.DM_CACHE_LIST);
@@ -63,6 +71,7 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
 
         Cache<Integer, List<Policy>> lCache = getPolicyListCache();
         lCache.put(1, policies);
+        invalidatePolicyMatchIndex();
     }
 
     @Override
@@ -71,6 +80,7 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
         Cache<Integer, List<Policy>> lCache = getPolicyListCache();
         lCache.removeAll();
         lCache.put(1, policies);
+        invalidatePolicyMatchIndex();
     }
 
     @Override
@@ -96,6 +106,7 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
 
         Cache<Integer, List<Policy>> lCache = getPolicyListCache();
         lCache.removeAll();
+        invalidatePolicyMatchIndex();
     }
 
     @Override
@@ -111,6 +122,7 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
                 }
             }
             cachedPolicy.add(policy);
+            invalidatePolicyMatchIndex();
         }
 
     }
@@ -131,6 +143,7 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
             }
             cachedPolicy.add(policy);
             lCache.replace(1, cachedPolicy);
+            invalidatePolicyMatchIndex();
         }
 
     }
@@ -162,6 +175,7 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
                 }
             }
             lCache.replace(1, cachedPolicy);
+            invalidatePolicyMatchIndex();
         }
     }
 
@@ -187,8 +201,11 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
     }
 
     @Override
-    public void addPolicyToDevice(int deviceId, int policyId) {
-
+    public void addAppliedPolicy(int enrolmentId, Policy policy) {
+        Cache<Integer, Policy> lCache = PolicyManagerUtil.getAppliedPolicyCache();
+        if (lCache != null) {
+            lCache.put(enrolmentId, policy);
+        }
     }
 
     @Override
@@ -197,8 +214,48 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
     }
 
     @Override
-    public int getPolicyIdOfDevice(int deviceId) {
-        return 0;
+    public Policy getAppliedPolicy(int enrolmentId) {
+        Cache<Integer, Policy> lCache = PolicyManagerUtil.getAppliedPolicyCache();
+        return lCache == null ? null : lCache.get(enrolmentId);
+    }
+
+    @Override
+    public void removeAppliedPolicy(int enrolmentId) {
+        Cache<Integer, Policy> lCache = PolicyManagerUtil.getAppliedPolicyCache();
+        if (lCache != null) {
+            lCache.remove(enrolmentId);
+        }
+    }
+
+    @Override
+    public void warmUpAppliedPolicies() throws PolicyManagementException {
+        Cache<Integer, Policy> lCache = PolicyManagerUtil.getAppliedPolicyCache();
+        if (lCache == null) {
+            return;
+        }
+        long capacity = DeviceConfigurationManager.getInstance().getDeviceManagementConfig()
+                .getPolicyConfiguration().getAppliedPolicyCacheCapacity();
+        if (capacity <= 0) {
+            //The cache is not bounded, hence all the applied policies of the tenant are loaded
+            capacity = Long.MAX_VALUE;
+        }
+        PolicyManager policyManager = new PolicyManagerImpl();
+        int lastEnrolmentId = 0;
+        long loaded = 0;
+        Map<Integer, Policy> appliedPolicies;
+        do {
+            int limit = (int) Math.min(APPLIED_POLICY_WARM_UP_BATCH_SIZE, capacity - loaded);
+            appliedPolicies = policyManager.getAppliedPolicies(lastEnrolmentId, limit);
+            for (Map.Entry<Integer, Policy> appliedPolicy : appliedPolicies.entrySet()) {
+                lCache.putIfAbsent(appliedPolicy.getKey(), appliedPolicy.getValue());
+                lastEnrolmentId = appliedPolicy.getKey();
+            }
+            loaded += appliedPolicies.size();
+        } while (appliedPolicies.size() == APPLIED_POLICY_WARM_UP_BATCH_SIZE && loaded < capacity);
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + loaded + " applied policies of tenant "
+                    + PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId() + " to the cache");
+        }
     }
 
     @Override
@@ -221,6 +278,27 @@ public class PolicyCacheManagerImpl implements PolicyCacheManager {
         return policyListByType;
     }
 
+    @Override
+    public PolicyMatchIndex getPolicyMatchIndex() throws PolicyManagementException {
+        List<Policy> cachedPolicies = getAllPolicies();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        PolicyMatchIndex index = policyMatchIndexes.get(tenantId);
+        //The cached list is compared as well, since the cache could have been reloaded after an invalidation
+        if (index == null || index.getSource() != cachedPolicies) {
+            index = new PolicyMatchIndex(cachedPolicies);
+            policyMatchIndexes.put(tenantId, index);
+            if (log.isDebugEnabled()) {
+                log.debug("Compiled the policy match index of " + cachedPolicies.size() + " policies of tenant "
+                        + tenantId);
+            }
+        }
+        return index;
+    }
+
+    private void invalidatePolicyMatchIndex() {
+        policyMatchIndexes.remove(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
     private void updateCache(Cache<Integer, List<Policy>> lCache) throws PolicyManagementException {
         if (!lCache.containsKey(1)) {
             PolicyManager policyManager = new PolicyManagerImpl();
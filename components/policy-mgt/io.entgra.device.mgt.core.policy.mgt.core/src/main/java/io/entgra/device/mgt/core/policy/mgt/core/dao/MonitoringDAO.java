@@ -24,6 +24,7 @@ import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.Compliance
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.ComplianceFeature;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.NonComplianceData;
 import io.entgra.device.mgt.core.policy.mgt.common.monitor.PolicyDeviceWrapper;
+import io.entgra.device.mgt.core.policy.mgt.core.dao.dto.MonitoringEnrolmentDTO;
 
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,21 @@ public interface MonitoringDAO {
 
     Map<Integer, NonComplianceData> getCompliance() throws MonitoringDAOException;
 
+    /**
+     * Get a page of the active and unreachable enrolments of a device type which have a policy applied, ordered by
+     * the enrolment id, along with the applied policy and whether compliance details are already recorded.
+     * @param deviceType type of the devices
+     * @param activeServerCount number of servers the enrolments are partitioned across, or 0 to not partition
+     * @param serverHashIndex index of this server among the active servers
+     * @param lastEnrolmentId only enrolments with an id greater than this are returned
+     * @param limit maximum number of enrolments to return
+     * @return enrolments of the page
+     * @throws MonitoringDAOException
+     */
+    List<MonitoringEnrolmentDTO> getMonitoringEnrolments(String deviceType, int activeServerCount,
+                                                         int serverHashIndex, int lastEnrolmentId, int limit)
+            throws MonitoringDAOException;
+
     List<ComplianceData> getAllComplianceDevices(
             PaginationRequest paginationRequest, String policyId, boolean complianceStatus, boolean isPending, String fromDate, String toDate)
             throws MonitoringDAOException;
@@ -65,4 +81,13 @@ public interface MonitoringDAO {
 
     void deleteNoneComplianceData(int policyComplianceStatusId) throws MonitoringDAOException;
 
+    /**
+     * Delete the given features from the none compliance features of a compliance status record.
+     * @param policyComplianceStatusId id of the compliance status record
+     * @param featureCodes codes of the features to delete
+     * @throws MonitoringDAOException
+     */
+    void deleteNoneComplianceFeatures(int policyComplianceStatusId, List<String> featureCodes)
+            throws MonitoringDAOException;
+
 }
\ No newline at end of file
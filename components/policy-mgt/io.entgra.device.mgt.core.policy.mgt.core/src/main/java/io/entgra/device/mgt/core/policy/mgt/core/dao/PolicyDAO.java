@@ -29,6 +29,7 @@ import io.entgra.device.mgt.core.policy.mgt.common.Criterion;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface PolicyDAO {
 
@@ -194,6 +195,16 @@ public interface PolicyDAO {
 
     Policy getAppliedPolicy(int deviceId, int enrollmentId) throws PolicyManagerDAOException;
 
+    /**
+     * This method is used to retrieve a page of the policies applied to the enrolments of the current tenant.
+     *
+     * @param lastEnrolmentId enrolment id after which the applied policies are retrieved.
+     * @param limit maximum number of applied policies to retrieve.
+     * @return applied policies keyed by enrolment id, in the ascending order of enrolment ids.
+     * @throws PolicyManagerDAOException
+     */
+    Map<Integer, Policy> getAppliedPolicies(int lastEnrolmentId, int limit) throws PolicyManagerDAOException;
+
     HashMap<Integer, Integer> getAppliedPolicyIds() throws PolicyManagerDAOException;
 
     HashMap<Integer, Integer> getAppliedPolicyIdsDeviceIds() throws PolicyManagerDAOException;
@@ -25,6 +25,7 @@ import io.entgra.device.mgt.core.policy.mgt.core.config.datasource.DataSourceCon
 import io.entgra.device.mgt.core.policy.mgt.core.config.datasource.JNDILookupDefinition;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.impl.MonitoringDAOImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.impl.ProfileDAOImpl;
+import io.entgra.device.mgt.core.policy.mgt.core.dao.impl.SQLServerMonitoringDAOImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.impl.feature.GenericFeatureDAOImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.impl.feature.OracleServerFeatureDAOImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.impl.feature.SQLServerFeatureDAOImpl;
@@ -109,6 +110,9 @@ public class PolicyManagementDAOFactory {
     }
 
     public static MonitoringDAO getMonitoringDAO() {
+        if (DeviceManagementConstants.DataBaseTypes.DB_TYPE_MSSQL.equals(databaseEngine)) {
+            return new SQLServerMonitoringDAOImpl();
+        }
         return new MonitoringDAOImpl();
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.dao.dto;
+
+/**
+ * An enrolment which the monitoring task adds a monitoring operation to, along with the policy applied to it.
+ */
+public class MonitoringEnrolmentDTO {
+
+    private int enrolmentId;
+    private int deviceId;
+    private String deviceIdentification;
+    private int policyId;
+    private boolean complianceRecorded;
+
+    public int getEnrolmentId() {
+        return enrolmentId;
+    }
+
+    public void setEnrolmentId(int enrolmentId) {
+        this.enrolmentId = enrolmentId;
+    }
+
+    public int getDeviceId() {
+        return deviceId;
+    }
+
+    public void setDeviceId(int deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    public String getDeviceIdentification() {
+        return deviceIdentification;
+    }
+
+    public void setDeviceIdentification(String deviceIdentification) {
+        this.deviceIdentification = deviceIdentification;
+    }
+
+    public int getPolicyId() {
+        return policyId;
+    }
+
+    public void setPolicyId(int policyId) {
+        this.policyId = policyId;
+    }
+
+    /**
+     * @return whether the compliance details of the enrolment have already been added
+     */
+    public boolean isComplianceRecorded() {
+        return complianceRecorded;
+    }
+
+    public void setComplianceRecorded(boolean complianceRecorded) {
+        this.complianceRecorded = complianceRecorded;
+    }
+}
@@ -27,6 +27,7 @@ import io.entgra.device.mgt.core.policy.mgt.common.monitor.PolicyDeviceWrapper;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.MonitoringDAO;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.MonitoringDAOException;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.PolicyManagementDAOFactory;
+import io.entgra.device.mgt.core.policy.mgt.core.dao.dto.MonitoringEnrolmentDTO;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.util.PolicyManagementDAOUtil;
 import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagerUtil;
 import org.apache.commons.logging.Log;
@@ -337,6 +338,66 @@ public class MonitoringDAOImpl implements MonitoringDAO {
         }
     }
 
+    @Override
+    public List<MonitoringEnrolmentDTO> getMonitoringEnrolments(String deviceType, int activeServerCount,
+                                                                int serverHashIndex, int lastEnrolmentId, int limit)
+            throws MonitoringDAOException {
+        List<MonitoringEnrolmentDTO> enrolments = new ArrayList<>();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String query = "SELECT E.ID AS ENROLMENT_ID, E.DEVICE_ID, E.DEVICE_IDENTIFICATION, PA.POLICY_ID, " +
+                "(SELECT MIN(CS.ID) FROM DM_POLICY_COMPLIANCE_STATUS CS WHERE CS.ENROLMENT_ID = E.ID " +
+                "AND CS.TENANT_ID = ?) AS COMPLIANCE_ID " +
+                "FROM DM_ENROLMENT E INNER JOIN DM_DEVICE_POLICY_APPLIED PA ON PA.ENROLMENT_ID = E.ID " +
+                "WHERE E.DEVICE_TYPE = ? AND E.TENANT_ID = ? AND PA.TENANT_ID = ? " +
+                "AND E.STATUS IN ('ACTIVE', 'UNREACHABLE') AND E.ID > ?";
+        if (activeServerCount > 0) {
+            query += " AND " + getServerHashCondition();
+        }
+        query += " ORDER BY E.ID";
+        try {
+            Connection conn = this.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                int paramIdx = 1;
+                stmt.setMaxRows(limit);
+                stmt.setInt(paramIdx++, tenantId);
+                stmt.setString(paramIdx++, deviceType);
+                stmt.setInt(paramIdx++, tenantId);
+                stmt.setInt(paramIdx++, tenantId);
+                stmt.setInt(paramIdx++, lastEnrolmentId);
+                if (activeServerCount > 0) {
+                    stmt.setInt(paramIdx++, activeServerCount);
+                    stmt.setInt(paramIdx, serverHashIndex);
+                }
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        MonitoringEnrolmentDTO enrolment = new MonitoringEnrolmentDTO();
+                        enrolment.setEnrolmentId(resultSet.getInt("ENROLMENT_ID"));
+                        enrolment.setDeviceId(resultSet.getInt("DEVICE_ID"));
+                        enrolment.setDeviceIdentification(resultSet.getString("DEVICE_IDENTIFICATION"));
+                        enrolment.setPolicyId(resultSet.getInt("POLICY_ID"));
+                        resultSet.getInt("COMPLIANCE_ID");
+                        enrolment.setComplianceRecorded(!resultSet.wasNull());
+                        enrolments.add(enrolment);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new MonitoringDAOException("Unable to retrieve the enrolments of device type " + deviceType +
+                    " for monitoring after enrolment id " + lastEnrolmentId, e);
+        }
+        return enrolments;
+    }
+
+    /**
+     * Returns the condition which picks the devices of the local server by the device id, given the active server
+     * count and the hash index of the local server as parameters.
+     *
+     * @return condition on the DEVICE_ID of DM_ENROLMENT E
+     */
+    protected String getServerHashCondition() {
+        return "MOD(E.DEVICE_ID, ?) = ?";
+    }
+
     @Override
     public List<ComplianceData> getAllComplianceDevices(
             PaginationRequest paginationRequest,
@@ -450,6 +511,7 @@ public class MonitoringDAOImpl implements MonitoringDAO {
                 ComplianceFeature feature = new ComplianceFeature();
                 feature.setFeatureCode(resultSet.getString("FEATURE_CODE"));
                 feature.setMessage(resultSet.getString("STATUS"));
+                feature.setCompliance(resultSet.getInt("STATUS") == 1);
                 complianceFeatures.add(feature);
             }
             return complianceFeatures;
@@ -480,6 +542,31 @@ public class MonitoringDAOImpl implements MonitoringDAO {
 
     }
 
+    @Override
+    public void deleteNoneComplianceFeatures(int policyComplianceStatusId, List<String> featureCodes)
+            throws MonitoringDAOException {
+        Connection conn;
+        PreparedStatement stmt = null;
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        try {
+            conn = this.getConnection();
+            String query = "DELETE FROM DM_POLICY_COMPLIANCE_FEATURES WHERE COMPLIANCE_STATUS_ID = ? AND " +
+                    "FEATURE_CODE = ? AND TENANT_ID = ?";
+            stmt = conn.prepareStatement(query);
+            for (String featureCode : featureCodes) {
+                stmt.setInt(1, policyComplianceStatusId);
+                stmt.setString(2, featureCode);
+                stmt.setInt(3, tenantId);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            throw new MonitoringDAOException("Unable to delete compliance features from database.", e);
+        } finally {
+            PolicyManagementDAOUtil.cleanupResources(stmt, null);
+        }
+    }
+
     private Connection getConnection() {
         return PolicyManagementDAOFactory.getConnection();
     }
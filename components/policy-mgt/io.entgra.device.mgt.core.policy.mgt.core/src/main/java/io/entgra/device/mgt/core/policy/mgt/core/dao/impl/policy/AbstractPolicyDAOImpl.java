@@ -48,7 +48,9 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -1714,6 +1716,32 @@ public abstract class AbstractPolicyDAOImpl implements PolicyDAO {
         return policy;
     }
 
+    @Override
+    public Map<Integer, Policy> getAppliedPolicies(int lastEnrolmentId, int limit) throws PolicyManagerDAOException {
+        Map<Integer, Policy> appliedPolicies = new LinkedHashMap<>();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String query = "SELECT ENROLMENT_ID, POLICY_CONTENT FROM DM_DEVICE_POLICY_APPLIED " +
+                "WHERE TENANT_ID = ? AND ENROLMENT_ID > ? ORDER BY ENROLMENT_ID";
+        try {
+            Connection conn = this.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                stmt.setMaxRows(limit);
+                stmt.setInt(1, tenantId);
+                stmt.setInt(2, lastEnrolmentId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        appliedPolicies.put(resultSet.getInt("ENROLMENT_ID"),
+                                gson.fromJson(resultSet.getString("POLICY_CONTENT"), Policy.class));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new PolicyManagerDAOException("Error occurred while getting the applied policies after " +
+                    "enrolment id " + lastEnrolmentId, e);
+        }
+        return appliedPolicies;
+    }
+
     @Override
     public HashMap<Integer, Integer> getAppliedPolicyIds() throws PolicyManagerDAOException {
         Connection conn;
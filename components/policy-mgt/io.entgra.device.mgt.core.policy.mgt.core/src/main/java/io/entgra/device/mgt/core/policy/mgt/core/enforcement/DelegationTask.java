@@ -25,6 +25,7 @@ import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManag
 import io.entgra.device.mgt.core.device.mgt.core.config.policy.PolicyConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
 import io.entgra.device.mgt.core.device.mgt.core.task.impl.DynamicPartitionedScheduleTask;
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.TaskWorkUnit;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
 import io.entgra.device.mgt.core.policy.mgt.core.cache.impl.PolicyCacheManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.internal.PolicyManagementDataHolder;
@@ -33,6 +34,7 @@ import io.entgra.device.mgt.core.policy.mgt.core.mgt.bean.UpdatedPolicyDeviceLis
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.impl.PolicyManagerImpl;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -58,46 +60,67 @@ public class DelegationTask extends DynamicPartitionedScheduleTask {
             if (!deviceTypes.isEmpty()) {
                 DeviceManagementProviderService service = PolicyManagementDataHolder.getInstance().
                         getDeviceManagementService();
-                List<Device> devices;
-                List<Device> toBeNotified;
+                PolicyChangeImpactResolver impactResolver = new PolicyChangeImpactResolver(policyManager,
+                        updatedPolicyDeviceList.getUpdatedPolicies(), updatedPolicyDeviceList.getUpdatedPolicyIds());
+                int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+                //Policies of each device type are delegated as a separate work unit, so that a device type with a
+                //large number of devices does not delay the delegation to the other device types.
+                List<TaskWorkUnit> workUnits = new ArrayList<>();
                 for (String deviceType : deviceTypes) {
-                    try {
-                        devices = new ArrayList<>();
-                        toBeNotified = new ArrayList<>();
-                        if(getTaskContext() != null && getTaskContext().isPartitioningEnabled()){
-                            devices.addAll(service.getAllocatedDevices(deviceType,
-                                                                       getTaskContext().getActiveServerCount(),
-                                                                       getTaskContext().getServerHashIndex()));
-                        } else {
-                            devices.addAll(service.getAllDevices(deviceType, false));
-                        }
-                        for (Device device : devices) {
-                            if (device != null && device.getEnrolmentInfo() != null
-                                && device.getEnrolmentInfo().getStatus() != EnrolmentInfo.Status.REMOVED) {
-                                toBeNotified.add(device);
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Adding policy operation to device : " + device.getDeviceIdentifier());
-                                }
-                            }
-                        }
-                        if (!toBeNotified.isEmpty()) {
-                            PolicyEnforcementDelegator enforcementDelegator = new PolicyEnforcementDelegatorImpl(
-                                    toBeNotified, updatedPolicyDeviceList.getUpdatedPolicyIds());
-                            enforcementDelegator.delegate();
-                        }
-                    } catch (DeviceManagementException e) {
-                        throw new PolicyManagementException("Error occurred while fetching the devices", e);
-                    } catch (PolicyDelegationException e) {
-                        throw new PolicyManagementException("Error occurred while running the delegation task on " +
-                                                            "device-type : " + deviceType, e);
-                    }
+                    workUnits.add(new TaskWorkUnit(tenantId, deviceType, () -> delegate(service, impactResolver,
+                            deviceType, updatedPolicyDeviceList.getUpdatedPolicyIds())));
                 }
+                executeWorkUnits(workUnits);
             }
         } catch (PolicyManagementException e) {
             log.error("Error occurred while getting the policies applied to devices.", e);
         }
     }
 
+    private void delegate(DeviceManagementProviderService service, PolicyChangeImpactResolver impactResolver,
+                          String deviceType, List<Integer> updatedPolicyIds) {
+        try {
+            List<Device> devices = new ArrayList<>();
+            List<Device> toBeNotified = new ArrayList<>();
+            if (getTaskContext() != null && getTaskContext().isPartitioningEnabled()) {
+                devices.addAll(service.getAllocatedDevices(deviceType, getTaskContext().getActiveServerCount(),
+                        getTaskContext().getServerHashIndex()));
+            } else {
+                devices.addAll(service.getAllDevices(deviceType, false));
+            }
+            List<Device> enrolledDevices = new ArrayList<>();
+            for (Device device : devices) {
+                if (device != null && device.getEnrolmentInfo() != null
+                    && device.getEnrolmentInfo().getStatus() != EnrolmentInfo.Status.REMOVED) {
+                    enrolledDevices.add(device);
+                }
+            }
+            for (Device device : impactResolver.resolveAffectedDevices(deviceType, enrolledDevices)) {
+                toBeNotified.add(device);
+                if (log.isDebugEnabled()) {
+                    log.debug("Adding policy operation to device : " + device.getDeviceIdentifier());
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Policy delegation for device type " + deviceType + " evaluates "
+                        + toBeNotified.size() + " devices affected by the policy changes and skips "
+                        + (enrolledDevices.size() - toBeNotified.size()) + " devices");
+            }
+            if (!toBeNotified.isEmpty()) {
+                PolicyEnforcementDelegator enforcementDelegator = new PolicyEnforcementDelegatorImpl(
+                        toBeNotified, updatedPolicyIds);
+                enforcementDelegator.delegate();
+            }
+        } catch (DeviceManagementException e) {
+            log.error("Error occurred while fetching the devices of device-type : " + deviceType, e);
+        } catch (PolicyDelegationException e) {
+            log.error("Error occurred while running the delegation task on device-type : " + deviceType, e);
+        } catch (PolicyManagementException e) {
+            log.error("Error occurred while resolving the devices of device-type : " + deviceType
+                    + " affected by the policy changes", e);
+        }
+    }
+
     @Override
     protected void setup() {
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.enforcement;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.group.mgt.GroupManagementException;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.DeviceGroupWrapper;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import io.entgra.device.mgt.core.device.mgt.core.service.GroupManagementProviderService;
+import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
+import io.entgra.device.mgt.core.policy.mgt.core.internal.PolicyManagementDataHolder;
+import io.entgra.device.mgt.core.policy.mgt.core.mgt.PolicyManager;
+import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagementConstants;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.user.api.UserRealm;
+import org.wso2.carbon.user.api.UserStoreException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the devices whose effective policy could change due to a set of updated policies, so that the
+ * delegation does not have to evaluate every device of a device type. A device is affected if one of the updated
+ * policies is currently applied to it, or if it satisfies the ownership, user, role and group criteria of one of
+ * the updated policies. The criteria are matched the same way as the policy information point filters the
+ * policies of a device, hence the result is a superset of the devices whose effective policy actually changes.
+ */
+public class PolicyChangeImpactResolver {
+
+    private static final Log log = LogFactory.getLog(PolicyChangeImpactResolver.class);
+
+    private final PolicyManager policyManager;
+    private final List<Policy> updatedPolicies;
+    private final Set<Integer> updatedPolicyIds;
+    private Map<Integer, Integer> appliedPolicyIds;
+
+    public PolicyChangeImpactResolver(PolicyManager policyManager, List<Policy> updatedPolicies,
+                                      List<Integer> updatedPolicyIds) {
+        this.policyManager = policyManager;
+        this.updatedPolicies = updatedPolicies;
+        this.updatedPolicyIds = new HashSet<>(updatedPolicyIds);
+    }
+
+    /**
+     * Filter the devices of a device type down to the ones whose effective policy could change.
+     *
+     * @param deviceType Device type of the devices
+     * @param devices    Devices of the device type
+     * @return Devices which have to be re-evaluated
+     * @throws PolicyManagementException if the applied policies or the policy criteria could not be resolved
+     */
+    public List<Device> resolveAffectedDevices(String deviceType, List<Device> devices)
+            throws PolicyManagementException {
+        Map<Integer, Integer> appliedPolicyIds = getAppliedPolicyIds();
+        List<PolicyScope> scopes = new ArrayList<>();
+        for (Policy policy : updatedPolicies) {
+            //Inactive policies can only affect the devices which they are applied to
+            if (policy.isActive() && deviceType.equalsIgnoreCase(policy.getProfile().getDeviceType())
+                    && PolicyManagementConstants.GENERAL_POLICY_TYPE.equalsIgnoreCase(policy.getPolicyType())) {
+                scopes.add(new PolicyScope(policy, deviceType));
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Resolving the devices of type " + deviceType + " affected by " + scopes.size()
+                    + " updated active policies and " + updatedPolicyIds.size() + " updated policies in total");
+        }
+        List<Device> affectedDevices = new ArrayList<>();
+        for (Device device : devices) {
+            Integer appliedPolicyId = appliedPolicyIds.get(device.getId());
+            if (appliedPolicyId != null && updatedPolicyIds.contains(appliedPolicyId)) {
+                affectedDevices.add(device);
+                continue;
+            }
+            for (PolicyScope scope : scopes) {
+                if (scope.covers(device)) {
+                    affectedDevices.add(device);
+                    break;
+                }
+            }
+        }
+        return affectedDevices;
+    }
+
+    /**
+     * Applied policies are loaded once and shared by the device types, which may be resolved in parallel.
+     */
+    private synchronized Map<Integer, Integer> getAppliedPolicyIds() throws PolicyManagementException {
+        if (appliedPolicyIds == null) {
+            appliedPolicyIds = policyManager.getAppliedPolicyIdsDeviceIds();
+        }
+        return appliedPolicyIds;
+    }
+
+    /**
+     * Criteria of a policy resolved into sets of device ids and owners. A null set means that the respective
+     * criterion does not restrict the devices.
+     */
+    private static class PolicyScope {
+
+        private final String ownershipType;
+        private final Set<String> owners;
+        private final Set<String> roleOwners;
+        private final Set<Integer> groupDeviceIds;
+
+        private PolicyScope(Policy policy, String deviceType) throws PolicyManagementException {
+            this.ownershipType = PolicyManagementConstants.ANY.equalsIgnoreCase(policy.getOwnershipType())
+                    ? null : policy.getOwnershipType();
+            this.owners = resolveOwners(policy.getUsers());
+            this.roleOwners = resolveRoleOwners(policy.getRoles());
+            this.groupDeviceIds = resolveGroupDevices(policy.getDeviceGroups(), deviceType);
+        }
+
+        private boolean covers(Device device) {
+            if (device.getEnrolmentInfo() == null) {
+                return false;
+            }
+            String owner = device.getEnrolmentInfo().getOwner();
+            if (ownershipType != null && device.getEnrolmentInfo().getOwnership() != null
+                    && !ownershipType.equalsIgnoreCase(device.getEnrolmentInfo().getOwnership().toString())) {
+                return false;
+            }
+            if (owners != null && (owner == null || !owners.contains(owner.toLowerCase()))) {
+                return false;
+            }
+            if (roleOwners != null && (owner == null || !roleOwners.contains(owner.toLowerCase()))) {
+                return false;
+            }
+            return groupDeviceIds == null || groupDeviceIds.contains(device.getId());
+        }
+
+        private static Set<String> resolveOwners(List<String> users) {
+            if (users == null || users.isEmpty() || users.contains(PolicyManagementConstants.ANY)) {
+                return null;
+            }
+            Set<String> owners = new HashSet<>();
+            for (String user : users) {
+                owners.add(user.toLowerCase());
+            }
+            return owners;
+        }
+
+        private static Set<String> resolveRoleOwners(List<String> roles) throws PolicyManagementException {
+            if (roles == null || roles.isEmpty() || PolicyManagementConstants.ANY.equalsIgnoreCase(roles.get(0))) {
+                return null;
+            }
+            UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
+            //Roles of the device owners are not matched by the policy information point without a user realm
+            if (userRealm == null) {
+                return null;
+            }
+            Set<String> roleOwners = new HashSet<>();
+            try {
+                for (String role : roles) {
+                    for (String user : userRealm.getUserStoreManager().getUserListOfRole(role)) {
+                        roleOwners.add(user.toLowerCase());
+                    }
+                }
+            } catch (UserStoreException e) {
+                throw new PolicyManagementException("Error occurred while retrieving the users of roles " + roles, e);
+            }
+            return roleOwners;
+        }
+
+        private static Set<Integer> resolveGroupDevices(List<DeviceGroupWrapper> groups, String deviceType)
+                throws PolicyManagementException {
+            if (groups == null || groups.isEmpty()
+                    || PolicyManagementConstants.ANY.equalsIgnoreCase(groups.get(0).getName())) {
+                return null;
+            }
+            List<Integer> groupIds = new ArrayList<>();
+            for (DeviceGroupWrapper group : groups) {
+                groupIds.add(group.getId());
+            }
+            GroupManagementProviderService groupManagementService = PolicyManagementDataHolder.getInstance()
+                    .getGroupManagementService();
+            try {
+                Set<Integer> deviceIds = new HashSet<>(groupManagementService.getDeviceIdsOfGroups(groupIds));
+                //Group criteria are not applied by the policy information point to devices without any group
+                deviceIds.addAll(groupManagementService.getUngroupedDeviceIds(deviceType));
+                return deviceIds;
+            } catch (GroupManagementException e) {
+                throw new PolicyManagementException("Error occurred while retrieving the devices of groups "
+                        + groupIds, e);
+            }
+        }
+    }
+}
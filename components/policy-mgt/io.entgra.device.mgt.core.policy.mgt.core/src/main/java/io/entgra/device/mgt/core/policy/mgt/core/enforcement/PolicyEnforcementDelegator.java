@@ -17,10 +17,12 @@
  */
 package io.entgra.device.mgt.core.policy.mgt.core.enforcement;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PolicyEnforcementDelegator {
 
@@ -28,6 +30,8 @@ public interface PolicyEnforcementDelegator {
 
     Policy getEffectivePolicy(DeviceIdentifier identifier) throws PolicyDelegationException;
 
+    Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyDelegationException;
+
     void addPolicyOperation(List<DeviceIdentifier> deviceIdentifiers, Policy policy) throws PolicyDelegationException;
 
     void addPolicyRevokeOperation(List<DeviceIdentifier> deviceIdentifiers) throws PolicyDelegationException;
@@ -39,6 +39,7 @@ import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class PolicyEnforcementDelegatorImpl implements PolicyEnforcementDelegator{
 
@@ -63,13 +64,16 @@ public class PolicyEnforcementDelegatorImpl implements PolicyEnforcementDelegato
 
     @Override
     public void delegate() throws PolicyDelegationException {
+        // Applied policies have to be read before the evaluation, which records the new effective policies as used.
+        Map<Integer, Integer> appliedPolicyIds = this.getAppliedPolicyIds();
+        Map<Integer, Policy> effectivePolicies = this.getEffectivePolicies(devices);
         for (Device device : devices) {
             DeviceIdentifier identifier = new DeviceIdentifier();
             identifier.setId(device.getDeviceIdentifier());
             identifier.setType(device.getType());
 
-            Policy devicePolicy = this.getAppliedPolicyToDevice(device);
-            Policy policy = this.getEffectivePolicy(identifier);
+            Integer appliedPolicyId = appliedPolicyIds.get(device.getId());
+            Policy policy = effectivePolicies.get(device.getId());
             List<DeviceIdentifier> deviceIdentifiers = new ArrayList<>();
             deviceIdentifiers.add(identifier);
             if (policy != null) {
@@ -79,7 +83,7 @@ public class PolicyEnforcementDelegatorImpl implements PolicyEnforcementDelegato
                     2) New Policy or
                     3) Device existing policy has changed
                  */
-                if (devicePolicy == null || devicePolicy.getId() != policy.getId() || updatedPolicyIds.contains
+                if (appliedPolicyId == null || appliedPolicyId != policy.getId() || updatedPolicyIds.contains
                         (policy.getId())) {
                     this.markPreviousPolicyBundlesRepeated(device);
                     this.addPolicyRevokeOperation(deviceIdentifiers);
@@ -115,6 +119,30 @@ public class PolicyEnforcementDelegatorImpl implements PolicyEnforcementDelegato
         }
     }
 
+    @Override
+    public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyDelegationException {
+        try {
+            PolicyManagerService policyManagerService = PolicyManagementDataHolder.getInstance()
+                    .getPolicyManagerService();
+            Map<Integer, Policy> effectivePolicies = policyManagerService.getPEP().getEffectivePolicies(devices);
+            PolicyAdministratorPoint policyAdministratorPoint = policyManagerService.getPAP();
+            for (Device device : devices) {
+                DeviceIdentifier identifier = new DeviceIdentifier(device.getDeviceIdentifier(), device.getType());
+                Policy policy = effectivePolicies.get(device.getId());
+                if (policy != null) {
+                    policyAdministratorPoint.setPolicyUsed(identifier, policy);
+                } else {
+                    policyAdministratorPoint.removePolicyUsed(identifier);
+                }
+            }
+            return effectivePolicies;
+        } catch (PolicyEvaluationException | PolicyManagementException e) {
+            String msg = "Error occurred while retrieving the effective policies for devices.";
+            log.error(msg, e);
+            throw new PolicyDelegationException(msg, e);
+        }
+    }
+
     @Override
     public void addPolicyOperation(List<DeviceIdentifier> deviceIdentifiers, Policy policy) throws
             PolicyDelegationException {
@@ -170,6 +198,22 @@ public class PolicyEnforcementDelegatorImpl implements PolicyEnforcementDelegato
         return policyRevokeOperation;
     }
 
+    /**
+     * Provides the ids of the policies which are currently applied to the devices of the tenant
+     *
+     * @return Applied policy ids keyed by device id
+     * @throws PolicyDelegationException exception throws when retrieving applied policies
+     */
+    public Map<Integer, Integer> getAppliedPolicyIds() throws PolicyDelegationException {
+        try {
+            return PolicyManagementDataHolder.getInstance().getPolicyManager().getAppliedPolicyIdsDeviceIds();
+        } catch (PolicyManagementException e) {
+            String msg = "Error occurred while retrieving the applied policies of devices.";
+            log.error(msg, e);
+            throw new PolicyDelegationException(msg, e);
+        }
+    }
+
     /**
      * Provides the applied policy for give device
      *
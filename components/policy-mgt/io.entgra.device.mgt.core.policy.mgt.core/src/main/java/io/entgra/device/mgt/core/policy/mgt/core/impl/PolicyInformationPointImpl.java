@@ -25,10 +25,13 @@ import io.entgra.device.mgt.core.device.mgt.common.exceptions.DeviceManagementEx
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.DeviceGroup;
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.GroupManagementException;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.policy.PolicyConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.dto.DeviceType;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
 import io.entgra.device.mgt.core.device.mgt.core.service.GroupManagementProviderService;
 import io.entgra.device.mgt.core.policy.mgt.common.*;
+import io.entgra.device.mgt.core.policy.mgt.core.cache.impl.PolicyCacheManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.internal.PolicyManagementDataHolder;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.FeatureManager;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.PolicyManager;
@@ -42,8 +45,10 @@ import org.wso2.carbon.user.api.UserStoreException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class PolicyInformationPointImpl implements PolicyInformationPoint {
 
@@ -62,10 +67,7 @@ public class PolicyInformationPointImpl implements PolicyInformationPoint {
 
     @Override
     public PIPDevice getDeviceData(DeviceIdentifier deviceIdentifier) throws PolicyManagementException {
-        PIPDevice pipDevice = new PIPDevice();
         Device device;
-        DeviceType deviceType = new DeviceType();
-        deviceType.setName(deviceIdentifier.getType());
         GroupManagementProviderService groupManagementProviderService = PolicyManagementDataHolder
                 .getInstance().getGroupManagementService();
 
@@ -73,14 +75,8 @@ public class PolicyInformationPointImpl implements PolicyInformationPoint {
             device = deviceManagementService.getDevice(deviceIdentifier, false);
 
             if (device != null) {
-                pipDevice.setDevice(device);
-                pipDevice.setRoles(getRoleOfDevice(device));
-                pipDevice.setDeviceType(deviceType);
-                pipDevice.setDeviceIdentifier(deviceIdentifier);
-                pipDevice.setUserId(device.getEnrolmentInfo().getOwner());
-                pipDevice.setOwnershipType(device.getEnrolmentInfo().getOwnership().toString());
-                pipDevice.setDeviceGroups(groupManagementProviderService.getGroups(pipDevice.getDeviceIdentifier(), false));
-
+                return createPIPDevice(device, deviceIdentifier, getRoleOfDevice(device),
+                        groupManagementProviderService.getGroups(deviceIdentifier, false));
             } else {
                 throw new PolicyManagementException("Device details cannot be null.");
             }
@@ -93,12 +89,58 @@ public class PolicyInformationPointImpl implements PolicyInformationPoint {
             log.error(msg, e);
             throw new PolicyManagementException(msg, e);
         }
-        return pipDevice;
+    }
+
+    @Override
+    public Map<Integer, PIPDevice> getDevicesData(List<Device> devices) throws PolicyManagementException {
+        Map<Integer, PIPDevice> pipDevices = new HashMap<>();
+        if (devices.isEmpty()) {
+            return pipDevices;
+        }
+        Set<Integer> deviceIds = new LinkedHashSet<>();
+        for (Device device : devices) {
+            deviceIds.add(device.getId());
+        }
+        Map<Integer, List<DeviceGroup>> deviceGroups;
+        try {
+            deviceGroups = PolicyManagementDataHolder.getInstance().getGroupManagementService()
+                    .getGroupsOfDevices(new ArrayList<>(deviceIds), false);
+        } catch (GroupManagementException e) {
+            String msg = "Error occurred when retrieving the data related to device groups from the database.";
+            log.error(msg, e);
+            throw new PolicyManagementException(msg, e);
+        }
+        // Owners usually enroll several devices, so their roles are read from the user store once per evaluation.
+        Map<String, String[]> ownerRoles = new HashMap<>();
+        for (Device device : devices) {
+            String owner = device.getEnrolmentInfo().getOwner();
+            String[] roles;
+            if (ownerRoles.containsKey(owner)) {
+                roles = ownerRoles.get(owner);
+            } else {
+                roles = getRoleOfDevice(device);
+                ownerRoles.put(owner, roles);
+            }
+            DeviceIdentifier deviceIdentifier = new DeviceIdentifier(device.getDeviceIdentifier(), device.getType());
+            List<DeviceGroup> groups = deviceGroups.get(device.getId());
+            pipDevices.put(device.getId(), createPIPDevice(device, deviceIdentifier, roles,
+                    groups != null ? groups : new ArrayList<>()));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved policy information of " + pipDevices.size() + " devices of " + ownerRoles.size()
+                    + " owners");
+        }
+        return pipDevices;
     }
 
     @Override
     public List<Policy> getRelatedPolicies(PIPDevice pipDevice) throws PolicyManagementException {
 
+        PolicyConfiguration policyConfiguration = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig().getPolicyConfiguration();
+        if (policyConfiguration != null && policyConfiguration.getCacheEnable()) {
+            return getRelatedPoliciesFromIndex(pipDevice);
+        }
         List<Policy> policies = policyManager.getPoliciesOfDeviceType(pipDevice.getDeviceType().getName());
         PolicyFilter policyFilter = new PolicyFilterImpl();
 
@@ -152,6 +194,43 @@ public class PolicyInformationPointImpl implements PolicyInformationPoint {
 
     }
 
+    /**
+     * Match the policies of the device against the compiled index of the cached policies, which gives the same
+     * policies as the filter chain without scanning every policy of the device type.
+     */
+    private List<Policy> getRelatedPoliciesFromIndex(PIPDevice pipDevice) throws PolicyManagementException {
+        List<Integer> groupIds = null;
+        if (pipDevice.getDeviceGroups() != null) {
+            groupIds = new ArrayList<>();
+            for (DeviceGroup group : pipDevice.getDeviceGroups()) {
+                groupIds.add(group.getGroupId());
+            }
+        }
+        List<Policy> policies = PolicyCacheManagerImpl.getInstance().getPolicyMatchIndex().match(
+                pipDevice.getDeviceType().getName(), pipDevice.getOwnershipType(), pipDevice.getUserId(),
+                pipDevice.getRoles(), groupIds);
+        if (log.isDebugEnabled()) {
+            log.debug("No of policies selected from the policy match index for the device type : "
+                    + pipDevice.getDeviceType().getName() + " : " + policies.size());
+        }
+        return policies;
+    }
+
+    private PIPDevice createPIPDevice(Device device, DeviceIdentifier deviceIdentifier, String[] roles,
+                                      List<DeviceGroup> deviceGroups) {
+        PIPDevice pipDevice = new PIPDevice();
+        DeviceType deviceType = new DeviceType();
+        deviceType.setName(deviceIdentifier.getType());
+        pipDevice.setDevice(device);
+        pipDevice.setRoles(roles);
+        pipDevice.setDeviceType(deviceType);
+        pipDevice.setDeviceIdentifier(deviceIdentifier);
+        pipDevice.setUserId(device.getEnrolmentInfo().getOwner());
+        pipDevice.setOwnershipType(device.getEnrolmentInfo().getOwnership().toString());
+        pipDevice.setDeviceGroups(deviceGroups);
+        return pipDevice;
+    }
+
     private String[] getRoleOfDevice(Device device) throws PolicyManagementException {
         try {
             UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
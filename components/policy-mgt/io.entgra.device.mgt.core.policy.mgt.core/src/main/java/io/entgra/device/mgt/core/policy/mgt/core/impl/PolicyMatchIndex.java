@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.impl;
+
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.DeviceGroupWrapper;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagementConstants;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled form of the active general policies which maps the device type, ownership type, user, role and group
+ * criteria to bitsets over the priority ordered policies of each device type. Matching the policies of a device
+ * is an intersection of one bitset per criterion, and the set bits are already in priority order. The criteria
+ * are matched the same way as {@link PolicyFilterImpl} does, apart from not returning a policy more than once.
+ * Instances are immutable, hence a new index has to be compiled whenever the policies change.
+ */
+public class PolicyMatchIndex {
+
+    private final Map<String, DeviceTypeIndex> deviceTypeIndexes = new HashMap<>();
+    private final List<Policy> source;
+
+    /**
+     * @param policies All the policies. The list is not modified, and the inactive and non-general policies in it
+     *                 are left out of the index.
+     */
+    public PolicyMatchIndex(List<Policy> policies) {
+        this.source = policies;
+        Map<String, List<Policy>> policiesOfDeviceTypes = new HashMap<>();
+        for (Policy policy : policies) {
+            if (policy.isActive() && PolicyManagementConstants.GENERAL_POLICY_TYPE
+                    .equalsIgnoreCase(policy.getPolicyType())) {
+                policiesOfDeviceTypes.computeIfAbsent(toKey(policy.getProfile().getDeviceType()),
+                        deviceType -> new ArrayList<>()).add(policy);
+            }
+        }
+        for (Map.Entry<String, List<Policy>> entry : policiesOfDeviceTypes.entrySet()) {
+            Collections.sort(entry.getValue());
+            deviceTypeIndexes.put(entry.getKey(), new DeviceTypeIndex(entry.getValue()));
+        }
+    }
+
+    /**
+     * @return Policy list the index was compiled from
+     */
+    public List<Policy> getSource() {
+        return source;
+    }
+
+    /**
+     * Get the policies whose criteria are satisfied by a device. A null or empty criterion value is not matched,
+     * the same way the policy information point skips the respective filter.
+     *
+     * @param deviceType    Device type of the device
+     * @param ownershipType Ownership type of the device
+     * @param user          Owner of the device
+     * @param roles         Roles of the owner of the device
+     * @param groupIds      Ids of the groups of the device
+     * @return Matching policies in the order of their priority
+     */
+    public List<Policy> match(String deviceType, String ownershipType, String user, String[] roles,
+                              Collection<Integer> groupIds) {
+        DeviceTypeIndex index = deviceTypeIndexes.get(toKey(deviceType));
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        BitSet matches = new BitSet(index.policies.length);
+        matches.set(0, index.policies.length);
+        if (ownershipType != null && !ownershipType.isEmpty()) {
+            index.ownershipTypes.intersect(matches, Collections.singletonList(toKey(ownershipType)));
+        }
+        if (roles != null) {
+            List<String> roleKeys = new ArrayList<>(roles.length);
+            for (String role : roles) {
+                roleKeys.add(toKey(role));
+            }
+            index.roles.intersect(matches, roleKeys);
+        }
+        if (user != null && !user.isEmpty()) {
+            index.users.intersect(matches, Collections.singletonList(toKey(user)));
+        }
+        if (groupIds != null && !groupIds.isEmpty()) {
+            index.groups.intersect(matches, groupIds);
+        }
+        List<Policy> matchingPolicies = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            matchingPolicies.add(index.policies[i]);
+        }
+        return matchingPolicies;
+    }
+
+    private static String toKey(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+
+    /**
+     * Bitsets of the policies of a device type, one per criterion.
+     */
+    private static class DeviceTypeIndex {
+
+        private final Policy[] policies;
+        private final CriterionIndex<String> ownershipTypes = new CriterionIndex<>();
+        private final CriterionIndex<String> users = new CriterionIndex<>();
+        private final CriterionIndex<String> roles = new CriterionIndex<>();
+        private final CriterionIndex<Integer> groups = new CriterionIndex<>();
+
+        private DeviceTypeIndex(List<Policy> priorityOrderedPolicies) {
+            this.policies = priorityOrderedPolicies.toArray(new Policy[0]);
+            for (int i = 0; i < policies.length; i++) {
+                Policy policy = policies[i];
+
+                String ownershipType = policy.getOwnershipType();
+                if (ownershipType == null || PolicyManagementConstants.ANY.equalsIgnoreCase(ownershipType)) {
+                    ownershipTypes.matchAll(i);
+                } else {
+                    ownershipTypes.add(toKey(ownershipType), i);
+                }
+
+                List<String> policyUsers = policy.getUsers();
+                if (policyUsers == null || policyUsers.isEmpty()
+                        || policyUsers.contains(PolicyManagementConstants.ANY)) {
+                    users.matchAll(i);
+                } else {
+                    for (String user : policyUsers) {
+                        users.add(toKey(user), i);
+                    }
+                }
+
+                List<String> policyRoles = policy.getRoles();
+                if (policyRoles == null || policyRoles.isEmpty()
+                        || PolicyManagementConstants.ANY.equalsIgnoreCase(policyRoles.get(0))) {
+                    roles.matchAll(i);
+                } else {
+                    for (String role : policyRoles) {
+                        roles.add(toKey(role), i);
+                    }
+                }
+
+                List<DeviceGroupWrapper> policyGroups = policy.getDeviceGroups();
+                if (policyGroups == null || policyGroups.isEmpty()
+                        || PolicyManagementConstants.ANY.equalsIgnoreCase(policyGroups.get(0).getName())) {
+                    groups.matchAll(i);
+                } else {
+                    for (DeviceGroupWrapper group : policyGroups) {
+                        groups.add(group.getId(), i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Policies which match any value of a criterion, and the policies which match each specific value.
+     */
+    private static class CriterionIndex<K> {
+
+        private final BitSet anyValue = new BitSet();
+        private final Map<K, BitSet> values = new HashMap<>();
+
+        private void matchAll(int policyIndex) {
+            anyValue.set(policyIndex);
+        }
+
+        private void add(K value, int policyIndex) {
+            values.computeIfAbsent(value, key -> new BitSet()).set(policyIndex);
+        }
+
+        private void intersect(BitSet matches, Collection<K> deviceValues) {
+            BitSet allowed = (BitSet) anyValue.clone();
+            for (K deviceValue : deviceValues) {
+                BitSet policiesOfValue = values.get(deviceValue);
+                if (policiesOfValue != null) {
+                    allowed.or(policiesOfValue);
+                }
+            }
+            matches.and(allowed);
+        }
+    }
+}
@@ -21,9 +21,11 @@ package io.entgra.device.mgt.core.policy.mgt.core.internal;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
 import io.entgra.device.mgt.core.device.mgt.core.config.policy.PolicyConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
+import io.entgra.device.mgt.core.device.mgt.core.util.MBeanUtil;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyEvaluationPoint;
 import io.entgra.device.mgt.core.policy.mgt.core.PolicyManagerService;
 import io.entgra.device.mgt.core.policy.mgt.core.PolicyManagerServiceImpl;
+import io.entgra.device.mgt.core.policy.mgt.core.cache.impl.PolicyCacheManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.config.PolicyConfigurationManager;
 import io.entgra.device.mgt.core.policy.mgt.core.config.PolicyManagementConfig;
 import io.entgra.device.mgt.core.policy.mgt.core.config.datasource.DataSourceConfig;
@@ -35,6 +37,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.*;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.ntask.core.service.TaskService;
 import org.wso2.carbon.user.core.service.RealmService;
 
@@ -45,6 +49,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class PolicyManagementServiceComponent {
 
     private static final Log log = LogFactory.getLog(PolicyManagementServiceComponent.class);
+    private static final String COMPLIANCE_WRITE_MBEAN = "PolicyComplianceWrite";
 
     @Activate
     protected void activate(ComponentContext componentContext) {
@@ -59,6 +64,8 @@ public class PolicyManagementServiceComponent {
             componentContext.getBundleContext().registerService(
                     PolicyManagerService.class.getName(), policyManagerService, null);
             PolicyManagementDataHolder.getInstance().setPolicyManagerService(policyManagerService);
+            MBeanUtil.registerMBean(PolicyManagementDataHolder.getInstance().getMonitoringManager()
+                    .getComplianceWriteMetrics(), COMPLIANCE_WRITE_MBEAN);
 
             PolicyConfiguration policyConfiguration =
                     DeviceConfigurationManager.getInstance().getDeviceManagementConfig().getPolicyConfiguration();
@@ -66,15 +73,39 @@ public class PolicyManagementServiceComponent {
                 TaskScheduleService taskScheduleService = new TaskScheduleServiceImpl();
                 taskScheduleService.startTask(PolicyManagerUtil.getMonitoringFrequency());
             }
+            if (policyConfiguration.getCacheEnable()) {
+                Thread warmUpThread = new Thread(this::warmUpAppliedPolicyCache, "applied-policy-cache-warm-up");
+                warmUpThread.setDaemon(true);
+                warmUpThread.start();
+            }
 
         } catch (Throwable t) {
             log.error("Error occurred while initializing the Policy management core.", t);
         }
     }
 
+    /**
+     * Loads the policies applied to the enrolments of the super tenant to the applied policy cache, so that the
+     * policy requests received after a node start are not all served from the database. The applied policies of
+     * other tenants are cached as they are requested.
+     */
+    private void warmUpAppliedPolicyCache() {
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(MultitenantConstants.SUPER_TENANT_ID,
+                    true);
+            PolicyCacheManagerImpl.getInstance().warmUpAppliedPolicies();
+        } catch (Throwable t) {
+            log.error("Error occurred while loading the applied policies to the cache.", t);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
     @SuppressWarnings("unused")
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
+        MBeanUtil.unregisterMBean(COMPLIANCE_WRITE_MBEAN);
         try {
             PolicyConfiguration policyConfiguration =
                     DeviceConfigurationManager.getInstance().getDeviceManagementConfig().getPolicyConfiguration();
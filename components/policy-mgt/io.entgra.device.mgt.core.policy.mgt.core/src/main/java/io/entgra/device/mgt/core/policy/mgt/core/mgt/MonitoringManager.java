@@ -25,6 +25,7 @@ import io.entgra.device.mgt.core.device.mgt.common.PaginationResult;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.ComplianceFeature;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.NonComplianceData;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.PolicyComplianceException;
+import io.entgra.device.mgt.core.policy.mgt.core.mgt.impl.ComplianceWriteMetrics;
 
 import java.util.List;
 
@@ -46,6 +47,26 @@ public interface MonitoringManager {
 
     void addMonitoringOperation(String deviceType, List<Device> devices) throws PolicyComplianceException;
 
+    /**
+     * Add monitoring operations to the active and unreachable enrolments of a device type which have a policy
+     * applied. Enrolments are read and processed in pages of the configured monitoring batch size.
+     *
+     * @param deviceType        type of the devices
+     * @param activeServerCount number of servers the enrolments are partitioned across, or 0 to not partition
+     * @param serverHashIndex   index of this server among the active servers
+     * @return number of enrolments which monitoring operations were added to
+     */
+    int addMonitoringOperations(String deviceType, int activeServerCount, int serverHashIndex)
+            throws PolicyComplianceException;
+
+    /**
+     * Get the counters of the compliance record writes done while checking the policy compliance of devices. Writes
+     * are skipped when a monitoring response does not change the compliance of the device.
+     *
+     * @return compliance write counters
+     */
+    ComplianceWriteMetrics getComplianceWriteMetrics();
+
     List<String> getDeviceTypes() throws PolicyComplianceException;
 
     PaginationResult getPolicyCompliance(
@@ -27,6 +27,7 @@ import io.entgra.device.mgt.core.policy.mgt.core.mgt.bean.UpdatedPolicyDeviceLis
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface PolicyManager {
 
@@ -89,6 +90,16 @@ public interface PolicyManager {
 
     HashMap<Integer, Integer> getAppliedPolicyIdsDeviceIds() throws PolicyManagementException;
 
+    /**
+     * Returns a page of the policies applied to the enrolments of the current tenant.
+     *
+     * @param lastEnrolmentId enrolment id after which the applied policies are returned
+     * @param limit maximum number of applied policies to return
+     * @return applied policies keyed by enrolment id, in the ascending order of enrolment ids
+     * @throws PolicyManagementException
+     */
+    Map<Integer, Policy> getAppliedPolicies(int lastEnrolmentId, int limit) throws PolicyManagementException;
+
     List<Policy> getPolicies(String type) throws PolicyManagementException;
 
     /**
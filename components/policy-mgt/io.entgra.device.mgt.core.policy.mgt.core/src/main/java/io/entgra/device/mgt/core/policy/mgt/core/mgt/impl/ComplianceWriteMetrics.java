@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.mgt.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the compliance record writes done while checking the policy compliance of devices.
+ */
+public class ComplianceWriteMetrics implements ComplianceWriteMetricsMXBean {
+
+    private final AtomicLong skippedWrites = new AtomicLong();
+    private final AtomicLong updatedWrites = new AtomicLong();
+    private final AtomicLong writtenFeatures = new AtomicLong();
+
+    void recordSkipped() {
+        skippedWrites.incrementAndGet();
+    }
+
+    void recordUpdated(int featureCount) {
+        updatedWrites.incrementAndGet();
+        writtenFeatures.addAndGet(featureCount);
+    }
+
+    /**
+     * @return number of monitoring responses which did not change the compliance records of the device
+     */
+    @Override
+    public long getSkippedWrites() {
+        return skippedWrites.get();
+    }
+
+    /**
+     * @return number of monitoring responses which the compliance records of the device were written for
+     */
+    @Override
+    public long getUpdatedWrites() {
+        return updatedWrites.get();
+    }
+
+    /**
+     * @return number of compliance feature records inserted or deleted
+     */
+    @Override
+    public long getWrittenFeatures() {
+        return writtenFeatures.get();
+    }
+
+    @Override
+    public String toString() {
+        return "skipped=" + getSkippedWrites() + ", updated=" + getUpdatedWrites() + ", writtenFeatures="
+                + getWrittenFeatures();
+    }
+}
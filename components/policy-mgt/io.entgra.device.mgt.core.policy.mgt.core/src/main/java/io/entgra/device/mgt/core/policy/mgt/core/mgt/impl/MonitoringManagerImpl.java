@@ -33,12 +33,15 @@ import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.Compliance
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.ComplianceFeature;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.NonComplianceData;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.PolicyComplianceException;
+import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
+import io.entgra.device.mgt.core.device.mgt.core.config.policy.PolicyConfiguration;
 import io.entgra.device.mgt.core.device.mgt.core.operation.mgt.CommandOperation;
 import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
 import io.entgra.device.mgt.core.policy.mgt.common.monitor.ComplianceDecisionPoint;
 import io.entgra.device.mgt.core.policy.mgt.common.monitor.PolicyDeviceWrapper;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.*;
+import io.entgra.device.mgt.core.policy.mgt.core.dao.dto.MonitoringEnrolmentDTO;
 import io.entgra.device.mgt.core.policy.mgt.core.impl.ComplianceDecisionPointImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.internal.PolicyManagementDataHolder;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.MonitoringManager;
@@ -47,19 +50,26 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class MonitoringManagerImpl implements MonitoringManager {
 
     private final PolicyDAO policyDAO;
     private final MonitoringDAO monitoringDAO;
     private final ComplianceDecisionPoint complianceDecisionPoint;
+    private final ComplianceWriteMetrics complianceWriteMetrics = new ComplianceWriteMetrics();
 
     private static final Log log = LogFactory.getLog(MonitoringManagerImpl.class);
     private static final String OPERATION_MONITOR = "MONITOR";
+    private static final int DEFAULT_MONITORING_BATCH_SIZE = 1000;
+    private static final int DEFAULT_COMPLIANCE_REFRESH_INTERVAL = 3600;
 
 
     public MonitoringManagerImpl() {
@@ -88,6 +98,7 @@ public class MonitoringManagerImpl implements MonitoringManager {
     public List<ComplianceFeature> checkPolicyCompliance(Device device, Object deviceResponse)
             throws PolicyComplianceException {
         DeviceIdentifier deviceIdentifier = new DeviceIdentifier(device.getDeviceIdentifier(), device.getType());
+        int enrolmentId = device.getEnrolmentInfo().getId();
         List<ComplianceFeature> complianceFeatures = new ArrayList<>();
         try {
             PolicyManager manager = PolicyManagementDataHolder.getInstance().getPolicyManager();
@@ -97,12 +108,14 @@ public class MonitoringManagerImpl implements MonitoringManager {
                         getDeviceManagementService().getPolicyMonitoringManager(device.getType());
 
                 NonComplianceData complianceData;
+                // Compliance records are only written when the compliance of the device differs from the persisted
+                // one, or when the persisted compliance is older than the compliance refresh interval.
+                boolean unchanged = false;
                 // This was retrieved from database because compliance id must be present for other dao operations to
                 // run.
                 try {
                     PolicyManagementDAOFactory.openConnection();
-                    NonComplianceData cmd = monitoringDAO.getCompliance(device.getId(),
-                            device.getEnrolmentInfo().getId());
+                    NonComplianceData cmd = monitoringDAO.getCompliance(device.getId(), enrolmentId);
                     complianceData = monitoringService.checkPolicyCompliance(deviceIdentifier, policy, deviceResponse);
                     if (cmd != null) {
                         complianceData.setId(cmd.getId());
@@ -111,6 +124,7 @@ public class MonitoringManagerImpl implements MonitoringManager {
                         complianceData.setDeviceId(device.getId());
                         complianceData.setEnrolmentId(cmd.getEnrolmentId());
                         complianceData.setPolicyId(policy.getId());
+                        unchanged = isComplianceUnchanged(cmd, policy.getId(), complianceFeatures);
                     }
 
                 } catch (SQLException e) {
@@ -123,45 +137,59 @@ public class MonitoringManagerImpl implements MonitoringManager {
                     PolicyManagementDAOFactory.closeConnection();
                 }
 
+                if (unchanged) {
+                    complianceWriteMetrics.recordSkipped();
+                    if (log.isDebugEnabled()) {
+                        log.debug("Compliance of device " + deviceIdentifier.getId() + " - " +
+                                deviceIdentifier.getType() + " is unchanged, hence compliance records were not " +
+                                "updated. Compliance write stats: " + complianceWriteMetrics);
+                    }
+                }
+
                 //This was added because update query below that did not return the update table primary key.
 
                 if (complianceFeatures != null && !complianceFeatures.isEmpty()) {
-                    try {
-                        PolicyManagementDAOFactory.beginTransaction();
-                        monitoringDAO.setDeviceAsNoneCompliance(device.getId(), device.getEnrolmentInfo().getId(),
-                                policy.getId());
-                        if (log.isDebugEnabled()) {
-                            log.debug("Compliance status primary key " + complianceData.getId());
+                    if (!unchanged) {
+                        try {
+                            PolicyManagementDAOFactory.beginTransaction();
+                            monitoringDAO.setDeviceAsNoneCompliance(device.getId(), enrolmentId, policy.getId());
+                            if (log.isDebugEnabled()) {
+                                log.debug("Compliance status primary key " + complianceData.getId());
+                            }
+                            int writtenFeatures = updateNoneComplianceFeatures(complianceData.getId(),
+                                    device.getId(), complianceFeatures);
+                            PolicyManagementDAOFactory.commitTransaction();
+                            complianceWriteMetrics.recordUpdated(writtenFeatures);
+                        } catch (MonitoringDAOException e) {
+                            PolicyManagementDAOFactory.rollbackTransaction();
+                            throw new PolicyComplianceException(
+                                    "Unable to add the none compliance features to database for device " +
+                                    deviceIdentifier.getId() + " - " + deviceIdentifier.getType(), e);
+                        } finally {
+                            PolicyManagementDAOFactory.closeConnection();
                         }
-                        monitoringDAO.deleteNoneComplianceData(complianceData.getId());
-                        monitoringDAO.addNonComplianceFeatures(complianceData.getId(), device.getId(),
-                                                               complianceFeatures);
-
-                        PolicyManagementDAOFactory.commitTransaction();
-                    } catch (MonitoringDAOException e) {
-                        PolicyManagementDAOFactory.rollbackTransaction();
-                        throw new PolicyComplianceException(
-                                "Unable to add the none compliance features to database for device " +
-                                deviceIdentifier.getId() + " - " + deviceIdentifier.getType(), e);
-                    } finally {
-                        PolicyManagementDAOFactory.closeConnection();
                     }
                     complianceDecisionPoint.validateDevicePolicyCompliance(deviceIdentifier, complianceData);
-                    List<ProfileFeature> profileFeatures = policy.getProfile().getProfileFeaturesList();
+                    Map<String, ProfileFeature> profileFeatures = new HashMap<>();
+                    for (ProfileFeature profFeature : policy.getProfile().getProfileFeaturesList()) {
+                        profileFeatures.putIfAbsent(profFeature.getFeatureCode().toLowerCase(), profFeature);
+                    }
                     for (ComplianceFeature compFeature : complianceFeatures) {
-                        for (ProfileFeature profFeature : profileFeatures) {
-                            if (profFeature.getFeatureCode().equalsIgnoreCase(compFeature.getFeatureCode())) {
+                        if (compFeature.getFeatureCode() != null) {
+                            ProfileFeature profFeature =
+                                    profileFeatures.get(compFeature.getFeatureCode().toLowerCase());
+                            if (profFeature != null) {
                                 compFeature.setFeature(profFeature);
                             }
                         }
                     }
-                } else {
+                } else if (!unchanged) {
                     try {
                         PolicyManagementDAOFactory.beginTransaction();
-                        monitoringDAO.setDeviceAsCompliance(device.getId(), device.getEnrolmentInfo().getId(), policy
-                                .getId());
+                        monitoringDAO.setDeviceAsCompliance(device.getId(), enrolmentId, policy.getId());
                         monitoringDAO.deleteNoneComplianceData(complianceData.getId());
                         PolicyManagementDAOFactory.commitTransaction();
+                        complianceWriteMetrics.recordUpdated(0);
                     } catch (MonitoringDAOException e) {
                         PolicyManagementDAOFactory.rollbackTransaction();
                         throw new PolicyComplianceException(
@@ -183,6 +211,89 @@ public class MonitoringManagerImpl implements MonitoringManager {
         return complianceFeatures;
     }
 
+    @Override
+    public ComplianceWriteMetrics getComplianceWriteMetrics() {
+        return complianceWriteMetrics;
+    }
+
+    /**
+     * Check whether the persisted compliance of an enrolment already matches the features reported by the device and
+     * was written within the compliance refresh interval. Reading the persisted compliance is cheaper than rewriting
+     * it, and reflects the writes made through any node.
+     *
+     * @param persistedCompliance persisted compliance status of the enrolment
+     * @param policyId            id of the policy the compliance was checked against
+     * @param complianceFeatures  features reported by the device
+     * @return true if the compliance records of the enrolment need not be written
+     * @throws MonitoringDAOException if error occurred while reading the persisted compliance features
+     */
+    private boolean isComplianceUnchanged(NonComplianceData persistedCompliance, int policyId,
+                                          List<ComplianceFeature> complianceFeatures) throws MonitoringDAOException {
+        long refreshInterval = getComplianceRefreshInterval();
+        if (refreshInterval <= 0 || persistedCompliance.getId() <= 0) {
+            return false;
+        }
+        boolean compliant = complianceFeatures == null || complianceFeatures.isEmpty();
+        Timestamp writtenTime = compliant ? persistedCompliance.getLastSucceededTime()
+                : persistedCompliance.getLastFailedTime();
+        if (persistedCompliance.isStatus() != compliant || writtenTime == null
+                || System.currentTimeMillis() - writtenTime.getTime() >= refreshInterval
+                || (!compliant && persistedCompliance.getPolicyId() != policyId)) {
+            return false;
+        }
+        Map<String, Boolean> persistedFeatures = new HashMap<>();
+        for (ComplianceFeature feature : monitoringDAO.getNoneComplianceFeatures(persistedCompliance.getId())) {
+            persistedFeatures.put(feature.getFeatureCode(), feature.isCompliant());
+        }
+        Map<String, Boolean> reportedFeatures = new HashMap<>();
+        if (!compliant) {
+            for (ComplianceFeature feature : complianceFeatures) {
+                reportedFeatures.put(feature.getFeatureCode(), feature.isCompliant());
+            }
+        }
+        return persistedFeatures.equals(reportedFeatures);
+    }
+
+    /**
+     * Bring the none compliance features of a compliance status record in line with the features reported by the
+     * device, by deleting and inserting only the features whose compliance has changed.
+     *
+     * @return number of feature records deleted and inserted
+     */
+    private int updateNoneComplianceFeatures(int complianceStatusId, int deviceId,
+                                             List<ComplianceFeature> complianceFeatures)
+            throws MonitoringDAOException {
+        Map<String, Boolean> storedFeatures = new HashMap<>();
+        for (ComplianceFeature storedFeature : monitoringDAO.getNoneComplianceFeatures(complianceStatusId)) {
+            storedFeatures.put(storedFeature.getFeatureCode(), storedFeature.isCompliant());
+        }
+        Map<String, ComplianceFeature> reportedFeatures = new LinkedHashMap<>();
+        for (ComplianceFeature compFeature : complianceFeatures) {
+            reportedFeatures.put(compFeature.getFeatureCode(), compFeature);
+        }
+        List<String> removedFeatureCodes = new ArrayList<>();
+        for (Map.Entry<String, Boolean> storedFeature : storedFeatures.entrySet()) {
+            ComplianceFeature reportedFeature = reportedFeatures.get(storedFeature.getKey());
+            if (reportedFeature == null || reportedFeature.isCompliant() != storedFeature.getValue()) {
+                removedFeatureCodes.add(storedFeature.getKey());
+            }
+        }
+        List<ComplianceFeature> addedFeatures = new ArrayList<>();
+        for (ComplianceFeature reportedFeature : reportedFeatures.values()) {
+            Boolean storedCompliance = storedFeatures.get(reportedFeature.getFeatureCode());
+            if (storedCompliance == null || storedCompliance != reportedFeature.isCompliant()) {
+                addedFeatures.add(reportedFeature);
+            }
+        }
+        if (!removedFeatureCodes.isEmpty()) {
+            monitoringDAO.deleteNoneComplianceFeatures(complianceStatusId, removedFeatureCodes);
+        }
+        if (!addedFeatures.isEmpty()) {
+            monitoringDAO.addNonComplianceFeatures(complianceStatusId, deviceId, addedFeatures);
+        }
+        return removedFeatureCodes.size() + addedFeatures.size();
+    }
+
     @Override
     public boolean isCompliant(DeviceIdentifier deviceIdentifier) throws PolicyComplianceException {
         Device device;
@@ -308,7 +419,8 @@ public class MonitoringManagerImpl implements MonitoringManager {
 
         if (!notifiableDeviceEnrollments.isEmpty()) {
             try {
-                this.addMonitoringOperationsToDatabase(deviceType, new ArrayList<>(notifiableDeviceEnrollments.values()));
+                this.addMonitoringOperationsToDatabase(deviceType, this.getDeviceIdentifiersFromDevices(
+                        new ArrayList<>(notifiableDeviceEnrollments.values())));
             } catch (InvalidDeviceException e) {
                 throw new PolicyComplianceException("Invalid Device Identifiers found.", e);
             } catch (OperationManagementException e) {
@@ -317,6 +429,38 @@ public class MonitoringManagerImpl implements MonitoringManager {
         }
     }
 
+    @Override
+    public int addMonitoringOperations(String deviceType, int activeServerCount, int serverHashIndex)
+            throws PolicyComplianceException {
+        int batchSize = getMonitoringBatchSize();
+        int lastEnrolmentId = 0;
+        int monitoredEnrolments = 0;
+        while (true) {
+            List<MonitoringEnrolmentDTO> enrolments;
+            try {
+                PolicyManagementDAOFactory.openConnection();
+                enrolments = monitoringDAO.getMonitoringEnrolments(deviceType, activeServerCount, serverHashIndex,
+                        lastEnrolmentId, batchSize);
+            } catch (SQLException e) {
+                throw new PolicyComplianceException("SQL error occurred while getting monitoring details.", e);
+            } catch (MonitoringDAOException e) {
+                throw new PolicyComplianceException("Error occurred while getting monitoring details.", e);
+            } finally {
+                PolicyManagementDAOFactory.closeConnection();
+            }
+            if (enrolments.isEmpty()) {
+                break;
+            }
+            lastEnrolmentId = enrolments.get(enrolments.size() - 1).getEnrolmentId();
+            addMonitoringOperations(deviceType, enrolments);
+            monitoredEnrolments += enrolments.size();
+            if (enrolments.size() < batchSize) {
+                break;
+            }
+        }
+        return monitoredEnrolments;
+    }
+
     @Override
     public List<String> getDeviceTypes() throws PolicyComplianceException {
 
@@ -379,10 +523,71 @@ public class MonitoringManagerImpl implements MonitoringManager {
         return complianceFeatureList;
     }
 
-    private void addMonitoringOperationsToDatabase(String deviceType, List<Device> devices)
+    /**
+     * Add the compliance details of the enrolments which are monitored for the first time, and a single monitoring
+     * operation for all the enrolments of the page.
+     */
+    private void addMonitoringOperations(String deviceType, List<MonitoringEnrolmentDTO> enrolments)
+            throws PolicyComplianceException {
+        List<PolicyDeviceWrapper> firstTimeComplianceData = new ArrayList<>();
+        Set<DeviceIdentifier> deviceIdentifiers = new LinkedHashSet<>();
+        for (MonitoringEnrolmentDTO enrolment : enrolments) {
+            if (!enrolment.isComplianceRecorded()) {
+                PolicyDeviceWrapper policyDeviceWrapper = new PolicyDeviceWrapper();
+                policyDeviceWrapper.setDeviceId(enrolment.getDeviceId());
+                policyDeviceWrapper.setEnrolmentId(enrolment.getEnrolmentId());
+                policyDeviceWrapper.setPolicyId(enrolment.getPolicyId());
+                firstTimeComplianceData.add(policyDeviceWrapper);
+            }
+            deviceIdentifiers.add(new DeviceIdentifier(enrolment.getDeviceIdentification(), deviceType));
+        }
+
+        if (!firstTimeComplianceData.isEmpty()) {
+            try {
+                PolicyManagementDAOFactory.beginTransaction();
+                monitoringDAO.addComplianceDetails(firstTimeComplianceData);
+                PolicyManagementDAOFactory.commitTransaction();
+            } catch (MonitoringDAOException e) {
+                PolicyManagementDAOFactory.rollbackTransaction();
+                throw new PolicyComplianceException("Error occurred from monitoring dao.", e);
+            } catch (PolicyManagerDAOException e) {
+                PolicyManagementDAOFactory.rollbackTransaction();
+                throw new PolicyComplianceException("Error occurred reading the applied policies to devices.", e);
+            } finally {
+                PolicyManagementDAOFactory.closeConnection();
+            }
+        }
+
+        try {
+            this.addMonitoringOperationsToDatabase(deviceType, new ArrayList<>(deviceIdentifiers));
+        } catch (InvalidDeviceException e) {
+            throw new PolicyComplianceException("Invalid Device Identifiers found.", e);
+        } catch (OperationManagementException e) {
+            throw new PolicyComplianceException("Error occurred while adding monitoring operation to devices", e);
+        }
+    }
+
+    private int getMonitoringBatchSize() {
+        PolicyConfiguration policyConfiguration = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig().getPolicyConfiguration();
+        if (policyConfiguration == null || policyConfiguration.getMonitoringBatchSize() <= 0) {
+            return DEFAULT_MONITORING_BATCH_SIZE;
+        }
+        return policyConfiguration.getMonitoringBatchSize();
+    }
+
+    private long getComplianceRefreshInterval() {
+        PolicyConfiguration policyConfiguration = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig().getPolicyConfiguration();
+        if (policyConfiguration == null) {
+            return DEFAULT_COMPLIANCE_REFRESH_INTERVAL * 1000L;
+        }
+        return policyConfiguration.getComplianceRefreshInterval() * 1000L;
+    }
+
+    private void addMonitoringOperationsToDatabase(String deviceType, List<DeviceIdentifier> deviceIdentifiers)
             throws OperationManagementException, InvalidDeviceException {
 
-        List<DeviceIdentifier> deviceIdentifiers = this.getDeviceIdentifiersFromDevices(devices);
         CommandOperation monitoringOperation = new CommandOperation();
         monitoringOperation.setEnabled(true);
         monitoringOperation.setType(Operation.Type.COMMAND);
@@ -46,6 +46,7 @@ import io.entgra.device.mgt.core.notification.logger.impl.EntgraPolicyLoggerImpl
 import io.entgra.device.mgt.core.policy.mgt.common.Criterion;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
 import io.entgra.device.mgt.core.policy.mgt.common.ProfileManagementException;
+import io.entgra.device.mgt.core.policy.mgt.core.cache.PolicyCacheManager;
 import io.entgra.device.mgt.core.policy.mgt.core.cache.impl.PolicyCacheManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.FeatureDAO;
 import io.entgra.device.mgt.core.policy.mgt.core.dao.FeatureManagerDAOException;
@@ -1112,6 +1113,7 @@ public class PolicyManagerImpl implements PolicyManager {
                 policyDAO.addEffectivePolicyToDevice(deviceId, device.getEnrolmentInfo().getId(), policy);
             }
             PolicyManagementDAOFactory.commitTransaction();
+            PolicyCacheManagerImpl.getInstance().removeAppliedPolicy(device.getEnrolmentInfo().getId());
         } catch (PolicyManagerDAOException e) {
             PolicyManagementDAOFactory.rollbackTransaction();
             throw new PolicyManagementException("Error occurred while adding the evaluated policy to device (" +
@@ -1184,6 +1186,7 @@ public class PolicyManagerImpl implements PolicyManager {
                 policyDAO.addEffectivePolicyToDevice(deviceId, device.getEnrolmentInfo().getId(), policy);
             }
             PolicyManagementDAOFactory.commitTransaction();
+            PolicyCacheManagerImpl.getInstance().removeAppliedPolicy(device.getEnrolmentInfo().getId());
         } catch (PolicyManagerDAOException e) {
             PolicyManagementDAOFactory.rollbackTransaction();
             throw new PolicyManagementException("Error occurred while adding the evaluated policy to device (" +
@@ -1214,6 +1217,7 @@ public class PolicyManagerImpl implements PolicyManager {
                 policyDAO.deleteEffectivePolicyToDevice(deviceId, device.getEnrolmentInfo().getId());
             }
             PolicyManagementDAOFactory.commitTransaction();
+            PolicyCacheManagerImpl.getInstance().removeAppliedPolicy(device.getEnrolmentInfo().getId());
         } catch (PolicyManagerDAOException e) {
             PolicyManagementDAOFactory.rollbackTransaction();
             throw new PolicyManagementException("Error occurred while removing the applied policy to device (" +
@@ -1311,10 +1315,15 @@ public class PolicyManagerImpl implements PolicyManager {
 
     @Override
     public Policy getAppliedPolicyToDevice(Device device) throws PolicyManagementException {
-        Policy policy;
+        PolicyCacheManager policyCacheManager = PolicyCacheManagerImpl.getInstance();
+        int enrolmentId = device.getEnrolmentInfo().getId();
+        Policy policy = policyCacheManager.getAppliedPolicy(enrolmentId);
+        if (policy != null) {
+            return policy;
+        }
         try {
             PolicyManagementDAOFactory.openConnection();
-            policy = policyDAO.getAppliedPolicy(device.getId(), device.getEnrolmentInfo().getId());
+            policy = policyDAO.getAppliedPolicy(device.getId(), enrolmentId);
         } catch (PolicyManagerDAOException e) {
             throw new PolicyManagementException("Error occurred while getting policy id or policy.", e);
         } catch (SQLException e) {
@@ -1322,6 +1331,9 @@ public class PolicyManagerImpl implements PolicyManager {
         } finally {
             PolicyManagementDAOFactory.closeConnection();
         }
+        if (policy != null) {
+            policyCacheManager.addAppliedPolicy(enrolmentId, policy);
+        }
         return policy;
     }
 
@@ -1339,6 +1351,21 @@ public class PolicyManagerImpl implements PolicyManager {
         }
     }
 
+    @Override
+    public Map<Integer, Policy> getAppliedPolicies(int lastEnrolmentId, int limit) throws PolicyManagementException {
+        try {
+            PolicyManagementDAOFactory.openConnection();
+            return policyDAO.getAppliedPolicies(lastEnrolmentId, limit);
+        } catch (PolicyManagerDAOException e) {
+            throw new PolicyManagementException("Error occurred while reading the applied policies after enrolment " +
+                    "id " + lastEnrolmentId, e);
+        } catch (SQLException e) {
+            throw new PolicyManagementException("Error occurred while opening a connection to the data source", e);
+        } finally {
+            PolicyManagementDAOFactory.closeConnection();
+        }
+    }
+
     private List<DeviceGroupWrapper> getDeviceGroupNames(List<DeviceGroupWrapper> groupWrappers)
             throws GroupManagementException {
         GroupManagementProviderService groupManagementService = PolicyManagementDataHolder
@@ -18,12 +18,10 @@
 
 package io.entgra.device.mgt.core.policy.mgt.core.task;
 
-import io.entgra.device.mgt.core.device.mgt.common.Device;
-import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.PolicyMonitoringManager;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.monitor.PolicyComplianceException;
-import io.entgra.device.mgt.core.device.mgt.core.service.DeviceManagementProviderService;
 import io.entgra.device.mgt.core.device.mgt.core.task.impl.DynamicPartitionedScheduleTask;
+import io.entgra.device.mgt.core.device.mgt.core.task.impl.TaskWorkUnit;
 import io.entgra.device.mgt.core.policy.mgt.core.internal.PolicyManagementDataHolder;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.MonitoringManager;
 import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagementConstants;
@@ -94,62 +92,62 @@ public class MonitoringTask extends DynamicPartitionedScheduleTask {
             log.error("TID:[" + tenant + "] Error occurred while getting the device types.");
         }
         if (!deviceTypes.isEmpty()) {
+            int activeServerCount = 0;
+            int serverHashIndex = 0;
+            if (getTaskContext() != null && getTaskContext().isPartitioningEnabled()) {
+                activeServerCount = getTaskContext().getActiveServerCount();
+                serverHashIndex = getTaskContext().getServerHashIndex();
+            }
+            //Each device type is monitored as a separate work unit, so that a device type with a large number of
+            //enrolments does not delay the monitoring of the other device types.
+            List<TaskWorkUnit> workUnits = new ArrayList<>();
+            for (String deviceType : configDeviceTypes) {
+                workUnits.add(new TaskWorkUnit(Integer.parseInt(tenant), deviceType, new MonitoringWork(
+                        monitoringManager, deviceType, activeServerCount, serverHashIndex)));
+            }
+            executeWorkUnits(workUnits);
+            if (log.isDebugEnabled()) {
+                log.debug("TID:[" + tenant + "] Monitoring task running completed.");
+            }
+        } else {
+            log.info("TID:[" + tenant + "] No device types registered currently. " +
+                    "So did not run the monitoring task.");
+        }
+    }
+
+    private class MonitoringWork implements Runnable {
+
+        private final MonitoringManager monitoringManager;
+        private final String deviceType;
+        private final int activeServerCount;
+        private final int serverHashIndex;
+
+        private MonitoringWork(MonitoringManager monitoringManager, String deviceType, int activeServerCount,
+                               int serverHashIndex) {
+            this.monitoringManager = monitoringManager;
+            this.deviceType = deviceType;
+            this.activeServerCount = activeServerCount;
+            this.serverHashIndex = serverHashIndex;
+        }
+
+        @Override
+        public void run() {
+            if (log.isDebugEnabled()) {
+                log.debug("TID:[" + tenant + "] Running task for device type : " + deviceType);
+            }
             try {
-                DeviceManagementProviderService deviceManagementProviderService =
-                        PolicyManagementDataHolder.getInstance().getDeviceManagementService();
-                for (String deviceType : configDeviceTypes) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("TID:[" + tenant + "] Running task for device type : " + deviceType);
-                    }
-                    PolicyMonitoringManager monitoringService =
-                            PolicyManagementDataHolder.getInstance().getDeviceManagementService()
-                                    .getPolicyMonitoringManager(deviceType);
-                    List<Device> devices;
-                    if (getTaskContext() != null && getTaskContext().isPartitioningEnabled()) {
-                        devices = deviceManagementProviderService
-                                .getAllocatedDevices(deviceType, getTaskContext().getActiveServerCount(),
-                                        getTaskContext().getServerHashIndex());
-                    } else {
-                        devices = deviceManagementProviderService.getAllDevices(deviceType, false);
-                    }
-                    if (monitoringService != null && !devices.isEmpty()) {
-                        List<Device> notifiableDevices = new ArrayList<>();
-                        if (log.isDebugEnabled()) {
-                            log.debug("TID:[" + tenant + "] Removing inactive and blocked devices from " +
-                                    "the list for the device type : " + deviceType);
-                        }
-                        StringBuilder sb = new StringBuilder();
-                        for (Device device : devices) {
-                            EnrolmentInfo.Status status = device.getEnrolmentInfo().getStatus();
-                            if (status.equals(EnrolmentInfo.Status.ACTIVE) ||
-                                    status.equals(EnrolmentInfo.Status.UNREACHABLE)) {
-                                notifiableDevices.add(device);
-                                if (log.isDebugEnabled()) {
-                                    if (sb.length() > 0) {
-                                        sb.append(", ");
-                                    }
-                                    sb.append(device.getDeviceIdentifier());
-                                }
-                            }
-                        }
-                        if (log.isDebugEnabled()) {
-                            log.debug("TID:[" + tenant + "] Sending monitoring to '" + deviceType +
-                                    "' devices with ids [" + sb + "]");
-                        }
-                        if (!notifiableDevices.isEmpty()) {
-                            monitoringManager.addMonitoringOperation(deviceType, notifiableDevices);
-                        }
-                    }
-                }
+                //Enrolments are read and given monitoring operations one page at a time, so that the memory
+                //used by the task does not grow with the number of devices.
+                int monitoredEnrolments = monitoringManager.addMonitoringOperations(deviceType, activeServerCount,
+                        serverHashIndex);
                 if (log.isDebugEnabled()) {
-                    log.debug("TID:[" + tenant + "] Monitoring task running completed.");
+                    log.debug("TID:[" + tenant + "] Sent monitoring operations to " + monitoredEnrolments
+                            + " '" + deviceType + "' enrolments");
                 }
             } catch (Exception e) {
-                log.error("TID:[" + tenant + "] Error occurred while trying to run a task.", e);
+                log.error("TID:[" + tenant + "] Error occurred while trying to run a task for device type : "
+                        + deviceType, e);
             }
-        } else {
-            log.info("TID:[" + tenant + "] No device types registered currently. " +
-                    "So did not run the monitoring task.");
         }
     }
 
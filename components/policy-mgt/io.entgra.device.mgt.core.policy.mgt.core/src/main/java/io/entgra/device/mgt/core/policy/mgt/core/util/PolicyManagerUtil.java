@@ -45,8 +45,11 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.w3c.dom.Document;
+import org.wso2.carbon.caching.impl.CacheImpl;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import javax.cache.Cache;
+import javax.cache.CacheConfiguration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.sql.DataSource;
@@ -57,12 +60,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.ObjectOutputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class PolicyManagerUtil {
     private static final Gson gson = new Gson();
     public static final String GENERAL_CONFIG_RESOURCE_PATH = "general";
     public static final String MONITORING_FREQUENCY = "notifierFrequency";
     private static final Log log = LogFactory.getLog(PolicyManagerUtil.class);
+    private static final Set<Integer> appliedPolicyCacheTenants = ConcurrentHashMap.newKeySet();
 
     public static Document convertToDocument(File file) throws PolicyManagementException {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
@@ -386,6 +392,47 @@ public class PolicyManagerUtil {
                 Caching.getCacheManager().<Integer, List<Policy>>getCache(name);
     }
 
+    /**
+     * Returns the cache of the policies applied to the enrolments of the current tenant, keyed by the enrolment id.
+     * The cache is built with the configured expiry time and capacity the first time it is used for a tenant.
+     *
+     * @return applied policy cache, or null if the policy cache is disabled
+     */
+    public static Cache<Integer, Policy> getAppliedPolicyCache() {
+        PolicyConfiguration policyConfiguration = DeviceConfigurationManager.getInstance()
+                .getDeviceManagementConfig().getPolicyConfiguration();
+        if (!policyConfiguration.getCacheEnable()) {
+            return null;
+        }
+        CacheManager manager = getCacheManager();
+        if (manager == null) {
+            manager = Caching.getCacheManager();
+        }
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        if (!appliedPolicyCacheTenants.contains(tenantId)) {
+            synchronized (appliedPolicyCacheTenants) {
+                if (!appliedPolicyCacheTenants.contains(tenantId)) {
+                    int expiryTime = policyConfiguration.getAppliedPolicyCacheExpiryTime();
+                    long capacity = policyConfiguration.getAppliedPolicyCacheCapacity();
+                    if (expiryTime > 0) {
+                        manager.<Integer, Policy>createCacheBuilder(PolicyManagementConstants.DM_APPLIED_POLICY_CACHE)
+                                .setExpiry(CacheConfiguration.ExpiryType.MODIFIED,
+                                        new CacheConfiguration.Duration(TimeUnit.SECONDS, expiryTime))
+                                .setExpiry(CacheConfiguration.ExpiryType.ACCESSED,
+                                        new CacheConfiguration.Duration(TimeUnit.SECONDS, expiryTime))
+                                .setStoreByValue(true).build();
+                    }
+                    if (capacity > 0) {
+                        ((CacheImpl) manager.<Integer, Policy>getCache(PolicyManagementConstants
+                                .DM_APPLIED_POLICY_CACHE)).setCapacity(capacity);
+                    }
+                    appliedPolicyCacheTenants.add(tenantId);
+                }
+            }
+        }
+        return manager.getCache(PolicyManagementConstants.DM_APPLIED_POLICY_CACHE);
+    }
+
     private static CacheManager getCacheManager() {
         return Caching.getCacheManagerFactory().getCacheManager(
                 PolicyManagementConstants.DM_CACHE_MANAGER);
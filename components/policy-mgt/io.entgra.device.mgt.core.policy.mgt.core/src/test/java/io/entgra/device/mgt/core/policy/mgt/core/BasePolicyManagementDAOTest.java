@@ -25,6 +25,7 @@ import io.entgra.device.mgt.core.device.mgt.common.exceptions.DeviceNotFoundExce
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.DeviceGroup;
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.GroupAlreadyExistException;
 import io.entgra.device.mgt.core.device.mgt.common.group.mgt.GroupManagementException;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.device.mgt.core.authorization.DeviceAccessAuthorizationServiceImpl;
 import io.entgra.device.mgt.core.device.mgt.core.config.DeviceConfigurationManager;
 import io.entgra.device.mgt.core.device.mgt.core.dao.DeviceManagementDAOFactory;
@@ -63,6 +64,7 @@ import org.wso2.carbon.registry.core.jdbc.realm.InMemoryRealmService;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import javax.cache.Cache;
 import javax.sql.DataSource;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -103,6 +105,11 @@ public abstract class BasePolicyManagementDAOTest {
         initSQLScript();
 
         DeviceConfigurationManager.getInstance().initConfig();
+        Cache<Integer, Policy> appliedPolicyCache = PolicyManagerUtil.getAppliedPolicyCache();
+        if (appliedPolicyCache != null) {
+            //The database is created again, hence the policies cached against the previous enrolments are removed
+            appliedPolicyCache.removeAll();
+        }
 
         deviceMgtService = new DeviceManagementProviderServiceImpl();
         groupMgtService = new GroupManagementProviderServiceImpl();
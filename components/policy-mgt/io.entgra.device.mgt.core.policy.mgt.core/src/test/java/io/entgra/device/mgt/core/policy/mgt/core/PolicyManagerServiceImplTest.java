@@ -43,10 +43,13 @@ import io.entgra.device.mgt.core.policy.mgt.common.FeatureManagementException;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyEvaluationException;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyEvaluationPoint;
 import io.entgra.device.mgt.core.policy.mgt.common.PolicyManagementException;
+import io.entgra.device.mgt.core.policy.mgt.core.cache.PolicyCacheManager;
+import io.entgra.device.mgt.core.policy.mgt.core.cache.impl.PolicyCacheManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.enforcement.DelegationTask;
 import io.entgra.device.mgt.core.policy.mgt.core.internal.PolicyManagementDataHolder;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.MonitoringManager;
 import io.entgra.device.mgt.core.policy.mgt.core.mgt.impl.MonitoringManagerImpl;
+import io.entgra.device.mgt.core.policy.mgt.core.mgt.impl.PolicyManagerImpl;
 import io.entgra.device.mgt.core.policy.mgt.core.mock.TestHeartBeatManagementService;
 import io.entgra.device.mgt.core.policy.mgt.core.mock.TypeXDeviceManagementService;
 import io.entgra.device.mgt.core.policy.mgt.core.task.MonitoringTask;
@@ -63,6 +66,7 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class  PolicyManagerServiceImplTest extends BasePolicyManagementDAOTest {
 
@@ -166,6 +170,17 @@ public class  PolicyManagerServiceImplTest extends BasePolicyManagementDAOTest {
         Assert.assertEquals(effectivePolicy.getPolicyName(), POLICY1, POLICY1 + " was not activated for " + DEVICE1);
     }
 
+    @Test(dependsOnMethods = "activatePolicy")
+    public void getEffectivePolicies() throws Exception {
+        Device device = DeviceManagementDataHolder.getInstance().getDeviceManagementProvider().
+                getDevice(new DeviceIdentifier(DEVICE1, DEVICE_TYPE_A), false);
+        List<Device> devices = new ArrayList<>();
+        devices.add(device);
+        Map<Integer, Policy> effectivePolicies = policyManagerService.getEffectivePolicies(devices);
+        Assert.assertEquals(effectivePolicies.get(device.getId()).getPolicyName(), POLICY1,
+                POLICY1 + " was not evaluated as the effective policy of " + DEVICE1);
+    }
+
     @Test(description = "Get active policy but there is no EvaluationPoint define for device yet should be return PolicyManagement exception" +
             " caused by PolicyEvaluationException",dependsOnMethods = "addPolicy",expectedExceptions = PolicyManagementException.class)
     public void getActivePolicyForDeviceWithNoEvaluationEPDefine() throws Exception {
@@ -245,6 +260,29 @@ public class  PolicyManagerServiceImplTest extends BasePolicyManagementDAOTest {
         Assert.assertTrue(policyOperationFound, "Policy operation for " + POLICY1 + " was not added to " + DEVICE1);
     }
 
+    @Test(dependsOnMethods = "applyPolicy")
+    public void getAppliedPolicyFromCache() throws PolicyManagementException, DeviceManagementException {
+        DeviceIdentifier deviceIdentifier = new DeviceIdentifier(DEVICE1, DEVICE_TYPE_A);
+        Device device = PolicyManagementDataHolder.getInstance().getDeviceManagementService().
+                getDevice(deviceIdentifier, false);
+        int enrolmentId = device.getEnrolmentInfo().getId();
+        PolicyCacheManager policyCacheManager = PolicyCacheManagerImpl.getInstance();
+
+        Policy appliedPolicy = policyManagerService.getAppliedPolicyToDevice(deviceIdentifier);
+        Policy cachedPolicy = policyCacheManager.getAppliedPolicy(enrolmentId);
+        Assert.assertNotNull(cachedPolicy, "Applied policy of " + DEVICE1 + " was not cached.");
+        Assert.assertEquals(cachedPolicy.getPolicyName(), POLICY1);
+
+        new PolicyManagerImpl().addAppliedPolicyToDevice(deviceIdentifier, appliedPolicy);
+        Assert.assertNull(policyCacheManager.getAppliedPolicy(enrolmentId),
+                "Cached applied policy of " + DEVICE1 + " was not invalidated when the policy was applied.");
+
+        appliedPolicy = policyManagerService.getAppliedPolicyToDevice(deviceIdentifier);
+        Assert.assertEquals(appliedPolicy.getPolicyName(), POLICY1, POLICY1 + " was not applied on " + DEVICE1);
+        Assert.assertNotNull(policyCacheManager.getAppliedPolicy(enrolmentId),
+                "Applied policy of " + DEVICE1 + " was not cached again.");
+    }
+
     @Test(dependsOnMethods = "applyPolicy")
     public void checkCompliance() throws PolicyComplianceException, DeviceManagementException {
         new MonitoringTask().execute();
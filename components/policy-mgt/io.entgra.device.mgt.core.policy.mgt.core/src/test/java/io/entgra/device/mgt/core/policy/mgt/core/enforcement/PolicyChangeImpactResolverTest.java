@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.enforcement;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.EnrolmentInfo;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Profile;
+import io.entgra.device.mgt.core.policy.mgt.core.mgt.PolicyManager;
+import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagementConstants;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+public class PolicyChangeImpactResolverTest {
+
+    private static final String DEVICE_TYPE = "TEST-DEVICE-TYPE";
+
+    @Test
+    public void testResolveAffectedDevicesByCriteria() throws Exception {
+        Policy userPolicy = createPolicy(1, true);
+        userPolicy.setUsers(Collections.singletonList("admin"));
+        Policy ownershipPolicy = createPolicy(2, true);
+        ownershipPolicy.setOwnershipType(EnrolmentInfo.OwnerShip.COPE.toString());
+
+        List<Device> devices = new ArrayList<>();
+        devices.add(createDevice(1, "admin", EnrolmentInfo.OwnerShip.BYOD));
+        devices.add(createDevice(2, "user1", EnrolmentInfo.OwnerShip.BYOD));
+        devices.add(createDevice(3, "user2", EnrolmentInfo.OwnerShip.COPE));
+
+        PolicyChangeImpactResolver resolver = new PolicyChangeImpactResolver(mockPolicyManager(new HashMap<>()),
+                Arrays.asList(userPolicy, ownershipPolicy), Arrays.asList(1, 2));
+        List<Device> affectedDevices = resolver.resolveAffectedDevices(DEVICE_TYPE, devices);
+        Assert.assertEquals(getIds(affectedDevices), Arrays.asList(1, 3));
+    }
+
+    @Test
+    public void testResolveDevicesOfChangedAppliedPolicy() throws Exception {
+        Policy deactivatedPolicy = createPolicy(1, false);
+        HashMap<Integer, Integer> appliedPolicies = new HashMap<>();
+        appliedPolicies.put(2, 1);
+        appliedPolicies.put(3, 5);
+
+        List<Device> devices = new ArrayList<>();
+        devices.add(createDevice(1, "admin", EnrolmentInfo.OwnerShip.BYOD));
+        devices.add(createDevice(2, "admin", EnrolmentInfo.OwnerShip.BYOD));
+        devices.add(createDevice(3, "admin", EnrolmentInfo.OwnerShip.BYOD));
+
+        PolicyChangeImpactResolver resolver = new PolicyChangeImpactResolver(mockPolicyManager(appliedPolicies),
+                Collections.singletonList(deactivatedPolicy), Collections.singletonList(1));
+        List<Device> affectedDevices = resolver.resolveAffectedDevices(DEVICE_TYPE, devices);
+        Assert.assertEquals(getIds(affectedDevices), Collections.singletonList(2));
+    }
+
+    @Test
+    public void testResolveDevicesOfOtherDeviceType() throws Exception {
+        Policy policy = createPolicy(1, true);
+        policy.getProfile().setDeviceType("OTHER-DEVICE-TYPE");
+        List<Device> devices = Collections.singletonList(createDevice(1, "admin", EnrolmentInfo.OwnerShip.BYOD));
+
+        PolicyChangeImpactResolver resolver = new PolicyChangeImpactResolver(mockPolicyManager(new HashMap<>()),
+                Collections.singletonList(policy), Collections.singletonList(1));
+        Assert.assertTrue(resolver.resolveAffectedDevices(DEVICE_TYPE, devices).isEmpty());
+    }
+
+    private PolicyManager mockPolicyManager(HashMap<Integer, Integer> appliedPolicies) throws Exception {
+        PolicyManager policyManager = Mockito.mock(PolicyManager.class);
+        Mockito.when(policyManager.getAppliedPolicyIdsDeviceIds()).thenReturn(appliedPolicies);
+        return policyManager;
+    }
+
+    private Policy createPolicy(int id, boolean active) {
+        Profile profile = new Profile();
+        profile.setDeviceType(DEVICE_TYPE);
+        Policy policy = new Policy();
+        policy.setId(id);
+        policy.setActive(active);
+        policy.setPolicyType(PolicyManagementConstants.GENERAL_POLICY_TYPE);
+        policy.setProfile(profile);
+        policy.setUsers(new ArrayList<>());
+        policy.setRoles(new ArrayList<>());
+        policy.setDeviceGroups(new ArrayList<>());
+        return policy;
+    }
+
+    private Device createDevice(int id, String owner, EnrolmentInfo.OwnerShip ownership) {
+        Device device = new Device();
+        device.setId(id);
+        device.setType(DEVICE_TYPE);
+        device.setEnrolmentInfo(new EnrolmentInfo(owner, ownership, EnrolmentInfo.Status.ACTIVE));
+        return device;
+    }
+
+    private List<Integer> getIds(List<Device> devices) {
+        List<Integer> ids = new ArrayList<>();
+        for (Device device : devices) {
+            ids.add(device.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.enforcement;
+
+import io.entgra.device.mgt.core.device.mgt.common.Device;
+import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PolicyEnforcementDelegatorImplTest {
+
+    private static final String DEVICE_TYPE = "TEST-DEVICE-TYPE";
+
+    @Test
+    public void testDeviceMovedToAnotherPolicy() throws Exception {
+        Map<Integer, Integer> appliedPolicyIds = new HashMap<>();
+        appliedPolicyIds.put(1, 10);
+        Map<Integer, Policy> effectivePolicies = new HashMap<>();
+        effectivePolicies.put(1, createPolicy(20));
+
+        TestPolicyEnforcementDelegator delegator = new TestPolicyEnforcementDelegator(
+                Collections.singletonList(createDevice(1)), Collections.emptyList(), appliedPolicyIds,
+                effectivePolicies);
+        delegator.delegate();
+        Assert.assertEquals(delegator.addedPolicyIds, Collections.singletonList(20));
+        Assert.assertEquals(delegator.revokeOperationCount, 1);
+    }
+
+    @Test
+    public void testDeviceWithUnchangedPolicy() throws Exception {
+        Map<Integer, Integer> appliedPolicyIds = new HashMap<>();
+        appliedPolicyIds.put(1, 10);
+        Map<Integer, Policy> effectivePolicies = new HashMap<>();
+        effectivePolicies.put(1, createPolicy(10));
+
+        TestPolicyEnforcementDelegator delegator = new TestPolicyEnforcementDelegator(
+                Collections.singletonList(createDevice(1)), Collections.emptyList(), appliedPolicyIds,
+                effectivePolicies);
+        delegator.delegate();
+        Assert.assertTrue(delegator.addedPolicyIds.isEmpty());
+
+        delegator = new TestPolicyEnforcementDelegator(Collections.singletonList(createDevice(1)),
+                Collections.singletonList(10), appliedPolicyIds, effectivePolicies);
+        delegator.delegate();
+        Assert.assertEquals(delegator.addedPolicyIds, Collections.singletonList(10));
+    }
+
+    @Test
+    public void testDeviceWithoutEffectivePolicy() throws Exception {
+        Map<Integer, Integer> appliedPolicyIds = new HashMap<>();
+        appliedPolicyIds.put(1, 10);
+
+        TestPolicyEnforcementDelegator delegator = new TestPolicyEnforcementDelegator(
+                Collections.singletonList(createDevice(1)), Collections.emptyList(), appliedPolicyIds,
+                new HashMap<>());
+        delegator.delegate();
+        Assert.assertTrue(delegator.addedPolicyIds.isEmpty());
+        Assert.assertEquals(delegator.revokeOperationCount, 1);
+    }
+
+    private Device createDevice(int id) {
+        Device device = new Device();
+        device.setId(id);
+        device.setDeviceIdentifier("device-" + id);
+        device.setType(DEVICE_TYPE);
+        return device;
+    }
+
+    private Policy createPolicy(int id) {
+        Policy policy = new Policy();
+        policy.setId(id);
+        policy.setPolicyName("policy-" + id);
+        return policy;
+    }
+
+    /**
+     * Delegator which records the operations instead of adding them. Evaluating the effective policies records them
+     * as the applied policies, the same way the policy administrator point does.
+     */
+    private static class TestPolicyEnforcementDelegator extends PolicyEnforcementDelegatorImpl {
+
+        private final Map<Integer, Integer> appliedPolicyIds;
+        private final Map<Integer, Policy> effectivePolicies;
+        private final List<Integer> addedPolicyIds = new ArrayList<>();
+        private int revokeOperationCount;
+
+        private TestPolicyEnforcementDelegator(List<Device> devices, List<Integer> updatedPolicyIds,
+                                               Map<Integer, Integer> appliedPolicyIds,
+                                               Map<Integer, Policy> effectivePolicies) {
+            super(devices, updatedPolicyIds);
+            this.appliedPolicyIds = appliedPolicyIds;
+            this.effectivePolicies = effectivePolicies;
+        }
+
+        @Override
+        public Map<Integer, Integer> getAppliedPolicyIds() {
+            return new HashMap<>(appliedPolicyIds);
+        }
+
+        @Override
+        public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) {
+            for (Map.Entry<Integer, Policy> entry : effectivePolicies.entrySet()) {
+                appliedPolicyIds.put(entry.getKey(), entry.getValue().getId());
+            }
+            return effectivePolicies;
+        }
+
+        @Override
+        public void markPreviousPolicyBundlesRepeated(Device device) {
+        }
+
+        @Override
+        public void addPolicyOperation(List<DeviceIdentifier> deviceIdentifiers, Policy policy) {
+            addedPolicyIds.add(policy.getId());
+        }
+
+        @Override
+        public void addPolicyRevokeOperation(List<DeviceIdentifier> deviceIdentifiers) {
+            revokeOperationCount++;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.impl;
+
+import io.entgra.device.mgt.core.device.mgt.common.group.mgt.DeviceGroup;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.DeviceGroupWrapper;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Profile;
+import io.entgra.device.mgt.core.policy.mgt.common.PolicyFilter;
+import io.entgra.device.mgt.core.policy.mgt.core.util.PolicyManagementConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares matching the policies of devices with the policy filter chain of the policy information point against
+ * the compiled policy match index, for 5000 policies and 100000 device evaluations. This is not part of the test
+ * suite, run it with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PolicyMatchIndexBenchmark {
+
+    static final String[] DEVICE_TYPES = {"android", "ios", "windows", "linux", "tizen"};
+    static final String[] OWNERSHIP_TYPES = {"BYOD", "COPE", "WORK_PROFILE"};
+    private static final int POLICY_COUNT = 5000;
+    private static final int EVALUATION_COUNT = 100000;
+    private static final int USER_COUNT = 2000;
+    private static final int ROLE_COUNT = 50;
+    private static final int GROUP_COUNT = 500;
+
+    private List<Policy> policies;
+    private List<DeviceProfile> devices;
+    private PolicyMatchIndex index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        policies = createPolicies(POLICY_COUNT, random);
+        devices = createDevices(EVALUATION_COUNT, random);
+        index = new PolicyMatchIndex(policies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVALUATION_COUNT)
+    public void filterChain(Blackhole blackhole) {
+        for (DeviceProfile device : devices) {
+            blackhole.consume(filter(policies, device));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVALUATION_COUNT)
+    public void matchIndex(Blackhole blackhole) {
+        for (DeviceProfile device : devices) {
+            blackhole.consume(index.match(device.deviceType, device.ownershipType, device.user, device.roles,
+                    device.groupIds));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(PolicyMatchIndexBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+
+    /**
+     * Selects the policies of a device the same way the policy information point does without the index.
+     */
+    static List<Policy> filter(List<Policy> allPolicies, DeviceProfile device) {
+        List<Policy> policies = new ArrayList<>();
+        for (Policy policy : allPolicies) {
+            if (policy.getProfile().getDeviceType().equalsIgnoreCase(device.deviceType)) {
+                policies.add(policy);
+            }
+        }
+        Collections.sort(policies);
+        PolicyFilter policyFilter = new PolicyFilterImpl();
+        policies = policyFilter.filterActivePolicies(policies);
+        policies = policyFilter.filterGeneralPolicies(policies);
+        policies = policyFilter.filterDeviceTypeBasedPolicies(device.deviceType, policies);
+        policies = policyFilter.filterOwnershipTypeBasedPolicies(device.ownershipType, policies);
+        policies = policyFilter.filterRolesBasedPolicies(device.roles, policies);
+        policies = policyFilter.filterUserBasedPolicies(device.user, policies);
+        Map<Integer, DeviceGroup> groupMap = new HashMap<>();
+        for (Integer groupId : device.groupIds) {
+            DeviceGroup group = new DeviceGroup();
+            group.setGroupId(groupId);
+            groupMap.put(groupId, group);
+        }
+        return policyFilter.filterDeviceGroupsPolicies(groupMap, policies);
+    }
+
+    static List<Policy> createPolicies(int count, Random random) {
+        List<Policy> policies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Profile profile = new Profile();
+            profile.setDeviceType(DEVICE_TYPES[random.nextInt(DEVICE_TYPES.length)]);
+            Policy policy = new Policy();
+            policy.setId(i + 1);
+            policy.setPriorityId(random.nextInt(count));
+            policy.setProfile(profile);
+            policy.setActive(random.nextInt(10) != 0);
+            policy.setPolicyType(random.nextInt(20) == 0 ? "CORRECTIVE" : PolicyManagementConstants.GENERAL_POLICY_TYPE);
+            policy.setOwnershipType(random.nextBoolean() ? null
+                    : OWNERSHIP_TYPES[random.nextInt(OWNERSHIP_TYPES.length)]);
+            policy.setUsers(createValues("user", USER_COUNT, random.nextInt(4) == 0 ? 3 : 0, random));
+            policy.setRoles(createValues("role", ROLE_COUNT, random.nextInt(3) == 0 ? 2 : 0, random));
+            List<DeviceGroupWrapper> groups = new ArrayList<>();
+            if (random.nextBoolean()) {
+                for (int j = 0; j < 2; j++) {
+                    DeviceGroupWrapper group = new DeviceGroupWrapper();
+                    group.setId(random.nextInt(GROUP_COUNT));
+                    group.setName("group" + group.getId());
+                    groups.add(group);
+                }
+            }
+            policy.setDeviceGroups(groups);
+            policies.add(policy);
+        }
+        return policies;
+    }
+
+    static List<DeviceProfile> createDevices(int count, Random random) {
+        List<DeviceProfile> devices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DeviceProfile device = new DeviceProfile();
+            device.deviceType = DEVICE_TYPES[random.nextInt(DEVICE_TYPES.length)];
+            device.ownershipType = OWNERSHIP_TYPES[random.nextInt(OWNERSHIP_TYPES.length)];
+            device.user = "USER" + random.nextInt(USER_COUNT);
+            device.roles = createValues("role", ROLE_COUNT, 3, random).toArray(new String[0]);
+            device.groupIds = new ArrayList<>();
+            for (int j = 0; j < 2; j++) {
+                device.groupIds.add(random.nextInt(GROUP_COUNT));
+            }
+            devices.add(device);
+        }
+        return devices;
+    }
+
+    private static List<String> createValues(String prefix, int range, int count, Random random) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(prefix + random.nextInt(range));
+        }
+        return values;
+    }
+
+    static class DeviceProfile {
+        String deviceType;
+        String ownershipType;
+        String user;
+        String[] roles;
+        List<Integer> groupIds;
+    }
+}
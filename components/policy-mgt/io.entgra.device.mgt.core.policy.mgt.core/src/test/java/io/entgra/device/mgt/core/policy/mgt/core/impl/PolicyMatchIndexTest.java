@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2018 - 2024, Entgra (Pvt) Ltd. (http://www.entgra.io) All Rights Reserved.
+ *
+ * Entgra (Pvt) Ltd. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.entgra.device.mgt.core.policy.mgt.core.impl;
+
+import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class PolicyMatchIndexTest {
+
+    @Test
+    public void testMatchesFilterChain() {
+        Random random = new Random(7);
+        List<Policy> policies = PolicyMatchIndexBenchmark.createPolicies(500, random);
+        List<PolicyMatchIndexBenchmark.DeviceProfile> devices = PolicyMatchIndexBenchmark.createDevices(1000, random);
+        PolicyMatchIndex index = new PolicyMatchIndex(policies);
+        for (PolicyMatchIndexBenchmark.DeviceProfile device : devices) {
+            List<Policy> expected = removeDuplicates(PolicyMatchIndexBenchmark.filter(policies, device));
+            List<Policy> actual = index.match(device.deviceType, device.ownershipType, device.user, device.roles,
+                    device.groupIds);
+            Assert.assertEquals(getIds(actual), getIds(expected), "Policies matched for device of "
+                    + device.user + " differ from the filter chain");
+        }
+    }
+
+    @Test
+    public void testUnknownDeviceType() {
+        PolicyMatchIndex index = new PolicyMatchIndex(PolicyMatchIndexBenchmark.createPolicies(10, new Random(7)));
+        Assert.assertTrue(index.match("unknown", null, null, null, null).isEmpty());
+    }
+
+    private List<Policy> removeDuplicates(List<Policy> policies) {
+        Map<Integer, Policy> uniquePolicies = new LinkedHashMap<>();
+        for (Policy policy : policies) {
+            uniquePolicies.putIfAbsent(policy.getId(), policy);
+        }
+        return new ArrayList<>(uniquePolicies.values());
+    }
+
+    private List<Integer> getIds(List<Policy> policies) {
+        List<Integer> ids = new ArrayList<>();
+        for (Policy policy : policies) {
+            ids.add(policy.getId());
+        }
+        return ids;
+    }
+}
@@ -237,6 +237,63 @@ public class MonitoringManagerImplTest extends BasePolicyManagementDAOTest{
                               MonitoringDAOException.class);
     }
 
+    @Test(description = "This test case tests skipping compliance writes when the compliance is unchanged",
+          dependsOnMethods = "testAddProfileThrowingMonitoringDAOException2")
+    public void testCheckPolicyComplianceWithUnchangedCompliance() throws Exception {
+        monitoringManager.addMonitoringOperations(DEVICE_TYPE_E, 0, 0);
+        List<ComplianceFeature> complianceFeatures = new ArrayList<>();
+        ComplianceFeature complianceFeature = new ComplianceFeature();
+        complianceFeature.setFeatureCode(POLICY5_FEATURE1_CODE);
+        complianceFeature.setMessage("Test message");
+        complianceFeature.setCompliance(false);
+        complianceFeatures.add(complianceFeature);
+
+        ComplianceWriteMetrics metrics = monitoringManager.getComplianceWriteMetrics();
+        long skippedWrites = metrics.getSkippedWrites();
+        long updatedWrites = metrics.getUpdatedWrites();
+        monitoringManager.checkPolicyCompliance(device5, complianceFeatures);
+        monitoringManager.checkPolicyCompliance(device5, complianceFeatures);
+        Assert.assertEquals(metrics.getUpdatedWrites(), updatedWrites + 1,
+                "Changed compliance of " + DEVICE5 + " was not written");
+        Assert.assertEquals(metrics.getSkippedWrites(), skippedWrites + 1,
+                "Unchanged compliance of " + DEVICE5 + " was written again");
+        int complianceStatusId = monitoringManager.getDevicePolicyCompliance(device5).getId();
+        Assert.assertEquals(monitoringManager.getNoneComplianceFeatures(complianceStatusId).size(), 1);
+
+        monitoringManager.checkPolicyCompliance(device5, new ArrayList<ComplianceFeature>());
+        Assert.assertEquals(metrics.getUpdatedWrites(), updatedWrites + 2,
+                "Changed compliance of " + DEVICE5 + " was not written");
+        Assert.assertTrue(monitoringManager.getNoneComplianceFeatures(complianceStatusId).isEmpty());
+    }
+
+    @Test(description = "This test case tests writing compliance which was changed through another node",
+          dependsOnMethods = "testCheckPolicyComplianceWithUnchangedCompliance")
+    public void testCheckPolicyComplianceChangedThroughAnotherNode() throws Exception {
+        int complianceStatusId = monitoringManager.getDevicePolicyCompliance(device5).getId();
+        List<ComplianceFeature> complianceFeatures = new ArrayList<>();
+        ComplianceFeature complianceFeature = new ComplianceFeature();
+        complianceFeature.setFeatureCode(POLICY5_FEATURE1_CODE);
+        complianceFeature.setCompliance(false);
+        complianceFeatures.add(complianceFeature);
+        MonitoringDAO monitoringDAO = PolicyManagementDAOFactory.getMonitoringDAO();
+        try {
+            PolicyManagementDAOFactory.beginTransaction();
+            monitoringDAO.setDeviceAsNoneCompliance(device5.getId(), device5.getEnrolmentInfo().getId(),
+                    policy5.getId());
+            monitoringDAO.addNonComplianceFeatures(complianceStatusId, device5.getId(), complianceFeatures);
+            PolicyManagementDAOFactory.commitTransaction();
+        } finally {
+            PolicyManagementDAOFactory.closeConnection();
+        }
+
+        ComplianceWriteMetrics metrics = monitoringManager.getComplianceWriteMetrics();
+        long updatedWrites = metrics.getUpdatedWrites();
+        monitoringManager.checkPolicyCompliance(device5, new ArrayList<ComplianceFeature>());
+        Assert.assertEquals(metrics.getUpdatedWrites(), updatedWrites + 1,
+                "Compliance of " + DEVICE5 + " which was changed through another node was not written");
+        Assert.assertTrue(monitoringManager.getNoneComplianceFeatures(complianceStatusId).isEmpty());
+    }
+
     @Test(description = "This test case tests is compliant",
           dependsOnMethods = "testAddProfileThrowingMonitoringDAOException2")
     public void testIsCompliant() throws Exception {
@@ -331,6 +388,14 @@ public class MonitoringManagerImplTest extends BasePolicyManagementDAOTest{
         monitoringManager.addMonitoringOperation(DEVICE_TYPE_E, deviceMgtService.getAllDevices());
     }
 
+    @Test
+    public void testAddMonitoringOperations() throws Exception {
+        int monitoredEnrolments = monitoringManager.addMonitoringOperations(DEVICE_TYPE_E, 0, 0);
+        Assert.assertEquals(monitoredEnrolments, 1, "Monitoring operation was not added to " + DEVICE5);
+        Assert.assertNotNull(monitoringManager.getDevicePolicyCompliance(device5),
+                "Compliance details were not added for " + DEVICE5);
+    }
+
     @Test
     public void testGetDeviceTypes() throws Exception {
         monitoringManager.getDeviceTypes();
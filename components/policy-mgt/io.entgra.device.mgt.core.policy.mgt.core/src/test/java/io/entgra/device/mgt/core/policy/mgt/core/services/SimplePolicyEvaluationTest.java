@@ -19,6 +19,7 @@
 
 package io.entgra.device.mgt.core.policy.mgt.core.services;
 
+import io.entgra.device.mgt.core.device.mgt.common.Device;
 import io.entgra.device.mgt.core.device.mgt.common.DeviceIdentifier;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.Policy;
 import io.entgra.device.mgt.core.device.mgt.common.policy.mgt.ProfileFeature;
@@ -29,7 +30,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class
 SimplePolicyEvaluationTest implements PolicyEvaluationPoint {
@@ -73,6 +76,27 @@ SimplePolicyEvaluationTest implements PolicyEvaluationPoint {
         return policy;
     }
 
+    @Override
+    public Map<Integer, Policy> getEffectivePolicies(List<Device> devices) throws PolicyEvaluationException {
+        Map<Integer, Policy> effectivePolicies = new HashMap<>();
+        PolicyManagerService policyManagerService = new PolicyManagerServiceImpl();
+        try {
+            PolicyInformationPoint policyInformationPoint = policyManagerService.getPIP();
+            for (Map.Entry<Integer, PIPDevice> pipDevice : policyInformationPoint.getDevicesData(devices).entrySet()) {
+                List<Policy> policyList = policyInformationPoint.getRelatedPolicies(pipDevice.getValue());
+                sortPolicies(policyList);
+                if (!policyList.isEmpty()) {
+                    effectivePolicies.put(pipDevice.getKey(), policyList.get(0));
+                }
+            }
+        } catch (PolicyManagementException e) {
+            String msg = "Error occurred when retrieving the policy related data from policy management service.";
+            log.error(msg, e);
+            throw new PolicyEvaluationException(msg, e);
+        }
+        return effectivePolicies;
+    }
+
     @Override
     public List<ProfileFeature> getEffectiveFeatures(DeviceIdentifier deviceIdentifier) throws PolicyEvaluationException {
         if(DEVICE2.equals(deviceIdentifier.getId())) {
@@ -237,6 +237,42 @@ CREATE TABLE IF NOT EXISTS AP_SCHEDULED_SUBSCRIPTION(
   PRIMARY KEY (ID)
 );
 -- -----------------------------------------------------
+-- Table AP_SUBSCRIPTION_JOB
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS AP_SUBSCRIPTION_JOB(
+  ID INTEGER NOT NULL AUTO_INCREMENT,
+  APPLICATION_UUID VARCHAR(36) NOT NULL,
+  SUB_TYPE VARCHAR(45) NOT NULL,
+  ACTION VARCHAR(45) NOT NULL,
+  SUBSCRIBER_LIST TEXT NOT NULL,
+  PAYLOAD TEXT NULL,
+  RE_EXECUTING_DISABLED BOOLEAN NOT NULL,
+  STATUS VARCHAR(15) NOT NULL,
+  TOTAL_DEVICES INTEGER DEFAULT 0 NOT NULL,
+  PROCESSED_DEVICES INTEGER DEFAULT 0 NOT NULL,
+  LAST_DEVICE_ID INTEGER DEFAULT 0 NOT NULL,
+  ERROR_MESSAGE VARCHAR(1000) NULL,
+  CREATED_BY VARCHAR(100) NOT NULL,
+  CREATED_AT BIGINT NOT NULL,
+  LAST_UPDATED_AT BIGINT NOT NULL,
+  TENANT_ID INTEGER NOT NULL,
+  PRIMARY KEY (ID)
+);
+CREATE INDEX IDX_AP_SUBSCRIPTION_JOB_STATUS ON AP_SUBSCRIPTION_JOB (STATUS, LAST_UPDATED_AT);
+-- -----------------------------------------------------
+-- Table AP_SUBSCRIPTION_STATISTIC
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS AP_SUBSCRIPTION_STATISTIC(
+  AP_APP_RELEASE_ID INTEGER NOT NULL,
+  SUBSCRIPTION_TYPE VARCHAR(45) NOT NULL,
+  ACTION_TRIGGERED_FROM VARCHAR(45) NOT NULL,
+  UNSUBSCRIBED BOOLEAN NOT NULL,
+  STATUS VARCHAR(45) NOT NULL,
+  SUB_COUNT INTEGER DEFAULT 0 NOT NULL,
+  TENANT_ID INTEGER NOT NULL,
+  PRIMARY KEY (TENANT_ID, AP_APP_RELEASE_ID, SUBSCRIPTION_TYPE, ACTION_TRIGGERED_FROM, UNSUBSCRIBED, STATUS)
+);
+-- -----------------------------------------------------
 -- Table AP_IDENTITY_SERVER
 -- -----------------------------------------------------
 CREATE TABLE IF NOT EXISTS AP_IDENTITY_SERVER (
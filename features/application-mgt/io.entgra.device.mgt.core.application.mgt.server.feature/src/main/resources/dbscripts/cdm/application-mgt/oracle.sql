@@ -383,6 +383,42 @@ CREATE TABLE AP_SCHEDULED_SUBSCRIPTION (
 )
 /
 
+CREATE TABLE AP_SUBSCRIPTION_JOB (
+  ID number GENERATED BY DEFAULT AS IDENTITY(START WITH 1) NOT NULL,
+  APPLICATION_UUID VARCHAR(36) NOT NULL,
+  SUB_TYPE VARCHAR(45) NOT NULL,
+  ACTION VARCHAR(45) NOT NULL,
+  SUBSCRIBER_LIST VARCHAR(4000) NOT NULL,
+  PAYLOAD VARCHAR(4000) NULL,
+  RE_EXECUTING_DISABLED NUMBER(1) NOT NULL,
+  STATUS VARCHAR(15) NOT NULL,
+  TOTAL_DEVICES NUMBER(10) DEFAULT 0 NOT NULL,
+  PROCESSED_DEVICES NUMBER(10) DEFAULT 0 NOT NULL,
+  LAST_DEVICE_ID NUMBER(10) DEFAULT 0 NOT NULL,
+  ERROR_MESSAGE VARCHAR(1000) NULL,
+  CREATED_BY VARCHAR(100) NOT NULL,
+  CREATED_AT NUMBER(19) NOT NULL,
+  LAST_UPDATED_AT NUMBER(19) NOT NULL,
+  TENANT_ID NUMBER(10) NOT NULL,
+  PRIMARY KEY (ID)
+)
+/
+
+CREATE INDEX IDX_AP_SUBSCRIPTION_JOB_STATUS ON AP_SUBSCRIPTION_JOB (STATUS, LAST_UPDATED_AT)
+/
+
+CREATE TABLE AP_SUBSCRIPTION_STATISTIC (
+  AP_APP_RELEASE_ID NUMBER(10) NOT NULL,
+  SUBSCRIPTION_TYPE VARCHAR(45) NOT NULL,
+  ACTION_TRIGGERED_FROM VARCHAR(45) NOT NULL,
+  UNSUBSCRIBED NUMBER(1) NOT NULL,
+  STATUS VARCHAR(45) NOT NULL,
+  SUB_COUNT NUMBER(10) DEFAULT 0 NOT NULL,
+  TENANT_ID NUMBER(10) NOT NULL,
+  PRIMARY KEY (TENANT_ID, AP_APP_RELEASE_ID, SUBSCRIPTION_TYPE, ACTION_TRIGGERED_FROM, UNSUBSCRIBED, STATUS)
+)
+/
+
 CREATE TABLE IF NOT EXISTS AP_IDENTITY_SERVER (
   ID number GENERATED BY DEFAULT AS IDENTITY(START WITH 1) NOT NULL,
   NAME VARCHAR(255) NOT NULL,
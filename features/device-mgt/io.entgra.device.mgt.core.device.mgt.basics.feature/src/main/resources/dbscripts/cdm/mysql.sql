@@ -477,6 +477,15 @@ CREATE INDEX IDX_DM_APPLICATION ON DM_APPLICATION(DEVICE_ID, ENROLMENT_ID, TENAN
 CREATE INDEX DM_APPLICATION_NAME ON DM_APPLICATION(NAME);
 CREATE INDEX DM_APPLICATION_NAME_PLATFORM_TID ON DM_APPLICATION(NAME, PLATFORM, TENANT_ID);
 
+-- Digest of the application list last reported by each enrolment, used to skip unchanged application lists --
+CREATE TABLE IF NOT EXISTS DM_APP_INVENTORY_DIGEST (
+    ENROLMENT_ID INTEGER NOT NULL,
+    DIGEST VARCHAR(64) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    LAST_UPDATED_TIMESTAMP BIGINT NOT NULL,
+    PRIMARY KEY (ENROLMENT_ID)
+)ENGINE = InnoDB;
+
 -- END OF POLICY RELATED TABLES --
 
 CREATE TABLE IF NOT EXISTS DM_APP_ICONS (
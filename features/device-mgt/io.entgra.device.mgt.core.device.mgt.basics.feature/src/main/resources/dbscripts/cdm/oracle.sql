@@ -753,6 +753,16 @@ WHEN (NEW.ID IS NULL)
   END;
 /
 
+-- Digest of the application list last reported by each enrolment, used to skip unchanged application lists --
+CREATE TABLE DM_APP_INVENTORY_DIGEST (
+  ENROLMENT_ID NUMBER(10) NOT NULL,
+  DIGEST VARCHAR2(64) NOT NULL,
+  TENANT_ID NUMBER(10) NOT NULL,
+  LAST_UPDATED_TIMESTAMP NUMBER(19) NOT NULL,
+  CONSTRAINT PK_DM_APP_INVENTORY_DIGEST PRIMARY KEY (ENROLMENT_ID)
+)
+/
+
 -- POLICY RELATED TABLES  FINISHED --
 
 CREATE TABLE DM_APP_ICONS (
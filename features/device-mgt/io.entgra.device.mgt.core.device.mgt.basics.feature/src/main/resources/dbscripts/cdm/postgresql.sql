@@ -497,6 +497,15 @@ CREATE TABLE IF NOT EXISTS DM_APPLICATION (
       DM_ENROLMENT (ID) ON DELETE NO ACTION ON UPDATE NO ACTION
 );
 
+-- Digest of the application list last reported by each enrolment, used to skip unchanged application lists --
+CREATE TABLE IF NOT EXISTS DM_APP_INVENTORY_DIGEST (
+    ENROLMENT_ID INTEGER NOT NULL,
+    DIGEST VARCHAR(64) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    LAST_UPDATED_TIMESTAMP BIGINT NOT NULL,
+    PRIMARY KEY (ENROLMENT_ID)
+);
+
 -- END OF POLICY RELATED TABLES --
 
 CREATE SEQUENCE DM_APP_ICONS_seq;